@@ -21,6 +21,7 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.CriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.service.ViewService;
 import com.linkedin.metadata.utils.CriterionUtils;
@@ -58,6 +59,8 @@ public class SearchAcrossEntitiesResolver implements DataFetcher<CompletableFutu
 
     final int start = input.getStart() != null ? input.getStart() : DEFAULT_START;
     final int count = input.getCount() != null ? input.getCount() : DEFAULT_COUNT;
+    final boolean useScrollId =
+        Boolean.TRUE.equals(input.getUseScrollId()) || input.getScrollId() != null;
 
     return GraphQLConcurrencyUtils.supplyAsync(
         () -> {
@@ -113,6 +116,25 @@ public class SearchAcrossEntitiesResolver implements DataFetcher<CompletableFutu
             List<String> structuredPropertyFacets =
                 shouldIncludeStructuredPropertyFacets ? getStructuredPropertyFacets(context) : null;
 
+            if (useScrollId) {
+              // Page with search_after from the previous page's sort values, which stay as cheap
+              // as the first page however deep the caller goes
+              ScrollResult scrollResult =
+                  _entityClient.scrollAcrossEntities(
+                      context.getOperationContext().withSearchFlags(flags -> searchFlags),
+                      finalEntities,
+                      sanitizedQuery,
+                      combinedFilter,
+                      input.getScrollId(),
+                      input.getKeepAlive(),
+                      sortCriteria,
+                      count,
+                      structuredPropertyFacets);
+              scrollResult =
+                  DefaultEntityFiltersUtil.removeDefaultFilterFieldsFromAggregations(scrollResult);
+              return UrnSearchResultsMapper.map(context, scrollResult);
+            }
+
             // Execute search and remove default filter fields from aggregations
             SearchResult searchResult =
                 _entityClient.searchAcrossEntities(
@@ -72,6 +72,9 @@ public class SearchFlagsInputMapper
     if (searchFlags.getFilterNonLatestVersions() != null) {
       result.setFilterNonLatestVersions(searchFlags.getFilterNonLatestVersions());
     }
+    if (searchFlags.getIncludeCardFields() != null) {
+      result.setIncludeCardFields(searchFlags.getIncludeCardFields());
+    }
     return result;
   }
 }
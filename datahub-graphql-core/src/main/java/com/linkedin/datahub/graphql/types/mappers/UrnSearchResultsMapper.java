@@ -4,6 +4,7 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.datahub.graphql.QueryContext;
 import com.linkedin.datahub.graphql.generated.Entity;
 import com.linkedin.datahub.graphql.generated.SearchResults;
+import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResultMetadata;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -15,6 +16,13 @@ public class UrnSearchResultsMapper<T extends RecordTemplate, E extends Entity>
     return new UrnSearchResultsMapper<T, E>().apply(context, searchResult);
   }
 
+  /** Maps a page fetched by scroll id, which has a next scroll id in place of an offset. */
+  public static <T extends RecordTemplate, E extends Entity> SearchResults map(
+      @Nullable final QueryContext context,
+      com.linkedin.metadata.search.ScrollResult scrollResult) {
+    return new UrnSearchResultsMapper<T, E>().apply(context, scrollResult);
+  }
+
   public SearchResults apply(
       @Nullable final QueryContext context, com.linkedin.metadata.search.SearchResult input) {
     final SearchResults result = new SearchResults();
@@ -26,12 +34,35 @@ public class UrnSearchResultsMapper<T extends RecordTemplate, E extends Entity>
     result.setStart(input.getFrom());
     result.setCount(input.getPageSize());
     result.setTotal(input.getNumEntities());
+    mapEntitiesAndMetadata(context, input.getEntities(), input.getMetadata(), result);
+
+    return result;
+  }
+
+  public SearchResults apply(
+      @Nullable final QueryContext context, com.linkedin.metadata.search.ScrollResult input) {
+    final SearchResults result = new SearchResults();
 
-    final SearchResultMetadata searchResultMetadata = input.getMetadata();
+    if (!input.hasPageSize() || !input.hasNumEntities()) {
+      return result;
+    }
+
+    result.setStart(0);
+    result.setNextScrollId(input.getScrollId());
+    result.setCount(input.getPageSize());
+    result.setTotal(input.getNumEntities());
+    mapEntitiesAndMetadata(context, input.getEntities(), input.getMetadata(), result);
+
+    return result;
+  }
+
+  private static void mapEntitiesAndMetadata(
+      @Nullable final QueryContext context,
+      final SearchEntityArray entities,
+      final SearchResultMetadata searchResultMetadata,
+      final SearchResults result) {
     result.setSearchResults(
-        input.getEntities().stream()
-            .map(r -> MapperUtils.mapResult(context, r))
-            .collect(Collectors.toList()));
+        entities.stream().map(r -> MapperUtils.mapResult(context, r)).collect(Collectors.toList()));
     result.setFacets(
         searchResultMetadata.getAggregations().stream()
             .map(f -> MapperUtils.mapFacet(context, f))
@@ -40,7 +71,5 @@ public class UrnSearchResultsMapper<T extends RecordTemplate, E extends Entity>
         searchResultMetadata.getSuggestions().stream()
             .map(MapperUtils::mapSearchSuggestion)
             .collect(Collectors.toList()));
-
-    return result;
   }
 }
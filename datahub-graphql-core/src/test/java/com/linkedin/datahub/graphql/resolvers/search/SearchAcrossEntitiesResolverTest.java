@@ -16,6 +16,7 @@ import com.linkedin.datahub.graphql.generated.EntityType;
 import com.linkedin.datahub.graphql.generated.FacetFilterInput;
 import com.linkedin.datahub.graphql.generated.FilterOperator;
 import com.linkedin.datahub.graphql.generated.SearchAcrossEntitiesInput;
+import com.linkedin.datahub.graphql.generated.SearchResults;
 import com.linkedin.datahub.graphql.types.entitytype.EntityTypeMapper;
 import com.linkedin.entity.client.EntityClient;
 import com.linkedin.metadata.Constants;
@@ -25,6 +26,7 @@ import com.linkedin.metadata.query.filter.ConjunctiveCriterionArray;
 import com.linkedin.metadata.query.filter.Criterion;
 import com.linkedin.metadata.query.filter.CriterionArray;
 import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchResultMetadata;
@@ -103,6 +105,9 @@ public class SearchAcrossEntitiesResolverTest {
             null,
             TEST_VIEW_URN.toString(),
             null,
+            null,
+            null,
+            null,
             null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
@@ -196,6 +201,9 @@ public class SearchAcrossEntitiesResolverTest {
                             FilterOperator.EQUAL)))),
             TEST_VIEW_URN.toString(),
             null,
+            null,
+            null,
+            null,
             null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
@@ -265,6 +273,9 @@ public class SearchAcrossEntitiesResolverTest {
                             FilterOperator.EQUAL)))),
             null,
             null,
+            null,
+            null,
+            null,
             null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
@@ -329,7 +340,7 @@ public class SearchAcrossEntitiesResolverTest {
 
     final SearchAcrossEntitiesInput testInput =
         new SearchAcrossEntitiesInput(
-            null, "", 0, 10, null, null, TEST_VIEW_URN.toString(), null, null);
+            null, "", 0, 10, null, null, TEST_VIEW_URN.toString(), null, null, null, null, null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
     Mockito.when(mockEnv.getArgument(Mockito.eq("input"))).thenReturn(testInput);
@@ -404,6 +415,9 @@ public class SearchAcrossEntitiesResolverTest {
             null,
             TEST_VIEW_URN.toString(),
             null,
+            null,
+            null,
+            null,
             null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
@@ -467,6 +481,9 @@ public class SearchAcrossEntitiesResolverTest {
             null,
             TEST_VIEW_URN.toString(),
             null,
+            null,
+            null,
+            null,
             null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
@@ -542,6 +559,9 @@ public class SearchAcrossEntitiesResolverTest {
             null,
             TEST_VIEW_URN.toString(),
             null,
+            null,
+            null,
+            null,
             null);
     DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
     QueryContext mockContext = getMockAllowContext();
@@ -551,6 +571,66 @@ public class SearchAcrossEntitiesResolverTest {
     Assert.assertThrows(CompletionException.class, () -> resolver.get(mockEnv).join());
   }
 
+  @Test
+  public static void testScrollIdPagesWithScroll() throws Exception {
+    EntityClient mockClient = Mockito.mock(EntityClient.class);
+    Mockito.when(
+            mockClient.scrollAcrossEntities(
+                any(),
+                Mockito.eq(List.of(Constants.DATASET_ENTITY_NAME)),
+                Mockito.eq("test"),
+                any(),
+                Mockito.eq("previous"),
+                Mockito.eq("1m"),
+                Mockito.eq(Collections.emptyList()),
+                Mockito.eq(10),
+                Mockito.eq(null)))
+        .thenReturn(
+            new ScrollResult()
+                .setScrollId("next")
+                .setEntities(new SearchEntityArray())
+                .setNumEntities(25)
+                .setPageSize(10)
+                .setMetadata(new SearchResultMetadata()));
+
+    final SearchAcrossEntitiesResolver resolver =
+        new SearchAcrossEntitiesResolver(mockClient, Mockito.mock(ViewService.class));
+    final SearchAcrossEntitiesInput testInput =
+        new SearchAcrossEntitiesInput(
+            ImmutableList.of(EntityType.DATASET),
+            "test",
+            null,
+            10,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            "previous",
+            "1m");
+    DataFetchingEnvironment mockEnv = Mockito.mock(DataFetchingEnvironment.class);
+    QueryContext mockContext = getMockAllowContext();
+    Mockito.when(mockEnv.getArgument(Mockito.eq("input"))).thenReturn(testInput);
+    Mockito.when(mockEnv.getContext()).thenReturn(mockContext);
+
+    SearchResults results = resolver.get(mockEnv).get();
+
+    Assert.assertEquals(results.getNextScrollId(), "next");
+    Assert.assertEquals(results.getTotal(), 25);
+    Assert.assertEquals(results.getStart(), 0);
+    Mockito.verify(mockClient, Mockito.never())
+        .searchAcrossEntities(
+            any(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            any(),
+            Mockito.anyInt(),
+            Mockito.anyInt(),
+            Mockito.anyList(),
+            Mockito.any());
+  }
+
   private static ViewService initMockViewService(Urn viewUrn, DataHubViewInfo viewInfo) {
     ViewService service = Mockito.mock(ViewService.class);
     Mockito.when(service.getViewInfo(any(), Mockito.eq(viewUrn))).thenReturn(viewInfo);
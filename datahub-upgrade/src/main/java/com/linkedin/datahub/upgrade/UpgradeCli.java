@@ -1,5 +1,6 @@
 package com.linkedin.datahub.upgrade;
 
+import com.linkedin.datahub.upgrade.createbackup.CreateBackup;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeManager;
 import com.linkedin.datahub.upgrade.loadindices.LoadIndices;
 import com.linkedin.datahub.upgrade.removeunknownaspects.RemoveUnknownAspects;
@@ -58,6 +59,10 @@ public class UpgradeCli implements CommandLineRunner {
   @Named("restoreBackup")
   private RestoreBackup restoreBackup;
 
+  @Autowired(required = false)
+  @Named("createBackup")
+  private CreateBackup createBackup;
+
   @Autowired(required = false)
   @Named("removeUnknownAspects")
   private RemoveUnknownAspects removeUnknownAspects;
@@ -101,6 +106,12 @@ public class UpgradeCli implements CommandLineRunner {
       log.info("RestoreBackup upgrade not available - bean not found");
     }
 
+    if (createBackup != null) {
+      _upgradeManager.register(createBackup);
+    } else {
+      log.info("CreateBackup upgrade not available - bean not found");
+    }
+
     if (removeUnknownAspects != null) {
       _upgradeManager.register(removeUnknownAspects);
     } else {
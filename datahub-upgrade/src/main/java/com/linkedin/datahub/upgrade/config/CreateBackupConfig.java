@@ -0,0 +1,35 @@
+package com.linkedin.datahub.upgrade.config;
+
+import com.linkedin.datahub.upgrade.createbackup.CreateBackup;
+import io.ebean.Database;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+@Slf4j
+@Configuration
+public class CreateBackupConfig {
+  @Autowired ApplicationContext applicationContext;
+
+  @Bean(name = "createBackup")
+  @DependsOn({"ebeanServer"})
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "ebean", matchIfMissing = true)
+  @Nonnull
+  public CreateBackup createInstance() {
+    final Database ebeanServer = applicationContext.getBean(Database.class);
+    return new CreateBackup(ebeanServer);
+  }
+
+  @Bean(name = "createBackup")
+  @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
+  @Nonnull
+  public CreateBackup createNotImplInstance() {
+    log.warn("createBackup is not supported for cassandra!");
+    return new CreateBackup(null);
+  }
+}
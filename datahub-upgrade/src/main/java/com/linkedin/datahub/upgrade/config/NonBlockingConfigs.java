@@ -4,6 +4,7 @@ import com.linkedin.datahub.upgrade.conditions.SystemUpdateCondition;
 import com.linkedin.datahub.upgrade.system.NonBlockingSystemUpgrade;
 import com.linkedin.datahub.upgrade.system.browsepaths.BackfillBrowsePathsV2;
 import com.linkedin.datahub.upgrade.system.browsepaths.BackfillIcebergBrowsePathsV2;
+import com.linkedin.datahub.upgrade.system.compression.CompressAspectPayloads;
 import com.linkedin.datahub.upgrade.system.dataprocessinstances.BackfillDataProcessInstances;
 import com.linkedin.datahub.upgrade.system.entities.RemoveQueryEdges;
 import com.linkedin.datahub.upgrade.system.entityconsistency.FixEntityConsistency;
@@ -18,11 +19,14 @@ import com.linkedin.metadata.aspect.consistency.ConsistencyService;
 import com.linkedin.metadata.config.search.BulkDeleteConfiguration;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.AspectPayloadCodec;
 import com.linkedin.metadata.search.SearchService;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
 import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
 import io.datahubproject.metadata.context.OperationContext;
+import io.ebean.Database;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -161,6 +165,31 @@ public class NonBlockingConfigs {
         opContext, components, entityService, enabled && hashEnabled, batchSize, delayMs, limit);
   }
 
+  @Bean
+  public NonBlockingSystemUpgrade compressAspectPayloads(
+      @Qualifier("systemOperationContext") final OperationContext opContext,
+      final EntityService<?> entityService,
+      @Qualifier("ebeanServer") final ObjectProvider<Database> ebeanServer,
+      final ConfigurationProvider configurationProvider,
+      // SYSTEM_UPDATE_COMPRESS_ASPECT_PAYLOADS_ENABLED
+      @Value("${systemUpdate.compressAspectPayloads.enabled}") final boolean enabled,
+      // SYSTEM_UPDATE_COMPRESS_ASPECT_PAYLOADS_BATCH_SIZE
+      @Value("${systemUpdate.compressAspectPayloads.batchSize}") final Integer batchSize,
+      // SYSTEM_UPDATE_COMPRESS_ASPECT_PAYLOADS_THREADS
+      @Value("${systemUpdate.compressAspectPayloads.threads}") final Integer threads,
+      // SYSTEM_UPDATE_COMPRESS_ASPECT_PAYLOADS_DELAY_MS
+      @Value("${systemUpdate.compressAspectPayloads.delayMs}") final Integer delayMs) {
+    return new CompressAspectPayloads(
+        opContext,
+        entityService,
+        ebeanServer.getIfAvailable(),
+        AspectPayloadCodec.fromConfiguration(configurationProvider.getEbean()),
+        enabled,
+        batchSize,
+        threads,
+        delayMs);
+  }
+
   @Autowired private OperationContext opContext;
 
   @Bean
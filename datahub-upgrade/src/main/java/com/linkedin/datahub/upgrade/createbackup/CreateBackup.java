@@ -0,0 +1,31 @@
+package com.linkedin.datahub.upgrade.createbackup;
+
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import io.ebean.Database;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/** Writes a backup of the aspect table that can be restored with RestoreBackup. */
+public class CreateBackup implements Upgrade {
+
+  private final List<UpgradeStep> _steps;
+
+  public CreateBackup(@Nullable final Database server) {
+    if (server != null) {
+      _steps = List.of(new CreateBackupStep(server));
+    } else {
+      _steps = List.of();
+    }
+  }
+
+  @Override
+  public String id() {
+    return "CreateBackup";
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+}
@@ -0,0 +1,306 @@
+package com.linkedin.datahub.upgrade.createbackup;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.datahub.upgrade.restorebackup.RestoreBackup;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.metadata.entity.ebean.PartitionedStream;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.ebean.Database;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.security.UserGroupInformation;
+
+/**
+ * Exports the latest version of every aspect to Parquet files that RestoreBackup can read. The urn
+ * space is split into {@code THREADS} ranges of about the same number of rows, and each range is
+ * streamed in urn and aspect order into its own series of files of at most {@code ROWS_PER_FILE}
+ * rows. A manifest listing the files is written last, so a backup without one is incomplete.
+ */
+@Slf4j
+public class CreateBackupStep implements UpgradeStep {
+
+  public static final String THREADS_ARG_NAME = "THREADS";
+  public static final String ROWS_PER_FILE_ARG_NAME = "ROWS_PER_FILE";
+  public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+  private static final int DEFAULT_THREADS = 4;
+  private static final long DEFAULT_ROWS_PER_FILE = 1_000_000;
+  private static final int STREAM_BATCH_SIZE = 1000;
+
+  private final Database _server;
+  // Ranges report their progress from their own threads
+  private final Object _reportLock = new Object();
+
+  public CreateBackupStep(final Database server) {
+    _server = server;
+  }
+
+  @Override
+  public String id() {
+    return "CreateBackupStep";
+  }
+
+  @Override
+  public int retryCount() {
+    return 0;
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      final Optional<String> backupPath =
+          context
+              .parsedArgs()
+              .getOrDefault(RestoreBackup.BACKUP_FILE_PATH_ARG_NAME, Optional.empty());
+      if (!backupPath.isPresent()) {
+        context.report().addLine("BACKUP_FILE_PATH must be set to the directory to write to");
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      }
+      final int threads =
+          context
+              .parsedArgs()
+              .getOrDefault(THREADS_ARG_NAME, Optional.empty())
+              .map(Integer::parseInt)
+              .orElse(DEFAULT_THREADS);
+      final long rowsPerFile =
+          context
+              .parsedArgs()
+              .getOrDefault(ROWS_PER_FILE_ARG_NAME, Optional.empty())
+              .map(Long::parseLong)
+              .orElse(DEFAULT_ROWS_PER_FILE);
+
+      // Same login workaround as LocalParquetReader, hadoop paths fail without it on linux
+      UserGroupInformation.setLoginUser(UserGroupInformation.createRemoteUser("hduser"));
+      final Configuration conf = new Configuration();
+      final Path directory = new Path(backupPath.get());
+      try {
+        final FileSystem fileSystem = directory.getFileSystem(conf);
+        if (fileSystem.exists(directory) && fileSystem.listStatus(directory).length > 0) {
+          context
+              .report()
+              .addLine(
+                  String.format(
+                      "%s is not empty, a backup must be written to a new directory", directory));
+          return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+        }
+        fileSystem.mkdirs(directory);
+      } catch (IOException e) {
+        context.report().addLine(String.format("Failed to create %s", directory), e);
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      }
+
+      final long startTime = System.currentTimeMillis();
+      final EbeanAspectDao aspectDao =
+          new EbeanAspectDao(_server, EbeanConfiguration.testDefault, null);
+      aspectDao.setConnectionValidated(true);
+      final List<String> boundaries = getUrnBoundaries(threads);
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Exporting %d urn ranges with %d threads to %s",
+                  boundaries.size() + 1, threads, directory));
+
+      final AtomicLong rowsWritten = new AtomicLong();
+      final ExecutorService executor =
+          Executors.newFixedThreadPool(
+              threads,
+              new ThreadFactoryBuilder().setNameFormat("create-backup-%d").setDaemon(true).build());
+      final List<ParquetBackupWriter.BackupFile> files = new ArrayList<>();
+      try {
+        final List<CompletableFuture<List<ParquetBackupWriter.BackupFile>>> futures =
+            new ArrayList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+          final int range = i;
+          final String from = i == 0 ? null : boundaries.get(i - 1);
+          final String to = i == boundaries.size() ? null : boundaries.get(i);
+          futures.add(
+              CompletableFuture.supplyAsync(
+                  () ->
+                      exportRange(
+                          context,
+                          aspectDao,
+                          conf,
+                          directory,
+                          range,
+                          from,
+                          to,
+                          rowsPerFile,
+                          rowsWritten,
+                          startTime),
+                  executor));
+        }
+        futures.forEach(future -> files.addAll(future.join()));
+      } catch (CompletionException e) {
+        log.error("Failed to export the aspect table", e);
+        context.report().addLine("Failed to export the aspect table", e.getCause());
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      } finally {
+        executor.shutdownNow();
+      }
+
+      try {
+        writeManifest(conf, directory, files, rowsWritten.get(), startTime);
+      } catch (IOException e) {
+        context.report().addLine("Failed to write the backup manifest", e);
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      }
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Wrote %d rows to %d files in %s in %.1f seconds",
+                  rowsWritten.get(),
+                  files.size(),
+                  directory,
+                  (System.currentTimeMillis() - startTime) / 1000.0));
+      return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.SUCCEEDED);
+    };
+  }
+
+  /** Streams the latest aspects of urns from {@code from} inclusive to {@code to} exclusive. */
+  private List<ParquetBackupWriter.BackupFile> exportRange(
+      UpgradeContext context,
+      EbeanAspectDao aspectDao,
+      Configuration conf,
+      Path directory,
+      int range,
+      @Nullable String from,
+      @Nullable String to,
+      long rowsPerFile,
+      AtomicLong rowsWritten,
+      long startTime) {
+    final RestoreIndicesArgs args = new RestoreIndicesArgs();
+    if (from != null) {
+      args.urnBasedPagination = true;
+      args.lastUrn = from;
+    }
+    args.endUrn = to;
+
+    final ParquetBackupWriter writer =
+        new ParquetBackupWriter(conf, directory, String.format("part-%05d", range), rowsPerFile);
+    try (writer;
+        PartitionedStream<EbeanAspectV2> stream = aspectDao.streamAspectBatches(args)) {
+      stream
+          .partition(STREAM_BATCH_SIZE)
+          .forEach(
+              batch -> {
+                final int filesBefore = writer.getFiles().size();
+                final List<EbeanAspectV2> aspects = batch.collect(Collectors.toList());
+                for (EbeanAspectV2 aspect : aspects) {
+                  try {
+                    writer.write(aspect);
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                }
+                final long rows = rowsWritten.addAndGet(aspects.size());
+                if (writer.getFiles().size() > filesBefore) {
+                  reportProgress(context, writer, rows, startTime);
+                }
+              });
+      final int filesBefore = writer.getFiles().size();
+      writer.close();
+      if (writer.getFiles().size() > filesBefore) {
+        reportProgress(context, writer, rowsWritten.get(), startTime);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return writer.getFiles();
+  }
+
+  private void reportProgress(
+      UpgradeContext context, ParquetBackupWriter writer, long rows, long startTime) {
+    final List<ParquetBackupWriter.BackupFile> files = writer.getFiles();
+    final ParquetBackupWriter.BackupFile file = files.get(files.size() - 1);
+    final long elapsedMs = Math.max(System.currentTimeMillis() - startTime, 1);
+    synchronized (_reportLock) {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Wrote %s with %d rows, about %d rows exported - %.1f rows/sec",
+                  file.getName(), file.getRows(), rows, rows * 1000.0 / elapsedMs));
+    }
+  }
+
+  /** Urns that split the latest aspects into ranges of about the same number of rows. */
+  private List<String> getUrnBoundaries(int ranges) {
+    final List<String> boundaries = new ArrayList<>();
+    if (ranges <= 1) {
+      return boundaries;
+    }
+    final int totalRows =
+        _server
+            .find(EbeanAspectV2.class)
+            .where()
+            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+            .findCount();
+    for (int i = 1; i < ranges; i++) {
+      final List<EbeanAspectV2> boundary =
+          _server
+              .find(EbeanAspectV2.class)
+              .where()
+              .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+              .orderBy()
+              .asc(EbeanAspectV2.URN_COLUMN)
+              .setFirstRow((int) ((long) totalRows * i / ranges))
+              .setMaxRows(1)
+              .findList();
+      if (boundary.isEmpty()) {
+        break;
+      }
+      final String urn = boundary.get(0).getKey().getUrn();
+      if (boundaries.isEmpty() || urn.compareTo(boundaries.get(boundaries.size() - 1)) > 0) {
+        boundaries.add(urn);
+      }
+    }
+    return boundaries;
+  }
+
+  private static void writeManifest(
+      Configuration conf,
+      Path directory,
+      List<ParquetBackupWriter.BackupFile> files,
+      long rows,
+      long startTime)
+      throws IOException {
+    final Map<String, Object> manifest = new LinkedHashMap<>();
+    manifest.put("createdAtMs", startTime);
+    manifest.put("rows", rows);
+    manifest.put("files", files);
+    final Path path = new Path(directory, MANIFEST_FILE_NAME);
+    try (OutputStream out = path.getFileSystem(conf).create(path, false)) {
+      new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(out, manifest);
+    }
+  }
+}
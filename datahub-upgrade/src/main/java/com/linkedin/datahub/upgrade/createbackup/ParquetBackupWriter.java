@@ -0,0 +1,128 @@
+package com.linkedin.datahub.upgrade.createbackup;
+
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.Data;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopOutputFile;
+
+/**
+ * Writes aspect rows to Snappy compressed Parquet files in the layout read by {@code
+ * LocalParquetReader}, starting a new file every {@code rowsPerFile} rows.
+ */
+class ParquetBackupWriter implements Closeable {
+
+  // Column names follow the metadata_aspect_v2 table, createdon holds microseconds since the epoch
+  static final Schema SCHEMA =
+      SchemaBuilder.record("metadata_aspect_v2")
+          .fields()
+          .requiredString("urn")
+          .requiredString("aspect")
+          .requiredLong("version")
+          .requiredString("metadata")
+          .optionalString("systemmetadata")
+          .requiredLong("createdon")
+          .requiredString("createdby")
+          .optionalString("createdfor")
+          .endRecord();
+
+  private final Configuration _conf;
+  private final Path _directory;
+  private final String _filePrefix;
+  private final long _rowsPerFile;
+  private final List<BackupFile> _files = new ArrayList<>();
+  private ParquetWriter<GenericRecord> _writer;
+  private BackupFile _currentFile;
+
+  ParquetBackupWriter(Configuration conf, Path directory, String filePrefix, long rowsPerFile) {
+    _conf = conf;
+    _directory = directory;
+    _filePrefix = filePrefix;
+    _rowsPerFile = rowsPerFile;
+  }
+
+  void write(EbeanAspectV2 aspect) throws IOException {
+    if (_writer == null) {
+      openFile(aspect.getKey().getUrn());
+    }
+    _writer.write(toRecord(aspect));
+    _currentFile.setRows(_currentFile.getRows() + 1);
+    _currentFile.setLastUrn(aspect.getKey().getUrn());
+    if (_currentFile.getRows() >= _rowsPerFile) {
+      closeFile();
+    }
+  }
+
+  /** Files written so far, a file is only listed once it is complete. */
+  List<BackupFile> getFiles() {
+    return Collections.unmodifiableList(_files);
+  }
+
+  @Override
+  public void close() throws IOException {
+    closeFile();
+  }
+
+  private void openFile(String firstUrn) throws IOException {
+    final String name = String.format("%s-%05d.parquet", _filePrefix, _files.size());
+    _writer =
+        AvroParquetWriter.<GenericRecord>builder(
+                HadoopOutputFile.fromPath(new Path(_directory, name), _conf))
+            .withSchema(SCHEMA)
+            .withConf(_conf)
+            .withCompressionCodec(CompressionCodecName.SNAPPY)
+            .withWriteMode(ParquetFileWriter.Mode.CREATE)
+            .build();
+    _currentFile = new BackupFile();
+    _currentFile.setName(name);
+    _currentFile.setFirstUrn(firstUrn);
+  }
+
+  private void closeFile() throws IOException {
+    if (_writer == null) {
+      return;
+    }
+    _writer.close();
+    final Path path = new Path(_directory, _currentFile.getName());
+    _currentFile.setSizeBytes(path.getFileSystem(_conf).getFileStatus(path).getLen());
+    _files.add(_currentFile);
+    _writer = null;
+    _currentFile = null;
+  }
+
+  private static GenericRecord toRecord(EbeanAspectV2 aspect) {
+    final GenericRecord record = new GenericData.Record(SCHEMA);
+    record.put("urn", aspect.getKey().getUrn());
+    record.put("aspect", aspect.getKey().getAspect());
+    record.put("version", aspect.getKey().getVersion());
+    record.put("metadata", aspect.getMetadata());
+    record.put("systemmetadata", aspect.getSystemMetadata());
+    record.put("createdon", aspect.getCreatedOn().getTime() * 1000);
+    record.put("createdby", aspect.getCreatedBy());
+    record.put("createdfor", aspect.getCreatedFor());
+    return record;
+  }
+
+  /** A backup file as listed in the manifest. */
+  @Data
+  static class BackupFile {
+    private String name;
+    private long rows;
+    private long sizeBytes;
+    private String firstUrn;
+    private String lastUrn;
+  }
+}
@@ -8,6 +8,7 @@ import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.shared.ElasticSearchUpgradeUtils;
 import com.linkedin.datahub.upgrade.system.elasticsearch.steps.BuildIndicesStep;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.service.UpdateIndicesService;
@@ -30,6 +31,9 @@ public class LoadIndices implements Upgrade {
   public static final String LE_PIT_EPOCH_MS_ARG_NAME = "lePitEpochMs";
   public static final String ASPECT_NAMES_ARG_NAME = "aspectNames";
   public static final String LAST_URN_ARG_NAME = "lastUrn";
+  public static final String THREADS_ARG_NAME = "threads";
+  public static final String INCREMENTAL_ARG_NAME = "incremental";
+  public static final String CHECKPOINT_INTERVAL_SECONDS_ARG_NAME = "checkpointIntervalSeconds";
 
   private final List<UpgradeStep> _steps;
 
@@ -41,7 +45,8 @@ public class LoadIndices implements Upgrade {
       @Nullable final TimeseriesAspectService timeseriesAspectService,
       @Nullable final EntitySearchService entitySearchService,
       @Nullable final GraphService graphService,
-      @Nullable final AspectDao aspectDao) {
+      @Nullable final AspectDao aspectDao,
+      @Nullable final EntityService<?> entityService) {
     if (server != null && indexManager != null) {
       _steps =
           buildSteps(
@@ -52,7 +57,8 @@ public class LoadIndices implements Upgrade {
               timeseriesAspectService,
               entitySearchService,
               graphService,
-              aspectDao);
+              aspectDao,
+              entityService);
     } else {
       _steps = List.of();
     }
@@ -76,7 +82,8 @@ public class LoadIndices implements Upgrade {
       final TimeseriesAspectService timeseriesAspectService,
       final EntitySearchService entitySearchService,
       final GraphService graphService,
-      final AspectDao aspectDao) {
+      final AspectDao aspectDao,
+      final EntityService<?> entityService) {
     final List<UpgradeStep> steps = new ArrayList<>();
 
     if (systemMetadataService != null
@@ -95,7 +102,7 @@ public class LoadIndices implements Upgrade {
       steps.add(new BuildIndicesStep(indexedServices, structuredProperties));
     }
 
-    steps.add(new LoadIndicesStep(server, updateIndicesService, indexManager));
+    steps.add(new LoadIndicesStep(server, updateIndicesService, indexManager, entityService));
     return steps;
   }
 
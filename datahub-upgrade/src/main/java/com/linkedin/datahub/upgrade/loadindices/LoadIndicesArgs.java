@@ -12,6 +12,9 @@ public class LoadIndicesArgs {
   public Long gePitEpochMs;
   public Collection<String> aspectNames;
   public String lastUrn;
+  public int threads = 1;
+  public boolean incremental;
+  public int checkpointIntervalSeconds = 30;
 
   public LoadIndicesArgs clone() {
     LoadIndicesArgs cloned = new LoadIndicesArgs();
@@ -22,6 +25,9 @@ public class LoadIndicesArgs {
     cloned.gePitEpochMs = this.gePitEpochMs;
     cloned.aspectNames = this.aspectNames;
     cloned.lastUrn = this.lastUrn;
+    cloned.threads = this.threads;
+    cloned.incremental = this.incremental;
+    cloned.checkpointIntervalSeconds = this.checkpointIntervalSeconds;
     return cloned;
   }
 }
@@ -0,0 +1,290 @@
+package com.linkedin.datahub.upgrade.loadindices;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Progress of a LoadIndices run, kept in the DataHubUpgradeResult of the step. A run that stops
+ * part way resumes every urn range partition after the last batch saved by a checkpoint, and a
+ * successful run records the watermark that an incremental run loads from. Checkpoints flush the
+ * bulk processor, so they are taken at most once per interval across all partitions.
+ */
+@Slf4j
+class LoadIndicesCheckpoint {
+  static final String RUN_START_KEY = "runStartMs";
+  static final String WATERMARK_KEY = "watermarkMs";
+  static final String PARTITIONS_KEY = "partitions";
+  static final String RUN_ARGS_KEY = "runArgs";
+
+  // Rows written by transactions that were still open when the run started can carry an older
+  // createdOn, so the watermark is moved back by this much
+  static final long WATERMARK_OVERLAP_MS = 5 * 60 * 1000L;
+
+  @Nullable private final UpgradeContext context;
+  @Nullable private final EntityService<?> entityService;
+  @Nullable private final Urn upgradeUrn;
+  @Nonnull private final Map<String, String> previous;
+  @Getter private final long runStartMs;
+  private final long intervalMs;
+  // Arguments of this run that decide which rows each partition holds
+  @Nullable private String runArgs;
+  private long lastSavedMs = System.currentTimeMillis();
+
+  private LoadIndicesCheckpoint(
+      @Nullable UpgradeContext context,
+      @Nullable EntityService<?> entityService,
+      @Nullable Urn upgradeUrn,
+      @Nonnull Map<String, String> previous,
+      long runStartMs,
+      long intervalMs) {
+    this.context = context;
+    this.entityService = entityService;
+    this.upgradeUrn = upgradeUrn;
+    this.previous = previous;
+    this.runStartMs = runStartMs;
+    this.intervalMs = intervalMs;
+  }
+
+  /** Keeps no progress, every run starts from the beginning. */
+  static LoadIndicesCheckpoint disabled() {
+    return new LoadIndicesCheckpoint(
+        null, null, null, Collections.emptyMap(), System.currentTimeMillis(), 0);
+  }
+
+  /** @param intervalMs least time between two checkpoints, 0 to take one after every batch */
+  static LoadIndicesCheckpoint load(
+      @Nonnull UpgradeContext context,
+      @Nonnull EntityService<?> entityService,
+      @Nonnull Urn upgradeUrn,
+      long intervalMs) {
+    Map<String, String> previous =
+        context
+            .upgrade()
+            .getUpgradeResult(context.opContext(), upgradeUrn, entityService)
+            .filter(result -> result.getResult() != null)
+            .map(
+                result -> {
+                  Map<String, String> values = new HashMap<>(result.getResult());
+                  if (!DataHubUpgradeState.IN_PROGRESS.equals(result.getState())) {
+                    // Only the watermark of a finished run is of use
+                    values.keySet().retainAll(List.of(WATERMARK_KEY));
+                  }
+                  return values;
+                })
+            .orElse(Collections.emptyMap());
+    long runStartMs =
+        previous.containsKey(RUN_START_KEY)
+            ? Long.parseLong(previous.get(RUN_START_KEY))
+            : System.currentTimeMillis();
+    return new LoadIndicesCheckpoint(
+        context, entityService, upgradeUrn, previous, runStartMs, intervalMs);
+  }
+
+  /**
+   * The arguments that decide the rows of the partitions, a checkpoint only applies to a run with
+   * the same ones.
+   */
+  @Nonnull
+  static String runArgs(@Nonnull LoadIndicesArgs args) {
+    return String.join(
+        ";",
+        "urnLike=" + args.urnLike,
+        "aspectNames=" + (args.aspectNames != null ? new TreeSet<>(args.aspectNames) : null),
+        "lastUrn=" + args.lastUrn,
+        "gePitEpochMs=" + args.gePitEpochMs,
+        "lePitEpochMs=" + args.lePitEpochMs,
+        "limit=" + args.limit,
+        "threads=" + args.threads);
+  }
+
+  boolean isEnabled() {
+    return entityService != null;
+  }
+
+  /** Start of the newest createdOn range the last successful run loaded, if there was one. */
+  @Nullable
+  Long getWatermarkMs() {
+    return previous.containsKey(WATERMARK_KEY) ? Long.parseLong(previous.get(WATERMARK_KEY)) : null;
+  }
+
+  /** Whether an earlier run stopped part way. */
+  boolean isInterrupted() {
+    return previous.containsKey(PARTITIONS_KEY);
+  }
+
+  /**
+   * Partitions of an interrupted run, empty if there is nothing to resume or the run was started
+   * with other arguments. The arguments are kept with the progress of this run.
+   */
+  @Nonnull
+  List<Partition> getResumablePartitions(@Nonnull String runArgs) {
+    this.runArgs = runArgs;
+    if (!isInterrupted()) {
+      return Collections.emptyList();
+    }
+    if (!runArgs.equals(previous.get(RUN_ARGS_KEY))) {
+      log.warn(
+          "Ignoring LoadIndices checkpoint of a run with other arguments: {}",
+          previous.get(RUN_ARGS_KEY));
+      return Collections.emptyList();
+    }
+    int count = Integer.parseInt(previous.get(PARTITIONS_KEY));
+    List<Partition> partitions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      partitions.add(
+          new Partition(
+              i,
+              previous.get(key(i, "from")),
+              previous.get(key(i, "to")),
+              previous.get(key(i, "lastUrn")),
+              previous.get(key(i, "lastAspect")),
+              Boolean.parseBoolean(previous.get(key(i, "done")))));
+    }
+    return partitions;
+  }
+
+  /**
+   * Records that a partition has handed everything up to and including the given aspect to the
+   * bulk processor, and takes a checkpoint if the interval has passed since the last one.
+   */
+  synchronized void advance(
+      @Nonnull List<Partition> partitions,
+      @Nonnull Partition partition,
+      @Nonnull String lastUrn,
+      @Nonnull String lastAspect,
+      @Nonnull Runnable flush) {
+    partition.writtenUrn = lastUrn;
+    partition.writtenAspect = lastAspect;
+    if (isEnabled() && System.currentTimeMillis() - lastSavedMs >= intervalMs) {
+      checkpoint(partitions, flush);
+    }
+  }
+
+  /** Records that a partition has been written completely, taking a checkpoint. */
+  synchronized void finish(
+      @Nonnull List<Partition> partitions,
+      @Nonnull Partition partition,
+      @Nonnull Runnable flush) {
+    partition.done = true;
+    if (isEnabled()) {
+      checkpoint(partitions, flush);
+    }
+  }
+
+  /**
+   * Flushes, so that every batch handed to the bulk processor so far has reached the indices, then
+   * saves all partitions as far as they were written. Writers advance under the same lock, so none
+   * records a batch the flush did not cover.
+   */
+  private void checkpoint(@Nonnull List<Partition> partitions, @Nonnull Runnable flush) {
+    flush.run();
+    for (Partition partition : partitions) {
+      if (partition.writtenUrn != null) {
+        partition.lastUrn = partition.writtenUrn;
+        partition.lastAspect = partition.writtenAspect;
+      }
+    }
+    save(partitions);
+  }
+
+  synchronized void save(@Nonnull List<Partition> partitions) {
+    if (!isEnabled()) {
+      return;
+    }
+    Map<String, String> progress = new HashMap<>();
+    progress.put(RUN_START_KEY, String.valueOf(runStartMs));
+    progress.put(PARTITIONS_KEY, String.valueOf(partitions.size()));
+    putIfNotNull(progress, RUN_ARGS_KEY, runArgs);
+    if (getWatermarkMs() != null) {
+      progress.put(WATERMARK_KEY, String.valueOf(getWatermarkMs()));
+    }
+    for (Partition partition : partitions) {
+      putIfNotNull(progress, key(partition.index, "from"), partition.from);
+      putIfNotNull(progress, key(partition.index, "to"), partition.to);
+      putIfNotNull(progress, key(partition.index, "lastUrn"), partition.lastUrn);
+      putIfNotNull(progress, key(partition.index, "lastAspect"), partition.lastAspect);
+      progress.put(key(partition.index, "done"), String.valueOf(partition.done));
+    }
+    setUpgradeResult(DataHubUpgradeState.IN_PROGRESS, progress);
+    lastSavedMs = System.currentTimeMillis();
+  }
+
+  /**
+   * Marks the run as finished. A run that read every row moves the watermark to its start, a
+   * filtered one or one that stopped at a limit keeps the earlier watermark.
+   */
+  void complete(boolean moveWatermark) {
+    if (!isEnabled()) {
+      return;
+    }
+    Long watermarkMs =
+        moveWatermark ? Long.valueOf(runStartMs - WATERMARK_OVERLAP_MS) : getWatermarkMs();
+    setUpgradeResult(
+        DataHubUpgradeState.SUCCEEDED,
+        watermarkMs == null ? Map.of() : Map.of(WATERMARK_KEY, String.valueOf(watermarkMs)));
+  }
+
+  private void setUpgradeResult(DataHubUpgradeState state, Map<String, String> result) {
+    context
+        .upgrade()
+        .setUpgradeResult(context.opContext(), upgradeUrn, entityService, state, result);
+    log.debug("Saved LoadIndices checkpoint {}: {}", state, result);
+  }
+
+  private static String key(int index, String name) {
+    return "partition." + index + "." + name;
+  }
+
+  private static void putIfNotNull(Map<String, String> map, String key, @Nullable String value) {
+    if (value != null) {
+      map.put(key, value);
+    }
+  }
+
+  /**
+   * A range of urns, from {@code from} inclusive to {@code to} exclusive, that one writer loads in
+   * urn and aspect order. A null bound leaves that side of the range open.
+   */
+  static class Partition {
+    final int index;
+    @Nullable final String from;
+    @Nullable final String to;
+    @Nullable volatile String lastUrn;
+    @Nullable volatile String lastAspect;
+    volatile boolean done;
+    // Handed to the bulk processor, saved as lastUrn and lastAspect by the next checkpoint
+    @Nullable volatile String writtenUrn;
+    @Nullable volatile String writtenAspect;
+
+    Partition(
+        int index,
+        @Nullable String from,
+        @Nullable String to,
+        @Nullable String lastUrn,
+        @Nullable String lastAspect,
+        boolean done) {
+      this.index = index;
+      this.from = from;
+      this.to = to;
+      this.lastUrn = lastUrn;
+      this.lastAspect = lastAspect;
+      this.done = done;
+    }
+
+    Partition(int index, @Nullable String from, @Nullable String to) {
+      this(index, from, to, null, null, false);
+    }
+  }
+}
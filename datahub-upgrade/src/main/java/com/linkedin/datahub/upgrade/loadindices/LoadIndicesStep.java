@@ -3,6 +3,7 @@ package com.linkedin.datahub.upgrade.loadindices;
 import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
 
 import com.datahub.util.RecordUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
@@ -11,7 +12,9 @@ import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
 import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.boot.BootstrapStep;
 import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.ebean.PartitionedStream;
@@ -26,6 +29,8 @@ import io.ebean.Database;
 import io.ebean.ExpressionList;
 import io.ebean.annotation.TxIsolation;
 import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -33,7 +38,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -42,14 +54,25 @@ public class LoadIndicesStep implements UpgradeStep {
   private final Database server;
   private final UpdateIndicesService updateIndicesService;
   private final LoadIndicesIndexManager indexManager;
+  // Stores the progress of the run, no checkpoints are kept without it
+  @Nullable private final EntityService<?> entityService;
 
   public LoadIndicesStep(
       final Database server,
       final UpdateIndicesService updateIndicesService,
       final LoadIndicesIndexManager indexManager) {
+    this(server, updateIndicesService, indexManager, null);
+  }
+
+  public LoadIndicesStep(
+      final Database server,
+      final UpdateIndicesService updateIndicesService,
+      final LoadIndicesIndexManager indexManager,
+      @Nullable final EntityService<?> entityService) {
     this.server = server;
     this.updateIndicesService = updateIndicesService;
     this.indexManager = indexManager;
+    this.entityService = entityService;
   }
 
   @Override
@@ -68,6 +91,25 @@ public class LoadIndicesStep implements UpgradeStep {
       LoadIndicesArgs args = getArgs(context);
 
       try {
+        LoadIndicesCheckpoint checkpoint =
+            entityService != null
+                ? LoadIndicesCheckpoint.load(
+                    context,
+                    entityService,
+                    BootstrapStep.getUpgradeUrn(id()),
+                    TimeUnit.SECONDS.toMillis(args.checkpointIntervalSeconds))
+                : LoadIndicesCheckpoint.disabled();
+        if (args.incremental && args.gePitEpochMs == null) {
+          args.gePitEpochMs = checkpoint.getWatermarkMs();
+          context
+              .report()
+              .addLine(
+                  args.gePitEpochMs != null
+                      ? String.format(
+                          "Incremental run - loading aspects created since %d", args.gePitEpochMs)
+                      : "Incremental run without an earlier successful run - loading all aspects");
+        }
+
         context
             .report()
             .addLine(
@@ -87,7 +129,10 @@ public class LoadIndicesStep implements UpgradeStep {
                 (msg) -> {
                   context.report().addLine(msg);
                   return null;
-                });
+                },
+                checkpoint);
+        // Only a run over every row moves the incremental watermark
+        checkpoint.complete(loadsEveryRow(context, args));
 
         long totalTime = System.currentTimeMillis() - startTime;
         context.report().addLine(String.format("Processing completed: %s", result));
@@ -120,6 +165,19 @@ public class LoadIndicesStep implements UpgradeStep {
     };
   }
 
+  /**
+   * Whether the run loads every row created up to its start, which a filtered run or one that stops
+   * at a limit does not. An incremental run only narrows the rows to those after the watermark.
+   */
+  private boolean loadsEveryRow(UpgradeContext context, LoadIndicesArgs args) {
+    return args.limit == Integer.MAX_VALUE
+        && args.urnLike == null
+        && args.lastUrn == null
+        && args.lePitEpochMs == null
+        && !containsKey(context.parsedArgs(), LoadIndices.ASPECT_NAMES_ARG_NAME)
+        && !containsKey(context.parsedArgs(), LoadIndices.GE_PIT_EPOCH_MS_ARG_NAME);
+  }
+
   private LoadIndicesArgs getArgs(UpgradeContext context) {
     LoadIndicesArgs result = new LoadIndicesArgs();
     result.batchSize = getBatchSize(context.parsedArgs());
@@ -166,22 +224,56 @@ public class LoadIndicesStep implements UpgradeStep {
     } else {
       context.report().addLine("No lastUrn arg present - will process from beginning");
     }
+    result.threads = getInt(context.parsedArgs(), 1, LoadIndices.THREADS_ARG_NAME);
+    context.report().addLine(String.format("threads is %d", result.threads));
+    if (containsKey(context.parsedArgs(), LoadIndices.INCREMENTAL_ARG_NAME)) {
+      result.incremental =
+          Boolean.parseBoolean(context.parsedArgs().get(LoadIndices.INCREMENTAL_ARG_NAME).get());
+      context.report().addLine(String.format("incremental is %s", result.incremental));
+    }
+    result.checkpointIntervalSeconds =
+        getInt(
+            context.parsedArgs(),
+            result.checkpointIntervalSeconds,
+            LoadIndices.CHECKPOINT_INTERVAL_SECONDS_ARG_NAME);
     return result;
   }
 
   private LoadIndicesResult processAllDataDirectly(
       OperationContext opContext, LoadIndicesArgs args, Function<String, Void> reportFunction) {
+    return processAllDataDirectly(
+        opContext, args, reportFunction, LoadIndicesCheckpoint.disabled());
+  }
+
+  /**
+   * Loads the matching aspects as urn range partitions, written by up to {@code args.threads}
+   * threads. With checkpointing enabled, the progress of the partitions is saved at most once per
+   * checkpoint interval, after a flush, so an interrupted run continues after the last batch that
+   * reached the indices.
+   */
+  private LoadIndicesResult processAllDataDirectly(
+      OperationContext opContext,
+      LoadIndicesArgs args,
+      Function<String, Void> threadReportFunction,
+      LoadIndicesCheckpoint checkpoint) {
     LoadIndicesResult result = new LoadIndicesResult();
     long totalStartTime = System.currentTimeMillis();
 
+    // Partitions report their progress from their own threads
+    final Object reportLock = new Object();
+    final Function<String, Void> reportFunction =
+        msg -> {
+          synchronized (reportLock) {
+            return threadReportFunction.apply(msg);
+          }
+        };
+
     try {
       // Create EbeanAspectDao for streaming
       EbeanAspectDao aspectDao = new EbeanAspectDao(server, EbeanConfiguration.testDefault, null);
       aspectDao.setConnectionValidated(true);
 
-      // Process data using streaming approach (no cursor pagination needed!)
-      int batchSize = args.batchSize;
-      final int[] totalProcessed = {0}; // Use array to make it effectively final
+      final AtomicInteger totalProcessed = new AtomicInteger();
       final int limit = args.limit;
 
       // Determine totalRecords based on whether limit is specified
@@ -190,30 +282,7 @@ public class LoadIndicesStep implements UpgradeStep {
         reportFunction.apply("No limit specified - counting total aspects for ETA calculation...");
         long countStartTime = System.currentTimeMillis();
 
-        ExpressionList<EbeanAspectV2> countQuery =
-            server
-                .find(EbeanAspectV2.class)
-                .where()
-                .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
-
-        // Apply same filters as main query
-        if (args.urnLike != null) {
-          countQuery = countQuery.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
-        }
-        if (args.aspectNames != null && !args.aspectNames.isEmpty()) {
-          countQuery = countQuery.in(EbeanAspectV2.ASPECT_COLUMN, args.aspectNames);
-        }
-        if (args.lePitEpochMs != null) {
-          countQuery = countQuery.le(EbeanAspectV2.CREATED_ON_COLUMN, args.lePitEpochMs);
-        }
-        if (args.gePitEpochMs != null) {
-          countQuery = countQuery.ge(EbeanAspectV2.CREATED_ON_COLUMN, args.gePitEpochMs);
-        }
-        if (args.lastUrn != null) {
-          countQuery = countQuery.ge(EbeanAspectV2.URN_COLUMN, args.lastUrn);
-        }
-
-        totalRecords = countQuery.findCount();
+        totalRecords = filteredQuery(args).findCount();
         long countTime = System.currentTimeMillis() - countStartTime;
 
         reportFunction.apply(
@@ -226,105 +295,91 @@ public class LoadIndicesStep implements UpgradeStep {
             String.format("Limit specified (%d) - will use this for progress calculation", limit));
       }
 
+      List<LoadIndicesCheckpoint.Partition> partitions =
+          checkpoint.getResumablePartitions(LoadIndicesCheckpoint.runArgs(args));
+      if (partitions.isEmpty()) {
+        if (checkpoint.isInterrupted()) {
+          reportFunction.apply(
+              "Ignoring the progress of an interrupted run with other arguments - starting over");
+        }
+        partitions = createPartitions(args, totalRecords);
+        checkpoint.save(partitions);
+      } else {
+        reportFunction.apply(
+            String.format("Resuming %d urn ranges of an interrupted run", partitions.size()));
+      }
+      final List<LoadIndicesCheckpoint.Partition> allPartitions = partitions;
+      final List<LoadIndicesCheckpoint.Partition> pending =
+          partitions.stream().filter(partition -> !partition.done).collect(Collectors.toList());
+      final int threads = Math.max(1, Math.min(args.threads, pending.size()));
+      if (allPartitions.size() > 1) {
+        reportFunction.apply(
+            String.format(
+                "Loading %d of %d urn ranges with %d threads",
+                pending.size(), allPartitions.size(), threads));
+      }
+
       reportFunction.apply(
           "Starting main data query - this may take a moment for SQL to return the first batch...");
 
-      // Use streaming approach ordered by URN/aspect for optimal ES document batching
-      RestoreIndicesArgs restoreArgs = convertToRestoreIndicesArgs(args, limit);
-      try (PartitionedStream<EbeanAspectV2> stream =
-          aspectDao.streamAspectBatches(restoreArgs, TxIsolation.READ_UNCOMMITTED)) {
-
-        // Simple forEach approach since SQL handles the limiting
-        stream
-            .partition(batchSize)
-            .forEach(
-                batch -> {
-                  long batchStartTime = System.currentTimeMillis();
-
-                  List<EbeanAspectV2> aspects = batch.collect(java.util.stream.Collectors.toList());
-
-                  if (aspects.isEmpty()) {
-                    return;
-                  }
-
-                  result.timeSqlQueryMs += System.currentTimeMillis() - batchStartTime;
-
-                  // Pre-allocate list to avoid multiple resizing
-                  List<MetadataChangeLog> mclBatch = new ArrayList<>(aspects.size());
-                  int conversionErrors = 0;
-                  for (EbeanAspectV2 aspect : aspects) {
-                    try {
-                      MetadataChangeLog mcl = convertToMetadataChangeLog(opContext, aspect);
-                      mclBatch.add(mcl);
-                    } catch (Exception e) {
-                      log.debug("Error converting aspect: {}", aspect.getKey(), e);
-                      conversionErrors++;
-                      result.ignored++;
-                    }
-                  }
-
-                  if (!mclBatch.isEmpty()) {
-                    writeBatchWithRetry(opContext, mclBatch, result, reportFunction);
-                    int aspectsProcessed = aspects.size() - conversionErrors;
-                    totalProcessed[0] += aspectsProcessed;
-
-                    // Log the last URN of every batch for resume capability
-                    String lastUrn = aspects.get(aspects.size() - 1).getKey().getUrn();
-
-                    if (totalProcessed[0] % batchSize == 0 || conversionErrors > 0) {
-                      long currentTime = System.currentTimeMillis();
-                      long elapsedTime = currentTime - totalStartTime;
-                      double aspectsPerSecond = (double) totalProcessed[0] / (elapsedTime / 1000.0);
-
-                      String progressMessage;
-                      if (conversionErrors > 0) {
-                        progressMessage =
-                            String.format(
-                                "Processed %d aspects (total: %d, %d conversion errors) - %.1f aspects/sec",
-                                aspectsProcessed,
-                                totalProcessed[0],
-                                conversionErrors,
-                                aspectsPerSecond);
-                      } else {
-                        progressMessage =
-                            String.format(
-                                "Processed %d aspects - %.1f aspects/sec",
-                                totalProcessed[0], aspectsPerSecond);
-                      }
-
-                      if (totalRecords > 0 && aspectsPerSecond > 0 && totalProcessed[0] > 50000) {
-                        long remainingAspects;
-                        if (limit != Integer.MAX_VALUE) {
-                          remainingAspects = Math.min(limit, totalRecords) - totalProcessed[0];
-                        } else {
-                          remainingAspects = totalRecords - totalProcessed[0];
-                        }
-
-                        if (remainingAspects > 0) {
-                          long estimatedRemainingMs =
-                              (long) (remainingAspects / aspectsPerSecond * 1000);
-                          long estimatedRemainingMinutes = estimatedRemainingMs / 60000;
-                          long estimatedRemainingSeconds = (estimatedRemainingMs % 60000) / 1000;
-
-                          int progressPercent = (int) ((totalProcessed[0] * 100L) / totalRecords);
-                          progressMessage +=
-                              String.format(
-                                  " - Progress: %d%% - ETA: %dm %ds",
-                                  progressPercent,
-                                  estimatedRemainingMinutes,
-                                  estimatedRemainingSeconds);
-                        }
-                      }
-
-                      reportFunction.apply(progressMessage);
-                      reportFunction.apply("Last URN processed: " + lastUrn);
-                    }
-                  }
-                });
+      final List<LoadIndicesResult> partitionResults = new ArrayList<>();
+      if (threads == 1) {
+        for (LoadIndicesCheckpoint.Partition partition : pending) {
+          partitionResults.add(
+              processPartition(
+                  opContext,
+                  aspectDao,
+                  args,
+                  allPartitions,
+                  partition,
+                  checkpoint,
+                  totalProcessed,
+                  totalRecords,
+                  totalStartTime,
+                  reportFunction));
+        }
+      } else {
+        final ExecutorService executor =
+            Executors.newFixedThreadPool(
+                threads,
+                new ThreadFactoryBuilder()
+                    .setNameFormat("load-indices-%d")
+                    .setDaemon(true)
+                    .build());
+        try {
+          List<CompletableFuture<LoadIndicesResult>> futures =
+              pending.stream()
+                  .map(
+                      partition ->
+                          CompletableFuture.supplyAsync(
+                              () ->
+                                  processPartition(
+                                      opContext,
+                                      aspectDao,
+                                      args,
+                                      allPartitions,
+                                      partition,
+                                      checkpoint,
+                                      totalProcessed,
+                                      totalRecords,
+                                      totalStartTime,
+                                      reportFunction),
+                              executor))
+                  .collect(Collectors.toList());
+          for (CompletableFuture<LoadIndicesResult> future : futures) {
+            partitionResults.add(future.join());
+          }
+        } finally {
+          executor.shutdownNow();
+        }
       }
 
+      for (LoadIndicesResult partitionResult : partitionResults) {
+        result.ignored += partitionResult.ignored;
+        result.timeSqlQueryMs += partitionResult.timeSqlQueryMs;
+      }
       result.timeElasticsearchWriteMs =
-          System.currentTimeMillis() - totalStartTime - result.timeSqlQueryMs;
+          Math.max(0, System.currentTimeMillis() - totalStartTime - result.timeSqlQueryMs);
 
       try {
         updateIndicesService.flush();
@@ -333,7 +388,7 @@ public class LoadIndicesStep implements UpgradeStep {
         log.error("Failed to perform final flush: {}", e.getMessage());
       }
 
-      result.rowsProcessed = totalProcessed[0];
+      result.rowsProcessed = totalProcessed.get();
       long totalTimeMs = System.currentTimeMillis() - totalStartTime;
       double finalThroughput = (double) result.rowsProcessed / (totalTimeMs / 1000.0);
       reportFunction.apply(
@@ -349,6 +404,197 @@ public class LoadIndicesStep implements UpgradeStep {
     return result;
   }
 
+  /** Streams one urn range ordered by URN/aspect for optimal ES document batching. */
+  private LoadIndicesResult processPartition(
+      OperationContext opContext,
+      EbeanAspectDao aspectDao,
+      LoadIndicesArgs args,
+      List<LoadIndicesCheckpoint.Partition> partitions,
+      LoadIndicesCheckpoint.Partition partition,
+      LoadIndicesCheckpoint checkpoint,
+      AtomicInteger totalProcessed,
+      long totalRecords,
+      long totalStartTime,
+      Function<String, Void> reportFunction) {
+    LoadIndicesResult result = new LoadIndicesResult();
+    final int batchSize = args.batchSize;
+    final int limit = args.limit;
+
+    RestoreIndicesArgs restoreArgs = convertToRestoreIndicesArgs(args, limit);
+    if (partition.lastUrn != null) {
+      restoreArgs.urnBasedPagination = true;
+      restoreArgs.lastUrn = partition.lastUrn;
+      restoreArgs.lastAspect = partition.lastAspect;
+    } else if (partition.from != null) {
+      restoreArgs.urnBasedPagination = true;
+      restoreArgs.lastUrn = partition.from;
+    }
+    restoreArgs.endUrn = partition.to;
+
+    try (PartitionedStream<EbeanAspectV2> stream =
+        aspectDao.streamAspectBatches(restoreArgs, TxIsolation.READ_UNCOMMITTED)) {
+
+      // Simple forEach approach since SQL handles the limiting
+      stream
+          .partition(batchSize)
+          .forEach(
+              batch -> {
+                long batchStartTime = System.currentTimeMillis();
+
+                List<EbeanAspectV2> aspects = batch.collect(Collectors.toList());
+
+                if (aspects.isEmpty()) {
+                  return;
+                }
+
+                result.timeSqlQueryMs += System.currentTimeMillis() - batchStartTime;
+
+                // Pre-allocate list to avoid multiple resizing
+                List<MetadataChangeLog> mclBatch = new ArrayList<>(aspects.size());
+                int conversionErrors = 0;
+                for (EbeanAspectV2 aspect : aspects) {
+                  try {
+                    MetadataChangeLog mcl = convertToMetadataChangeLog(opContext, aspect);
+                    mclBatch.add(mcl);
+                  } catch (Exception e) {
+                    log.debug("Error converting aspect: {}", aspect.getKey(), e);
+                    conversionErrors++;
+                    result.ignored++;
+                  }
+                }
+
+                // Log the last URN of every batch for resume capability
+                EbeanAspectV2.PrimaryKey lastKey = aspects.get(aspects.size() - 1).getKey();
+
+                if (!mclBatch.isEmpty()) {
+                  writeBatchWithRetry(opContext, mclBatch, result, reportFunction);
+                  int aspectsProcessed = aspects.size() - conversionErrors;
+                  int processed = totalProcessed.addAndGet(aspectsProcessed);
+
+                  if (processed % batchSize == 0 || conversionErrors > 0) {
+                    long currentTime = System.currentTimeMillis();
+                    long elapsedTime = currentTime - totalStartTime;
+                    double aspectsPerSecond = (double) processed / (elapsedTime / 1000.0);
+
+                    String progressMessage;
+                    if (conversionErrors > 0) {
+                      progressMessage =
+                          String.format(
+                              "Processed %d aspects (total: %d, %d conversion errors) - %.1f aspects/sec",
+                              aspectsProcessed, processed, conversionErrors, aspectsPerSecond);
+                    } else {
+                      progressMessage =
+                          String.format(
+                              "Processed %d aspects - %.1f aspects/sec",
+                              processed, aspectsPerSecond);
+                    }
+
+                    if (totalRecords > 0 && aspectsPerSecond > 0 && processed > 50000) {
+                      long remainingAspects;
+                      if (limit != Integer.MAX_VALUE) {
+                        remainingAspects = Math.min(limit, totalRecords) - processed;
+                      } else {
+                        remainingAspects = totalRecords - processed;
+                      }
+
+                      if (remainingAspects > 0) {
+                        long estimatedRemainingMs =
+                            (long) (remainingAspects / aspectsPerSecond * 1000);
+                        long estimatedRemainingMinutes = estimatedRemainingMs / 60000;
+                        long estimatedRemainingSeconds = (estimatedRemainingMs % 60000) / 1000;
+
+                        int progressPercent = (int) ((processed * 100L) / totalRecords);
+                        progressMessage +=
+                            String.format(
+                                " - Progress: %d%% - ETA: %dm %ds",
+                                progressPercent,
+                                estimatedRemainingMinutes,
+                                estimatedRemainingSeconds);
+                      }
+                    }
+
+                    reportFunction.apply(progressMessage);
+                    reportFunction.apply("Last URN processed: " + lastKey.getUrn());
+                  }
+                }
+
+                checkpoint.advance(
+                    partitions,
+                    partition,
+                    lastKey.getUrn(),
+                    lastKey.getAspect(),
+                    updateIndicesService::flush);
+              });
+    }
+    checkpoint.finish(partitions, partition, updateIndicesService::flush);
+    return result;
+  }
+
+  /**
+   * Splits the matching aspects into urn ranges of about the same number of rows, one per thread.
+   * Ranges only split between urns, so every document is written by a single thread.
+   */
+  private List<LoadIndicesCheckpoint.Partition> createPartitions(
+      LoadIndicesArgs args, long totalRecords) {
+    List<LoadIndicesCheckpoint.Partition> partitions = new ArrayList<>();
+    String from = args.lastUrn;
+    // A limit applies to the whole run, so it is only honored by a single range
+    if (args.threads > 1 && args.limit == Integer.MAX_VALUE) {
+      for (int i = 1; i < args.threads; i++) {
+        List<EbeanAspectV2> boundary =
+            filteredQuery(args)
+                .orderBy()
+                .asc(EbeanAspectV2.URN_COLUMN)
+                .setFirstRow((int) (totalRecords * i / args.threads))
+                .setMaxRows(1)
+                .findList();
+        if (boundary.isEmpty()) {
+          break;
+        }
+        String to = boundary.get(0).getKey().getUrn();
+        if (from == null || to.compareTo(from) > 0) {
+          partitions.add(new LoadIndicesCheckpoint.Partition(partitions.size(), from, to));
+          from = to;
+        }
+      }
+    }
+    partitions.add(new LoadIndicesCheckpoint.Partition(partitions.size(), from, null));
+    return partitions;
+  }
+
+  /** Latest versions of the aspects selected by the arguments. */
+  private ExpressionList<EbeanAspectV2> filteredQuery(LoadIndicesArgs args) {
+    ExpressionList<EbeanAspectV2> query =
+        server
+            .find(EbeanAspectV2.class)
+            .where()
+            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION);
+
+    // Apply same filters as main query
+    if (args.urnLike != null) {
+      query = query.like(EbeanAspectV2.URN_COLUMN, args.urnLike);
+    }
+    if (args.aspectNames != null && !args.aspectNames.isEmpty()) {
+      query = query.in(EbeanAspectV2.ASPECT_COLUMN, args.aspectNames);
+    }
+    if (args.lePitEpochMs != null) {
+      query =
+          query.le(
+              EbeanAspectV2.CREATED_ON_COLUMN,
+              Timestamp.from(Instant.ofEpochMilli(args.lePitEpochMs)));
+    }
+    if (args.gePitEpochMs != null) {
+      query =
+          query.ge(
+              EbeanAspectV2.CREATED_ON_COLUMN,
+              Timestamp.from(Instant.ofEpochMilli(args.gePitEpochMs)));
+    }
+    if (args.lastUrn != null) {
+      query = query.ge(EbeanAspectV2.URN_COLUMN, args.lastUrn);
+    }
+    return query;
+  }
+
   /** Writes a batch to UpdateIndices with retry logic that splits the batch in half if it fails. */
   private void writeBatchWithRetry(
       OperationContext opContext,
@@ -6,6 +6,7 @@ import com.linkedin.datahub.upgrade.loadindices.NoOpKafkaEventProducer;
 import com.linkedin.gms.factory.auth.SystemAuthenticationFactory;
 import com.linkedin.metadata.dao.producer.KafkaEventProducer;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.service.UpdateIndicesService;
@@ -64,7 +65,8 @@ public class LoadIndicesConfig {
       final TimeseriesAspectService timeseriesAspectService,
       final EntitySearchService entitySearchService,
       final GraphService graphService,
-      final AspectDao aspectDao) {
+      final AspectDao aspectDao,
+      final EntityService<?> entityService) {
     return new LoadIndices(
         ebeanServer,
         updateIndicesService,
@@ -73,7 +75,8 @@ public class LoadIndicesConfig {
         timeseriesAspectService,
         entitySearchService,
         graphService,
-        aspectDao);
+        aspectDao,
+        entityService);
   }
 
   @Bean(name = "loadIndicesCassandra")
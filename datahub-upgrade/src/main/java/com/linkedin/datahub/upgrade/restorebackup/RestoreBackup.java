@@ -21,6 +21,10 @@ import java.util.List;
 import javax.annotation.Nullable;
 
 public class RestoreBackup implements Upgrade {
+  public static final String BACKUP_READER_ARG_NAME = "BACKUP_READER";
+  public static final String BACKUP_FILE_PATH_ARG_NAME = "BACKUP_FILE_PATH";
+  public static final String BATCH_INSERT_ARG_NAME = "BATCH_INSERT";
+  public static final String BATCH_SIZE_ARG_NAME = "BATCH_SIZE";
 
   private final List<UpgradeStep> _steps;
 
@@ -66,12 +70,20 @@ public class RestoreBackup implements Upgrade {
       final EntitySearchService entitySearchService,
       final GraphService graphClient) {
     final List<UpgradeStep> steps = new ArrayList<>();
+    final RestoreStorageStep restoreStorageStep =
+        new RestoreStorageStep(entityService, entityRegistry, server);
     steps.add(new GMSDisableWriteModeStep(systemEntityClient));
-    steps.add(new ClearSystemMetadataServiceStep(systemMetadataService, true));
-    steps.add(new ClearSearchServiceStep(entitySearchService, true));
-    steps.add(new ClearGraphServiceStep(graphClient, true));
-    steps.add(new ClearAspectV2TableStep(server));
-    steps.add(new RestoreStorageStep(entityService, entityRegistry));
+    // Resuming an interrupted restore keeps what it has restored so far
+    steps.add(
+        new SkipWhenResumingStep(
+            new ClearSystemMetadataServiceStep(systemMetadataService, true), restoreStorageStep));
+    steps.add(
+        new SkipWhenResumingStep(
+            new ClearSearchServiceStep(entitySearchService, true), restoreStorageStep));
+    steps.add(
+        new SkipWhenResumingStep(new ClearGraphServiceStep(graphClient, true), restoreStorageStep));
+    steps.add(new SkipWhenResumingStep(new ClearAspectV2TableStep(server), restoreStorageStep));
+    steps.add(restoreStorageStep);
     steps.add(new GMSEnableWriteModeStep(systemEntityClient));
     return steps;
   }
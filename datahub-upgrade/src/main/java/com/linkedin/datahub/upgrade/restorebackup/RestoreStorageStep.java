@@ -14,17 +14,27 @@ import com.linkedin.datahub.upgrade.restorebackup.backupreader.EbeanAspectBackup
 import com.linkedin.datahub.upgrade.restorebackup.backupreader.LocalParquetReader;
 import com.linkedin.datahub.upgrade.restorebackup.backupreader.ReaderWrapper;
 import com.linkedin.datahub.upgrade.restoreindices.RestoreIndices;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.aspect.SystemAspect;
+import com.linkedin.metadata.boot.BootstrapStep;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.EntityUtils;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.mxe.SystemMetadata;
 import com.linkedin.upgrade.DataHubUpgradeState;
 import com.linkedin.util.Pair;
+import io.ebean.Database;
+import io.ebean.DuplicateKeyException;
+import io.ebean.Transaction;
+import io.ebean.TxScope;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,16 +42,37 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Restores the aspects of a backup, reading each part of the backup, a Parquet row group for the
+ * local Parquet reader, on its own thread. The parts restored so far are saved as the
+ * DataHubUpgradeResult of the step, so a run that stops part way only restores the remaining parts
+ * when it is started again.
+ *
+ * <p>By default every aspect is written through the EntityService. With {@code BATCH_INSERT} the
+ * rows are inserted into the aspect table in batches instead, and the change log events that
+ * rebuild the search and graph indices are emitted for each batch while the next one is inserted.
+ */
+@Slf4j
 public class RestoreStorageStep implements UpgradeStep {
 
   private static final int REPORT_BATCH_SIZE = 1000;
   private static final int DEFAULT_THREAD_POOL = 4;
+  private static final int DEFAULT_BATCH_SIZE = 1000;
+  // Checkpoint entry naming the backup that is being restored
+  private static final String BACKUP_KEY = "backup";
+  private static final String ROWS_METRIC = "datahub.restore_backup.rows";
 
   private final EntityService<?> _entityService;
   private final EntityRegistry _entityRegistry;
+  @Nullable private final Database _server;
   private final Map<String, Class<? extends BackupReader<? extends ReaderWrapper<?>>>>
       _backupReaders;
   private final ExecutorService _fileReaderThreadPool;
@@ -49,8 +80,16 @@ public class RestoreStorageStep implements UpgradeStep {
 
   public RestoreStorageStep(
       final EntityService<?> entityService, final EntityRegistry entityRegistry) {
+    this(entityService, entityRegistry, null);
+  }
+
+  public RestoreStorageStep(
+      final EntityService<?> entityService,
+      final EntityRegistry entityRegistry,
+      @Nullable final Database server) {
     _entityService = entityService;
     _entityRegistry = entityRegistry;
+    _server = server;
     _backupReaders = ImmutableBiMap.of(LocalParquetReader.READER_NAME, LocalParquetReader.class);
     final String readerPoolSize = System.getenv(RestoreIndices.READER_POOL_SIZE);
     final String writerPoolSize = System.getenv(RestoreIndices.WRITER_POOL_SIZE);
@@ -80,165 +119,340 @@ public class RestoreStorageStep implements UpgradeStep {
     return 0;
   }
 
+  /** Whether an interrupted restore of the backup named by the arguments is being continued. */
+  boolean isResuming(UpgradeContext context) {
+    return getRestoredParts(context).isPresent();
+  }
+
   @Override
   public Function<UpgradeContext, UpgradeStepResult> executable() {
     return (context) -> {
       context.report().addLine("Starting backup restore...");
-      int numRows = 0;
-      Optional<String> backupReaderName = context.parsedArgs().get("BACKUP_READER");
-      context.report().addLine("Inputs!: " + context.parsedArgs());
-      context.report().addLine("BACKUP_READER: " + backupReaderName.toString());
+      Optional<String> backupReaderName =
+          context.parsedArgs().get(RestoreBackup.BACKUP_READER_ARG_NAME);
+      context.report().addLine("Restoring backup with arguments: " + context.parsedArgs());
       if (!backupReaderName.isPresent() || !_backupReaders.containsKey(backupReaderName.get())) {
         context.report().addLine("BACKUP_READER is not set or is not valid");
         return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
       }
+      final boolean batchInsert = isBatchInsert(context.parsedArgs());
+      if (batchInsert && _server == null) {
+        context.report().addLine("BATCH_INSERT needs a SQL database to insert into");
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      }
+      final int batchSize = getBatchSize(context.parsedArgs());
+      final BackupReader<? extends ReaderWrapper> backupReader =
+          createBackupReader(backupReaderName.get(), context);
 
-      Class<? extends BackupReader<? extends ReaderWrapper>> clazz =
-          _backupReaders.get(backupReaderName.get());
-      List<String> argNames = BackupReaderArgs.getArgNames(clazz);
-      List<Optional<String>> args =
-          argNames.stream()
-              .map(argName -> context.parsedArgs().get(argName))
-              .collect(Collectors.toList());
-      BackupReader<? extends ReaderWrapper> backupReader;
-      try {
-        backupReader = clazz.getConstructor(List.class).newInstance(args);
-      } catch (InstantiationException
-          | InvocationTargetException
-          | IllegalAccessException
-          | NoSuchMethodException e) {
-        e.printStackTrace();
+      final RestoreProgress progress =
+          new RestoreProgress(context, getRestoredParts(context).orElse(Map.of()));
+      if (progress.getPartsRestored() > 0) {
         context
             .report()
             .addLine(
-                "Invalid BackupReader, not able to construct instance of " + clazz.getSimpleName());
-        throw new IllegalArgumentException(
-            "Invalid BackupReader: "
-                + clazz.getSimpleName()
-                + ", need to implement proper constructor.");
+                String.format(
+                    "Resuming restore, %d parts of the backup were restored already",
+                    progress.getPartsRestored()));
       }
+
       EbeanAspectBackupIterator<? extends ReaderWrapper> iterator =
           backupReader.getBackupIterator(context);
+      List<ReaderWrapper> readers = new ArrayList<>();
       ReaderWrapper reader;
-      List<Future<?>> futureList = new ArrayList<>();
       while ((reader = iterator.getNextReader()) != null) {
-        final ReaderWrapper readerRef = reader;
-        futureList.add(_fileReaderThreadPool.submit(() -> readerExecutable(readerRef, context)));
+        if (progress.isRestored(reader.getPartId())) {
+          close(reader);
+        } else {
+          readers.add(reader);
+        }
       }
-      for (Future<?> future : futureList) {
+      progress.start(progress.getPartsRestored() + readers.size());
+
+      List<Future<Boolean>> futureList = new ArrayList<>();
+      for (ReaderWrapper readerRef : readers) {
+        futureList.add(
+            _fileReaderThreadPool.submit(
+                () -> readerExecutable(readerRef, context, batchInsert, batchSize, progress)));
+      }
+      int failedParts = 0;
+      for (Future<Boolean> future : futureList) {
         try {
-          future.get();
+          if (!future.get()) {
+            failedParts++;
+          }
         } catch (InterruptedException | ExecutionException e) {
           context.report().addLine("Reading interrupted, not able to finish processing.");
           throw new RuntimeException(e);
         }
       }
 
-      context.report().addLine(String.format("Added %d rows to the aspect v2 table", numRows));
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Added %d rows to the aspect v2 table", progress.getRowsRestored().get()));
+      if (failedParts > 0) {
+        context
+            .report()
+            .addLine(
+                String.format(
+                    "%d parts of the backup could not be read completely, run RestoreBackup again"
+                        + " with the same arguments to retry them",
+                    failedParts));
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      }
+      context
+          .upgrade()
+          .setUpgradeResult(
+              context.opContext(),
+              BootstrapStep.getUpgradeUrn(id()),
+              _entityService,
+              DataHubUpgradeState.SUCCEEDED,
+              null);
       return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.SUCCEEDED);
     };
   }
 
-  private void readerExecutable(ReaderWrapper reader, UpgradeContext context) {
+  /** Constructs the named backup reader with its arguments from the upgrade arguments. */
+  BackupReader<? extends ReaderWrapper> createBackupReader(
+      String backupReaderName, UpgradeContext context) {
+    Class<? extends BackupReader<? extends ReaderWrapper>> clazz =
+        _backupReaders.get(backupReaderName);
+    List<String> argNames = BackupReaderArgs.getArgNames(clazz);
+    List<Optional<String>> args =
+        argNames.stream()
+            .map(argName -> context.parsedArgs().get(argName))
+            .collect(Collectors.toList());
+    try {
+      return clazz.getConstructor(List.class).newInstance(args);
+    } catch (InstantiationException
+        | InvocationTargetException
+        | IllegalAccessException
+        | NoSuchMethodException e) {
+      log.error("Failed to construct backup reader {}", clazz.getSimpleName(), e);
+      context
+          .report()
+          .addLine(
+              "Invalid BackupReader, not able to construct instance of " + clazz.getSimpleName(),
+              e);
+      throw new IllegalArgumentException(
+          "Invalid BackupReader: "
+              + clazz.getSimpleName()
+              + ", need to implement proper constructor.");
+    }
+  }
+
+  /** Restores one part of the backup, returning whether every row of it could be read. */
+  private boolean readerExecutable(
+      ReaderWrapper reader,
+      UpgradeContext context,
+      boolean batchInsert,
+      int batchSize,
+      RestoreProgress progress) {
     EbeanAspectV2 aspect;
     int numRows = 0;
-    final ArrayList<Future<RecordTemplate>> futureList = new ArrayList<>();
-    while ((aspect = reader.next()) != null) {
-      numRows++;
-
-      // 1. Extract an Entity type from the entity Urn
-      final Urn urn;
-      try {
-        urn = Urn.createFromString(aspect.getKey().getUrn());
-      } catch (Exception e) {
-        context
-            .report()
-            .addLine(
-                String.format(
-                    "Failed to bind Urn with value %s into Urn object", aspect.getKey().getUrn()),
-                e);
-        continue;
-      }
+    final ArrayList<Future<?>> futureList = new ArrayList<>();
+    List<RestoredAspect> batch = new ArrayList<>(batchSize);
+    Future<?> pendingChangeLogs = null;
+    try {
+      while ((aspect = reader.next()) != null) {
+        numRows++;
+        final RestoredAspect restored = toRestoredAspect(aspect, context);
+        if (restored == null) {
+          continue;
+        }
 
-      // 2. Verify that the entity associated with the aspect is found in the registry.
-      final String entityName = urn.getEntityType();
-      final EntitySpec entitySpec;
-      try {
-        entitySpec = _entityRegistry.getEntitySpec(entityName);
-      } catch (Exception e) {
-        context
-            .report()
-            .addLine(
-                String.format("Failed to find Entity with name %s in Entity Registry", entityName),
-                e);
-        continue;
+        if (batchInsert) {
+          batch.add(restored);
+          if (batch.size() >= batchSize) {
+            pendingChangeLogs = writeBatch(context, batch, pendingChangeLogs, progress);
+            batch = new ArrayList<>(batchSize);
+          }
+          continue;
+        }
+
+        // Write the row back using the EntityService
+        futureList.add(
+            _gmsThreadPool.submit(
+                () ->
+                    _entityService
+                        .ingestAspects(
+                            context.opContext(),
+                            restored.getUrn(),
+                            List.of(Pair.of(restored.getAspectName(), restored.getRecord())),
+                            restored.getAuditStamp(),
+                            null)
+                        .get(0)
+                        .getNewValue()));
+        if (numRows % REPORT_BATCH_SIZE == 0) {
+          futureList.forEach(future -> await(context, future));
+          progress.rowsWritten(futureList.size());
+          futureList.clear();
+          context.report().addLine(String.format("Successfully inserted %d rows", numRows));
+        }
       }
-      final String aspectName = aspect.getKey().getAspect();
-
-      // 3. Create record from json aspect
-      final RecordTemplate aspectRecord;
-      try {
-        aspectRecord =
-            EntityUtils.toSystemAspect(
-                    context.opContext().getRetrieverContext(), aspect.toEntityAspect(), false)
-                .get()
-                .getRecordTemplate();
-      } catch (Exception e) {
-        context
-            .report()
-            .addLine(
-                String.format(
-                    "Failed to create aspect record with name %s associated with entity named %s",
-                    aspectName, entityName),
-                e);
-        continue;
+      if (!batch.isEmpty()) {
+        pendingChangeLogs = writeBatch(context, batch, pendingChangeLogs, progress);
       }
+      await(context, pendingChangeLogs);
+      futureList.forEach(future -> await(context, future));
+      progress.rowsWritten(futureList.size());
+    } catch (RuntimeException e) {
+      log.error("Failed to restore part {} of the backup", reader.getPartId(), e);
+      context
+          .report()
+          .addLine(
+              String.format("Failed to restore part %s of the backup", reader.getPartId()), e);
+      close(reader);
+      return false;
+    }
 
-      // 4. Verify that the aspect is a valid aspect associated with the entity
-      final AspectSpec aspectSpec;
-      try {
-        aspectSpec = entitySpec.getAspectSpec(aspectName);
-      } catch (Exception e) {
-        context
-            .report()
-            .addLine(
-                String.format(
-                    "Failed to find aspect spec with name %s associated with entity named %s",
-                    aspectName, entityName),
-                e);
-        continue;
-      }
+    if (reader.getRecordsFailed() > 0) {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Failed to read part %s of the backup after %d rows",
+                  reader.getPartId(), numRows));
+      close(reader);
+      return false;
+    }
+    progress.partRestored(reader.getPartId(), numRows);
+    return true;
+  }
 
-      // 5. Write the row back using the EntityService
-      final long version = aspect.getKey().getVersion();
-      final AuditStamp auditStamp = toAuditStamp(aspect);
-      futureList.add(
-          _gmsThreadPool.submit(
-              () ->
-                  _entityService
-                      .ingestAspects(
-                          context.opContext(),
-                          urn,
-                          List.of(Pair.of(aspectName, aspectRecord)),
-                          auditStamp,
-                          null)
-                      .get(0)
-                      .getNewValue()));
-      if (numRows % REPORT_BATCH_SIZE == 0) {
-        for (Future<?> future : futureList) {
-          try {
-            future.get();
-          } catch (InterruptedException | ExecutionException e) {
-            context.report().addLine("Reading interrupted, not able to finish processing.");
-            throw new RuntimeException(e);
-          }
+  /**
+   * Inserts a batch of rows, then emits their change log events once those of the previous batch,
+   * {@code pendingChangeLogs}, have been emitted. Returns the emission of this batch.
+   */
+  private Future<?> writeBatch(
+      UpgradeContext context,
+      List<RestoredAspect> batch,
+      @Nullable Future<?> pendingChangeLogs,
+      RestoreProgress progress) {
+    insertBatch(batch);
+    progress.rowsWritten(batch.size());
+    await(context, pendingChangeLogs);
+    return _gmsThreadPool.submit(() -> emitChangeLogs(context, batch));
+  }
+
+  private void insertBatch(List<RestoredAspect> batch) {
+    final List<EbeanAspectV2> rows =
+        batch.stream().map(RestoredAspect::getRow).collect(Collectors.toList());
+    try (Transaction transaction = _server.beginTransaction(TxScope.requiresNew())) {
+      transaction.setBatchMode(true);
+      transaction.setBatchSize(rows.size());
+      _server.insertAll(rows, transaction);
+      transaction.commit();
+    } catch (DuplicateKeyException e) {
+      // Some of the rows were inserted by a run that stopped before the part was restored
+      for (EbeanAspectV2 row : rows) {
+        try {
+          _server.insert(row);
+        } catch (DuplicateKeyException alreadyRestored) {
+          log.debug("Aspect {} was restored already", row.getKey());
         }
-        futureList.clear();
-        context.report().addLine(String.format("Successfully inserted %d rows", numRows));
       }
     }
   }
 
+  private void emitChangeLogs(UpgradeContext context, List<RestoredAspect> batch) {
+    final List<Future<?>> futures = new ArrayList<>(batch.size());
+    for (RestoredAspect restored : batch) {
+      futures.add(
+          _entityService
+              .alwaysProduceMCLAsync(
+                  context.opContext(),
+                  restored.getUrn(),
+                  restored.getUrn().getEntityType(),
+                  restored.getAspectName(),
+                  restored.getAspectSpec(),
+                  null,
+                  restored.getRecord(),
+                  null,
+                  restored.getSystemMetadata(),
+                  restored.getAuditStamp(),
+                  ChangeType.RESTATE)
+              .getFirst());
+    }
+    futures.forEach(future -> await(context, future));
+  }
+
+  /** Validates a row of the backup, returning null if it cannot be restored. */
+  @Nullable
+  private RestoredAspect toRestoredAspect(EbeanAspectV2 aspect, UpgradeContext context) {
+    // 1. Extract an Entity type from the entity Urn
+    final Urn urn;
+    try {
+      urn = Urn.createFromString(aspect.getKey().getUrn());
+    } catch (Exception e) {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Failed to bind Urn with value %s into Urn object", aspect.getKey().getUrn()),
+              e);
+      return null;
+    }
+
+    // 2. Verify that the entity associated with the aspect is found in the registry.
+    final String entityName = urn.getEntityType();
+    final EntitySpec entitySpec;
+    try {
+      entitySpec = _entityRegistry.getEntitySpec(entityName);
+    } catch (Exception e) {
+      context
+          .report()
+          .addLine(
+              String.format("Failed to find Entity with name %s in Entity Registry", entityName),
+              e);
+      return null;
+    }
+    final String aspectName = aspect.getKey().getAspect();
+
+    // 3. Create record from json aspect
+    final SystemAspect systemAspect;
+    try {
+      systemAspect =
+          EntityUtils.toSystemAspect(
+                  context.opContext().getRetrieverContext(), aspect.toEntityAspect(), false)
+              .get();
+    } catch (Exception e) {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Failed to create aspect record with name %s associated with entity named %s",
+                  aspectName, entityName),
+              e);
+      return null;
+    }
+
+    // 4. Verify that the aspect is a valid aspect associated with the entity
+    final AspectSpec aspectSpec;
+    try {
+      aspectSpec = entitySpec.getAspectSpec(aspectName);
+    } catch (Exception e) {
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Failed to find aspect spec with name %s associated with entity named %s",
+                  aspectName, entityName),
+              e);
+      return null;
+    }
+
+    return new RestoredAspect(
+        aspect,
+        urn,
+        aspectName,
+        aspectSpec,
+        systemAspect.getRecordTemplate(),
+        systemAspect.getSystemMetadata(),
+        toAuditStamp(aspect));
+  }
+
   private AuditStamp toAuditStamp(final EbeanAspectV2 aspect) {
     final AuditStamp auditStamp = new AuditStamp();
     auditStamp.setTime(aspect.getCreatedOn().getTime());
@@ -253,4 +467,148 @@ public class RestoreStorageStep implements UpgradeStep {
     }
     return auditStamp;
   }
+
+  /** Parts restored by an interrupted run of the same backup, if there was one. */
+  private Optional<Map<String, String>> getRestoredParts(UpgradeContext context) {
+    final String backup = describeBackup(context.parsedArgs());
+    return context
+        .upgrade()
+        .getUpgradeResult(context.opContext(), BootstrapStep.getUpgradeUrn(id()), _entityService)
+        .filter(
+            result ->
+                DataHubUpgradeState.IN_PROGRESS.equals(result.getState())
+                    && result.getResult() != null
+                    && backup.equals(result.getResult().get(BACKUP_KEY)))
+        .map(
+            result -> {
+              Map<String, String> restoredParts = new HashMap<>(result.getResult());
+              restoredParts.remove(BACKUP_KEY);
+              return restoredParts;
+            });
+  }
+
+  private static String describeBackup(Map<String, Optional<String>> parsedArgs) {
+    return Stream.of(RestoreBackup.BACKUP_READER_ARG_NAME, RestoreBackup.BACKUP_FILE_PATH_ARG_NAME)
+        .map(argName -> parsedArgs.getOrDefault(argName, Optional.empty()).orElse(""))
+        .collect(Collectors.joining(":"));
+  }
+
+  private static boolean isBatchInsert(Map<String, Optional<String>> parsedArgs) {
+    return parsedArgs
+        .getOrDefault(RestoreBackup.BATCH_INSERT_ARG_NAME, Optional.empty())
+        .map(Boolean::parseBoolean)
+        .orElse(false);
+  }
+
+  private static int getBatchSize(Map<String, Optional<String>> parsedArgs) {
+    return parsedArgs
+        .getOrDefault(RestoreBackup.BATCH_SIZE_ARG_NAME, Optional.empty())
+        .map(Integer::parseInt)
+        .orElse(DEFAULT_BATCH_SIZE);
+  }
+
+  private static void await(UpgradeContext context, @Nullable Future<?> future) {
+    if (future == null) {
+      return;
+    }
+    try {
+      future.get();
+    } catch (InterruptedException | ExecutionException e) {
+      context.report().addLine("Reading interrupted, not able to finish processing.");
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static void close(ReaderWrapper reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      log.warn("Failed to close part {} of the backup", reader.getPartId(), e);
+    }
+  }
+
+  /** A validated row of the backup together with what is needed to write it back. */
+  @Value
+  private static class RestoredAspect {
+    EbeanAspectV2 row;
+    Urn urn;
+    String aspectName;
+    AspectSpec aspectSpec;
+    RecordTemplate record;
+    @Nullable SystemMetadata systemMetadata;
+    AuditStamp auditStamp;
+  }
+
+  /** Counts the restored rows and saves the restored parts as the checkpoint of the step. */
+  private class RestoreProgress {
+    private final UpgradeContext _context;
+    private final String _backup;
+    private final Map<String, String> _restoredParts;
+    private final AtomicLong _rowsRestored = new AtomicLong();
+    private final long _startTime = System.currentTimeMillis();
+    private int _partCount;
+
+    RestoreProgress(UpgradeContext context, Map<String, String> restoredParts) {
+      _context = context;
+      _backup = describeBackup(context.parsedArgs());
+      _restoredParts = new HashMap<>(restoredParts);
+    }
+
+    AtomicLong getRowsRestored() {
+      return _rowsRestored;
+    }
+
+    synchronized int getPartsRestored() {
+      return _restoredParts.size();
+    }
+
+    synchronized boolean isRestored(String partId) {
+      return _restoredParts.containsKey(partId);
+    }
+
+    synchronized void start(int partCount) {
+      _partCount = partCount;
+      save();
+    }
+
+    void rowsWritten(long rows) {
+      _rowsRestored.addAndGet(rows);
+      _context
+          .opContext()
+          .getMetricUtils()
+          .ifPresent(metricUtils -> metricUtils.incrementMicrometer(ROWS_METRIC, rows));
+    }
+
+    synchronized void partRestored(String partId, long rows) {
+      _restoredParts.put(partId, String.valueOf(rows));
+      save();
+      final long elapsedMs = Math.max(System.currentTimeMillis() - _startTime, 1);
+      _context
+          .report()
+          .addLine(
+              String.format(
+                  "Restored %s with %d rows, %d of %d parts done. %d rows in %d seconds, %.1f"
+                      + " rows/sec",
+                  partId,
+                  rows,
+                  _restoredParts.size(),
+                  _partCount,
+                  _rowsRestored.get(),
+                  elapsedMs / 1000,
+                  _rowsRestored.get() * 1000.0 / elapsedMs));
+    }
+
+    private void save() {
+      final Map<String, String> result = new HashMap<>(_restoredParts);
+      result.put(BACKUP_KEY, _backup);
+      _context
+          .upgrade()
+          .setUpgradeResult(
+              _context.opContext(),
+              BootstrapStep.getUpgradeUrn(id()),
+              _entityService,
+              DataHubUpgradeState.IN_PROGRESS,
+              result);
+    }
+  }
 }
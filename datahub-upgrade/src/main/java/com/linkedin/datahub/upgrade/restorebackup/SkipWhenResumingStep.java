@@ -0,0 +1,51 @@
+package com.linkedin.datahub.upgrade.restorebackup;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import java.util.function.Function;
+
+/**
+ * Runs a step that clears storage only when a restore starts over. When {@link RestoreStorageStep}
+ * resumes an interrupted restore of the same backup, clearing would throw away the parts it has
+ * already restored, so the step is skipped.
+ */
+class SkipWhenResumingStep implements UpgradeStep {
+
+  private final UpgradeStep _step;
+  private final RestoreStorageStep _restoreStorageStep;
+
+  SkipWhenResumingStep(final UpgradeStep step, final RestoreStorageStep restoreStorageStep) {
+    _step = step;
+    _restoreStorageStep = restoreStorageStep;
+  }
+
+  @Override
+  public String id() {
+    return _step.id();
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return _step.executable();
+  }
+
+  @Override
+  public int retryCount() {
+    return _step.retryCount();
+  }
+
+  @Override
+  public boolean isOptional() {
+    return _step.isOptional();
+  }
+
+  @Override
+  public boolean skip(UpgradeContext context) {
+    if (_restoreStorageStep.isResuming(context)) {
+      context.report().addLine(String.format("Resuming restore, skipping %s", id()));
+      return true;
+    }
+    return _step.skip(context);
+  }
+}
@@ -1,24 +1,37 @@
 package com.linkedin.datahub.upgrade.restorebackup.backupreader;
 
-import com.google.common.collect.ImmutableList;
 import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.restorebackup.RestoreBackup;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.security.UserGroupInformation;
 import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
 
-/** BackupReader for retrieving EbeanAspectV2 objects from a local parquet file */
+/**
+ * BackupReader for retrieving EbeanAspectV2 objects from a local parquet file, or from all parquet
+ * files of a local directory
+ */
 @Slf4j
 public class LocalParquetReader implements BackupReader<ParquetReaderWrapper> {
 
   public static final String READER_NAME = "LOCAL_PARQUET";
+  private static final String PARQUET_EXTENSION = ".parquet";
 
   public static List<String> argNames() {
     return Collections.emptyList();
@@ -41,7 +54,7 @@ public class LocalParquetReader implements BackupReader<ParquetReaderWrapper> {
   @Nonnull
   @Override
   public EbeanAspectBackupIterator<ParquetReaderWrapper> getBackupIterator(UpgradeContext context) {
-    Optional<String> path = context.parsedArgs().get("BACKUP_FILE_PATH");
+    Optional<String> path = context.parsedArgs().get(RestoreBackup.BACKUP_FILE_PATH_ARG_NAME);
     if (!path.isPresent()) {
       context
           .report()
@@ -51,12 +64,47 @@ public class LocalParquetReader implements BackupReader<ParquetReaderWrapper> {
     }
 
     try {
-      ParquetReader<GenericRecord> reader =
-          AvroParquetReader.<GenericRecord>builder(new Path(path.get())).build();
-      return new EbeanAspectBackupIterator<>(
-          ImmutableList.of(new ParquetReaderWrapper(reader, path.get())));
+      // One reader per row group, so that large files are read in parallel as well
+      final Configuration conf = new Configuration();
+      final List<ParquetReaderWrapper> readers = new ArrayList<>();
+      for (Path file : listParquetFiles(new Path(path.get()), conf)) {
+        final List<BlockMetaData> rowGroups;
+        try (ParquetFileReader fileReader =
+            ParquetFileReader.open(HadoopInputFile.fromPath(file, conf))) {
+          rowGroups = fileReader.getFooter().getBlocks();
+        }
+        for (int i = 0; i < rowGroups.size(); i++) {
+          final BlockMetaData rowGroup = rowGroups.get(i);
+          // Row groups are selected by their midpoint, which lies within their own bytes
+          final ParquetReader<GenericRecord> reader =
+              AvroParquetReader.<GenericRecord>builder(file)
+                  .withConf(conf)
+                  .withFileRange(
+                      rowGroup.getStartingPos(),
+                      rowGroup.getStartingPos() + rowGroup.getCompressedSize())
+                  .build();
+          readers.add(new ParquetReaderWrapper(reader, file.toString(), i));
+        }
+      }
+      context
+          .report()
+          .addLine(String.format("Found %d parquet row groups in %s", readers.size(), path.get()));
+      return new EbeanAspectBackupIterator<>(readers);
     } catch (IOException e) {
       throw new RuntimeException(String.format("Failed to build ParquetReader: %s", e));
     }
   }
+
+  /** The file itself, or the parquet files of a directory in name order. */
+  private static List<Path> listParquetFiles(Path path, Configuration conf) throws IOException {
+    final FileSystem fileSystem = path.getFileSystem(conf);
+    if (!fileSystem.getFileStatus(path).isDirectory()) {
+      return List.of(path);
+    }
+    return Arrays.stream(
+            fileSystem.listStatus(path, file -> file.getName().endsWith(PARQUET_EXTENSION)))
+        .map(FileStatus::getPath)
+        .sorted()
+        .collect(Collectors.toList());
+  }
 }
@@ -20,10 +20,23 @@ public class ParquetReaderWrapper extends ReaderWrapper<GenericRecord> {
   private static final long JULIAN_EPOCH_OFFSET_DAYS = 2440588;
 
   private final ParquetReader<GenericRecord> _parquetReader;
+  // Row group of the file this reader is limited to, -1 reads the whole file
+  private final int _rowGroup;
 
   public ParquetReaderWrapper(ParquetReader<GenericRecord> parquetReader, String fileName) {
+    this(parquetReader, fileName, -1);
+  }
+
+  public ParquetReaderWrapper(
+      ParquetReader<GenericRecord> parquetReader, String fileName, int rowGroup) {
     super(fileName);
     _parquetReader = parquetReader;
+    _rowGroup = rowGroup;
+  }
+
+  @Override
+  public String getPartId() {
+    return _rowGroup < 0 ? getFileName() : getFileName() + "#" + _rowGroup;
   }
 
   @Override
@@ -85,4 +85,14 @@ public abstract class ReaderWrapper<T> implements Closeable {
   public String getFileName() {
     return _fileName;
   }
+
+  /** Identifies the part of the backup read by this reader, a restore records it once written. */
+  public String getPartId() {
+    return _fileName;
+  }
+
+  /** Number of records that could not be read, a failed read also ends {@link #next()}. */
+  public int getRecordsFailed() {
+    return recordsFailed;
+  }
 }
@@ -0,0 +1,55 @@
+package com.linkedin.datahub.upgrade.system.compression;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.system.NonBlockingSystemUpgrade;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.AspectPayloadCodec;
+import io.datahubproject.metadata.context.OperationContext;
+import io.ebean.Database;
+import java.util.List;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A {@link NonBlockingSystemUpgrade} upgrade job that re-encodes existing aspect rows with the
+ * configured payload compression.
+ */
+@Slf4j
+public class CompressAspectPayloads implements NonBlockingSystemUpgrade {
+
+  private final List<UpgradeStep> _steps;
+
+  public CompressAspectPayloads(
+      @Nonnull OperationContext opContext,
+      EntityService<?> entityService,
+      @Nullable Database server,
+      AspectPayloadCodec codec,
+      boolean enabled,
+      Integer batchSize,
+      Integer threads,
+      Integer batchDelayMs) {
+    if (enabled && server == null) {
+      log.warn("Aspect payload compression requires the ebean entity service, skipping.");
+    }
+    if (enabled && server != null) {
+      _steps =
+          ImmutableList.of(
+              new CompressAspectPayloadsStep(
+                  opContext, entityService, server, codec, batchSize, threads, batchDelayMs));
+    } else {
+      _steps = ImmutableList.of();
+    }
+  }
+
+  @Override
+  public String id() {
+    return this.getClass().getName();
+  }
+
+  @Override
+  public List<UpgradeStep> steps() {
+    return _steps;
+  }
+}
@@ -0,0 +1,289 @@
+package com.linkedin.datahub.upgrade.system.compression;
+
+import static com.linkedin.datahub.upgrade.system.AbstractMCLStep.LAST_URN_KEY;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.GetMode;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.AspectPayloadCodec;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.datahubproject.metadata.context.OperationContext;
+import io.ebean.Database;
+import io.ebean.ExpressionList;
+import io.ebean.Transaction;
+import io.ebean.TxScope;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Re-encodes every row of the aspect table, including previous versions, with the configured
+ * {@link AspectPayloadCodec}. With compression set to {@code none} it decompresses rows instead.
+ *
+ * <p>Keys are paged in primary key order. The rows of a page are split across {@code threads}
+ * workers, each locking, re-encoding and updating its share in its own transaction, so concurrent
+ * writes are never overwritten. The last key of each completed page is saved as the upgrade result
+ * and a restarted run resumes after it. The step id includes the codec, so switching codecs runs
+ * the step again. Switching back to a codec that already ran runs it again too: a result is only
+ * used, to skip the step or to resume, while no run with another codec has been recorded since.
+ */
+@Slf4j
+public class CompressAspectPayloadsStep implements UpgradeStep {
+  static final String LAST_ASPECT_KEY = "lastAspect";
+  static final String LAST_VERSION_KEY = "lastVersion";
+
+  private final OperationContext opContext;
+  private final EntityService<?> entityService;
+  private final Database server;
+  private final AspectPayloadCodec codec;
+  private final int batchSize;
+  private final int threads;
+  private final int batchDelayMs;
+
+  public CompressAspectPayloadsStep(
+      OperationContext opContext,
+      EntityService<?> entityService,
+      Database server,
+      AspectPayloadCodec codec,
+      Integer batchSize,
+      Integer threads,
+      Integer batchDelayMs) {
+    this.opContext = opContext;
+    this.entityService = entityService;
+    this.server = server;
+    this.codec = codec;
+    this.batchSize = batchSize;
+    this.threads = Math.max(1, threads);
+    this.batchDelayMs = batchDelayMs;
+  }
+
+  @Override
+  public String id() {
+    return stepId(codec.getCompression());
+  }
+
+  static String stepId(@Nonnull AspectPayloadCodec.Compression compression) {
+    return "compress-aspect-payloads-" + compression.name().toLowerCase(Locale.ROOT) + "-v1";
+  }
+
+  @Override
+  public boolean isOptional() {
+    return true;
+  }
+
+  @Override
+  public boolean skip(UpgradeContext context) {
+    return currentResult(context)
+        .filter(
+            result ->
+                DataHubUpgradeState.SUCCEEDED.equals(result.getState())
+                    || DataHubUpgradeState.ABORTED.equals(result.getState()))
+        .isPresent();
+  }
+
+  /**
+   * This codec's last result, unless a run with another codec was recorded after it. That run may
+   * have re-encoded the rows this one had done, so the result no longer says where they stand.
+   */
+  private Optional<DataHubUpgradeResult> currentResult(UpgradeContext context) {
+    final Optional<DataHubUpgradeResult> result =
+        context.upgrade().getUpgradeResult(opContext, getUpgradeIdUrn(), entityService);
+    if (result.isEmpty()) {
+      return result;
+    }
+    final long writtenMs = timestampMs(result.get());
+    for (AspectPayloadCodec.Compression other : AspectPayloadCodec.Compression.values()) {
+      if (other != codec.getCompression()
+          && context
+              .upgrade()
+              .getUpgradeResult(
+                  opContext, BootstrapStep.getUpgradeUrn(stepId(other)), entityService)
+              .filter(otherResult -> timestampMs(otherResult) > writtenMs)
+              .isPresent()) {
+        log.info("{}: A run with {} came after the last one, starting over", id(), other);
+        return Optional.empty();
+      }
+    }
+    return result;
+  }
+
+  private static long timestampMs(@Nonnull DataHubUpgradeResult result) {
+    final Long timestampMs = result.getTimestampMs(GetMode.NULL);
+    return timestampMs != null ? timestampMs : 0;
+  }
+
+  protected Urn getUpgradeIdUrn() {
+    return BootstrapStep.getUpgradeUrn(id());
+  }
+
+  @Override
+  public Function<UpgradeContext, UpgradeStepResult> executable() {
+    return (context) -> {
+      EbeanAspectV2.PrimaryKey checkpoint = resumeKey(context);
+      if (checkpoint != null) {
+        log.info(
+            "{}: Resuming after {} {} {}",
+            getUpgradeIdUrn(),
+            checkpoint.getUrn(),
+            checkpoint.getAspect(),
+            checkpoint.getVersion());
+      }
+
+      final ExecutorService executor =
+          Executors.newFixedThreadPool(
+              threads,
+              new ThreadFactoryBuilder()
+                  .setNameFormat("compress-aspect-payloads-%d")
+                  .setDaemon(true)
+                  .build());
+      long scanned = 0;
+      long rewritten = 0;
+      try {
+        List<EbeanAspectV2.PrimaryKey> keys;
+        while (!(keys = nextKeys(checkpoint)).isEmpty()) {
+          final int chunkSize = (keys.size() + threads - 1) / threads;
+          final List<CompletableFuture<Integer>> chunks =
+              Lists.partition(keys, chunkSize).stream()
+                  .map(chunk -> CompletableFuture.supplyAsync(() -> reencode(chunk), executor))
+                  .collect(Collectors.toList());
+          for (CompletableFuture<Integer> chunk : chunks) {
+            rewritten += chunk.join();
+          }
+          scanned += keys.size();
+
+          checkpoint = keys.get(keys.size() - 1);
+          log.info(
+              "{}: Rewrote {} of {} rows. Saving state. Last urn:{}",
+              getUpgradeIdUrn(),
+              rewritten,
+              scanned,
+              checkpoint.getUrn());
+          context
+              .upgrade()
+              .setUpgradeResult(
+                  opContext,
+                  getUpgradeIdUrn(),
+                  entityService,
+                  DataHubUpgradeState.IN_PROGRESS,
+                  Map.of(
+                      LAST_URN_KEY,
+                      checkpoint.getUrn(),
+                      LAST_ASPECT_KEY,
+                      checkpoint.getAspect(),
+                      LAST_VERSION_KEY,
+                      String.valueOf(checkpoint.getVersion())));
+
+          if (batchDelayMs > 0) {
+            Thread.sleep(batchDelayMs);
+          }
+        }
+      } catch (CompletionException e) {
+        log.error("{}: Failed to re-encode aspect payloads", getUpgradeIdUrn(), e.getCause());
+        context.report().addLine("Failed to re-encode aspect payloads: " + e.getCause());
+        return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.FAILED);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } finally {
+        executor.shutdownNow();
+      }
+
+      BootstrapStep.setUpgradeResult(opContext, getUpgradeIdUrn(), entityService);
+      context
+          .report()
+          .addLine(
+              String.format(
+                  "Re-encoded %d of %d aspect rows with %s",
+                  rewritten, scanned, codec.getCompression()));
+      return new DefaultUpgradeStepResult(id(), DataHubUpgradeState.SUCCEEDED);
+    };
+  }
+
+  @Nullable
+  private EbeanAspectV2.PrimaryKey resumeKey(UpgradeContext context) {
+    return currentResult(context)
+        .filter(
+            result ->
+                DataHubUpgradeState.IN_PROGRESS.equals(result.getState())
+                    && result.getResult() != null
+                    && result.getResult().containsKey(LAST_URN_KEY))
+        .map(DataHubUpgradeResult::getResult)
+        .map(
+            result ->
+                new EbeanAspectV2.PrimaryKey(
+                    result.get(LAST_URN_KEY),
+                    result.get(LAST_ASPECT_KEY),
+                    Long.parseLong(result.get(LAST_VERSION_KEY))))
+        .orElse(null);
+  }
+
+  /** Returns the next page of keys after the checkpoint, in primary key order. */
+  @Nonnull
+  private List<EbeanAspectV2.PrimaryKey> nextKeys(@Nullable EbeanAspectV2.PrimaryKey checkpoint) {
+    ExpressionList<EbeanAspectV2> exp = server.find(EbeanAspectV2.class).where();
+    if (checkpoint != null) {
+      exp =
+          exp.or()
+              .gt(EbeanAspectV2.URN_COLUMN, checkpoint.getUrn())
+              .and()
+              .eq(EbeanAspectV2.URN_COLUMN, checkpoint.getUrn())
+              .gt(EbeanAspectV2.ASPECT_COLUMN, checkpoint.getAspect())
+              .endAnd()
+              .and()
+              .eq(EbeanAspectV2.URN_COLUMN, checkpoint.getUrn())
+              .eq(EbeanAspectV2.ASPECT_COLUMN, checkpoint.getAspect())
+              .gt(EbeanAspectV2.VERSION_COLUMN, checkpoint.getVersion())
+              .endAnd()
+              .endOr();
+    }
+    return exp.orderBy()
+        .asc(EbeanAspectV2.URN_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.ASPECT_COLUMN)
+        .orderBy()
+        .asc(EbeanAspectV2.VERSION_COLUMN)
+        .setMaxRows(batchSize)
+        .findIds();
+  }
+
+  /** Locks and re-encodes the rows, returning the number of rows updated. */
+  private int reencode(@Nonnull List<EbeanAspectV2.PrimaryKey> keys) {
+    try (Transaction transaction = server.beginTransaction(TxScope.requiresNew())) {
+      List<EbeanAspectV2> changed =
+          server
+              .find(EbeanAspectV2.class)
+              .where()
+              .idIn(keys)
+              .forUpdate()
+              .usingTransaction(transaction)
+              .findList()
+              .stream()
+              .filter(row -> row.encodePayloads(codec))
+              .collect(Collectors.toList());
+      if (!changed.isEmpty()) {
+        server.updateAll(changed, transaction);
+      }
+      transaction.commit();
+      return changed.size();
+    }
+  }
+}
@@ -5,10 +5,14 @@ import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
 import com.linkedin.datahub.upgrade.impl.DefaultUpgradeStepResult;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexOrchestrator;
 import com.linkedin.metadata.shared.ElasticSearchIndexed;
 import com.linkedin.structured.StructuredPropertyDefinition;
 import com.linkedin.upgrade.DataHubUpgradeState;
 import com.linkedin.util.Pair;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
@@ -36,8 +40,17 @@ public class BuildIndicesStep implements UpgradeStep {
   public Function<UpgradeContext, UpgradeStepResult> executable() {
     return (context) -> {
       try {
+        // Schedule the indices of all services together, so that reindexes can run side by side
+        final List<Pair<ESIndexBuilder, ReindexConfig>> indices = new ArrayList<>();
         for (ElasticSearchIndexed service : services) {
-          service.reindexAll(context.opContext(), structuredProperties);
+          for (ReindexConfig config :
+              service.buildReindexConfigs(context.opContext(), structuredProperties)) {
+            indices.add(Pair.of(service.getIndexBuilder(), config));
+          }
+        }
+        if (!indices.isEmpty()) {
+          new ReindexOrchestrator(indices.get(0).getFirst().getConfig().getBuildIndices())
+              .buildIndices(indices);
         }
       } catch (Exception e) {
         log.error("BuildIndicesStep failed.", e);
@@ -0,0 +1,148 @@
+package com.linkedin.datahub.upgrade.createbackup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.restorebackup.RestoreBackup;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.EbeanAspectBackupIterator;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.LocalParquetReader;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.ParquetReaderWrapper;
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.ebean.Database;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CreateBackupStepTest {
+  private static final String DATASET = "urn:li:dataset:(urn:li:dataPlatform:hive,table";
+
+  private Database database;
+  private java.nio.file.Path backupDirectory;
+  private UpgradeContext context;
+  private Map<String, Optional<String>> parsedArgs;
+
+  @BeforeMethod
+  public void setup() throws IOException {
+    String instanceId = "createbackup_" + UUID.randomUUID().toString().replace("-", "");
+    database = EbeanTestUtils.createNamedTestServer(instanceId, instanceId);
+    for (int i = 0; i < 10; i++) {
+      insert(DATASET + i + ",PROD)", "status", 0, "{\"removed\":false}", null);
+      insert(DATASET + i + ",PROD)", "status", 1, "{\"removed\":true}", null);
+      insert(DATASET + i + ",PROD)", "ownership", 0, "{\"owners\":[]}", "{\"runId\":\"run\"}");
+    }
+
+    backupDirectory = Files.createTempDirectory("createbackup").resolve("backup");
+    parsedArgs = new HashMap<>();
+    parsedArgs.put(
+        RestoreBackup.BACKUP_FILE_PATH_ARG_NAME, Optional.of(backupDirectory.toString()));
+    context = mock(UpgradeContext.class);
+    when(context.parsedArgs()).thenReturn(parsedArgs);
+    when(context.report()).thenReturn(mock(UpgradeReport.class));
+  }
+
+  @AfterMethod
+  public void cleanup() throws IOException {
+    database.shutdown();
+    try (Stream<java.nio.file.Path> paths = Files.walk(backupDirectory.getParent())) {
+      paths.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Test
+  public void testCreateBackupCanBeRestored() throws IOException {
+    parsedArgs.put(CreateBackupStep.THREADS_ARG_NAME, Optional.of("3"));
+    parsedArgs.put(CreateBackupStep.ROWS_PER_FILE_ARG_NAME, Optional.of("4"));
+
+    UpgradeStepResult result = new CreateBackupStep(database).executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    JsonNode manifest =
+        new ObjectMapper()
+            .readTree(backupDirectory.resolve(CreateBackupStep.MANIFEST_FILE_NAME).toFile());
+    assertEquals(manifest.get("rows").asLong(), 20);
+    long fileRows = 0;
+    for (JsonNode file : manifest.get("files")) {
+      assertTrue(file.get("rows").asLong() <= 4);
+      assertTrue(Files.exists(backupDirectory.resolve(file.get("name").asText())));
+      fileRows += file.get("rows").asLong();
+    }
+    assertEquals(fileRows, 20);
+
+    List<EbeanAspectV2> restored = readBackup();
+    assertEquals(restored.size(), 20);
+    Map<String, EbeanAspectV2> byKey =
+        restored.stream()
+            .collect(
+                Collectors.toMap(
+                    aspect -> aspect.getKey().getUrn() + " " + aspect.getKey().getAspect(),
+                    aspect -> aspect));
+    EbeanAspectV2 status = byKey.get(DATASET + "3,PROD) status");
+    assertEquals(status.getMetadata(), "{\"removed\":false}");
+    assertEquals(status.getCreatedOn().getTime(), 1000L);
+    assertEquals(status.getCreatedBy(), "urn:li:corpuser:datahub");
+    assertNull(status.getSystemMetadata());
+    assertEquals(
+        byKey.get(DATASET + "3,PROD) ownership").getSystemMetadata(), "{\"runId\":\"run\"}");
+  }
+
+  @Test
+  public void testCreateBackupRequiresEmptyDirectory() throws IOException {
+    Files.createDirectories(backupDirectory);
+    Files.writeString(backupDirectory.resolve("part-00000-00000.parquet"), "earlier backup");
+
+    UpgradeStepResult result = new CreateBackupStep(database).executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.FAILED);
+  }
+
+  private List<EbeanAspectV2> readBackup() {
+    List<EbeanAspectV2> aspects = new ArrayList<>();
+    EbeanAspectBackupIterator<ParquetReaderWrapper> iterator =
+        new LocalParquetReader(List.of()).getBackupIterator(context);
+    ParquetReaderWrapper reader;
+    while ((reader = iterator.getNextReader()) != null) {
+      EbeanAspectV2 aspect;
+      while ((aspect = reader.next()) != null) {
+        aspects.add(aspect);
+      }
+    }
+    return aspects;
+  }
+
+  private void insert(
+      String urn, String aspect, long version, String metadata, String systemMetadata) {
+    database.insert(
+        new EbeanAspectV2(
+            urn,
+            aspect,
+            version,
+            metadata,
+            new Timestamp(1000),
+            "urn:li:corpuser:datahub",
+            null,
+            systemMetadata));
+  }
+}
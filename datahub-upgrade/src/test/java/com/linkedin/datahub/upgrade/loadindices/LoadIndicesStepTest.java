@@ -8,18 +8,25 @@ import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datahub.upgrade.Upgrade;
 import com.linkedin.datahub.upgrade.UpgradeContext;
 import com.linkedin.datahub.upgrade.UpgradeReport;
 import com.linkedin.datahub.upgrade.UpgradeStepResult;
 import com.linkedin.events.metadata.ChangeType;
 import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
 import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.SearchableFieldSpec;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.service.UpdateIndicesService;
 import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.upgrade.DataHubUpgradeResult;
 import com.linkedin.upgrade.DataHubUpgradeState;
 import io.datahubproject.metadata.context.ActorContext;
 import io.datahubproject.metadata.context.OperationContext;
@@ -29,12 +36,15 @@ import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.AfterMethod;
@@ -42,6 +52,10 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 public class LoadIndicesStepTest {
+  private static final String SAMPLE_DATASET_1 =
+      "urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleDataset1,PROD)";
+  private static final String SAMPLE_DATASET_2 =
+      "urn:li:dataset:(urn:li:dataPlatform:hdfs,SampleDataset2,PROD)";
 
   private LoadIndicesStep loadIndicesStep;
   private Database database;
@@ -1572,4 +1586,306 @@ public class LoadIndicesStepTest {
     assertNotNull(result);
     verify(mockUpdateIndicesService, atLeastOnce()).flush();
   }
+
+  @Test
+  public void testProcessAllDataDirectlyWithThreads() throws Exception {
+    var method =
+        LoadIndicesStep.class.getDeclaredMethod(
+            "processAllDataDirectly",
+            OperationContext.class,
+            LoadIndicesArgs.class,
+            java.util.function.Function.class);
+    method.setAccessible(true);
+
+    mockContainerAspect();
+    List<String> written = recordWrittenUrns();
+
+    List<String> expected = new ArrayList<>(List.of(SAMPLE_DATASET_1, SAMPLE_DATASET_2));
+    for (int i = 0; i < 20; i++) {
+      String urn = "urn:li:dataset:(urn:li:dataPlatform:hdfs,PartitionedDataset" + i + ",PROD)";
+      insertTestRowWithValidData(urn, "container", 0, Instant.now(), "urn:li:corpuser:testUser");
+      expected.add(urn);
+    }
+
+    // No limit, so the rows are split into urn ranges for the threads
+    LoadIndicesArgs args = new LoadIndicesArgs();
+    args.batchSize = 3;
+    args.limit = Integer.MAX_VALUE;
+    args.threads = 4;
+    args.aspectNames = List.of("container");
+
+    LoadIndicesResult result =
+        (LoadIndicesResult)
+            method.invoke(
+                loadIndicesStep,
+                mockOperationContext,
+                args,
+                (java.util.function.Function<String, Void>) msg -> null);
+
+    // Every aspect is written exactly once
+    assertEquals(result.rowsProcessed, expected.size());
+    assertEquals(written.size(), expected.size());
+    assertEquals(Set.copyOf(written), Set.copyOf(expected));
+    // Without a checkpoint only the final flush is needed
+    verify(mockUpdateIndicesService, times(1)).flush();
+  }
+
+  @Test
+  public void testExecutableResumesInterruptedRun() {
+    EntityService<?> mockEntityService = mock(EntityService.class);
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    LoadIndicesStep step =
+        new LoadIndicesStep(
+            database, mockUpdateIndicesService, mockIndexManager, mockEntityService);
+    when(mockUpgradeContext.upgrade()).thenReturn(mockUpgrade);
+    when(mockUpgradeContext.parsedArgs()).thenReturn(Map.of());
+    mockDefaultAspectNames();
+    List<String> written = recordWrittenUrns();
+
+    // The first of two ranges is done, the second stopped after the first dataset
+    Map<String, String> progress = new HashMap<>();
+    progress.put(LoadIndicesCheckpoint.RUN_START_KEY, "100000000");
+    progress.put(LoadIndicesCheckpoint.PARTITIONS_KEY, "2");
+    progress.put(LoadIndicesCheckpoint.RUN_ARGS_KEY, containerRunArgs(1));
+    progress.put("partition.0.to", SAMPLE_DATASET_1);
+    progress.put("partition.0.done", "true");
+    progress.put("partition.1.from", SAMPLE_DATASET_1);
+    progress.put("partition.1.lastUrn", SAMPLE_DATASET_1);
+    progress.put("partition.1.lastAspect", "container");
+    progress.put("partition.1.done", "false");
+    Urn upgradeUrn = BootstrapStep.getUpgradeUrn(step.id());
+    when(mockUpgrade.getUpgradeResult(any(), eq(upgradeUrn), eq(mockEntityService)))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.IN_PROGRESS)
+                    .setResult(new StringMap(progress))));
+
+    UpgradeStepResult result = step.executable().apply(mockUpgradeContext);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(written, List.of(SAMPLE_DATASET_2));
+    // The watermark is taken from the start of the interrupted run
+    verify(mockUpgrade)
+        .setUpgradeResult(
+            any(),
+            eq(upgradeUrn),
+            eq(mockEntityService),
+            eq(DataHubUpgradeState.SUCCEEDED),
+            eq(
+                Map.of(
+                    LoadIndicesCheckpoint.WATERMARK_KEY,
+                    String.valueOf(100000000L - LoadIndicesCheckpoint.WATERMARK_OVERLAP_MS))));
+  }
+
+  @Test
+  public void testExecutableIgnoresCheckpointOfRunWithOtherArgs() {
+    EntityService<?> mockEntityService = mock(EntityService.class);
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    LoadIndicesStep step =
+        new LoadIndicesStep(
+            database, mockUpdateIndicesService, mockIndexManager, mockEntityService);
+    when(mockUpgradeContext.upgrade()).thenReturn(mockUpgrade);
+    when(mockUpgradeContext.parsedArgs()).thenReturn(Map.of());
+    mockDefaultAspectNames();
+    List<String> written = recordWrittenUrns();
+
+    // The interrupted run split the rows for two threads, this run uses one
+    Map<String, String> progress = new HashMap<>();
+    progress.put(LoadIndicesCheckpoint.RUN_START_KEY, "100000000");
+    progress.put(LoadIndicesCheckpoint.PARTITIONS_KEY, "2");
+    progress.put(LoadIndicesCheckpoint.RUN_ARGS_KEY, containerRunArgs(2));
+    progress.put("partition.0.to", SAMPLE_DATASET_2);
+    progress.put("partition.0.done", "true");
+    progress.put("partition.1.from", SAMPLE_DATASET_2);
+    progress.put("partition.1.done", "false");
+    Urn upgradeUrn = BootstrapStep.getUpgradeUrn(step.id());
+    when(mockUpgrade.getUpgradeResult(any(), eq(upgradeUrn), eq(mockEntityService)))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.IN_PROGRESS)
+                    .setResult(new StringMap(progress))));
+
+    UpgradeStepResult result = step.executable().apply(mockUpgradeContext);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(written, List.of(SAMPLE_DATASET_1, SAMPLE_DATASET_2));
+    verify(mockUpgradeReport)
+        .addLine(
+            "Ignoring the progress of an interrupted run with other arguments - starting over");
+  }
+
+  @Test
+  public void testExecutableCheckpointsOncePerInterval() {
+    EntityService<?> mockEntityService = mock(EntityService.class);
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    LoadIndicesStep step =
+        new LoadIndicesStep(
+            database, mockUpdateIndicesService, mockIndexManager, mockEntityService);
+    when(mockUpgradeContext.upgrade()).thenReturn(mockUpgrade);
+    when(mockUpgradeContext.parsedArgs())
+        .thenReturn(
+            Map.of(
+                LoadIndices.ASPECT_NAMES_ARG_NAME,
+                Optional.of("container"),
+                LoadIndices.BATCH_SIZE_ARG_NAME,
+                Optional.of("1"),
+                LoadIndices.CHECKPOINT_INTERVAL_SECONDS_ARG_NAME,
+                Optional.of("3600")));
+    when(mockUpgrade.getUpgradeResult(any(), any(), any())).thenReturn(Optional.empty());
+    mockContainerAspect();
+    List<String> written = recordWrittenUrns();
+
+    UpgradeStepResult result = step.executable().apply(mockUpgradeContext);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(written, List.of(SAMPLE_DATASET_1, SAMPLE_DATASET_2));
+    // Two batches inside one interval: saved at the start and when the range is done
+    verify(mockUpgrade, times(2))
+        .setUpgradeResult(any(), any(), any(), eq(DataHubUpgradeState.IN_PROGRESS), anyMap());
+    // One flush for the checkpoint of the finished range, one at the end
+    verify(mockUpdateIndicesService, times(2)).flush();
+  }
+
+  @Test
+  public void testExecutableFilteredRunKeepsWatermark() {
+    EntityService<?> mockEntityService = mock(EntityService.class);
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    LoadIndicesStep step =
+        new LoadIndicesStep(
+            database, mockUpdateIndicesService, mockIndexManager, mockEntityService);
+    when(mockUpgradeContext.upgrade()).thenReturn(mockUpgrade);
+    mockDefaultAspectNames();
+    List<String> written = recordWrittenUrns();
+    Urn upgradeUrn = BootstrapStep.getUpgradeUrn(step.id());
+    when(mockUpgrade.getUpgradeResult(any(), eq(upgradeUrn), eq(mockEntityService)))
+        .thenReturn(Optional.empty());
+
+    // A run narrowed to one dataset does not record a watermark
+    when(mockUpgradeContext.parsedArgs())
+        .thenReturn(Map.of(LoadIndices.URN_LIKE_ARG_NAME, Optional.of("%SampleDataset1%")));
+    assertEquals(
+        step.executable().apply(mockUpgradeContext).result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(written, List.of(SAMPLE_DATASET_1));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, String>> saved = ArgumentCaptor.forClass(Map.class);
+    verify(mockUpgrade)
+        .setUpgradeResult(
+            any(),
+            eq(upgradeUrn),
+            eq(mockEntityService),
+            eq(DataHubUpgradeState.SUCCEEDED),
+            saved.capture());
+    assertEquals(saved.getValue(), Map.of());
+
+    // So the next incremental run still loads the rows the filtered run left out
+    written.clear();
+    when(mockUpgrade.getUpgradeResult(any(), eq(upgradeUrn), eq(mockEntityService)))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.SUCCEEDED)
+                    .setResult(new StringMap(saved.getValue()))));
+    when(mockUpgradeContext.parsedArgs())
+        .thenReturn(Map.of(LoadIndices.INCREMENTAL_ARG_NAME, Optional.of("true")));
+    assertEquals(
+        step.executable().apply(mockUpgradeContext).result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(written, List.of(SAMPLE_DATASET_1, SAMPLE_DATASET_2));
+  }
+
+  @Test
+  public void testExecutableIncrementalLoadsSinceWatermark() {
+    EntityService<?> mockEntityService = mock(EntityService.class);
+    Upgrade mockUpgrade = mock(Upgrade.class);
+    LoadIndicesStep step =
+        new LoadIndicesStep(
+            database, mockUpdateIndicesService, mockIndexManager, mockEntityService);
+    when(mockUpgradeContext.upgrade()).thenReturn(mockUpgrade);
+    when(mockUpgradeContext.parsedArgs())
+        .thenReturn(Map.of(LoadIndices.INCREMENTAL_ARG_NAME, Optional.of("true")));
+    mockDefaultAspectNames();
+    List<String> written = recordWrittenUrns();
+
+    insertTestRowWithValidData(
+        "urn:li:dataset:(urn:li:dataPlatform:hdfs,UnchangedDataset,PROD)",
+        "container",
+        0,
+        Instant.now().minusSeconds(2 * 24 * 3600),
+        "urn:li:corpuser:testUser");
+    long watermarkMs = Instant.now().minusSeconds(3600).toEpochMilli();
+    Urn upgradeUrn = BootstrapStep.getUpgradeUrn(step.id());
+    when(mockUpgrade.getUpgradeResult(any(), eq(upgradeUrn), eq(mockEntityService)))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.SUCCEEDED)
+                    .setResult(
+                        new StringMap(
+                            Map.of(
+                                LoadIndicesCheckpoint.WATERMARK_KEY,
+                                String.valueOf(watermarkMs))))));
+
+    UpgradeStepResult result = step.executable().apply(mockUpgradeContext);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(Set.copyOf(written), Set.of(SAMPLE_DATASET_1, SAMPLE_DATASET_2));
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Map<String, String>> saved = ArgumentCaptor.forClass(Map.class);
+    verify(mockUpgrade)
+        .setUpgradeResult(
+            any(),
+            eq(upgradeUrn),
+            eq(mockEntityService),
+            eq(DataHubUpgradeState.SUCCEEDED),
+            saved.capture());
+    assertTrue(
+        Long.parseLong(saved.getValue().get(LoadIndicesCheckpoint.WATERMARK_KEY)) > watermarkMs);
+  }
+
+  /** Run arguments of a full load with the aspect names of {@link #mockDefaultAspectNames()}. */
+  private static String containerRunArgs(int threads) {
+    LoadIndicesArgs args = new LoadIndicesArgs();
+    args.limit = Integer.MAX_VALUE;
+    args.aspectNames = List.of("datasetKey", "container");
+    args.threads = threads;
+    return LoadIndicesCheckpoint.runArgs(args);
+  }
+
+  /** Registers datasets with a searchable container aspect, the only default aspect with rows. */
+  private void mockDefaultAspectNames() {
+    mockContainerAspect();
+    EntitySpec datasetSpec = mockEntityRegistry.getEntitySpec("dataset");
+    AspectSpec containerSpec = datasetSpec.getAspectSpec("container");
+    when(mockEntityRegistry.getEntitySpecs()).thenReturn(Map.of("dataset", datasetSpec));
+    when(datasetSpec.getAspectSpecs()).thenReturn(List.of(containerSpec));
+    when(datasetSpec.getKeyAspectName()).thenReturn("datasetKey");
+    when(containerSpec.getName()).thenReturn("container");
+    when(containerSpec.getSearchableFieldSpecs())
+        .thenReturn(List.of(mock(SearchableFieldSpec.class)));
+  }
+
+  private void mockContainerAspect() {
+    EntitySpec mockEntitySpec = mock(EntitySpec.class);
+    AspectSpec mockAspectSpec = mock(AspectSpec.class);
+    when(mockEntityRegistry.getEntitySpec("dataset")).thenReturn(mockEntitySpec);
+    when(mockEntitySpec.getAspectSpec("container")).thenReturn(mockAspectSpec);
+    when(mockAspectSpec.getDataTemplateClass())
+        .thenReturn((Class) com.linkedin.container.Container.class);
+  }
+
+  private List<String> recordWrittenUrns() {
+    List<String> written = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(
+            invocation -> {
+              Collection<MetadataChangeLog> events = invocation.getArgument(1);
+              events.forEach(event -> written.add(event.getEntityUrn().toString()));
+              return null;
+            })
+        .when(mockUpdateIndicesService)
+        .handleChangeEvents(any(), any());
+    return written;
+  }
 }
@@ -8,6 +8,7 @@ import static org.testng.Assert.assertTrue;
 import com.linkedin.datahub.upgrade.UpgradeStep;
 import com.linkedin.datahub.upgrade.system.elasticsearch.steps.BuildIndicesStep;
 import com.linkedin.metadata.entity.AspectDao;
+import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.service.UpdateIndicesService;
@@ -31,6 +32,7 @@ public class LoadIndicesTest {
   @Mock private EntitySearchService mockEntitySearchService;
   @Mock private GraphService mockGraphService;
   @Mock private AspectDao mockAspectDao;
+  @Mock private EntityService<?> mockEntityService;
 
   private LoadIndices loadIndices;
 
@@ -46,7 +48,8 @@ public class LoadIndicesTest {
             mockTimeseriesAspectService,
             mockEntitySearchService,
             mockGraphService,
-            mockAspectDao);
+            mockAspectDao,
+            mockEntityService);
   }
 
   @Test
@@ -86,7 +89,7 @@ public class LoadIndicesTest {
   public void testLoadIndicesWithNullDependencies() {
     // Test constructor with null dependencies (graceful degradation)
     LoadIndices loadIndicesWithoutDeps =
-        new LoadIndices(null, null, null, null, null, null, null, null);
+        new LoadIndices(null, null, null, null, null, null, null, null, null);
     assertNotNull(loadIndicesWithoutDeps);
     assertEquals("LoadIndices", loadIndicesWithoutDeps.id());
     // When server or indexManager is null, should return empty steps list
@@ -0,0 +1,280 @@
+package com.linkedin.datahub.upgrade.restorebackup;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.BackupReader;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.EbeanAspectBackupIterator;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.LocalParquetReader;
+import com.linkedin.datahub.upgrade.restorebackup.backupreader.ReaderWrapper;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import com.linkedin.util.Pair;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import io.ebean.Database;
+import io.ebean.DuplicateKeyException;
+import io.ebean.Transaction;
+import io.ebean.TxScope;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class RestoreStorageStepTest {
+  private static final String DATASET = "urn:li:dataset:(urn:li:dataPlatform:hive,table";
+  private static final String BACKUP_PATH = "/backups/aspects";
+
+  private OperationContext opContext;
+  private EntityService<?> entityService;
+  private Database database;
+  private Transaction transaction;
+  private Upgrade upgrade;
+  private UpgradeContext context;
+  private Map<String, Optional<String>> parsedArgs;
+
+  @BeforeMethod
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    entityService = mock(EntityService.class);
+    when(entityService.alwaysProduceMCLAsync(
+            any(),
+            any(),
+            anyString(),
+            anyString(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any(),
+            any()))
+        .thenReturn(Pair.of(CompletableFuture.completedFuture(null), true));
+    database = mock(Database.class);
+    transaction = mock(Transaction.class);
+    when(database.beginTransaction(any(TxScope.class))).thenReturn(transaction);
+
+    upgrade = mock(Upgrade.class);
+    when(upgrade.getUpgradeResult(any(), any(), any())).thenReturn(Optional.empty());
+    parsedArgs = new HashMap<>();
+    parsedArgs.put(
+        RestoreBackup.BACKUP_READER_ARG_NAME, Optional.of(LocalParquetReader.READER_NAME));
+    parsedArgs.put(RestoreBackup.BACKUP_FILE_PATH_ARG_NAME, Optional.of(BACKUP_PATH));
+    parsedArgs.put(RestoreBackup.BATCH_INSERT_ARG_NAME, Optional.of("true"));
+    parsedArgs.put(RestoreBackup.BATCH_SIZE_ARG_NAME, Optional.of("2"));
+    context = mock(UpgradeContext.class);
+    when(context.parsedArgs()).thenReturn(parsedArgs);
+    when(context.report()).thenReturn(mock(UpgradeReport.class));
+    when(context.opContext()).thenReturn(opContext);
+    when(context.upgrade()).thenReturn(upgrade);
+  }
+
+  @Test
+  public void testBatchInsertWritesRowsInBatches() {
+    ReaderWrapper part = part("part-0", row(0), row(1), row(2));
+
+    UpgradeStepResult result = step(part).executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    ArgumentCaptor<Collection<EbeanAspectV2>> batches = ArgumentCaptor.forClass(Collection.class);
+    verify(database, times(2)).insertAll(batches.capture(), eq(transaction));
+    assertEquals(batches.getAllValues().get(0).size(), 2);
+    assertEquals(batches.getAllValues().get(1).size(), 1);
+    verify(transaction, times(2)).commit();
+    verify(database, never()).insert(any());
+    // Every row is written to the table directly, its change log event rebuilds the indices
+    verifyChangeLogsEmitted(3);
+    verify(entityService, never()).ingestAspects(any(), any(), any(), any(), any());
+    verify(upgrade)
+        .setUpgradeResult(any(), any(), any(), eq(DataHubUpgradeState.SUCCEEDED), eq(null));
+  }
+
+  @Test
+  public void testDuplicateKeyFallsBackToRowInserts() {
+    EbeanAspectV2 restoredAlready = row(0);
+    ReaderWrapper part = part("part-0", restoredAlready, row(1));
+    doThrow(new DuplicateKeyException("duplicate", null))
+        .when(database)
+        .insertAll(any(), any(Transaction.class));
+    doThrow(new DuplicateKeyException("duplicate", null)).when(database).insert(restoredAlready);
+
+    UpgradeStepResult result = step(part).executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    verify(transaction, never()).commit();
+    // Each row of the failed batch is inserted on its own, skipping those restored already
+    verify(database, times(2)).insert(any());
+    verifyChangeLogsEmitted(2);
+  }
+
+  @Test
+  public void testResumeSkipsRestoredParts() throws IOException {
+    when(upgrade.getUpgradeResult(any(), any(), any()))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.IN_PROGRESS)
+                    .setResult(
+                        new StringMap(
+                            Map.of(
+                                "backup",
+                                LocalParquetReader.READER_NAME + ":" + BACKUP_PATH,
+                                "part-0",
+                                "2")))));
+    ReaderWrapper restored = part("part-0", row(0), row(1));
+    ReaderWrapper remaining = part("part-1", row(2));
+    RestoreStorageStep step = step(restored, remaining);
+    assertTrue(step.isResuming(context));
+
+    UpgradeStepResult result = step.executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    verify(restored, never()).next();
+    verify(restored).close();
+    ArgumentCaptor<Collection<EbeanAspectV2>> batches = ArgumentCaptor.forClass(Collection.class);
+    verify(database).insertAll(batches.capture(), eq(transaction));
+    assertEquals(batches.getValue().iterator().next().getKey().getUrn(), DATASET + "2,PROD)");
+
+    // The checkpoint keeps the parts of the interrupted run
+    List<Map<String, String>> checkpoints = checkpoints();
+    assertEquals(
+        checkpoints.get(checkpoints.size() - 1),
+        Map.of(
+            "backup", LocalParquetReader.READER_NAME + ":" + BACKUP_PATH,
+            "part-0", "2",
+            "part-1", "1"));
+  }
+
+  @Test
+  public void testResumeIgnoresCheckpointOfAnotherBackup() {
+    when(upgrade.getUpgradeResult(any(), any(), any()))
+        .thenReturn(
+            Optional.of(
+                new DataHubUpgradeResult()
+                    .setState(DataHubUpgradeState.IN_PROGRESS)
+                    .setResult(
+                        new StringMap(
+                            Map.of(
+                                "backup",
+                                LocalParquetReader.READER_NAME + ":/backups/other",
+                                "part-0",
+                                "2")))));
+    ReaderWrapper part = part("part-0", row(0));
+    RestoreStorageStep step = step(part);
+    assertFalse(step.isResuming(context));
+
+    assertEquals(step.executable().apply(context).result(), DataHubUpgradeState.SUCCEEDED);
+    verify(part, times(2)).next();
+  }
+
+  @Test
+  public void testFailedPartIsNotCheckpointed() {
+    ReaderWrapper failed = part("part-0", row(0));
+    when(failed.getRecordsFailed()).thenReturn(1);
+    ReaderWrapper succeeded = part("part-1", row(1));
+
+    UpgradeStepResult result = step(failed, succeeded).executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.FAILED);
+    List<Map<String, String>> checkpoints = checkpoints();
+    Map<String, String> last = checkpoints.get(checkpoints.size() - 1);
+    assertFalse(last.containsKey("part-0"));
+    assertEquals(last.get("part-1"), "1");
+    verify(upgrade, never())
+        .setUpgradeResult(any(), any(), any(), eq(DataHubUpgradeState.SUCCEEDED), any());
+  }
+
+  @Test
+  public void testBatchInsertRequiresDatabase() {
+    RestoreStorageStep step = new RestoreStorageStep(entityService, opContext.getEntityRegistry());
+
+    assertEquals(step.executable().apply(context).result(), DataHubUpgradeState.FAILED);
+  }
+
+  private void verifyChangeLogsEmitted(int count) {
+    verify(entityService, times(count))
+        .alwaysProduceMCLAsync(
+            any(),
+            any(),
+            eq("dataset"),
+            eq("status"),
+            any(),
+            eq(null),
+            any(),
+            eq(null),
+            any(),
+            any(),
+            eq(ChangeType.RESTATE));
+  }
+
+  private List<Map<String, String>> checkpoints() {
+    ArgumentCaptor<Map<String, String>> results = ArgumentCaptor.forClass(Map.class);
+    verify(upgrade, atLeastOnce())
+        .setUpgradeResult(
+            any(), any(), any(), eq(DataHubUpgradeState.IN_PROGRESS), results.capture());
+    return new ArrayList<>(results.getAllValues());
+  }
+
+  private RestoreStorageStep step(ReaderWrapper... parts) {
+    return new RestoreStorageStep(entityService, opContext.getEntityRegistry(), database) {
+      @Override
+      BackupReader<? extends ReaderWrapper> createBackupReader(
+          String backupReaderName, UpgradeContext upgradeContext) {
+        BackupReader<ReaderWrapper> reader = mock(BackupReader.class);
+        when(reader.getBackupIterator(any()))
+            .thenReturn(new EbeanAspectBackupIterator<>(List.of(parts)));
+        return reader;
+      }
+    };
+  }
+
+  private static ReaderWrapper part(String partId, EbeanAspectV2... rows) {
+    ReaderWrapper reader = mock(ReaderWrapper.class);
+    when(reader.getPartId()).thenReturn(partId);
+    when(reader.getFileName()).thenReturn(partId);
+    EbeanAspectV2[] remaining = new EbeanAspectV2[rows.length];
+    System.arraycopy(rows, 1, remaining, 0, rows.length - 1);
+    // The last read returns null, ending the part
+    when(reader.next()).thenReturn(rows[0], remaining);
+    return reader;
+  }
+
+  private static EbeanAspectV2 row(int dataset) {
+    return new EbeanAspectV2(
+        DATASET + dataset + ",PROD)",
+        "status",
+        0,
+        "{\"removed\":false}",
+        new Timestamp(1000),
+        "urn:li:corpuser:datahub",
+        null,
+        null);
+  }
+}
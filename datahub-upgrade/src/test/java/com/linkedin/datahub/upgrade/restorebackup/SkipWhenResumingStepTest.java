@@ -0,0 +1,67 @@
+package com.linkedin.datahub.upgrade.restorebackup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStep;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import java.util.function.Function;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SkipWhenResumingStepTest {
+
+  private UpgradeStep clearStep;
+  private RestoreStorageStep restoreStorageStep;
+  private UpgradeContext context;
+  private SkipWhenResumingStep step;
+
+  @BeforeMethod
+  public void setup() {
+    clearStep = mock(UpgradeStep.class);
+    when(clearStep.id()).thenReturn("ClearAspectV2TableStep");
+    restoreStorageStep = mock(RestoreStorageStep.class);
+    context = mock(UpgradeContext.class);
+    when(context.report()).thenReturn(mock(UpgradeReport.class));
+    step = new SkipWhenResumingStep(clearStep, restoreStorageStep);
+  }
+
+  @Test
+  public void testSkippedWhenResuming() {
+    when(restoreStorageStep.isResuming(context)).thenReturn(true);
+
+    assertTrue(step.skip(context));
+    verify(clearStep, never()).skip(context);
+  }
+
+  @Test
+  public void testDelegatesWhenStartingOver() {
+    when(restoreStorageStep.isResuming(context)).thenReturn(false);
+
+    when(clearStep.skip(context)).thenReturn(false);
+    assertFalse(step.skip(context));
+    when(clearStep.skip(context)).thenReturn(true);
+    assertTrue(step.skip(context));
+  }
+
+  @Test
+  public void testRunsTheWrappedStep() {
+    Function<UpgradeContext, UpgradeStepResult> executable = ctx -> null;
+    when(clearStep.executable()).thenReturn(executable);
+    when(clearStep.retryCount()).thenReturn(2);
+    when(clearStep.isOptional()).thenReturn(true);
+
+    assertEquals(step.id(), "ClearAspectV2TableStep");
+    assertSame(step.executable(), executable);
+    assertEquals(step.retryCount(), 2);
+    assertTrue(step.isOptional());
+  }
+}
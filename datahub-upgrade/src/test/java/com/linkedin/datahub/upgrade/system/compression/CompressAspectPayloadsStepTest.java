@@ -0,0 +1,168 @@
+package com.linkedin.datahub.upgrade.system.compression;
+
+import static com.linkedin.datahub.upgrade.system.AbstractMCLStep.LAST_URN_KEY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.datahub.upgrade.Upgrade;
+import com.linkedin.datahub.upgrade.UpgradeContext;
+import com.linkedin.datahub.upgrade.UpgradeReport;
+import com.linkedin.datahub.upgrade.UpgradeStepResult;
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.AspectPayloadCodec;
+import com.linkedin.metadata.entity.ebean.EbeanAspectV2;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
+import io.datahubproject.metadata.context.OperationContext;
+import io.ebean.Database;
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CompressAspectPayloadsStepTest {
+  private static final String PAYLOAD = "{\"description\":\"" + "lorem ipsum ".repeat(200) + "\"}";
+  private static final AspectPayloadCodec CODEC =
+      new AspectPayloadCodec(AspectPayloadCodec.Compression.ZSTD, 1024, 3);
+
+  private Database database;
+  private EntityService<?> entityService;
+  private OperationContext opContext;
+  private Upgrade upgrade;
+  private UpgradeContext context;
+
+  @BeforeMethod
+  public void setup() {
+    String instanceId = "compress_" + UUID.randomUUID().toString().replace("-", "");
+    database = EbeanTestUtils.createNamedTestServer(instanceId, instanceId);
+    entityService = mock(EntityService.class);
+    opContext = mock(OperationContext.class);
+    upgrade = mock(Upgrade.class);
+    context = mock(UpgradeContext.class);
+    when(context.upgrade()).thenReturn(upgrade);
+    when(context.report()).thenReturn(mock(UpgradeReport.class));
+    when(upgrade.getUpgradeResult(any(), any(Urn.class), any())).thenReturn(Optional.empty());
+
+    for (int i = 0; i < 5; i++) {
+      for (long version = 0; version < 2; version++) {
+        database.insert(
+            new EbeanAspectV2(
+                "urn:li:corpuser:user" + i,
+                "corpUserEditableInfo",
+                version,
+                PAYLOAD,
+                new Timestamp(0),
+                "urn:li:corpuser:datahub",
+                null,
+                null));
+      }
+    }
+  }
+
+  @AfterMethod
+  public void cleanup() {
+    database.shutdown();
+  }
+
+  @Test
+  public void testCompressesAllVersions() {
+    CompressAspectPayloadsStep step =
+        new CompressAspectPayloadsStep(opContext, entityService, database, CODEC, 3, 2, 0);
+
+    UpgradeStepResult result = step.executable().apply(context);
+
+    assertEquals(result.result(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(step.id(), "compress-aspect-payloads-zstd-v1");
+    assertEquals(compressedRows(), 10);
+    for (EbeanAspectV2 row : database.find(EbeanAspectV2.class).findList()) {
+      assertEquals(row.getMetadata(), PAYLOAD);
+    }
+    // 10 rows in pages of 3
+    verify(upgrade, times(4))
+        .setUpgradeResult(
+            eq(opContext),
+            any(Urn.class),
+            eq(entityService),
+            eq(DataHubUpgradeState.IN_PROGRESS),
+            any());
+
+    // Nothing left to rewrite
+    new CompressAspectPayloadsStep(opContext, entityService, database, CODEC, 3, 2, 0)
+        .executable()
+        .apply(context);
+    assertEquals(compressedRows(), 10);
+  }
+
+  @Test
+  public void testResumesAfterCheckpoint() {
+    DataHubUpgradeResult previous =
+        new DataHubUpgradeResult()
+            .setState(DataHubUpgradeState.IN_PROGRESS)
+            .setResult(
+                new StringMap(
+                    Map.of(
+                        LAST_URN_KEY,
+                        "urn:li:corpuser:user2",
+                        CompressAspectPayloadsStep.LAST_ASPECT_KEY,
+                        "corpUserEditableInfo",
+                        CompressAspectPayloadsStep.LAST_VERSION_KEY,
+                        "0")));
+    when(upgrade.getUpgradeResult(any(), any(Urn.class), any())).thenReturn(Optional.of(previous));
+    CompressAspectPayloadsStep step =
+        new CompressAspectPayloadsStep(opContext, entityService, database, CODEC, 100, 2, 0);
+
+    assertFalse(step.skip(context));
+    step.executable().apply(context);
+
+    // user2 version 1, user3 and user4
+    assertEquals(compressedRows(), 5);
+  }
+
+  @Test
+  public void testRunsAgainAfterAnotherCodec() {
+    // zstd, then none, then zstd again
+    DataHubUpgradeResult zstd =
+        new DataHubUpgradeResult().setState(DataHubUpgradeState.SUCCEEDED).setTimestampMs(1L);
+    DataHubUpgradeResult none =
+        new DataHubUpgradeResult().setState(DataHubUpgradeState.SUCCEEDED).setTimestampMs(2L);
+    Urn zstdUrn = upgradeUrn(AspectPayloadCodec.Compression.ZSTD);
+    Urn noneUrn = upgradeUrn(AspectPayloadCodec.Compression.NONE);
+    when(upgrade.getUpgradeResult(any(), eq(zstdUrn), any())).thenReturn(Optional.of(zstd));
+    when(upgrade.getUpgradeResult(any(), eq(noneUrn), any())).thenReturn(Optional.of(none));
+    CompressAspectPayloadsStep step =
+        new CompressAspectPayloadsStep(opContext, entityService, database, CODEC, 100, 2, 0);
+
+    assertFalse(step.skip(context));
+    step.executable().apply(context);
+    assertEquals(compressedRows(), 10);
+
+    // Once zstd ran last it is skipped
+    zstd.setTimestampMs(3L);
+    assertTrue(step.skip(context));
+  }
+
+  private static Urn upgradeUrn(AspectPayloadCodec.Compression compression) {
+    return BootstrapStep.getUpgradeUrn(CompressAspectPayloadsStep.stepId(compression));
+  }
+
+  private long compressedRows() {
+    return database
+        .sqlQuery("SELECT COUNT(*) AS cnt FROM metadata_aspect_v2 WHERE metadata LIKE '#zstd:%'")
+        .findOne()
+        .getLong("cnt");
+  }
+}
@@ -0,0 +1,119 @@
+package datahub.protobuf;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.template.RecordTemplate;
+import datahub.event.MetadataChangeProposalWrapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints of previously emitted aspects, persisted in a local JSON state file. Used by {@link
+ * Proto2DataHub} in incremental mode to only emit aspects whose content changed since the last
+ * run.
+ *
+ * <p>Audit stamp times are excluded from the fingerprint since every run stamps aspects with the
+ * current time.
+ */
+public class IncrementalState {
+  private static final Type STATE_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+  private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+  private final Path stateFile;
+  private final Map<String, String> fingerprints;
+
+  private IncrementalState(Path stateFile, Map<String, String> fingerprints) {
+    this.stateFile = stateFile;
+    this.fingerprints = new ConcurrentHashMap<>(fingerprints);
+  }
+
+  /** Loads the state file, starting empty when it does not exist yet. */
+  public static IncrementalState load(Path stateFile) throws IOException {
+    if (!Files.exists(stateFile)) {
+      return new IncrementalState(stateFile, Map.of());
+    }
+    try (Reader reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
+      Map<String, String> stored = GSON.fromJson(reader, STATE_TYPE);
+      return new IncrementalState(stateFile, stored != null ? stored : Map.of());
+    }
+  }
+
+  /** Returns true when the aspect was not emitted before or its content changed. */
+  public boolean isChanged(MetadataChangeProposalWrapper<? extends RecordTemplate> mcpw) {
+    return !fingerprint(mcpw.getAspect()).equals(fingerprints.get(key(mcpw)));
+  }
+
+  /** Records the aspect as emitted, to be called once the emit succeeded. */
+  public void markEmitted(MetadataChangeProposalWrapper<? extends RecordTemplate> mcpw) {
+    fingerprints.put(key(mcpw), fingerprint(mcpw.getAspect()));
+  }
+
+  public int size() {
+    return fingerprints.size();
+  }
+
+  /** Atomically replaces the state file with the current fingerprints. */
+  public void save() throws IOException {
+    Path parent = stateFile.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    Path tmp = stateFile.resolveSibling(stateFile.getFileName() + ".tmp");
+    try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+      GSON.toJson(new TreeMap<>(fingerprints), STATE_TYPE, writer);
+    }
+    Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static String key(MetadataChangeProposalWrapper<? extends RecordTemplate> mcpw) {
+    return mcpw.getEntityUrn() + "|" + mcpw.getAspectName();
+  }
+
+  static String fingerprint(RecordTemplate aspect) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    hash(aspect.data(), hasher);
+    return hasher.hash().toString();
+  }
+
+  private static void hash(Object value, Hasher hasher) {
+    if (value instanceof DataMap) {
+      DataMap map = (DataMap) value;
+      boolean auditStamp = map.containsKey("time") && map.containsKey("actor");
+      hasher.putByte((byte) 'm');
+      new TreeMap<>(map)
+          .forEach(
+              (k, v) -> {
+                if (!(auditStamp && "time".equals(k))) {
+                  hasher.putString(k, StandardCharsets.UTF_8);
+                  hash(v, hasher);
+                }
+              });
+      hasher.putByte((byte) '}');
+    } else if (value instanceof DataList) {
+      hasher.putByte((byte) 'l');
+      for (Object item : (DataList) value) {
+        hash(item, hasher);
+      }
+      hasher.putByte((byte) ']');
+    } else if (value instanceof ByteString) {
+      hasher.putByte((byte) 'b').putBytes(((ByteString) value).copyBytes());
+    } else {
+      hasher.putByte((byte) 'p').putString(String.valueOf(value), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -4,19 +4,32 @@ import com.linkedin.common.AuditStamp;
 import com.linkedin.common.FabricType;
 import com.linkedin.common.urn.CorpuserUrn;
 import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.util.Pair;
 import datahub.client.Emitter;
 import datahub.client.file.FileEmitter;
 import datahub.client.file.FileEmitterConfig;
 import datahub.client.rest.RestEmitter;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.protobuf.model.ProtobufDescriptors;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Stream;
+import java.util.stream.Collectors;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -145,6 +158,24 @@ public class Proto2DataHub {
           .desc("[Required if using transport file] Filename to write output to.")
           .build();
 
+  private static final Option OPTION_PARALLELISM =
+      Option.builder()
+          .longOpt("parallelism")
+          .hasArg()
+          .desc(
+              "[Optional] Number of source files converted concurrently. Events are still emitted in file order. "
+                  + "(defaults to the number of available processors)")
+          .build();
+
+  private static final Option OPTION_STATE_FILE =
+      Option.builder()
+          .longOpt("state_file")
+          .hasArg()
+          .desc(
+              "[Optional] Enables incremental mode. Fingerprints of emitted aspects are stored in this local file "
+                  + "and only aspects whose content changed since the previous run are emitted.")
+          .build();
+
   private static final Option OPTION_HELP =
       Option.builder().longOpt("help").desc("Print this help message").build();
 
@@ -187,6 +218,8 @@ public class Proto2DataHub {
     private final String filename;
     private final String subType;
     private final String[] excludePatterns;
+    private final int parallelism;
+    private final String stateFile;
 
     AppConfig(CommandLine cli) {
       Map<String, String> env = System.getenv();
@@ -216,6 +249,12 @@ public class Proto2DataHub {
       inputDir = cli.getOptionValue(OPTION_DIR, null);
       excludePatterns = cli.getOptionValues(OPTION_EXCLUDE_PATTERN);
       enableProtocCustomProperty = cli.hasOption(OPTION_PROTOC_CUSTOM_PROPERTY);
+      parallelism =
+          Integer.parseInt(
+              cli.getOptionValue(
+                  OPTION_PARALLELISM,
+                  String.valueOf(Runtime.getRuntime().availableProcessors())));
+      stateFile = cli.getOptionValue(OPTION_STATE_FILE, null);
     }
 
     private AppConfig validate() throws Exception {
@@ -239,6 +278,10 @@ public class Proto2DataHub {
               String.format("Proto-descriptor file %s is not a regular file", this.protoc));
         }
       }
+      if (this.parallelism < 1) {
+        throw new Exception(
+            String.format("Parallelism must be at least 1, got %d", this.parallelism));
+      }
       if ((this.inputFile == null) && (this.inputDir == null)) {
         throw new Exception("Must provide either an input file or an input directory to read from");
       }
@@ -279,7 +322,9 @@ public class Proto2DataHub {
         .addOption(OPTION_FILENAME)
         .addOption(OPTION_SUBTYPE)
         .addOption(OPTION_HELP)
-        .addOption(OPTION_PROTOC_CUSTOM_PROPERTY);
+        .addOption(OPTION_PROTOC_CUSTOM_PROPERTY)
+        .addOption(OPTION_PARALLELISM)
+        .addOption(OPTION_STATE_FILE);
 
     Options firstPassOptions = new Options().addOption(OPTION_HELP);
 
@@ -342,73 +387,93 @@ public class Proto2DataHub {
             .setTime(System.currentTimeMillis())
             .setActor(new CorpuserUrn(config.datahubUser));
 
-    InputStream protocStream = new FileInputStream(config.protoc);
+    // Parsed once and shared by every file, the descriptor set typically covers the whole repo
+    ProtobufDescriptors descriptors;
+    try (InputStream protocStream = new FileInputStream(config.protoc)) {
+      descriptors = ProtobufDescriptors.parseFrom(protocStream.readAllBytes());
+    }
+
+    IncrementalState state =
+        config.stateFile != null ? IncrementalState.load(Path.of(config.stateFile)) : null;
 
-    Stream<Path> filePathStream = Stream.empty();
+    List<Path> filePaths;
     if (config.inputFile != null) {
-      filePathStream = Stream.of(Path.of(config.inputFile));
+      filePaths = List.of(Path.of(config.inputFile));
     } else {
       DirectoryWalker walker = new DirectoryWalker(config.inputDir, config.excludePatterns);
-      filePathStream = walker.walkFiles();
+      filePaths = walker.walkFiles().collect(Collectors.toList());
     }
 
     Emitter finalEmitter = emitter;
     AtomicInteger exitCode = new AtomicInteger(0);
     AtomicInteger totalFiles = new AtomicInteger(0);
+    AtomicInteger skippedEvents = new AtomicInteger(0);
 
+    ExecutorService executor = Executors.newFixedThreadPool(config.parallelism);
     try {
-      filePathStream.forEach(
-          filePath -> {
-            totalFiles.incrementAndGet();
-            try {
-              String textSchema = Files.readString(filePath);
-
-              ProtobufDataset dataset =
-                  ProtobufDataset.builder()
-                      .setDataPlatformUrn(new DataPlatformUrn(config.dataPlatform))
-                      .setProtocIn(new FileInputStream(config.protoc))
-                      .setEnableProtocCustomProperty(config.enableProtocCustomProperty)
-                      .setFilename(filePath.toString())
-                      .setSchema(textSchema)
-                      .setAuditStamp(auditStamp)
-                      .setFabricType(config.fabricType)
-                      .setGithubOrganization(config.githubOrg)
-                      .setSlackTeamId(config.slackId)
-                      .setSubType(config.subType)
-                      .setMessageName(config.messageName)
-                      .build();
-
-              dataset
-                  .getAllMetadataChangeProposals()
-                  .flatMap(Collection::stream)
-                  .forEach(
-                      mcpw -> {
-                        try {
-                          finalEmitter.emit(mcpw, null).get();
-                          totalEvents.getAndIncrement();
-                        } catch (Exception e) {
-                          throw new RuntimeException(e);
-                        }
-                      });
-            } catch (Exception e) {
-              if (e.getMessage() != null
-                  && e.getMessage().equals("Cannot autodetect protobuf Message.")) {
-                System.err.printf(
-                    "WARN: Top-level schema not found in %s, no dataset emitted%n", args[1]);
-              } else {
-                e.printStackTrace();
-                System.err.println(
-                    String.format(
-                        "‼️ Failed to emit to DataHub over %s. Num events emitted so far %d",
-                        config.transport, totalEvents.get()));
-                exitCode.set(1);
-              }
+      // Files are converted concurrently but emitted in order, from a bounded window of pending
+      // conversions so memory stays flat for large repos. The emitter is only used by this thread.
+      Deque<Pair<Path, Future<List<MetadataChangeProposalWrapper<? extends RecordTemplate>>>>>
+          pending = new ArrayDeque<>();
+      Iterator<Path> fileIterator = filePaths.iterator();
+      while (fileIterator.hasNext() || !pending.isEmpty()) {
+        while (fileIterator.hasNext() && pending.size() < config.parallelism * 4) {
+          Path filePath = fileIterator.next();
+          pending.add(
+              Pair.of(
+                  filePath,
+                  executor.submit(() -> convert(config, descriptors, auditStamp, filePath))));
+        }
+
+        Pair<Path, Future<List<MetadataChangeProposalWrapper<? extends RecordTemplate>>>> next =
+            pending.poll();
+        Path filePath = next.getFirst();
+        totalFiles.incrementAndGet();
+        try {
+          List<MetadataChangeProposalWrapper<? extends RecordTemplate>> mcps =
+              next.getSecond().get();
+          for (MetadataChangeProposalWrapper<? extends RecordTemplate> mcpw : mcps) {
+            if (state != null && !state.isChanged(mcpw)) {
+              skippedEvents.getAndIncrement();
+              continue;
             }
-          });
+            finalEmitter.emit(mcpw, null).get();
+            totalEvents.getAndIncrement();
+            if (state != null) {
+              state.markEmitted(mcpw);
+            }
+          }
+        } catch (Exception e) {
+          Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+          if (cause.getMessage() != null
+              && cause.getMessage().equals("Cannot autodetect protobuf Message.")) {
+            System.err.printf(
+                "WARN: Top-level schema not found in %s, no dataset emitted%n", filePath);
+          } else {
+            cause.printStackTrace();
+            System.err.println(
+                String.format(
+                    "‼️ Failed to emit to DataHub over %s. Num events emitted so far %d",
+                    config.transport, totalEvents.get()));
+            exitCode.set(1);
+          }
+        }
+      }
     } finally {
+      executor.shutdownNow();
       if (emitter != null) {
         emitter.close();
       }
+      if (state != null) {
+        // Only successfully emitted aspects were recorded, failed ones are retried next run
+        state.save();
+      }
+    }
+    if (state != null) {
+      System.out.println(
+          String.format(
+              "Incremental mode: skipped %d unchanged events, tracking %d aspects in %s",
+              skippedEvents.get(), state.size(), config.stateFile));
     }
     if (exitCode.get() == 0) {
       System.out.println(
@@ -424,6 +489,35 @@ public class Proto2DataHub {
     System.exit(exitCode.get());
   }
 
+  private static List<MetadataChangeProposalWrapper<? extends RecordTemplate>> convert(
+      AppConfig config,
+      ProtobufDescriptors descriptors,
+      AuditStamp auditStamp,
+      Path filePath)
+      throws IOException {
+    String textSchema = Files.readString(filePath);
+
+    ProtobufDataset dataset =
+        ProtobufDataset.builder()
+            .setDataPlatformUrn(new DataPlatformUrn(config.dataPlatform))
+            .setDescriptors(descriptors)
+            .setEnableProtocCustomProperty(config.enableProtocCustomProperty)
+            .setFilename(filePath.toString())
+            .setSchema(textSchema)
+            .setAuditStamp(auditStamp)
+            .setFabricType(config.fabricType)
+            .setGithubOrganization(config.githubOrg)
+            .setSlackTeamId(config.slackId)
+            .setSubType(config.subType)
+            .setMessageName(config.messageName)
+            .build();
+
+    return dataset
+        .getAllMetadataChangeProposals()
+        .flatMap(Collection::stream)
+        .collect(Collectors.toList());
+  }
+
   private static String[] convertOldStyleArgsIfPossible(String[] args) {
     if (args.length == 2) {
       String[] translatedArgs = {"--descriptor", args[0], "--file", args[1]};
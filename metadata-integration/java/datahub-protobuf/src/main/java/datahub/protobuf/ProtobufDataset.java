@@ -1,6 +1,5 @@
 package datahub.protobuf;
 
-import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.FabricType;
 import com.linkedin.common.Status;
@@ -16,6 +15,7 @@ import com.linkedin.schema.SchemaFieldArray;
 import com.linkedin.schema.SchemaMetadata;
 import com.linkedin.util.Pair;
 import datahub.event.MetadataChangeProposalWrapper;
+import datahub.protobuf.model.ProtobufDescriptors;
 import datahub.protobuf.model.ProtobufGraph;
 import datahub.protobuf.visitors.ProtobufModelVisitor;
 import datahub.protobuf.visitors.VisitContext;
@@ -32,7 +32,6 @@ import datahub.protobuf.visitors.field.SchemaFieldVisitor;
 import datahub.protobuf.visitors.tags.TagVisitor;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Base64;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -53,6 +52,7 @@ public class ProtobufDataset {
     private FabricType fabricType;
     private AuditStamp auditStamp;
     private byte[] protocBytes;
+    private ProtobufDescriptors descriptors;
     private String messageName;
     private String filename;
     private String schema;
@@ -90,6 +90,12 @@ public class ProtobufDataset {
       return this;
     }
 
+    /** Reuse descriptors already parsed for another file of the same descriptor set. */
+    public Builder setDescriptors(@Nullable ProtobufDescriptors descriptors) {
+      this.descriptors = descriptors;
+      return this;
+    }
+
     public Builder setFabricType(FabricType fabricType) {
       this.fabricType = fabricType;
       return this;
@@ -126,13 +132,14 @@ public class ProtobufDataset {
     }
 
     public ProtobufDataset build() throws IOException {
-      FileDescriptorSet fileSet = FileDescriptorSet.parseFrom(protocBytes);
+      ProtobufDescriptors protobufDescriptors =
+          descriptors != null ? descriptors : ProtobufDescriptors.parseFrom(protocBytes);
 
       return new ProtobufDataset(
               this,
               Optional.ofNullable(dataPlatformUrn).orElse(new DataPlatformUrn("kafka")),
               datasetUrn,
-              new ProtobufGraph(fileSet, messageName, filename),
+              new ProtobufGraph(protobufDescriptors, messageName, filename, true),
               schema,
               auditStamp,
               fabricType)
@@ -140,7 +147,7 @@ public class ProtobufDataset {
           .setFieldVisitor(new ProtobufExtensionFieldVisitor())
           .setDatasetVisitor(
               DatasetVisitor.builder()
-                  .protocBase64(Base64.getEncoder().encodeToString(protocBytes))
+                  .protocBase64(protobufDescriptors.getProtocBase64())
                   .enableProtocCustomProperty(enableProtocCustomProperty)
                   .datasetPropertyVisitors(
                       List.of(new KafkaTopicPropertyVisitor(), new PropertyVisitor()))
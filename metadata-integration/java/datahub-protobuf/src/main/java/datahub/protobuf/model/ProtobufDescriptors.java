@@ -0,0 +1,61 @@
+package datahub.protobuf.model;
+
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.InvalidProtocolBufferException;
+import datahub.protobuf.ProtobufUtils;
+import java.util.Base64;
+
+/**
+ * A parsed descriptor set along with its extension registry. Building the registry and re-parsing
+ * the set with extensions dominates the cost of a {@link ProtobufGraph} when a repo ships a single
+ * descriptor for all of its files, so a single instance is meant to be shared by every graph built
+ * from the same descriptor. Instances are immutable and safe to share across threads.
+ */
+public class ProtobufDescriptors {
+  private final byte[] protocBytes;
+  private final DescriptorProtos.FileDescriptorSet fileSet;
+  private final ExtensionRegistry registry;
+  private final DescriptorProtos.FileDescriptorSet extendedFileSet;
+  private volatile String protocBase64;
+
+  private ProtobufDescriptors(byte[] protocBytes, DescriptorProtos.FileDescriptorSet fileSet)
+      throws InvalidProtocolBufferException {
+    this.protocBytes = protocBytes;
+    this.fileSet = fileSet;
+    this.registry = ProtobufUtils.buildRegistry(fileSet);
+    this.extendedFileSet =
+        DescriptorProtos.FileDescriptorSet.parseFrom(protocBytes, this.registry);
+  }
+
+  public static ProtobufDescriptors parseFrom(byte[] protocBytes)
+      throws InvalidProtocolBufferException {
+    return new ProtobufDescriptors(
+        protocBytes, DescriptorProtos.FileDescriptorSet.parseFrom(protocBytes));
+  }
+
+  public static ProtobufDescriptors of(DescriptorProtos.FileDescriptorSet fileSet)
+      throws InvalidProtocolBufferException {
+    return new ProtobufDescriptors(fileSet.toByteArray(), fileSet);
+  }
+
+  public DescriptorProtos.FileDescriptorSet getFileSet() {
+    return fileSet;
+  }
+
+  public ExtensionRegistry getRegistry() {
+    return registry;
+  }
+
+  /** The descriptor set parsed with custom options resolved through {@link #getRegistry()}. */
+  public DescriptorProtos.FileDescriptorSet getExtendedFileSet() {
+    return extendedFileSet;
+  }
+
+  public String getProtocBase64() {
+    if (protocBase64 == null) {
+      protocBase64 = Base64.getEncoder().encodeToString(protocBytes);
+    }
+    return protocBase64;
+  }
+}
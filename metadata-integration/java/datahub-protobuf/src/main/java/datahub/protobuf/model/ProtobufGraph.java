@@ -3,7 +3,6 @@ package datahub.protobuf.model;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.ExtensionRegistry;
 import com.google.protobuf.InvalidProtocolBufferException;
-import datahub.protobuf.ProtobufUtils;
 import datahub.protobuf.visitors.ProtobufModelVisitor;
 import datahub.protobuf.visitors.VisitContext;
 import java.util.Collection;
@@ -45,10 +44,17 @@ public class ProtobufGraph extends DefaultDirectedGraph<ProtobufElement, FieldTy
       String filename,
       boolean flattenGoogleWrapped)
       throws InvalidProtocolBufferException {
+    this(ProtobufDescriptors.of(fileSet), messageName, filename, flattenGoogleWrapped);
+  }
+
+  public ProtobufGraph(
+      ProtobufDescriptors descriptors,
+      String messageName,
+      String filename,
+      boolean flattenGoogleWrapped) {
     super(FieldTypeEdge.class);
-    this.registry = ProtobufUtils.buildRegistry(fileSet);
-    DescriptorProtos.FileDescriptorSet fileSetExtended =
-        DescriptorProtos.FileDescriptorSet.parseFrom(fileSet.toByteArray(), this.registry);
+    this.registry = descriptors.getRegistry();
+    DescriptorProtos.FileDescriptorSet fileSetExtended = descriptors.getExtendedFileSet();
     buildProtobufGraph(fileSetExtended);
     if (flattenGoogleWrapped) {
       flattenGoogleWrapped();
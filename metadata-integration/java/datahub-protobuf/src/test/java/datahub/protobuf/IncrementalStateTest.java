@@ -0,0 +1,75 @@
+package datahub.protobuf;
+
+import static datahub.protobuf.TestFixtures.*;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.FabricType;
+import com.linkedin.common.urn.CorpuserUrn;
+import com.linkedin.data.template.RecordTemplate;
+import datahub.event.MetadataChangeProposalWrapper;
+import datahub.protobuf.model.ProtobufDescriptors;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+public class IncrementalStateTest {
+
+  @Test
+  public void unchangedAspectsSkippedAcrossRuns() throws IOException {
+    Path stateFile = Files.createTempDirectory("protobuf-state").resolve("state.json");
+
+    IncrementalState firstRun = IncrementalState.load(stateFile);
+    List<MetadataChangeProposalWrapper<? extends RecordTemplate>> mcps = mcps("messageA", 1000L);
+    mcps.forEach(mcpw -> assertTrue(firstRun.isChanged(mcpw)));
+    mcps.forEach(firstRun::markEmitted);
+    firstRun.save();
+
+    // Audit stamp times differ on every run and must not count as a change
+    IncrementalState secondRun = IncrementalState.load(stateFile);
+    assertEquals(secondRun.size(), firstRun.size());
+    mcps("messageA", 2000L).forEach(mcpw -> assertFalse(secondRun.isChanged(mcpw)));
+
+    // A different schema produces different aspects
+    assertTrue(mcps("messageB", 2000L).stream().anyMatch(secondRun::isChanged));
+  }
+
+  @Test
+  public void sharedDescriptorsMatchPerFileParsing() throws IOException {
+    ProtobufDescriptors descriptors =
+        ProtobufDescriptors.parseFrom(getTestProtoc("protobuf", "messageA").readAllBytes());
+
+    ProtobufDataset shared =
+        ProtobufDataset.builder()
+            .setDataPlatformUrn(TEST_DATA_PLATFORM)
+            .setDescriptors(descriptors)
+            .setSchema(getTestProtoSource("protobuf", "messageA"))
+            .setAuditStamp(TEST_AUDIT_STAMP)
+            .setFabricType(FabricType.TEST)
+            .build();
+    ProtobufDataset parsed = getTestProtobufDataset("protobuf", "messageA");
+
+    assertEquals(shared.getDatasetUrn(), parsed.getDatasetUrn());
+    assertEquals(shared.getSchemaMetadata(), parsed.getSchemaMetadata());
+  }
+
+  private static List<MetadataChangeProposalWrapper<? extends RecordTemplate>> mcps(
+      String filename, long time) throws IOException {
+    return ProtobufDataset.builder()
+        .setDataPlatformUrn(TEST_DATA_PLATFORM)
+        .setSchema(getTestProtoSource("protobuf", filename))
+        .setProtocIn(getTestProtoc("protobuf", filename))
+        .setAuditStamp(new AuditStamp().setTime(time).setActor(new CorpuserUrn("datahub")))
+        .setFabricType(FabricType.TEST)
+        .build()
+        .getAllMetadataChangeProposals()
+        .flatMap(Collection::stream)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,214 @@
+package io.datahubproject.schematron.converters.avro;
+
+import com.linkedin.common.urn.DataPlatformUrn;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Converts a corpus shaped like a schema registry dump: event schemas parsed independently of each
+ * other, all embedding the same envelope, party and money types at several depths through records,
+ * optional unions, arrays and maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AvroSchemaConverterBenchmark {
+  private static final String NAMESPACE = "com.example.events";
+
+  @Param({"500"})
+  private int schemaCount;
+
+  @Param({"1", "4"})
+  private int parallelism;
+
+  private final AvroSchemaConverter converter = AvroSchemaConverter.builder().build();
+  private DataPlatformUrn platformUrn;
+  private List<AvroBatchSchemaConverter.SchemaInput> corpus;
+  private AvroBatchSchemaConverter batchConverter;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    platformUrn = DataPlatformUrn.createFromString("urn:li:dataPlatform:kafka");
+    corpus = new ArrayList<>(schemaCount);
+    for (int i = 0; i < schemaCount; i++) {
+      // Parsed from its own definition, as each registry subject is
+      Schema schema = new Schema.Parser().parse(eventSchema(i).toString());
+      corpus.add(new AvroBatchSchemaConverter.SchemaInput(schema, false, false, platformUrn, null));
+    }
+    batchConverter = new AvroBatchSchemaConverter(converter, parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    batchConverter.close();
+  }
+
+  /** Baseline converting one schema at a time, independent of the parallelism parameter. */
+  @Benchmark
+  public void sequential(Blackhole blackhole) {
+    for (AvroBatchSchemaConverter.SchemaInput input : corpus) {
+      blackhole.consume(
+          converter.toDataHubSchema(
+              input.getSchema(), false, false, platformUrn, input.getRawSchemaString()));
+    }
+  }
+
+  @Benchmark
+  public void batch(Blackhole blackhole) {
+    batchConverter.toDataHubSchemas(corpus).forEach(blackhole::consume);
+  }
+
+  private static Schema eventSchema(int index) {
+    Schema geo =
+        SchemaBuilder.record("Geo")
+            .namespace(NAMESPACE)
+            .fields()
+            .requiredDouble("lat")
+            .requiredDouble("lon")
+            .endRecord();
+    Schema address =
+        SchemaBuilder.record("Address")
+            .namespace(NAMESPACE)
+            .doc("Postal address")
+            .fields()
+            .requiredString("street")
+            .requiredString("city")
+            .requiredString("postalCode")
+            .requiredString("country")
+            .name("geo")
+            .type(optional(geo))
+            .noDefault()
+            .endRecord();
+    Schema contact =
+        SchemaBuilder.record("Contact")
+            .namespace(NAMESPACE)
+            .fields()
+            .name("kind")
+            .type()
+            .enumeration("ContactKind")
+            .symbols("EMAIL", "PHONE", "OTHER")
+            .noDefault()
+            .requiredString("value")
+            .optionalBoolean("verified")
+            .endRecord();
+    Schema party =
+        SchemaBuilder.record("Party")
+            .namespace(NAMESPACE)
+            .fields()
+            .requiredString("id")
+            .requiredString("displayName")
+            .name("address")
+            .type(address)
+            .noDefault()
+            .name("billingAddress")
+            .type(optional(address))
+            .noDefault()
+            .name("contacts")
+            .type(Schema.createArray(contact))
+            .noDefault()
+            .name("attributes")
+            .type()
+            .map()
+            .values()
+            .stringType()
+            .noDefault()
+            .endRecord();
+    Schema amount = LogicalTypes.decimal(18, 4).addToSchema(Schema.create(Schema.Type.BYTES));
+    Schema money =
+        SchemaBuilder.record("Money")
+            .namespace(NAMESPACE)
+            .fields()
+            .name("amount")
+            .type(amount)
+            .noDefault()
+            .requiredString("currency")
+            .endRecord();
+    Schema header =
+        SchemaBuilder.record("Header")
+            .namespace(NAMESPACE)
+            .fields()
+            .requiredString("eventId")
+            .name("timestamp")
+            .type(LogicalTypes.timestampMillis().addToSchema(Schema.create(Schema.Type.LONG)))
+            .noDefault()
+            .requiredString("producer")
+            .name("actor")
+            .type(optional(party))
+            .noDefault()
+            .name("tags")
+            .type()
+            .map()
+            .values()
+            .stringType()
+            .noDefault()
+            .endRecord();
+    Schema lineItem =
+        SchemaBuilder.record("LineItem")
+            .namespace(NAMESPACE)
+            .fields()
+            .requiredString("sku")
+            .requiredInt("quantity")
+            .name("price")
+            .type(money)
+            .noDefault()
+            .name("discount")
+            .type(optional(money))
+            .noDefault()
+            .name("shipTo")
+            .type(address)
+            .noDefault()
+            .endRecord();
+
+    SchemaBuilder.FieldAssembler<Schema> fields =
+        SchemaBuilder.record("Event" + index)
+            .namespace(NAMESPACE)
+            .fields()
+            .name("header")
+            .type(header)
+            .noDefault()
+            .name("buyer")
+            .type(party)
+            .noDefault()
+            .name("seller")
+            .type(optional(party))
+            .noDefault()
+            .name("lineItems")
+            .type(Schema.createArray(lineItem))
+            .noDefault()
+            .name("total")
+            .type(money)
+            .noDefault()
+            .name("participants")
+            .type(Schema.createMap(party))
+            .noDefault();
+    for (int i = 0; i < index % 20; i++) {
+      fields = fields.optionalString("extension" + i);
+    }
+    return fields.endRecord();
+  }
+
+  private static Schema optional(Schema schema) {
+    return Schema.createUnion(Schema.create(Schema.Type.NULL), schema);
+  }
+}
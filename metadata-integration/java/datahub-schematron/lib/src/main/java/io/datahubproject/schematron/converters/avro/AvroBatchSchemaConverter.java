@@ -0,0 +1,144 @@
+package io.datahubproject.schematron.converters.avro;
+
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+
+/**
+ * Converts many Avro schemas in parallel, e.g. a schema registry dump. Named record types are
+ * converted once per batch through a shared {@link AvroNamedTypeCache} and reused by every schema
+ * referencing them.
+ *
+ * <p>Results are streamed in input order. At most {@code parallelism * 4} schemas are converted
+ * ahead of the consumer, so memory stays bounded regardless of the batch size.
+ */
+@Slf4j
+public class AvroBatchSchemaConverter implements AutoCloseable {
+  private final AvroSchemaConverter converter;
+  private final ExecutorService executor;
+  private final int window;
+
+  @Value
+  public static class SchemaInput {
+    @NonNull Schema schema;
+    boolean keySchema;
+    boolean defaultNullable;
+    @NonNull DataPlatformUrn platformUrn;
+    String rawSchemaString;
+  }
+
+  public AvroBatchSchemaConverter(@NonNull AvroSchemaConverter converter, int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    AtomicInteger threadCount = new AtomicInteger();
+    this.converter = converter;
+    this.window = parallelism * 4;
+    this.executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "avro-schema-converter-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public Stream<SchemaMetadata> toDataHubSchemas(@NonNull List<SchemaInput> inputs) {
+    return toDataHubSchemas(inputs.iterator(), new AvroNamedTypeCache());
+  }
+
+  /**
+   * Lazily converts {@code inputs}, reading ahead of the returned stream as conversion threads
+   * become available. Closing the stream cancels the conversions not consumed yet.
+   */
+  public Stream<SchemaMetadata> toDataHubSchemas(
+      @NonNull Iterator<SchemaInput> inputs, @NonNull AvroNamedTypeCache namedTypes) {
+    OrderedResults results = new OrderedResults(inputs, namedTypes);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                results, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(results::cancel);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private class OrderedResults implements Iterator<SchemaMetadata> {
+    private final Iterator<SchemaInput> inputs;
+    private final AvroNamedTypeCache namedTypes;
+    private final Deque<CompletableFuture<SchemaMetadata>> pending = new ArrayDeque<>();
+
+    private OrderedResults(Iterator<SchemaInput> inputs, AvroNamedTypeCache namedTypes) {
+      this.inputs = inputs;
+      this.namedTypes = namedTypes;
+    }
+
+    @Override
+    public boolean hasNext() {
+      fill();
+      return !pending.isEmpty();
+    }
+
+    @Override
+    public SchemaMetadata next() {
+      fill();
+      CompletableFuture<SchemaMetadata> next = pending.poll();
+      if (next == null) {
+        throw new NoSuchElementException();
+      }
+      try {
+        return next.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw e;
+      }
+    }
+
+    private void fill() {
+      while (pending.size() < window && inputs.hasNext()) {
+        SchemaInput input = inputs.next();
+        pending.add(
+            CompletableFuture.supplyAsync(
+                () ->
+                    converter.toDataHubSchema(
+                        input.getSchema(),
+                        input.isKeySchema(),
+                        input.isDefaultNullable(),
+                        input.getPlatformUrn(),
+                        input.getRawSchemaString(),
+                        namedTypes),
+                executor));
+      }
+    }
+
+    private void cancel() {
+      log.debug("Cancelling {} pending schema conversions", pending.size());
+      pending.forEach(future -> future.cancel(true));
+      pending.clear();
+    }
+  }
+}
@@ -0,0 +1,169 @@
+package io.datahubproject.schematron.converters.avro;
+
+import com.linkedin.schema.SchemaField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.SneakyThrows;
+import lombok.Value;
+import org.apache.avro.Schema;
+
+/**
+ * Memoized conversions of named record types, shared by every schema converted with the same
+ * instance.
+ *
+ * <p>The fields nested under a record only depend on the record definition, the key schema and
+ * default nullability flags, and on which records reachable from it are already being expanded
+ * (cyclic references are cut off). Their field paths always extend the path prefix the record is
+ * found under, so they are stored relative to that prefix and rebased onto every other prefix the
+ * same record appears under.
+ *
+ * <p>Records are told apart by their full definition, since schemas of a batch may hold different
+ * records under the same name. The definition is only serialized once per schema instance.
+ *
+ * <p>Safe for concurrent use. Entries are never evicted, so an instance is meant to live for the
+ * duration of a batch rather than for the lifetime of the converter.
+ */
+public class AvroNamedTypeCache {
+  private final Map<Key, List<RelativeField>> nestedFields = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> reachableRecords = new ConcurrentHashMap<>();
+  private final Map<Schema, String> schemaStrings =
+      Collections.synchronizedMap(new IdentityHashMap<>());
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @Value
+  static class Key {
+    String recordSchema;
+    boolean keySchema;
+    boolean defaultNullable;
+    Set<String> expandedRecords;
+  }
+
+  @Value
+  private static class RelativeField {
+    String pathSuffix;
+    SchemaField field;
+  }
+
+  /** The definition of a schema, serialized on the first call for each instance. */
+  String schemaString(Schema schema) {
+    String schemaString = schemaStrings.get(schema);
+    if (schemaString == null) {
+      // Serialized outside the lock, concurrent callers at worst both serialize it
+      schemaString = schema.toString();
+      schemaStrings.put(schema, schemaString);
+    }
+    return schemaString;
+  }
+
+  Key key(
+      Schema recordSchema,
+      String recordSchemaString,
+      Set<String> visitedRecords,
+      boolean keySchema,
+      boolean defaultNullable) {
+    Set<String> reachable =
+        reachableRecords.computeIfAbsent(recordSchemaString, s -> collectRecords(recordSchema));
+    Set<String> expanded = new TreeSet<>();
+    for (String record : visitedRecords) {
+      if (reachable.contains(record)) {
+        expanded.add(record);
+      }
+    }
+    return new Key(recordSchemaString, keySchema, defaultNullable, expanded);
+  }
+
+  /**
+   * Appends the memoized nested fields of a record rebased onto {@code pathPrefix}.
+   *
+   * @return false when the record was not converted under this key yet
+   */
+  boolean appendTo(Key key, String pathPrefix, List<SchemaField> fields) {
+    List<RelativeField> cached = nestedFields.get(key);
+    if (cached == null) {
+      misses.increment();
+      return false;
+    }
+    hits.increment();
+    for (RelativeField relative : cached) {
+      fields.add(copy(relative.getField()).setFieldPath(pathPrefix + relative.getPathSuffix()));
+    }
+    return true;
+  }
+
+  /** Stores the nested fields of a record converted under {@code pathPrefix}. */
+  void put(Key key, String pathPrefix, List<SchemaField> converted) {
+    List<RelativeField> relative = new ArrayList<>(converted.size());
+    for (SchemaField field : converted) {
+      String path = field.getFieldPath();
+      if (!path.startsWith(pathPrefix)) {
+        // Not expected, but never cache something that cannot be rebased
+        return;
+      }
+      relative.add(new RelativeField(path.substring(pathPrefix.length()), copy(field)));
+    }
+    nestedFields.putIfAbsent(key, Collections.unmodifiableList(relative));
+  }
+
+  public int size() {
+    return nestedFields.size();
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  @SneakyThrows
+  private static SchemaField copy(SchemaField field) {
+    return field.copy();
+  }
+
+  /** Full names of the records nested in a record, excluding the record itself. */
+  private static Set<String> collectRecords(Schema recordSchema) {
+    Set<String> records = new HashSet<>();
+    Set<String> seen = new HashSet<>();
+    seen.add(recordSchema.getFullName());
+    for (Schema.Field field : recordSchema.getFields()) {
+      collectRecords(field.schema(), records, seen);
+    }
+    return Collections.unmodifiableSet(records);
+  }
+
+  private static void collectRecords(Schema schema, Set<String> records, Set<String> seen) {
+    switch (schema.getType()) {
+      case RECORD:
+        records.add(schema.getFullName());
+        if (seen.add(schema.getFullName())) {
+          for (Schema.Field field : schema.getFields()) {
+            collectRecords(field.schema(), records, seen);
+          }
+        }
+        break;
+      case ARRAY:
+        collectRecords(schema.getElementType(), records, seen);
+        break;
+      case MAP:
+        collectRecords(schema.getValueType(), records, seen);
+        break;
+      case UNION:
+        for (Schema type : schema.getTypes()) {
+          collectRecords(type, records, seen);
+        }
+        break;
+      default:
+        break;
+    }
+  }
+}
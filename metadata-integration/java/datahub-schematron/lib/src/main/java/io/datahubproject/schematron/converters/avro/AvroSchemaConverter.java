@@ -9,6 +9,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.function.Supplier;
 import lombok.Builder;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.JsonProperties;
@@ -99,6 +100,26 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       boolean defaultNullable,
       DataPlatformUrn platformUrn,
       String rawSchemaString) {
+    return toDataHubSchema(
+        schema,
+        isKeySchema,
+        defaultNullable,
+        platformUrn,
+        rawSchemaString,
+        new AvroNamedTypeCache());
+  }
+
+  /**
+   * Converts a schema reusing the named record types already converted into {@code namedTypes},
+   * typically by other schemas of the same batch.
+   */
+  public SchemaMetadata toDataHubSchema(
+      Schema schema,
+      boolean isKeySchema,
+      boolean defaultNullable,
+      DataPlatformUrn platformUrn,
+      String rawSchemaString,
+      AvroNamedTypeCache namedTypes) {
 
     try {
       byte[] fingerprintBytes = null;
@@ -131,15 +152,15 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       FieldPath basePath = new FieldPath();
       basePath.setKeySchema(isKeySchema);
 
-      Set<String> visitedRecords = new HashSet<>();
+      ConversionContext context = new ConversionContext(namedTypes);
 
       // Add the record type to the base path
       if (schema.getType() == Schema.Type.RECORD) {
         basePath = basePath.expandType(schema.getName(), schema.toString());
-        visitedRecords.add(schema.getFullName());
+        context.visitedRecords.add(schema.getFullName());
       }
 
-      processSchema(schema, basePath, defaultNullable, fields, visitedRecords);
+      processSchema(schema, basePath, defaultNullable, fields, context);
 
       return new SchemaMetadata()
           .setSchemaName(schema.getName())
@@ -162,10 +183,10 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       FieldPath fieldPath,
       boolean defaultNullable,
       List<SchemaField> fields,
-      Set<String> visitedRecords) {
+      ConversionContext context) {
     if (schema.getType() == Schema.Type.RECORD) {
       for (Schema.Field field : schema.getFields()) {
-        processField(field, fieldPath, defaultNullable, fields, visitedRecords);
+        processField(field, fieldPath, defaultNullable, fields, context);
       }
     }
   }
@@ -175,8 +196,8 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       FieldPath fieldPath,
       boolean defaultNullable,
       List<SchemaField> fields,
-      Set<String> visitedRecords) {
-    processField(field, fieldPath, defaultNullable, fields, false, null, visitedRecords);
+      ConversionContext context) {
+    processField(field, fieldPath, defaultNullable, fields, false, null, context);
   }
 
   private void processField(
@@ -185,8 +206,8 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       boolean defaultNullable,
       List<SchemaField> fields,
       boolean nullableOverride,
-      Set<String> visitedRecords) {
-    processField(field, fieldPath, defaultNullable, fields, nullableOverride, null, visitedRecords);
+      ConversionContext context) {
+    processField(field, fieldPath, defaultNullable, fields, nullableOverride, null, context);
   }
 
   private void processField(
@@ -196,7 +217,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       List<SchemaField> fields,
       boolean nullableOverride,
       DataHubType typeOverride,
-      Set<String> visitedRecords) {
+      ConversionContext context) {
     log.debug(
         "Processing field: {}, Field path : {}, Field schema: {}",
         field.name(),
@@ -235,15 +256,15 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
             fields,
             isNullable,
             typeOverride,
-            visitedRecords);
+            context);
         break;
       case ARRAY:
         processArrayField(
-            field, newPath, discriminatedType, defaultNullable, fields, isNullable, visitedRecords);
+            field, newPath, discriminatedType, defaultNullable, fields, isNullable, context);
         break;
       case MAP:
         processMapField(
-            field, newPath, discriminatedType, defaultNullable, fields, isNullable, visitedRecords);
+            field, newPath, discriminatedType, defaultNullable, fields, isNullable, context);
         break;
       case UNION:
         processUnionField(
@@ -254,7 +275,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
             fields,
             isNullable,
             typeOverride,
-            visitedRecords);
+            context);
         break;
       case ENUM:
         processEnumField(field, newPath, discriminatedType, defaultNullable, fields, isNullable);
@@ -274,11 +295,13 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       List<SchemaField> fields,
       boolean isNullable,
       DataHubType typeOverride,
-      Set<String> visitedRecords) {
+      ConversionContext context) {
 
     log.debug("Record Field Path before expand: {}", fieldPath.asString());
-    FieldPath recordPath = fieldPath.expandType(discriminatedType, field.schema().toString());
-    log.debug("Record Field Path after expand: {}", recordPath.asString());
+    String recordSchema = context.namedTypes.schemaString(field.schema());
+    FieldPath recordPath = fieldPath.expandType(discriminatedType, recordSchema);
+    String recordPathString = recordPath.asString();
+    log.debug("Record Field Path after expand: {}", recordPathString);
 
     SchemaFieldDataType dataType =
         typeOverride != null
@@ -287,7 +310,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
 
     SchemaField recordField =
         new SchemaField()
-            .setFieldPath(recordPath.asString())
+            .setFieldPath(recordPathString)
             .setType(dataType)
             .setNativeDataType(discriminatedType)
             .setNullable(isNullable || defaultNullable)
@@ -295,23 +318,45 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
     populateCommonProperties(field, recordField);
     fields.add(recordField);
 
-    if (isCyclicReference(field, visitedRecords)) {
+    if (isCyclicReference(field, context.visitedRecords)) {
+      return;
+    }
+
+    // Nested fields of a named type already converted elsewhere only need their paths rebased
+    AvroNamedTypeCache.Key key =
+        context.namedTypes.key(
+            field.schema(),
+            recordSchema,
+            context.visitedRecords,
+            fieldPath.isKeySchema(),
+            defaultNullable);
+    String pathPrefix = recordPathString + ".";
+    if (context.namedTypes.appendTo(key, pathPrefix, fields)) {
       return;
     }
-    visitedRecords.add(field.schema().getFullName());
+    int firstNestedField = fields.size();
+    context.visitedRecords.add(field.schema().getFullName());
 
     // Process nested fields
     for (Schema.Field nestedField : field.schema().getFields()) {
-      processField(nestedField, recordPath, defaultNullable, fields, visitedRecords);
+      processField(nestedField, recordPath, defaultNullable, fields, context);
     }
 
-    visitedRecords.remove(field.schema().getFullName());
+    context.visitedRecords.remove(field.schema().getFullName());
+    context.namedTypes.put(key, pathPrefix, fields.subList(firstNestedField, fields.size()));
   }
 
   private boolean isCyclicReference(Schema.Field field, Set<String> visitedRecords) {
     return visitedRecords.contains(field.schema().getFullName());
   }
 
+  /** State of a single schema conversion, the named type cache may be shared across schemas. */
+  @RequiredArgsConstructor
+  private static class ConversionContext {
+    private final Set<String> visitedRecords = new HashSet<>();
+    private final AvroNamedTypeCache namedTypes;
+  }
+
   @SneakyThrows
   private static void populateCommonProperties(Schema.Field field, SchemaField datahubField) {
     // Create a new mutable HashMap to store combined properties
@@ -366,7 +411,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       boolean defaultNullable,
       List<SchemaField> fields,
       boolean isNullable,
-      Set<String> visitedRecords) {
+      ConversionContext context) {
 
     Schema arraySchema = field.schema();
     Schema elementSchema = arraySchema.getElementType();
@@ -397,13 +442,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
         field.getObjectProps().forEach(elementField::addProp);
       }
       processField(
-          elementField,
-          fieldPath,
-          defaultNullable,
-          fields,
-          isNullable,
-          arrayDataHubType,
-          visitedRecords);
+          elementField, fieldPath, defaultNullable, fields, isNullable, arrayDataHubType, context);
     } else {
 
       SchemaField arrayField =
@@ -427,7 +466,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       boolean defaultNullable,
       List<SchemaField> fields,
       boolean isNullable,
-      Set<String> visitedRecords) {
+      ConversionContext context) {
 
     Schema mapSchema = field.schema();
     Schema valueSchema = mapSchema.getValueType();
@@ -458,13 +497,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
                   new FieldElement(
                       Collections.singletonList("map"), new ArrayList<>(), null, null));
       processField(
-          valueField,
-          valueFieldPath,
-          defaultNullable,
-          fields,
-          isNullable,
-          mapDataHubType,
-          visitedRecords);
+          valueField, valueFieldPath, defaultNullable, fields, isNullable, mapDataHubType, context);
     } else {
       SchemaField mapField =
           new SchemaField()
@@ -487,7 +520,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
       List<SchemaField> fields,
       boolean isNullable,
       DataHubType typeOverride,
-      Set<String> visitedRecords) {
+      ConversionContext context) {
 
     List<Schema> unionTypes = field.schema().getTypes();
 
@@ -506,8 +539,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
         Map<String, Object> props = field.getObjectProps();
         props.forEach(nonNullField::addProp);
       }
-      processField(
-          nonNullField, fieldPath.popLast(), defaultNullable, fields, true, visitedRecords);
+      processField(nonNullField, fieldPath.popLast(), defaultNullable, fields, true, context);
       return;
     }
 
@@ -564,7 +596,7 @@ public class AvroSchemaConverter implements SchemaConverter<Schema> {
             typeIndex,
             unionFieldPath.asString(),
             unionFieldInner.doc());
-        processField(unionFieldInner, indexedFieldPath, defaultNullable, fields, visitedRecords);
+        processField(unionFieldInner, indexedFieldPath, defaultNullable, fields, context);
       }
       typeIndex++;
     }
@@ -0,0 +1,127 @@
+package io.datahubproject.schematron.converters.avro;
+
+import static org.testng.Assert.*;
+
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaMetadata;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.avro.Schema;
+import org.testng.annotations.*;
+
+@Test(groups = "unit")
+class AvroBatchSchemaConverterTest {
+
+  private static final String SHARED_TYPES_SCHEMA =
+      "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":["
+          + "{\"name\":\"billing\",\"type\":{\"type\":\"record\",\"name\":\"Address\",\"fields\":["
+          + "{\"name\":\"street\",\"type\":\"string\",\"doc\":\"Street name\"},"
+          + "{\"name\":\"geo\",\"type\":[\"null\",{\"type\":\"record\",\"name\":\"Geo\","
+          + "\"fields\":[{\"name\":\"lat\",\"type\":\"double\"},"
+          + "{\"name\":\"lon\",\"type\":\"double\"}]}]}"
+          + "]}},"
+          + "{\"name\":\"shipping\",\"type\":[\"null\",\"Address\"]},"
+          + "{\"name\":\"previous\",\"type\":{\"type\":\"array\",\"items\":\"Address\"}}"
+          + "]}";
+
+  private final AvroSchemaConverter avroSchemaConverter = AvroSchemaConverter.builder().build();
+  private final DataPlatformUrn dataPlatformUrn =
+      DataPlatformUrn.createFromString("urn:li:dataPlatform:foo");
+
+  AvroBatchSchemaConverterTest() throws URISyntaxException {}
+
+  @Test
+  void testSharedNamedTypesAreRebased() {
+    Schema schema = new Schema.Parser().parse(SHARED_TYPES_SCHEMA);
+    AvroNamedTypeCache namedTypes = new AvroNamedTypeCache();
+
+    SchemaMetadata metadata =
+        avroSchemaConverter.toDataHubSchema(
+            schema, false, false, dataPlatformUrn, null, namedTypes);
+    Map<String, SchemaField> fields =
+        metadata.getFields().stream()
+            .collect(Collectors.toMap(SchemaField::getFieldPath, Function.identity()));
+
+    // Address is converted once for billing, then reused for shipping and previous
+    assertEquals(namedTypes.getHitCount(), 2);
+    // Its definition is serialized once, not at every occurrence
+    Schema address = schema.getField("billing").schema();
+    assertSame(namedTypes.schemaString(address), namedTypes.schemaString(address));
+    for (String prefix :
+        List.of(
+            "[version=2.0].[type=Order].[type=Address].billing",
+            "[version=2.0].[type=Order].[type=Address].shipping",
+            "[version=2.0].[type=Order].[type=array].[type=Address].previous")) {
+      SchemaField street = fields.get(prefix + ".[type=string].street");
+      assertNotNull(street, prefix);
+      assertEquals(street.getDescription(), "Street name");
+      assertNotNull(fields.get(prefix + ".[type=Geo].geo.[type=double].lat"), prefix);
+    }
+    assertEquals(metadata.getFields().size(), fields.size());
+  }
+
+  @Test
+  void testBatchMatchesSingleConversions() throws IOException {
+    List<Schema> schemas = new ArrayList<>();
+    for (String file :
+        List.of(
+            "primitive_types.avsc",
+            "complex_structs.avsc",
+            "complex_unions.avsc",
+            "complex_arrays.avsc",
+            "complex_maps.avsc",
+            "cyclic_references.avsc",
+            "logical_types.avsc",
+            "users_record.avsc")) {
+      // Parsed twice, so named types are shared across distinct schema instances
+      schemas.add(readAvroSchema(file));
+      schemas.add(readAvroSchema(file));
+    }
+
+    List<SchemaMetadata> expected =
+        schemas.stream()
+            .map(
+                schema ->
+                    avroSchemaConverter.toDataHubSchema(
+                        schema, false, false, dataPlatformUrn, null))
+            .collect(Collectors.toList());
+
+    AvroNamedTypeCache namedTypes = new AvroNamedTypeCache();
+    List<SchemaMetadata> actual;
+    try (AvroBatchSchemaConverter batchConverter =
+            new AvroBatchSchemaConverter(avroSchemaConverter, 3);
+        Stream<SchemaMetadata> results =
+            batchConverter.toDataHubSchemas(
+                schemas.stream()
+                    .map(
+                        schema ->
+                            new AvroBatchSchemaConverter.SchemaInput(
+                                schema, false, false, dataPlatformUrn, null))
+                    .iterator(),
+                namedTypes)) {
+      actual = results.collect(Collectors.toList());
+    }
+
+    assertEquals(actual, expected);
+    assertTrue(namedTypes.getHitCount() > 0);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  void testInvalidParallelism() {
+    new AvroBatchSchemaConverter(avroSchemaConverter, 0);
+  }
+
+  private Schema readAvroSchema(String schemaFileName) throws IOException {
+    String schemaPath = getClass().getClassLoader().getResource(schemaFileName).getPath();
+    File schemaFile = new File(schemaPath);
+    return new Schema.Parser().parse(schemaFile);
+  }
+}
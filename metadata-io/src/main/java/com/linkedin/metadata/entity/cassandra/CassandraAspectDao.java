@@ -8,6 +8,9 @@ import com.datahub.util.exception.ModelConversionException;
 import com.datahub.util.exception.RetryLimitReached;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -41,13 +44,20 @@ import com.linkedin.metadata.query.ListResultMetadata;
 import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -58,12 +68,70 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+
+  // Rows fetched per round trip by full scans that are counted rather than returned
+  private static final int SCAN_PAGE_SIZE = 5000;
+
+  private static final SimpleStatement SELECT_ASPECT =
+      selectFrom(CassandraAspect.TABLE_NAME)
+          .all()
+          .whereColumn(CassandraAspect.URN_COLUMN)
+          .isEqualTo(bindMarker())
+          .whereColumn(CassandraAspect.ASPECT_COLUMN)
+          .isEqualTo(bindMarker())
+          .whereColumn(CassandraAspect.VERSION_COLUMN)
+          .isEqualTo(bindMarker())
+          .limit(1)
+          .build();
+
+  private static final SimpleStatement SELECT_ASPECTS =
+      selectFrom(CassandraAspect.TABLE_NAME)
+          .all()
+          .whereColumn(CassandraAspect.URN_COLUMN)
+          .isEqualTo(bindMarker())
+          .whereColumn(CassandraAspect.ASPECT_COLUMN)
+          .in(bindMarker())
+          .whereColumn(CassandraAspect.VERSION_COLUMN)
+          .isEqualTo(bindMarker())
+          .build();
+
+  private static final SimpleStatement SELECT_VERSION_RANGES =
+      selectFrom(CassandraAspect.TABLE_NAME)
+          .selectors(
+              Selector.column(CassandraAspect.URN_COLUMN),
+              Selector.column(CassandraAspect.ASPECT_COLUMN),
+              Selector.function("min", Selector.column(CassandraAspect.VERSION_COLUMN))
+                  .as("min_version"),
+              Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN))
+                  .as("max_version"))
+          .whereColumn(CassandraAspect.URN_COLUMN)
+          .isEqualTo(bindMarker())
+          .whereColumn(CassandraAspect.ASPECT_COLUMN)
+          .in(bindMarker())
+          .groupBy(
+              ImmutableList.of(
+                  Selector.column(CassandraAspect.URN_COLUMN),
+                  Selector.column(CassandraAspect.ASPECT_COLUMN)))
+          .build();
+
   private final CqlSession _cqlSession;
+  private final Map<String, PreparedStatement> _preparedStatements = new ConcurrentHashMap<>();
+  private final Semaphore _inFlightRequests;
   private boolean canWrite = true;
   @Setter private boolean connectionValidated = false;
 
   public CassandraAspectDao(@Nonnull final CqlSession cqlSession) {
+    this(cqlSession, DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+
+  /**
+   * @param maxConcurrentRequests bound on the asynchronous reads in flight across all callers,
+   *     callers block once it is reached
+   */
+  public CassandraAspectDao(@Nonnull final CqlSession cqlSession, int maxConcurrentRequests) {
     _cqlSession = cqlSession;
+    _inFlightRequests = new Semaphore(Math.max(1, maxConcurrentRequests));
   }
 
   private boolean validateConnection() {
@@ -98,21 +166,28 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public Map<String, Map<String, SystemAspect>> getLatestAspects(
       @Nonnull OperationContext opContext, Map<String, Set<String>> urnAspects, boolean forUpdate) {
-    return urnAspects.entrySet().stream()
-        .map(
-            entry ->
-                Map.entry(
-                    entry.getKey(),
-                    entry.getValue().stream()
-                        .map(
-                            aspectName -> {
-                              SystemAspect aspect =
-                                  getLatestAspect(opContext, entry.getKey(), aspectName, forUpdate);
-                              return aspect != null ? Map.entry(aspectName, aspect) : null;
-                            })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    validateConnection();
+    final Map<String, Map<String, SystemAspect>> result = new HashMap<>();
+    final List<BoundStatement> statements = new ArrayList<>(urnAspects.size());
+    for (Map.Entry<String, Set<String>> entry : urnAspects.entrySet()) {
+      result.put(entry.getKey(), new HashMap<>());
+      if (!entry.getValue().isEmpty()) {
+        statements.add(
+            prepare(SELECT_ASPECTS)
+                .bind(entry.getKey(), List.copyOf(entry.getValue()), ASPECT_LATEST_VERSION));
+      }
+    }
+
+    for (Row row : executeAll(statements)) {
+      EntityAspect aspect = rowToEntityAspect(row);
+      result
+          .get(aspect.getUrn())
+          .put(
+              aspect.getAspect(),
+              EntityAspect.EntitySystemAspect.builder()
+                  .forUpdate(aspect, opContext.getEntityRegistry()));
+    }
+    return result;
   }
 
   @Override
@@ -138,13 +213,9 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
             .column(CassandraAspect.URN_COLUMN)
             .build();
 
-    ResultSet rs = _cqlSession.execute(ss);
-    // TODO: make sure it doesn't blow up on a large database
-    //  Getting a count of distinct values in a Cassandra query doesn't seem to be feasible, but
-    // counting them in the app is dangerous
-    //  The saving grace here is that the only place where this method is used should only run once,
-    // what the database is still young
-    return rs.all().size();
+    // Getting a count of distinct values in a Cassandra query doesn't seem to be feasible, so they
+    // are counted in the app one page at a time
+    return count(_cqlSession.execute(ss.setPageSize(SCAN_PAGE_SIZE)), row -> true);
   }
 
   @Override
@@ -165,41 +236,40 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
 
   private Map<String, Pair<Long, Long>> getVersionRanges(
       @Nonnull final String urn, @Nonnull final Set<String> aspectNames) {
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .selectors(
-                Selector.column(CassandraAspect.URN_COLUMN),
-                Selector.column(CassandraAspect.ASPECT_COLUMN),
-                Selector.function("min", Selector.column(CassandraAspect.VERSION_COLUMN))
-                    .as("min_version"),
-                Selector.function("max", Selector.column(CassandraAspect.VERSION_COLUMN))
-                    .as("max_version"))
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .in(aspectNamesToLiterals(aspectNames))
-            .groupBy(
-                ImmutableList.of(
-                    Selector.column(CassandraAspect.URN_COLUMN),
-                    Selector.column(CassandraAspect.ASPECT_COLUMN)))
-            .build();
+    return getVersionRanges(Map.of(urn, aspectNames)).get(urn);
+  }
+
+  /** Queries the version ranges of all urns concurrently, one query per urn. */
+  private Map<String, Map<String, Pair<Long, Long>>> getVersionRanges(
+      @Nonnull final Map<String, Set<String>> urnAspects) {
+    final List<BoundStatement> statements =
+        urnAspects.entrySet().stream()
+            .filter(entry -> !entry.getValue().isEmpty())
+            .map(
+                entry ->
+                    prepare(SELECT_VERSION_RANGES)
+                        .bind(entry.getKey(), List.copyOf(entry.getValue())))
+            .collect(Collectors.toList());
 
-    ResultSet rs = _cqlSession.execute(ss);
-    Map<String, Pair<Long, Long>> aspectVersionRanges =
-        rs.all().stream()
-            .collect(
-                Collectors.toMap(
-                    row -> row.getString(CassandraAspect.ASPECT_COLUMN),
-                    row -> Pair.of(row.getLong("min_version"), row.getLong("max_version"))));
+    final Map<String, Map<String, Pair<Long, Long>>> urnVersionRanges = new HashMap<>();
+    for (Row row : executeAll(statements)) {
+      urnVersionRanges
+          .computeIfAbsent(row.getString(CassandraAspect.URN_COLUMN), urn -> new HashMap<>())
+          .put(
+              row.getString(CassandraAspect.ASPECT_COLUMN),
+              Pair.of(row.getLong("min_version"), row.getLong("max_version")));
+    }
 
     // For each requested aspect that didn't come back from DB, add a version range of (-1, -1)
-    for (String aspect : aspectNames) {
-      if (!aspectVersionRanges.containsKey(aspect)) {
-        aspectVersionRanges.put(aspect, Pair.of(-1L, -1L));
+    for (Map.Entry<String, Set<String>> entry : urnAspects.entrySet()) {
+      Map<String, Pair<Long, Long>> aspectVersionRanges =
+          urnVersionRanges.computeIfAbsent(entry.getKey(), urn -> new HashMap<>());
+      for (String aspect : entry.getValue()) {
+        aspectVersionRanges.putIfAbsent(aspect, Pair.of(-1L, -1L));
       }
     }
 
-    return aspectVersionRanges;
+    return urnVersionRanges;
   }
 
   @Nonnull
@@ -232,17 +302,37 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return rs.wasApplied() ? Optional.of(insertAspect) : Optional.empty();
   }
 
-  // TODO: can further improve by running the sub queries in parallel
-  // TODO: look into supporting pagination
+  /**
+   * Keys are grouped by urn, the partition key, and version, so each group is read from a single
+   * partition by one query. The groups are queried concurrently.
+   */
   @Override
   @Nonnull
   public Map<EntityAspectIdentifier, EntityAspect> batchGet(
       @Nonnull final Set<EntityAspectIdentifier> keys, boolean forUpdate) {
     validateConnection();
-    return keys.stream()
-        .map(this::getAspect)
-        .filter(Objects::nonNull)
-        .collect(Collectors.toMap(EntityAspectIdentifier::fromEntityAspect, aspect -> aspect));
+    final Map<Pair<String, Long>, List<String>> partitions =
+        keys.stream()
+            .collect(
+                Collectors.groupingBy(
+                    key -> Pair.of(key.getUrn(), key.getVersion()),
+                    Collectors.mapping(EntityAspectIdentifier::getAspect, Collectors.toList())));
+    final List<BoundStatement> statements =
+        partitions.entrySet().stream()
+            .map(
+                entry ->
+                    prepare(SELECT_ASPECTS)
+                        .bind(
+                            entry.getKey().getFirst(),
+                            entry.getValue(),
+                            entry.getKey().getSecond()))
+            .collect(Collectors.toList());
+
+    return executeAll(statements).stream()
+        .map(CassandraAspect::rowToEntityAspect)
+        .collect(
+            Collectors.toMap(
+                EntityAspectIdentifier::fromEntityAspect, aspect -> aspect, (a, b) -> a));
   }
 
   @Override
@@ -283,8 +373,10 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
             .whereColumn(CassandraAspect.ENTITY_COLUMN)
             .isEqualTo(literal(entityName))
             .allowFiltering()
-            .build();
+            .build()
+            .setPageSize(pageSize);
 
+    // With a fetch size equal to the page size, rows after the requested page are never fetched
     ResultSet rs = _cqlSession.execute(ss);
 
     int pageNumber = start / pageSize + 1;
@@ -495,19 +587,7 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   @Nullable
   public EntityAspect getAspect(@Nonnull String urn, @Nonnull String aspectName, long version) {
     validateConnection();
-    SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME)
-            .all()
-            .whereColumn(CassandraAspect.URN_COLUMN)
-            .isEqualTo(literal(urn))
-            .whereColumn(CassandraAspect.ASPECT_COLUMN)
-            .isEqualTo(literal(aspectName))
-            .whereColumn(CassandraAspect.VERSION_COLUMN)
-            .isEqualTo(literal(version))
-            .limit(1)
-            .build();
-
-    ResultSet rs = _cqlSession.execute(ss);
+    ResultSet rs = _cqlSession.execute(prepare(SELECT_ASPECT).bind(urn, aspectName, version));
     Row row = rs.one();
     return row == null ? null : rowToEntityAspect(row);
   }
@@ -534,7 +614,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
             .whereColumn(CassandraAspect.ENTITY_COLUMN)
             .isEqualTo(literal(entityName))
             .allowFiltering()
-            .build();
+            .build()
+            .setPageSize(pageSize);
 
     ResultSet rs = _cqlSession.execute(ss);
 
@@ -557,6 +638,8 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
             .isEqualTo(literal(aspectName))
             .whereColumn(CassandraAspect.VERSION_COLUMN)
             .isEqualTo(literal(ASPECT_LATEST_VERSION))
+            .whereColumn(CassandraAspect.ENTITY_COLUMN)
+            .isEqualTo(literal(entityName))
             .allowFiltering()
             .build();
 
@@ -565,18 +648,43 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
     return toListResult(urns, null, start, pageNumber, pageSize, totalCount);
   }
 
+  /**
+   * Counts the latest versions of the aspect. Cassandra has no LIKE on the urn column, so urns are
+   * matched in the app while the rows are fetched one page at a time.
+   */
   @Nonnull
   @Override
   public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
-    // Not implemented
-    return -1;
+    validateConnection();
+    SimpleStatement ss =
+        selectFrom(CassandraAspect.TABLE_NAME)
+            .column(CassandraAspect.URN_COLUMN)
+            .whereColumn(CassandraAspect.ASPECT_COLUMN)
+            .isEqualTo(literal(aspectName))
+            .whereColumn(CassandraAspect.VERSION_COLUMN)
+            .isEqualTo(literal(ASPECT_LATEST_VERSION))
+            .allowFiltering()
+            .build()
+            .setPageSize(SCAN_PAGE_SIZE);
+
+    final Predicate<String> urnMatches =
+        urnLike == null ? urn -> true : likeToPattern(urnLike).asMatchPredicate();
+    return count(
+        _cqlSession.execute(ss), row -> urnMatches.test(row.getString(CassandraAspect.URN_COLUMN)));
   }
 
   @Nonnull
   @Override
   public Integer countAspect(final RestoreIndicesArgs args) {
-    // Not implemented
-    return -1;
+    if (args.aspectName == null
+        || (args.aspectNames != null && !args.aspectNames.isEmpty())
+        || args.urn != null
+        || args.gePitEpochMs > 0
+        || args.lePitEpochMs > 0) {
+      // Only the aspect name and urn pattern filters are implemented
+      return -1;
+    }
+    return countAspect(args.aspectName, args.urnLike);
   }
 
   @Nonnull
@@ -619,7 +727,10 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   public Iterable<String> listAllUrns(int start, int pageSize) {
     validateConnection();
     SimpleStatement ss =
-        selectFrom(CassandraAspect.TABLE_NAME).column(CassandraAspect.URN_COLUMN).build();
+        selectFrom(CassandraAspect.TABLE_NAME)
+            .column(CassandraAspect.URN_COLUMN)
+            .build()
+            .setPageSize(pageSize);
 
     ResultSet rs = _cqlSession.execute(ss);
 
@@ -636,10 +747,10 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   public Map<String, Map<String, Long>> getNextVersions(Map<String, Set<String>> urnAspectMap) {
     validateConnection();
     Map<String, Map<String, Long>> result = new HashMap<>();
+    Map<String, Map<String, Pair<Long, Long>>> versionRanges = getVersionRanges(urnAspectMap);
 
     for (Map.Entry<String, Set<String>> aspectNames : urnAspectMap.entrySet()) {
-      Map<String, Pair<Long, Long>> maxVersions =
-          getVersionRanges(aspectNames.getKey(), aspectNames.getValue());
+      Map<String, Pair<Long, Long>> maxVersions = versionRanges.get(aspectNames.getKey());
       Map<String, Long> nextVersions = new HashMap<>();
 
       for (String aspectName : aspectNames.getValue()) {
@@ -732,4 +843,85 @@ public class CassandraAspectDao implements AspectDao, AspectMigrationsDao {
   private Iterable<Term> aspectNamesToLiterals(Set<String> aspectNames) {
     return aspectNames.stream().map(QueryBuilder::literal).collect(Collectors.toSet());
   }
+
+  private PreparedStatement prepare(@Nonnull SimpleStatement statement) {
+    return _preparedStatements.computeIfAbsent(
+        statement.getQuery(), query -> _cqlSession.prepare(statement));
+  }
+
+  /**
+   * Executes the statements asynchronously and returns the rows of all of them. Prepared statements
+   * carry their routing key, so the driver sends each one to a replica of its partition.
+   */
+  private List<Row> executeAll(@Nonnull List<BoundStatement> statements) {
+    final List<CompletableFuture<List<Row>>> futures = new ArrayList<>(statements.size());
+    for (BoundStatement statement : statements) {
+      _inFlightRequests.acquireUninterruptibly();
+      final CompletionStage<AsyncResultSet> submitted;
+      try {
+        submitted = _cqlSession.executeAsync(statement);
+      } catch (RuntimeException e) {
+        // Only a submitted request releases its permit once it completes
+        _inFlightRequests.release();
+        throw e;
+      }
+      futures.add(
+          submitted
+              .thenCompose(rs -> fetchAll(rs, new ArrayList<>()))
+              .toCompletableFuture()
+              .whenComplete((rows, e) -> _inFlightRequests.release()));
+    }
+
+    final List<Row> rows = new ArrayList<>();
+    try {
+      for (CompletableFuture<List<Row>> future : futures) {
+        rows.addAll(future.join());
+      }
+    } catch (CompletionException e) {
+      // Surface driver exceptions as thrown by synchronous execution
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return rows;
+  }
+
+  private static CompletionStage<List<Row>> fetchAll(AsyncResultSet rs, List<Row> rows) {
+    rs.currentPage().forEach(rows::add);
+    return rs.hasMorePages()
+        ? rs.fetchNextPage().thenCompose(next -> fetchAll(next, rows))
+        : CompletableFuture.completedFuture(rows);
+  }
+
+  private static int count(@Nonnull ResultSet rs, @Nonnull Predicate<Row> filter) {
+    int count = 0;
+    for (Row row : rs) {
+      if (filter.test(row)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /** Converts a SQL LIKE pattern, with {@code %} and {@code _} wildcards, to a regex. */
+  private static Pattern likeToPattern(@Nonnull String like) {
+    final StringBuilder regex = new StringBuilder();
+    final StringBuilder literal = new StringBuilder();
+    for (char c : like.toCharArray()) {
+      if (c == '%' || c == '_') {
+        if (literal.length() > 0) {
+          regex.append(Pattern.quote(literal.toString()));
+          literal.setLength(0);
+        }
+        regex.append(c == '%' ? ".*" : ".");
+      } else {
+        literal.append(c);
+      }
+    }
+    if (literal.length() > 0) {
+      regex.append(Pattern.quote(literal.toString()));
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
 }
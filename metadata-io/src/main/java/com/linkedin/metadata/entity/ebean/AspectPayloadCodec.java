@@ -0,0 +1,127 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.github.luben.zstd.Zstd;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Compresses the serialized aspect and system metadata stored in the text columns of {@link
+ * EbeanAspectV2}.
+ *
+ * <p>A compressed payload is a marker naming the codec, the uncompressed length in bytes and the
+ * base64 encoded compressed bytes, e.g. {@code #zstd:20480:KLUv/...}. Payloads are JSON objects and
+ * never start with the marker, so {@link #decode(String)} returns any other value as is. Rows
+ * written before compression was enabled, or with another codec, therefore stay readable.
+ */
+public class AspectPayloadCodec {
+
+  public enum Compression {
+    NONE,
+    ZSTD,
+    LZ4
+  }
+
+  public static final AspectPayloadCodec NONE = new AspectPayloadCodec(Compression.NONE, 0, 0);
+
+  private static final char MARKER = '#';
+  private static final String ZSTD_PREFIX = MARKER + "zstd:";
+  private static final String LZ4_PREFIX = MARKER + "lz4:";
+
+  private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+  @Getter private final Compression compression;
+  private final int minBytes;
+  private final int level;
+
+  public AspectPayloadCodec(@Nonnull Compression compression, int minBytes, int level) {
+    this.compression = compression;
+    this.minBytes = minBytes;
+    this.level = level;
+  }
+
+  @Nonnull
+  public static AspectPayloadCodec fromConfiguration(@Nullable EbeanConfiguration configuration) {
+    if (configuration == null
+        || configuration.getPayloadCompression() == null
+        || configuration.getPayloadCompression().isBlank()) {
+      return NONE;
+    }
+    return new AspectPayloadCodec(
+        Compression.valueOf(configuration.getPayloadCompression().trim().toUpperCase(Locale.ROOT)),
+        configuration.getPayloadCompressionMinBytes(),
+        configuration.getPayloadCompressionLevel());
+  }
+
+  public boolean isEnabled() {
+    return compression != Compression.NONE;
+  }
+
+  /**
+   * Compresses an uncompressed payload. Payloads below the minimum size, or that do not get
+   * smaller, are returned as is.
+   */
+  @Nullable
+  public String encode(@Nullable String payload) {
+    if (payload == null || !isEnabled()) {
+      return payload;
+    }
+    final byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length < minBytes) {
+      return payload;
+    }
+
+    final String encoded;
+    switch (compression) {
+      case ZSTD:
+        encoded = ZSTD_PREFIX + bytes.length + ':' + base64(Zstd.compress(bytes, level));
+        break;
+      case LZ4:
+        encoded = LZ4_PREFIX + bytes.length + ':' + base64(LZ4.fastCompressor().compress(bytes));
+        break;
+      default:
+        throw new IllegalStateException("Unsupported compression " + compression);
+    }
+    return encoded.length() < bytes.length ? encoded : payload;
+  }
+
+  /** Decompresses a payload written by any codec, returning uncompressed payloads as is. */
+  @Nullable
+  public static String decode(@Nullable String payload) {
+    if (payload == null || payload.isEmpty() || payload.charAt(0) != MARKER) {
+      return payload;
+    }
+    if (payload.startsWith(ZSTD_PREFIX)) {
+      return decompress(payload, ZSTD_PREFIX.length(), Compression.ZSTD);
+    }
+    if (payload.startsWith(LZ4_PREFIX)) {
+      return decompress(payload, LZ4_PREFIX.length(), Compression.LZ4);
+    }
+    throw new IllegalArgumentException(
+        "Unknown aspect payload encoding " + payload.substring(0, payload.indexOf(':') + 1));
+  }
+
+  private static String decompress(String payload, int offset, Compression compression) {
+    final int separator = payload.indexOf(':', offset);
+    if (separator < 0) {
+      throw new IllegalArgumentException("Malformed " + compression + " aspect payload");
+    }
+    final int length = Integer.parseInt(payload, offset, separator, 10);
+    final byte[] compressed = Base64.getDecoder().decode(payload.substring(separator + 1));
+
+    final byte[] bytes =
+        compression == Compression.ZSTD
+            ? Zstd.decompress(compressed, length)
+            : LZ4.safeDecompressor().decompress(compressed, length);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static String base64(byte[] bytes) {
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+}
@@ -55,6 +55,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -71,6 +74,11 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   // We rely on the retry mechanism if the row is modified and will re-read (require the lock)
   public static final TxIsolation TX_ISOLATION = TxIsolation.READ_COMMITED;
 
+  // Aspect writes within a transaction are buffered and sent as JDBC batches of this size. The
+  // Ebean default of 20 costs a round-trip per 20 rows while row locks are held; with a larger
+  // size an ingest batch is normally flushed once, on commit.
+  public static final int DEFAULT_WRITE_BATCH_SIZE = 500;
+
   /** -- GETTER -- Return the server instance used for customized queries. Only used in tests. */
   @Getter private final Database server;
 
@@ -88,17 +96,46 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   private int queryKeysCount = 375; // 0 means no pagination on keys
 
   private final String batchGetMethod;
+  private final int writeBatchSize;
+  private final AspectPayloadCodec payloadCodec;
+  private final int batchGetConcurrency;
+  @Nullable private final ExecutorService batchGetExecutor;
+  private final EbeanReadRouter readRouter;
   @Nullable private final MetricUtils metricUtils;
 
   public EbeanAspectDao(
       @Nonnull final Database server,
       EbeanConfiguration ebeanConfiguration,
       MetricUtils metricUtils) {
+    this(server, null, ebeanConfiguration, metricUtils, null);
+  }
+
+  /**
+   * @param server primary database, used for all writes and consistent reads
+   * @param replicaServer optional read replica, see {@link EbeanReadRouter}
+   * @param batchGetExecutor threads for batch get fan-out, owned by the caller. Without one, key
+   *     pages are queried in sequence whatever {@code batchGetConcurrency} is set to.
+   */
+  public EbeanAspectDao(
+      @Nonnull final Database server,
+      @Nullable final Database replicaServer,
+      EbeanConfiguration ebeanConfiguration,
+      MetricUtils metricUtils,
+      @Nullable final ExecutorService batchGetExecutor) {
     this.server = server;
+    this.readRouter =
+        new EbeanReadRouter(server, replicaServer, ebeanConfiguration.getReplica(), metricUtils);
     this.batchGetMethod =
         ebeanConfiguration.getBatchGetMethod() != null
             ? ebeanConfiguration.getBatchGetMethod()
             : "IN";
+    this.writeBatchSize =
+        ebeanConfiguration.getWriteBatchSize() > 0
+            ? ebeanConfiguration.getWriteBatchSize()
+            : DEFAULT_WRITE_BATCH_SIZE;
+    this.payloadCodec = AspectPayloadCodec.fromConfiguration(ebeanConfiguration);
+    this.batchGetConcurrency = Math.max(1, ebeanConfiguration.getBatchGetConcurrency());
+    this.batchGetExecutor = batchGetExecutor;
     this.metricUtils = metricUtils;
   }
 
@@ -158,6 +195,10 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       @Nonnull final EbeanAspectV2 ebeanAspect,
       final boolean insert) {
     validateConnection();
+    readRouter.recordWrite(ebeanAspect.getKey().getUrn());
+    if (payloadCodec.isEnabled()) {
+      ebeanAspect.encodePayloads(payloadCodec);
+    }
     if (txContext != null && txContext.tx() != null) {
       if (insert) {
         server.insert(ebeanAspect, txContext.tx());
@@ -200,7 +241,10 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     if (forUpdate && canWrite) {
       results = server.find(EbeanAspectV2.class).where().idIn(keys).forUpdate().findList();
     } else {
-      results = server.find(EbeanAspectV2.class).where().idIn(keys).findList();
+      results =
+          readRouter.read(
+              urnAspects.keySet(),
+              database -> database.find(EbeanAspectV2.class).where().idIn(keys).findList());
     }
 
     return toUrnAspectMap(opContext.getEntityRegistry(), results);
@@ -209,11 +253,13 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   public long countEntities() {
     validateConnection();
-    return server
-        .find(EbeanAspectV2.class)
-        .setDistinct(true)
-        .select(EbeanAspectV2.URN_COLUMN)
-        .findCount();
+    return readRouter.scan(
+        database ->
+            database
+                .find(EbeanAspectV2.class)
+                .setDistinct(true)
+                .select(EbeanAspectV2.URN_COLUMN)
+                .findCount());
   }
 
   @Override
@@ -239,7 +285,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     validateConnection();
     EbeanAspectV2.PrimaryKey primaryKey =
         new EbeanAspectV2.PrimaryKey(key.getUrn(), key.getAspect(), key.getVersion());
-    EbeanAspectV2 ebeanAspect = server.find(EbeanAspectV2.class, primaryKey);
+    EbeanAspectV2 ebeanAspect =
+        readRouter.read(
+            Set.of(key.getUrn()), database -> database.find(EbeanAspectV2.class, primaryKey));
     return ebeanAspect == null ? null : ebeanAspect.toEntityAspect();
   }
 
@@ -251,6 +299,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       log.warn(READ_ONLY_LOG);
       return;
     }
+    readRouter.recordWrite(urn.toString());
     server
         .createQuery(EbeanAspectV2.class)
         .where()
@@ -273,6 +322,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     Urn urnObj = UrnUtils.getUrn(urn);
     String keyAspectName = opContext.getKeyAspectName(urnObj);
+    readRouter.recordWrite(urn);
 
     // First, delete all non-key aspects
     int nonKeyCount =
@@ -308,11 +358,15 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
         keys.stream()
             .map(EbeanAspectV2.PrimaryKey::fromAspectIdentifier)
             .collect(Collectors.toSet());
+    final int keysCount = queryKeysCount == 0 ? ebeanKeys.size() : queryKeysCount;
     final List<EbeanAspectV2> records;
-    if (queryKeysCount == 0) {
-      records = batchGet(ebeanKeys, ebeanKeys.size(), forUpdate);
+    if (forUpdate) {
+      records = batchGet(server, ebeanKeys, keysCount, true);
     } else {
-      records = batchGet(ebeanKeys, queryKeysCount, forUpdate);
+      records =
+          readRouter.read(
+              keys.stream().map(EntityAspectIdentifier::getUrn).collect(Collectors.toSet()),
+              database -> batchGet(database, ebeanKeys, keysCount, false));
     }
     return records.stream()
         .collect(
@@ -321,47 +375,94 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   }
 
   /**
-   * BatchGet that allows pagination on keys to avoid large queries. TODO: can further improve by
-   * running the sub queries in parallel
+   * BatchGet that allows pagination on keys to avoid large queries. Read-only lookups made outside
+   * of a transaction query up to {@code batchGetConcurrency} pages at a time. Locking reads, and
+   * reads within a transaction, stay on the calling thread so they use the transaction's
+   * connection.
    *
+   * @param database the primary or a read replica
    * @param keys a set of keys with urn, aspect and version
    * @param keysCount the max number of keys for each sub query
    * @param forUpdate whether the operation is intending to write to this row in a tx
    */
   @Nonnull
   private List<EbeanAspectV2> batchGet(
-      @Nonnull final Set<EbeanAspectV2.PrimaryKey> keys, final int keysCount, boolean forUpdate) {
+      @Nonnull final Database database,
+      @Nonnull final Set<EbeanAspectV2.PrimaryKey> keys,
+      final int keysCount,
+      boolean forUpdate) {
     validateConnection();
 
-    int position = 0;
-
-    List<EbeanAspectV2.PrimaryKey> keyList = new ArrayList<>(keys);
+    final List<EbeanAspectV2.PrimaryKey> keyList = new ArrayList<>(keys);
     final int totalPageCount = QueryUtils.getTotalPageCount(keys.size(), keysCount);
-    final List<EbeanAspectV2> finalResult =
-        batchGetSelectString(keyList, keysCount, position, forUpdate);
+    final int workers =
+        forUpdate || batchGetExecutor == null || server.currentTransaction() != null
+            ? 1
+            : Math.min(batchGetConcurrency, totalPageCount);
+    if (workers <= 1) {
+      return batchGetPages(database, keyList, keysCount, 0, 1, totalPageCount, forUpdate);
+    }
 
-    while (QueryUtils.hasMore(position, keysCount, totalPageCount)) {
-      position += keysCount;
-      final List<EbeanAspectV2> oneStatementResult =
-          batchGetSelectString(keyList, keysCount, position, forUpdate);
-      finalResult.addAll(oneStatementResult);
+    // Each worker queries every n-th page. The caller is one of the workers, so a saturated
+    // executor slows a request down rather than blocking it.
+    final List<CompletableFuture<List<EbeanAspectV2>>> futures = new ArrayList<>(workers - 1);
+    for (int worker = 1; worker < workers; worker++) {
+      final int firstPage = worker;
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () ->
+                  batchGetPages(
+                      database, keyList, keysCount, firstPage, workers, totalPageCount, false),
+              batchGetExecutor));
+    }
+    final List<EbeanAspectV2> finalResult =
+        batchGetPages(database, keyList, keysCount, 0, workers, totalPageCount, false);
+    try {
+      futures.forEach(future -> finalResult.addAll(future.join()));
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
     }
 
     return finalResult;
   }
 
+  @Nonnull
+  private List<EbeanAspectV2> batchGetPages(
+      @Nonnull final Database database,
+      @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
+      final int keysCount,
+      final int firstPage,
+      final int pageStep,
+      final int totalPageCount,
+      boolean forUpdate) {
+    final List<EbeanAspectV2> result = new ArrayList<>();
+    for (int page = firstPage; page < totalPageCount; page += pageStep) {
+      final long startNanos = System.nanoTime();
+      result.addAll(batchGetSelectString(database, keys, keysCount, page * keysCount, forUpdate));
+      if (metricUtils != null) {
+        metricUtils.time(
+            MetricRegistry.name(this.getClass(), "batchGetPage"), System.nanoTime() - startNanos);
+      }
+    }
+    return result;
+  }
+
   @Nonnull
   private List<EbeanAspectV2> batchGetSelectString(
+      @Nonnull final Database database,
       @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
       final int keysCount,
       final int position,
       boolean forUpdate) {
 
     if (batchGetMethod.equals("IN")) {
-      return batchGetIn(keys, keysCount, position, forUpdate);
+      return batchGetIn(database, keys, keysCount, position, forUpdate);
     }
 
-    return batchGetUnion(keys, keysCount, position, forUpdate);
+    return batchGetUnion(database, keys, keysCount, position, forUpdate);
   }
 
   /**
@@ -392,6 +493,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
   @Nonnull
   private List<EbeanAspectV2> batchGetUnion(
+      @Nonnull final Database database,
       @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
       final int keysCount,
       final int position,
@@ -439,7 +541,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
             .columnMapping(EbeanAspectV2.VERSION_COLUMN, "key.version")
             .create();
 
-    final Query<EbeanAspectV2> query = server.find(EbeanAspectV2.class).setRawSql(rawSql);
+    final Query<EbeanAspectV2> query = database.find(EbeanAspectV2.class).setRawSql(rawSql);
 
     for (Map.Entry<String, Object> param : params.entrySet()) {
       query.setParameter(param.getKey(), param.getValue());
@@ -450,6 +552,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
   @Nonnull
   private List<EbeanAspectV2> batchGetIn(
+      @Nonnull final Database database,
       @Nonnull final List<EbeanAspectV2.PrimaryKey> keys,
       final int keysCount,
       final int position,
@@ -498,7 +601,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
             .columnMapping(EbeanAspectV2.VERSION_COLUMN, "key.version")
             .create();
 
-    final Query<EbeanAspectV2> query = server.find(EbeanAspectV2.class).setRawSql(rawSql);
+    final Query<EbeanAspectV2> query = database.find(EbeanAspectV2.class).setRawSql(rawSql);
 
     for (Map.Entry<String, Object> param : params.entrySet()) {
       query.setParameter(param.getKey(), param.getValue());
@@ -519,18 +622,21 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     final String urnPrefixMatcher = "urn:li:" + entityName + ":%";
     final PagedList<EbeanAspectV2> pagedList =
-        server
-            .find(EbeanAspectV2.class)
-            .select(EbeanAspectV2.KEY_ID)
-            .where()
-            .like(EbeanAspectV2.URN_COLUMN, urnPrefixMatcher)
-            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
-            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
-            .setFirstRow(start)
-            .setMaxRows(pageSize)
-            .orderBy()
-            .asc(EbeanAspectV2.URN_COLUMN)
-            .findPagedList();
+        readRouter.scan(
+            database ->
+                fetched(
+                    database
+                        .find(EbeanAspectV2.class)
+                        .select(EbeanAspectV2.KEY_ID)
+                        .where()
+                        .like(EbeanAspectV2.URN_COLUMN, urnPrefixMatcher)
+                        .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+                        .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+                        .setFirstRow(start)
+                        .setMaxRows(pageSize)
+                        .orderBy()
+                        .asc(EbeanAspectV2.URN_COLUMN)
+                        .findPagedList()));
 
     final List<String> urns =
         pagedList.getList().stream()
@@ -543,24 +649,27 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Nonnull
   @Override
   public Integer countAspect(@Nonnull String aspectName, @Nullable String urnLike) {
-    ExpressionList<EbeanAspectV2> exp =
-        server
-            .find(EbeanAspectV2.class)
-            .select(EbeanAspectV2.KEY_ID)
-            .where()
-            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
-            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName);
-
-    if (urnLike != null) {
-      exp = exp.like(EbeanAspectV2.URN_COLUMN, urnLike);
-    }
-    return exp.findCount();
+    return readRouter.scan(
+        database -> {
+          ExpressionList<EbeanAspectV2> exp =
+              database
+                  .find(EbeanAspectV2.class)
+                  .select(EbeanAspectV2.KEY_ID)
+                  .where()
+                  .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+                  .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName);
+
+          if (urnLike != null) {
+            exp = exp.like(EbeanAspectV2.URN_COLUMN, urnLike);
+          }
+          return exp.findCount();
+        });
   }
 
   @Nonnull
   @Override
   public Integer countAspect(final RestoreIndicesArgs args) {
-    return buildExpressionList(args, true).findCount();
+    return readRouter.scan(database -> buildExpressionList(database, args, true).findCount());
   }
 
   /**
@@ -587,7 +696,12 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
    */
   public PartitionedStream<EbeanAspectV2> streamAspectBatches(
       final RestoreIndicesArgs args, final TxIsolation isolationLevel) {
-    ExpressionList<EbeanAspectV2> exp = buildExpressionList(args, false);
+    return readRouter.stream(database -> streamAspectBatches(database, args, isolationLevel));
+  }
+
+  private PartitionedStream<EbeanAspectV2> streamAspectBatches(
+      final Database database, final RestoreIndicesArgs args, final TxIsolation isolationLevel) {
+    ExpressionList<EbeanAspectV2> exp = buildExpressionList(database, args, false);
     if (args.limit > 0) {
       exp = exp.setMaxRows(args.limit);
     }
@@ -599,7 +713,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     if (isolationLevel == TxIsolation.READ_UNCOMMITTED) {
       // Use explicit transaction scope for READ_UNCOMMITTED to override default
       try (Transaction transaction =
-          server.beginTransaction(TxScope.requiresNew().setIsolation(isolationLevel))) {
+          database.beginTransaction(TxScope.requiresNew().setIsolation(isolationLevel))) {
         stream =
             exp.orderBy()
                 .asc(EbeanAspectV2.URN_COLUMN)
@@ -623,9 +737,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   }
 
   private ExpressionList<EbeanAspectV2> buildExpressionList(
-      RestoreIndicesArgs args, boolean forCount) {
+      Database database, RestoreIndicesArgs args, boolean forCount) {
     ExpressionList<EbeanAspectV2> exp =
-        server
+        database
             .find(EbeanAspectV2.class)
             .select(forCount ? EbeanAspectV2.KEY_ID : EbeanAspectV2.ALL_COLUMNS)
             .where()
@@ -651,6 +765,9 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
                   EbeanAspectV2.CREATED_ON_COLUMN,
                   Timestamp.from(Instant.ofEpochMilli(args.lePitEpochMs)));
     }
+    if (args.endUrn != null) {
+      exp = exp.lt(EbeanAspectV2.URN_COLUMN, args.endUrn);
+    }
 
     if (args.urnBasedPagination) {
       if (args.lastUrn != null && !args.lastUrn.isEmpty()) {
@@ -681,32 +798,37 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
   @Override
   @Nonnull
   public Stream<EntityAspect> streamAspects(String entityName, String aspectName) {
-    ExpressionList<EbeanAspectV2> exp =
-        server
-            .find(EbeanAspectV2.class)
-            .select(EbeanAspectV2.ALL_COLUMNS)
-            .where()
-            .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
-            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
-            .like(EbeanAspectV2.URN_COLUMN, "urn:li:" + entityName + ":%");
-    return exp.query().findStream().map(EbeanAspectV2::toEntityAspect);
+    return readRouter.stream(
+        database ->
+            database
+                .find(EbeanAspectV2.class)
+                .select(EbeanAspectV2.ALL_COLUMNS)
+                .where()
+                .eq(EbeanAspectV2.VERSION_COLUMN, ASPECT_LATEST_VERSION)
+                .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+                .like(EbeanAspectV2.URN_COLUMN, "urn:li:" + entityName + ":%")
+                .query()
+                .findStream()
+                .map(EbeanAspectV2::toEntityAspect));
   }
 
   @Override
   @Nonnull
   public Iterable<String> listAllUrns(int start, int pageSize) {
     validateConnection();
-    PagedList<EbeanAspectV2> ebeanAspects =
-        server
-            .find(EbeanAspectV2.class)
-            .setDistinct(true)
-            .select(EbeanAspectV2.URN_COLUMN)
-            .orderBy()
-            .asc(EbeanAspectV2.URN_COLUMN)
-            .setFirstRow(start)
-            .setMaxRows(pageSize)
-            .findPagedList();
-    return ebeanAspects.getList().stream().map(EbeanAspectV2::getUrn).collect(Collectors.toList());
+    List<EbeanAspectV2> ebeanAspects =
+        readRouter.scan(
+            database ->
+                database
+                    .find(EbeanAspectV2.class)
+                    .setDistinct(true)
+                    .select(EbeanAspectV2.URN_COLUMN)
+                    .orderBy()
+                    .asc(EbeanAspectV2.URN_COLUMN)
+                    .setFirstRow(start)
+                    .setMaxRows(pageSize)
+                    .findList());
+    return ebeanAspects.stream().map(EbeanAspectV2::getUrn).collect(Collectors.toList());
   }
 
   @Override
@@ -722,18 +844,21 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
 
     final String urnPrefixMatcher = "urn:li:" + entityName + ":%";
     final PagedList<EbeanAspectV2> pagedList =
-        server
-            .find(EbeanAspectV2.class)
-            .select(EbeanAspectV2.ALL_COLUMNS)
-            .where()
-            .like(EbeanAspectV2.URN_COLUMN, urnPrefixMatcher)
-            .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
-            .eq(EbeanAspectV2.VERSION_COLUMN, version)
-            .setFirstRow(start)
-            .setMaxRows(pageSize)
-            .orderBy()
-            .asc(EbeanAspectV2.URN_COLUMN)
-            .findPagedList();
+        readRouter.scan(
+            database ->
+                fetched(
+                    database
+                        .find(EbeanAspectV2.class)
+                        .select(EbeanAspectV2.ALL_COLUMNS)
+                        .where()
+                        .like(EbeanAspectV2.URN_COLUMN, urnPrefixMatcher)
+                        .eq(EbeanAspectV2.ASPECT_COLUMN, aspectName)
+                        .eq(EbeanAspectV2.VERSION_COLUMN, version)
+                        .setFirstRow(start)
+                        .setMaxRows(pageSize)
+                        .orderBy()
+                        .asc(EbeanAspectV2.URN_COLUMN)
+                        .findPagedList()));
 
     final List<String> aspects =
         pagedList.getList().stream().map(EbeanAspectV2::getMetadata).collect(Collectors.toList());
@@ -789,6 +914,7 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       try (Transaction transaction =
           server.beginTransaction(TxScope.requiresNew().setIsolation(TX_ISOLATION))) {
         transaction.setBatchMode(true);
+        transaction.setBatchSize(writeBatchSize);
         result = block.apply(transactionContext.tx(transaction));
         if (result.isCommitOrRollback()) {
           transaction.commit();
@@ -932,6 +1058,17 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
     return result;
   }
 
+  /**
+   * Runs both queries of a lazy paged list, so that a failing routed read falls back to the
+   * primary while it is still inside the {@link EbeanReadRouter}.
+   */
+  @Nonnull
+  private static <T> PagedList<T> fetched(@Nonnull final PagedList<T> pagedList) {
+    pagedList.getList();
+    pagedList.getTotalCount();
+    return pagedList;
+  }
+
   @Nonnull
   private <T> ListResult<T> toListResult(
       @Nonnull final List<T> values,
@@ -997,17 +1134,20 @@ public class EbeanAspectDao implements AspectDao, AspectMigrationsDao {
       @Nonnull Urn urn, Set<String> aspectNames, long startTimeMillis, long endTimeMillis) {
     validateConnection();
     List<EbeanAspectV2> ebeanAspects =
-        server
-            .find(EbeanAspectV2.class)
-            .select(EbeanAspectV2.ALL_COLUMNS)
-            .where()
-            .eq(EbeanAspectV2.URN_COLUMN, urn.toString())
-            .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
-            .inRange(
-                EbeanAspectV2.CREATED_ON_COLUMN,
-                new Timestamp(startTimeMillis),
-                new Timestamp(endTimeMillis))
-            .findList();
+        readRouter.read(
+            Set.of(urn.toString()),
+            database ->
+                database
+                    .find(EbeanAspectV2.class)
+                    .select(EbeanAspectV2.ALL_COLUMNS)
+                    .where()
+                    .eq(EbeanAspectV2.URN_COLUMN, urn.toString())
+                    .in(EbeanAspectV2.ASPECT_COLUMN, aspectNames)
+                    .inRange(
+                        EbeanAspectV2.CREATED_ON_COLUMN,
+                        new Timestamp(startTimeMillis),
+                        new Timestamp(endTimeMillis))
+                    .findList());
     return ebeanAspects.stream().map(EbeanAspectV2::toEntityAspect).collect(Collectors.toList());
   }
 
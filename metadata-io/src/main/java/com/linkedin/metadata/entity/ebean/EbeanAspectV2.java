@@ -10,20 +10,26 @@ import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.io.Serializable;
 import java.sql.Timestamp;
 import java.util.Objects;
 import javax.annotation.Nonnull;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-/** Schema definition for the new aspect table. */
+/**
+ * Schema definition for the new aspect table.
+ *
+ * <p>The metadata and system metadata columns may hold payloads compressed by {@link
+ * AspectPayloadCodec}. Their getters decompress on first access, so rows read only for their keys
+ * or skipped by a filter are never decompressed.
+ */
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 @Entity
 @Table(name = "metadata_aspect_v2")
 public class EbeanAspectV2 extends Model {
@@ -150,6 +156,37 @@ public class EbeanAspectV2 extends Model {
   @Lob
   protected String systemMetadata;
 
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private String decodedMetadata;
+
+  @Transient
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  private String decodedSystemMetadata;
+
+  public EbeanAspectV2(
+      PrimaryKey key,
+      String urn,
+      String aspect,
+      long version,
+      String metadata,
+      Timestamp createdOn,
+      String createdBy,
+      String createdFor,
+      String systemMetadata) {
+    this.key = key;
+    this.urn = urn;
+    this.aspect = aspect;
+    this.version = version;
+    this.metadata = metadata;
+    this.createdOn = createdOn;
+    this.createdBy = createdBy;
+    this.createdFor = createdFor;
+    this.systemMetadata = systemMetadata;
+  }
+
   public EbeanAspectV2(
       String urn,
       String aspect,
@@ -171,6 +208,53 @@ public class EbeanAspectV2 extends Model {
         systemMetadata);
   }
 
+  public String getMetadata() {
+    if (decodedMetadata == null) {
+      decodedMetadata = AspectPayloadCodec.decode(metadata);
+    }
+    return decodedMetadata;
+  }
+
+  public void setMetadata(String metadata) {
+    this.metadata = metadata;
+    this.decodedMetadata = null;
+  }
+
+  public String getSystemMetadata() {
+    if (decodedSystemMetadata == null) {
+      decodedSystemMetadata = AspectPayloadCodec.decode(systemMetadata);
+    }
+    return decodedSystemMetadata;
+  }
+
+  public void setSystemMetadata(String systemMetadata) {
+    this.systemMetadata = systemMetadata;
+    this.decodedSystemMetadata = null;
+  }
+
+  /**
+   * Re-encodes the stored payloads with the codec, leaving the values returned by the getters
+   * unchanged.
+   *
+   * @return whether a stored payload changed and the row needs to be written
+   */
+  public boolean encodePayloads(@Nonnull AspectPayloadCodec codec) {
+    final String plainMetadata = getMetadata();
+    final String plainSystemMetadata = getSystemMetadata();
+    final String encodedMetadata = codec.encode(plainMetadata);
+    final String encodedSystemMetadata = codec.encode(plainSystemMetadata);
+    if (Objects.equals(encodedMetadata, metadata)
+        && Objects.equals(encodedSystemMetadata, systemMetadata)) {
+      return false;
+    }
+
+    setMetadata(encodedMetadata);
+    setSystemMetadata(encodedSystemMetadata);
+    decodedMetadata = plainMetadata;
+    decodedSystemMetadata = plainSystemMetadata;
+    return true;
+  }
+
   @Nonnull
   public EntityAspect toEntityAspect() {
     return new EntityAspect(
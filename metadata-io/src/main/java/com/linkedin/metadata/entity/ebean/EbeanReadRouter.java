@@ -0,0 +1,169 @@
+package com.linkedin.metadata.entity.ebean;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.metadata.config.EbeanReplicaConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.ebean.Database;
+import jakarta.persistence.PersistenceException;
+import java.net.SocketException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses the database serving an aspect read. Without a replica every read goes to the primary.
+ *
+ * <p>With a replica, reads within a transaction, reads of urns this instance wrote less than
+ * {@code readAfterWriteSeconds} ago and all reads during the backoff following a replica failure
+ * are served by the primary. Everything else, including scans, is served by the replica. Each
+ * decision is counted in {@link #READ_ROUTE_METRIC}, tagged with its target and reason.
+ *
+ * <p>A replica failure only falls back to the primary while the query runs inside the routed call,
+ * so routed queries must return fetched results. Lazy results, such as streams and iterators,
+ * fetch their rows after the call returns and are always served by the primary. Only failures to
+ * reach the replica fall back, see {@link #isUnavailable(Throwable)}; a query the replica rejects
+ * would fail on the primary as well and is rethrown.
+ */
+@Slf4j
+public class EbeanReadRouter {
+  public static final String READ_ROUTE_METRIC = "datahub.ebean.read.route";
+
+  private static final long MAX_RECENT_WRITES = 100_000;
+
+  private final Database primary;
+  @Nullable private final Database replica;
+  @Nullable private final Cache<String, Boolean> recentWrites;
+  private final long failureBackoffMillis;
+  @Nullable private final MetricUtils metricUtils;
+
+  private volatile long replicaUnavailableUntilMillis;
+
+  public EbeanReadRouter(
+      @Nonnull Database primary,
+      @Nullable Database replica,
+      @Nullable EbeanReplicaConfiguration replicaConfiguration,
+      @Nullable MetricUtils metricUtils) {
+    this.primary = primary;
+    this.replica = replicaConfiguration != null ? replica : null;
+    this.metricUtils = metricUtils;
+
+    final long readAfterWriteSeconds =
+        replicaConfiguration != null ? replicaConfiguration.getReadAfterWriteSeconds() : 0;
+    this.recentWrites =
+        this.replica != null && readAfterWriteSeconds > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(MAX_RECENT_WRITES)
+                .expireAfterWrite(Duration.ofSeconds(readAfterWriteSeconds))
+                .build()
+            : null;
+    this.failureBackoffMillis =
+        replicaConfiguration != null ? replicaConfiguration.getFailureBackoffSeconds() * 1000 : 0;
+  }
+
+  public boolean hasReplica() {
+    return replica != null;
+  }
+
+  /** Records a write of the urn, keeping its reads on the primary until the replica catches up. */
+  public void recordWrite(@Nonnull String urn) {
+    if (recentWrites != null) {
+      recentWrites.put(urn, Boolean.TRUE);
+    }
+  }
+
+  /** Runs a read of specific urns, which must observe this instance's recent writes. */
+  public <T> T read(@Nonnull Collection<String> urns, @Nonnull Function<Database, T> query) {
+    if (replica == null) {
+      return query.apply(primary);
+    }
+    if (recentWrites != null
+        && urns.stream().anyMatch(urn -> recentWrites.getIfPresent(urn) != null)) {
+      return onPrimary("recent_write", query);
+    }
+    return route(query);
+  }
+
+  /** Runs a bulk or scan read, which tolerates replica lag. */
+  public <T> T scan(@Nonnull Function<Database, T> query) {
+    if (replica == null) {
+      return query.apply(primary);
+    }
+    return route(query);
+  }
+
+  /**
+   * Runs a read whose rows are fetched after it returns, such as a stream or an iterator. It is
+   * served by the primary, a replica failure half way through could not fall back.
+   */
+  public <T> T stream(@Nonnull Function<Database, T> query) {
+    if (replica == null) {
+      return query.apply(primary);
+    }
+    return onPrimary("stream", query);
+  }
+
+  private <T> T route(@Nonnull Function<Database, T> query) {
+    if (primary.currentTransaction() != null) {
+      return onPrimary("transaction", query);
+    }
+    if (System.currentTimeMillis() < replicaUnavailableUntilMillis) {
+      return onPrimary("replica_unavailable", query);
+    }
+
+    final T result;
+    try {
+      result = query.apply(replica);
+    } catch (PersistenceException e) {
+      if (!isUnavailable(e)) {
+        throw e;
+      }
+      log.warn(
+          "Read replica query failed, using the primary for the next {} ms",
+          failureBackoffMillis,
+          e);
+      replicaUnavailableUntilMillis = System.currentTimeMillis() + failureBackoffMillis;
+      return onPrimary("replica_error", query);
+    }
+    count("replica", "default");
+    return result;
+  }
+
+  /**
+   * Whether the failure means the database could not be reached: a connection exception, SQLState
+   * class 08, a socket error, or a failure of the connection pool, which carries no SQLState.
+   */
+  static boolean isUnavailable(@Nonnull Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLTransientConnectionException
+          || cause instanceof SQLNonTransientConnectionException
+          || cause instanceof SocketException) {
+        return true;
+      }
+      if (cause instanceof SQLException) {
+        final String sqlState = ((SQLException) cause).getSQLState();
+        if (sqlState == null || sqlState.startsWith("08")) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private <T> T onPrimary(@Nonnull String reason, @Nonnull Function<Database, T> query) {
+    count("primary", reason);
+    return query.apply(primary);
+  }
+
+  private void count(@Nonnull String target, @Nonnull String reason) {
+    if (metricUtils != null) {
+      metricUtils.incrementMicrometer(READ_ROUTE_METRIC, 1, "target", target, "reason", reason);
+    }
+  }
+}
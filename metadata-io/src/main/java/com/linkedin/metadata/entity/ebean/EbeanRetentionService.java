@@ -1,8 +1,10 @@
 package com.linkedin.metadata.entity.ebean;
 
 import com.datahub.util.RecordUtils;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.AuditStamp;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.aspect.batch.ChangeMCP;
@@ -11,11 +13,13 @@ import com.linkedin.metadata.entity.RetentionService;
 import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionResult;
+import com.linkedin.metadata.entity.retention.RetentionCheckpoint;
 import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.retention.DataHubRetentionConfig;
 import com.linkedin.retention.Retention;
 import com.linkedin.retention.TimeBasedRetention;
 import com.linkedin.retention.VersionBasedRetention;
+import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
 import io.ebean.Database;
 import io.ebean.Expression;
@@ -29,10 +33,17 @@ import io.ebeaninternal.server.expression.SimpleExpression;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.sql.Timestamp;
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -42,12 +53,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor
 public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService<U> {
+  private static final String URN_PREFIX = "urn:li:";
+  // Checkpoint value of a partition that has been swept to the end
+  static final String PARTITION_COMPLETE = "complete";
+
   private final EntityService<U> _entityService;
   private final Database _server;
   private final int _batchSize;
+  private final int _applyThreads;
 
   private final Clock _clock = Clock.systemUTC();
 
+  public EbeanRetentionService(EntityService<U> entityService, Database server, int batchSize) {
+    this(entityService, server, batchSize, 1);
+  }
+
   @Override
   public EntityService<U> getEntityService() {
     return _entityService;
@@ -165,7 +185,7 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
   }
 
   private void applyRetention(
-      PagedList<EbeanAspectV2> rows,
+      List<EbeanAspectV2> rows,
       Map<String, DataHubRetentionConfig> retentionPolicyMap,
       BulkApplyRetentionResult applyRetentionResult) {
     try (Transaction transaction = _server.beginTransaction(TxScope.required())) {
@@ -173,7 +193,7 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
       transaction.setBatchSize(_batchSize);
 
       List<RetentionContext> retentionContexts =
-          rows.getList().stream()
+          rows.stream()
               .filter(row -> row.getVersion() != 0)
               .map(
                   row -> {
@@ -218,22 +238,187 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
   @Override
   @WithSpan
   public void batchApplyRetention(@Nullable String entityName, @Nullable String aspectName) {
+    batchApplyRetention(entityName, aspectName, RetentionCheckpoint.NONE);
+  }
+
+  /**
+   * Applies retention one entity type at a time, with up to {@code applyThreads} entity types in
+   * parallel. Each entity type is walked in (urn, aspect) order, a page of {@code batchSize} groups
+   * with more than one version at a time, and each page is deleted in its own transaction. The
+   * last group of every committed page is saved to the checkpoint under the entity name, so a
+   * resumed run skips the groups that are done.
+   */
+  @Override
+  @WithSpan
+  public void batchApplyRetention(
+      @Nullable String entityName,
+      @Nullable String aspectName,
+      @Nonnull RetentionCheckpoint checkpoint) {
     log.debug("Applying retention to all records");
-    int numCandidates = queryCandidates(null, entityName, aspectName).findCount();
-    log.info("Found {} urn, aspect pair with more than 1 version", numCandidates);
     Map<String, DataHubRetentionConfig> retentionPolicyMap = getAllRetentionPolicies();
+    Map<String, String> progress = new HashMap<>(checkpoint.load());
 
-    int start = 0;
-    while (start < numCandidates) {
-      log.info("Applying retention to pairs {} through {}", start, start + _batchSize);
-      PagedList<EbeanAspectV2> rows = getPagedAspects(entityName, aspectName, start, _batchSize);
-      applyRetention(rows, retentionPolicyMap, null);
-      start += _batchSize;
+    List<String> entityNames = entityName != null ? List.of(entityName) : getEntityNames();
+    List<String> partitions =
+        entityNames.stream()
+            .filter(partition -> hasRetentionPolicy(retentionPolicyMap, partition))
+            .filter(partition -> !PARTITION_COMPLETE.equals(progress.get(partition)))
+            .collect(Collectors.toList());
+    if (partitions.isEmpty()) {
+      log.info("Finished applying retention to all records");
+      return;
+    }
+    log.info("Applying retention to {} entity types", partitions.size());
+
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, Math.min(_applyThreads, partitions.size())),
+            new ThreadFactoryBuilder().setNameFormat("ebean-retention-%d").setDaemon(true).build());
+    try {
+      CompletableFuture.allOf(
+              partitions.stream()
+                  .map(
+                      partition ->
+                          CompletableFuture.runAsync(
+                              () ->
+                                  applyRetentionToPartition(
+                                      partition,
+                                      aspectName,
+                                      retentionPolicyMap,
+                                      progress,
+                                      checkpoint),
+                              executor))
+                  .toArray(CompletableFuture[]::new))
+          .join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    } finally {
+      executor.shutdown();
     }
 
     log.info("Finished applying retention to all records");
   }
 
+  private void applyRetentionToPartition(
+      @Nonnull String entityName,
+      @Nullable String aspectName,
+      @Nonnull Map<String, DataHubRetentionConfig> retentionPolicyMap,
+      @Nonnull Map<String, String> progress,
+      @Nonnull RetentionCheckpoint checkpoint) {
+    String lastUrn = null;
+    String lastAspect = null;
+    String position;
+    synchronized (progress) {
+      position = progress.get(entityName);
+    }
+    if (position != null) {
+      // Aspect names have no spaces, so the last one separates the urn from the aspect
+      int separator = position.lastIndexOf(' ');
+      lastUrn = position.substring(0, separator);
+      lastAspect = position.substring(separator + 1);
+      log.info("Resuming retention of {} after {}, {}", entityName, lastUrn, lastAspect);
+    }
+
+    long groups = 0;
+    List<EbeanAspectV2> rows;
+    do {
+      rows = getCandidateGroups(entityName, aspectName, lastUrn, lastAspect);
+      if (rows.isEmpty()) {
+        break;
+      }
+      applyRetention(rows, retentionPolicyMap, null);
+      groups += rows.size();
+
+      EbeanAspectV2 last = rows.get(rows.size() - 1);
+      lastUrn = last.getUrn();
+      lastAspect = last.getAspect();
+      saveProgress(progress, checkpoint, entityName, lastUrn + " " + lastAspect);
+      log.info("Applied retention to {} urn, aspect pairs of {}", groups, entityName);
+    } while (rows.size() == _batchSize);
+
+    saveProgress(progress, checkpoint, entityName, PARTITION_COMPLETE);
+  }
+
+  private static void saveProgress(
+      @Nonnull Map<String, String> progress,
+      @Nonnull RetentionCheckpoint checkpoint,
+      @Nonnull String entityName,
+      @Nonnull String position) {
+    synchronized (progress) {
+      progress.put(entityName, position);
+      checkpoint.save(new HashMap<>(progress));
+    }
+  }
+
+  /**
+   * Entity types that have aspects stored. Rather than scanning the table, each entity type is
+   * found with a single index seek, for the first urn after the key range of the previous one.
+   */
+  private List<String> getEntityNames() {
+    List<String> entityNames = new ArrayList<>();
+    String from = URN_PREFIX;
+    while (true) {
+      EbeanAspectV2 row =
+          _server
+              .find(EbeanAspectV2.class)
+              .select(EbeanAspectV2.URN_COLUMN)
+              .where()
+              .ge(EbeanAspectV2.URN_COLUMN, from)
+              .orderBy(EbeanAspectV2.URN_COLUMN)
+              .setMaxRows(1)
+              .findOne();
+      if (row == null || !row.getUrn().startsWith(URN_PREFIX)) {
+        return entityNames;
+      }
+      int end = row.getUrn().indexOf(':', URN_PREFIX.length());
+      if (end < 0) {
+        return entityNames;
+      }
+      String entityName = row.getUrn().substring(URN_PREFIX.length(), end);
+      entityNames.add(entityName);
+      // ';' is the character after ':', so this is the first key past "urn:li:<entity>:"
+      from = URN_PREFIX + entityName + ";";
+    }
+  }
+
+  private static boolean hasRetentionPolicy(
+      @Nonnull Map<String, DataHubRetentionConfig> retentionPolicyMap, @Nonnull String entityName) {
+    return retentionPolicyMap.keySet().stream()
+        .map(key -> UrnUtils.getUrn(key).getEntityKey().get(0))
+        .anyMatch(name -> ALL.equals(name) || entityName.equals(name));
+  }
+
+  /**
+   * The next page of (urn, aspect, max version) groups of the entity type that have versions other
+   * than the latest, in key order after the given group.
+   */
+  private List<EbeanAspectV2> getCandidateGroups(
+      @Nonnull String entityName,
+      @Nullable String aspectName,
+      @Nullable String lastUrn,
+      @Nullable String lastAspect) {
+    ExpressionList<EbeanAspectV2> query = queryCandidates(entityName, aspectName);
+    if (lastUrn != null) {
+      query
+          .ge(EbeanAspectV2.URN_COLUMN, lastUrn)
+          .or()
+          .gt(EbeanAspectV2.URN_COLUMN, lastUrn)
+          .gt(EbeanAspectV2.ASPECT_COLUMN, lastAspect)
+          .endOr();
+    }
+    return query
+        .having()
+        .gt(
+            String.format("max(%s)", EbeanAspectV2.VERSION_COLUMN),
+            Constants.ASPECT_LATEST_VERSION)
+        .orderBy(EbeanAspectV2.URN_COLUMN + ", " + EbeanAspectV2.ASPECT_COLUMN)
+        .setMaxRows(_batchSize)
+        .findList();
+  }
+
   @Override
   public BulkApplyRetentionResult batchApplyRetentionEntities(
       @Nonnull BulkApplyRetentionArgs args) {
@@ -285,24 +470,44 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
             .findPagedList();
     result.timeRowMs = System.currentTimeMillis() - startTime;
 
-    for (EbeanAspectV2 row : rows.getList()) {
-      startTime = System.currentTimeMillis();
-      log.debug("For {},{} version count is {}", row.getUrn(), row.getAspect(), row.getVersion());
-      try {
-        Urn.createFromString(row.getUrn());
-      } catch (Exception e) {
-        log.error("Failed to serialize urn {}", row.getUrn(), e);
-        continue;
-      }
-      PagedList<EbeanAspectV2> rowsToChange =
-          queryCandidates(row.getUrn(), null, row.getAspect())
-              .setFirstRow(args.start)
-              .setMaxRows(args.count)
-              .findPagedList();
+    // The rows hold the version count, the max versions of the whole page are read in one query
+    startTime = System.currentTimeMillis();
+    Set<Pair<String, String>> groups =
+        rows.getList().stream()
+            .filter(
+                row -> {
+                  log.debug(
+                      "For {},{} version count is {}",
+                      row.getUrn(),
+                      row.getAspect(),
+                      row.getVersion());
+                  try {
+                    Urn.createFromString(row.getUrn());
+                    return true;
+                  } catch (Exception e) {
+                    log.error("Failed to serialize urn {}", row.getUrn(), e);
+                    return false;
+                  }
+                })
+            .map(row -> Pair.of(row.getUrn(), row.getAspect()))
+            .collect(Collectors.toSet());
+    if (!groups.isEmpty()) {
+      List<EbeanAspectV2> rowsToChange =
+          queryCandidates(null, null)
+              .in(
+                  EbeanAspectV2.URN_COLUMN,
+                  groups.stream().map(Pair::getFirst).collect(Collectors.toSet()))
+              .in(
+                  EbeanAspectV2.ASPECT_COLUMN,
+                  groups.stream().map(Pair::getSecond).collect(Collectors.toSet()))
+              .findList()
+              .stream()
+              .filter(row -> groups.contains(Pair.of(row.getUrn(), row.getAspect())))
+              .collect(Collectors.toList());
 
       applyRetention(rowsToChange, retentionPolicyMap, result);
-      result.timeApplyRetentionMs += System.currentTimeMillis() - startTime;
     }
+    result.timeApplyRetentionMs += System.currentTimeMillis() - startTime;
 
     return result;
   }
@@ -329,7 +534,7 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
   }
 
   private ExpressionList<EbeanAspectV2> queryCandidates(
-      @Nullable String urn, @Nullable String entityName, @Nullable String aspectName) {
+      @Nullable String entityName, @Nullable String aspectName) {
     ExpressionList<EbeanAspectV2> query =
         _server
             .find(EbeanAspectV2.class)
@@ -341,27 +546,12 @@ public class EbeanRetentionService<U extends ChangeMCP> extends RetentionService
                     EbeanAspectV2.ASPECT_COLUMN,
                     EbeanAspectV2.VERSION_COLUMN))
             .where();
-    if (urn != null) {
-      query.eq(EbeanAspectV2.URN_COLUMN, urn);
-    }
     if (entityName != null) {
-      query.like(EbeanAspectV2.URN_COLUMN, String.format("urn:li:%s%%", entityName));
+      query.like(EbeanAspectV2.URN_COLUMN, String.format("%s%s:%%", URN_PREFIX, entityName));
     }
     if (aspectName != null) {
       query.eq(EbeanAspectV2.ASPECT_COLUMN, aspectName);
     }
     return query;
   }
-
-  private PagedList<EbeanAspectV2> getPagedAspects(
-      @Nullable String entityName,
-      @Nullable String aspectName,
-      final int start,
-      final int pageSize) {
-    return queryCandidates(null, entityName, aspectName)
-        .orderBy(EbeanAspectV2.URN_COLUMN + ", " + EbeanAspectV2.ASPECT_COLUMN)
-        .setFirstRow(start)
-        .setMaxRows(pageSize)
-        .findPagedList();
-  }
 }
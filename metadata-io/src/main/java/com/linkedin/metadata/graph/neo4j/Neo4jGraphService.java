@@ -42,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -55,6 +56,7 @@ import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -70,11 +72,16 @@ import org.neo4j.driver.types.Relationship;
 @Slf4j
 public class Neo4jGraphService implements GraphService {
 
-  private static final int MAX_TRANSACTION_RETRY = 3;
+  public static final int DEFAULT_WRITE_BATCH_SIZE = 1000;
+  public static final int DEFAULT_MAX_TRANSACTION_RETRY = 3;
+  private static final Set<String> PRESERVED_EDGE_PROPERTIES =
+      Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
   private final LineageRegistry lineageRegistry;
   private final Driver driver;
   private final SessionConfig sessionConfig;
   @Getter private final GraphServiceConfiguration graphServiceConfig;
+  private final int writeBatchSize;
+  private final int maxTransactionRetry;
   private boolean canWrite = true;
 
   public Neo4jGraphService(
@@ -82,10 +89,32 @@ public class Neo4jGraphService implements GraphService {
       @Nonnull Driver driver,
       @Nonnull SessionConfig sessionConfig,
       @Nonnull GraphServiceConfiguration graphServiceConfig) {
+    this(
+        lineageRegistry,
+        driver,
+        sessionConfig,
+        graphServiceConfig,
+        DEFAULT_WRITE_BATCH_SIZE,
+        DEFAULT_MAX_TRANSACTION_RETRY);
+  }
+
+  /**
+   * @param writeBatchSize maximum number of edges written by one statement
+   * @param maxTransactionRetry number of times a failed write transaction is retried
+   */
+  public Neo4jGraphService(
+      @Nonnull LineageRegistry lineageRegistry,
+      @Nonnull Driver driver,
+      @Nonnull SessionConfig sessionConfig,
+      @Nonnull GraphServiceConfiguration graphServiceConfig,
+      int writeBatchSize,
+      int maxTransactionRetry) {
     this.lineageRegistry = lineageRegistry;
     this.driver = driver;
     this.sessionConfig = sessionConfig;
     this.graphServiceConfig = graphServiceConfig;
+    this.writeBatchSize = Math.max(1, writeBatchSize);
+    this.maxTransactionRetry = Math.max(0, maxTransactionRetry);
   }
 
   public void setWritable(boolean writable) {
@@ -99,80 +128,92 @@ public class Neo4jGraphService implements GraphService {
 
   @Override
   public void addEdge(@Nonnull final Edge edge) {
+    addEdges(Collections.singletonList(edge));
+  }
+
+  /**
+   * Edges are grouped by node labels and relationship type, which cannot be query parameters, and
+   * each group is merged in batches by one {@code UNWIND} statement per batch, in its own
+   * transaction.
+   */
+  @Override
+  public void addEdges(@Nonnull final List<Edge> edges) {
     if (!canWrite) {
       log.warn(READ_ONLY_LOG);
       return;
     }
-    log.debug(
-        String.format(
-            "Adding Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
-
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
-
-    // Introduce startUrn, endUrn for real source node and destination node without consider direct
-    // or indirect pattern match
-    String endUrn = destinationUrn;
-    String startUrn = sourceUrn;
-    // Extra relationship typename start with r_ for
-    // direct-outgoing-downstream/indirect-incoming-upstream relationships
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    // Build parameterized query instead of string concatenation
-    StringBuilder queryBuilder = new StringBuilder();
-    queryBuilder.append("MERGE (source:").append(sourceType).append(" {urn: $sourceUrn}) ");
-    queryBuilder.append("MERGE (destination:").append(destinationType).append(" {urn: $destUrn}) ");
-    queryBuilder
-        .append("MERGE (source)-[:")
-        .append(edge.getRelationshipType())
-        .append("]->(destination) ");
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      startUrn = destinationUrn;
-      queryBuilder
-          .append("MERGE (destination)-[r:")
-          .append(reverseRelationshipType)
-          .append("]->(source) ");
-    } else {
-      queryBuilder
-          .append("MERGE (source)-[r:")
-          .append(reverseRelationshipType)
-          .append("]->(destination) ");
+    // Statements are built up front, so invalid edge properties fail before anything is written
+    final List<Statement> statements = new ArrayList<>();
+    for (Map.Entry<EdgeGroup, List<Edge>> group : groupEdges(edges).entrySet()) {
+      final EdgeGroup edgeGroup = group.getKey();
+      // Introduce startUrn, endUrn for real source node and destination node without consider
+      // direct or indirect pattern match. Extra relationship typename start with r_ for
+      // direct-outgoing-downstream/indirect-incoming-upstream relationships
+      final String reverseRelationship =
+          edgeGroup.isReversed()
+              ? "MERGE (destination)-[r:r_%3$s]->(source) "
+              : "MERGE (source)-[r:r_%3$s]->(destination) ";
+      final String query =
+          String.format(
+              "UNWIND $edges AS edge "
+                  + "MERGE (source:%1$s {urn: edge.sourceUrn}) "
+                  + "MERGE (destination:%2$s {urn: edge.destUrn}) "
+                  + "MERGE (source)-[:%3$s]->(destination) "
+                  + reverseRelationship
+                  + "SET r += edge.properties",
+              edgeGroup.getSourceType(),
+              edgeGroup.getDestinationType(),
+              edgeGroup.getRelationshipType());
+
+      for (List<Edge> batch : Iterables.partition(group.getValue(), writeBatchSize)) {
+        final List<Map<String, Object>> params =
+            batch.stream()
+                .map(
+                    edge -> {
+                      final Map<String, Object> edgeParams = new HashMap<>();
+                      edgeParams.put("sourceUrn", edge.getSource().toString());
+                      edgeParams.put("destUrn", edge.getDestination().toString());
+                      edgeParams.put("properties", edgeProperties(edge, edgeGroup.isReversed()));
+                      return edgeParams;
+                    })
+                .collect(Collectors.toList());
+        statements.add(new Statement(query, Map.of("edges", params)));
+      }
     }
 
-    // Add SET clause for properties
-    List<String> propertySetters = new ArrayList<>();
+    for (Statement statement : statements) {
+      log.debug("Adding edges {}", statement.getCommandText());
+      executeStatements(Collections.singletonList(statement));
+    }
+  }
 
+  /** Properties set on the r_ relationship of an edge. */
+  private static Map<String, Object> edgeProperties(@Nonnull final Edge edge, boolean reversed) {
+    final Map<String, Object> properties = new HashMap<>();
     if (edge.getCreatedOn() != null) {
-      propertySetters.add("r.createdOn = $createdOn");
+      properties.put("createdOn", edge.getCreatedOn());
     }
     if (edge.getCreatedActor() != null) {
-      propertySetters.add("r.createdActor = $createdActor");
+      properties.put("createdActor", edge.getCreatedActor().toString());
     }
     if (edge.getUpdatedOn() != null) {
-      propertySetters.add("r.updatedOn = $updatedOn");
+      properties.put("updatedOn", edge.getUpdatedOn());
     }
     if (edge.getUpdatedActor() != null) {
-      propertySetters.add("r.updatedActor = $updatedActor");
+      properties.put("updatedActor", edge.getUpdatedActor().toString());
     }
 
     // Add custom properties
     if (edge.getProperties() != null) {
       for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
-        final Set<String> preservedKeySet =
-            Set.of("createdOn", "createdActor", "updatedOn", "updatedActor", "startUrn", "endUrn");
-        if (preservedKeySet.contains(entry.getKey())) {
+        if (PRESERVED_EDGE_PROPERTIES.contains(entry.getKey())) {
           throw new UnsupportedOperationException(
               String.format(
                   "Tried setting properties on graph edge but property key is preserved. Key: %s",
                   entry.getKey()));
         }
         if (entry.getValue() instanceof String) {
-          propertySetters.add("r." + entry.getKey() + " = $prop_" + entry.getKey());
+          properties.put(entry.getKey(), entry.getValue());
         } else {
           throw new UnsupportedOperationException(
               String.format(
@@ -183,46 +224,11 @@ public class Neo4jGraphService implements GraphService {
     }
 
     // Add startUrn and endUrn properties
-    propertySetters.add("r.startUrn = $startUrn");
-    propertySetters.add("r.endUrn = $endUrn");
-
-    // Add SET clause if there are properties to set
-    if (!propertySetters.isEmpty()) {
-      queryBuilder.append("SET ").append(String.join(", ", propertySetters));
-    }
-
-    // Build parameters map
-    Map<String, Object> params = new HashMap<>();
-    params.put("sourceUrn", sourceUrn);
-    params.put("destUrn", destinationUrn);
-    params.put("startUrn", startUrn);
-    params.put("endUrn", endUrn);
-
-    if (edge.getCreatedOn() != null) {
-      params.put("createdOn", edge.getCreatedOn());
-    }
-    if (edge.getCreatedActor() != null) {
-      params.put("createdActor", edge.getCreatedActor());
-    }
-    if (edge.getUpdatedOn() != null) {
-      params.put("updatedOn", edge.getUpdatedOn());
-    }
-    if (edge.getUpdatedActor() != null) {
-      params.put("updatedActor", edge.getUpdatedActor());
-    }
-
-    // Add custom properties to parameters
-    if (edge.getProperties() != null) {
-      for (Map.Entry<String, Object> entry : edge.getProperties().entrySet()) {
-        if (entry.getValue() instanceof String) {
-          params.put("prop_" + entry.getKey(), entry.getValue());
-        }
-      }
-    }
-
-    // Execute the query
-    final Statement statement = buildStatement(queryBuilder.toString(), params);
-    executeStatements(Collections.singletonList(statement));
+    final String sourceUrn = edge.getSource().toString();
+    final String destinationUrn = edge.getDestination().toString();
+    properties.put("startUrn", reversed ? destinationUrn : sourceUrn);
+    properties.put("endUrn", reversed ? sourceUrn : destinationUrn);
+    return properties;
   }
 
   @Override
@@ -234,65 +240,87 @@ public class Neo4jGraphService implements GraphService {
     addEdge(edge);
   }
 
+  @Override
+  public void upsertEdges(@Nonnull final List<Edge> edges) {
+    addEdges(edges);
+  }
+
   @Override
   public void removeEdge(final Edge edge) {
+    removeEdges(Collections.singletonList(edge));
+  }
+
+  /** Deletes edges in batches by node labels and relationship type, like {@link #addEdges}. */
+  @Override
+  public void removeEdges(@Nonnull final List<Edge> edges) {
     if (!canWrite) {
       log.warn(READ_ONLY_LOG);
       return;
     }
-    log.debug(
-        String.format(
-            "Deleting Edge source: %s, destination: %s, type: %s",
-            edge.getSource(), edge.getDestination(), edge.getRelationshipType()));
-
-    final String sourceType = edge.getSource().getEntityType();
-    final String destinationType = edge.getDestination().getEntityType();
-    final String sourceUrn = edge.getSource().toString();
-    final String destinationUrn = edge.getDestination().toString();
-
-    String startUrn = sourceUrn;
-    String startType = sourceType;
-    String endUrn = destinationUrn;
-    String endType = destinationType;
-    String reverseRelationshipType = "r_" + edge.getRelationshipType();
-
-    if (isSourceDestReversed(sourceType, edge.getRelationshipType())) {
-      endUrn = sourceUrn;
-      endType = sourceType;
-      startUrn = destinationUrn;
-      startType = destinationType;
+    final String deleteRelationshipTemplate =
+        "UNWIND $edges AS edge "
+            + "MATCH (source:%s {urn: edge.sourceUrn})-[r:%s]->"
+            + "(destination:%s {urn: edge.destUrn}) "
+            + "DELETE r";
+
+    for (Map.Entry<EdgeGroup, List<Edge>> group : groupEdges(edges).entrySet()) {
+      final EdgeGroup edgeGroup = group.getKey();
+      final String startType =
+          edgeGroup.isReversed() ? edgeGroup.getDestinationType() : edgeGroup.getSourceType();
+      final String endType =
+          edgeGroup.isReversed() ? edgeGroup.getSourceType() : edgeGroup.getDestinationType();
+
+      // Format the query templates with node labels and relationship type
+      final String statement =
+          String.format(
+              deleteRelationshipTemplate,
+              edgeGroup.getSourceType(),
+              edgeGroup.getRelationshipType(),
+              edgeGroup.getDestinationType());
+      final String statementR =
+          String.format(
+              deleteRelationshipTemplate,
+              startType,
+              "r_" + edgeGroup.getRelationshipType(),
+              endType);
+
+      for (List<Edge> batch : Iterables.partition(group.getValue(), writeBatchSize)) {
+        log.debug("Deleting {} edges of type {}", batch.size(), edgeGroup.getRelationshipType());
+        final List<Map<String, Object>> params = new ArrayList<>(batch.size());
+        final List<Map<String, Object>> paramsR = new ArrayList<>(batch.size());
+        for (Edge edge : batch) {
+          final String sourceUrn = edge.getSource().toString();
+          final String destinationUrn = edge.getDestination().toString();
+          params.add(Map.of("sourceUrn", sourceUrn, "destUrn", destinationUrn));
+          paramsR.add(
+              edgeGroup.isReversed()
+                  ? Map.of("sourceUrn", destinationUrn, "destUrn", sourceUrn)
+                  : Map.of("sourceUrn", sourceUrn, "destUrn", destinationUrn));
+        }
+        executeStatements(
+            List.of(
+                new Statement(statement, Map.of("edges", params)),
+                new Statement(statementR, Map.of("edges", paramsR))));
+      }
     }
+  }
 
-    final List<Statement> statements = new ArrayList<>();
-
-    // DELETE relationship - using parameterized query for property values
-    final String mergeRelationshipTemplate =
-        "MATCH (source:%s {urn: $sourceUrn})-[r:%s]->(destination:%s {urn: $destUrn}) DELETE r";
-
-    // Format the query template with node labels and relationship type
-    final String statement =
-        String.format(
-            mergeRelationshipTemplate, sourceType, edge.getRelationshipType(), destinationType);
-
-    // Parameters for the first statement - only for property values
-    Map<String, Object> params = new HashMap<>();
-    params.put("sourceUrn", sourceUrn);
-    params.put("destUrn", destinationUrn);
-
-    statements.add(buildStatement(statement, params));
-
-    // Format the query template for reverse relationship
-    final String statementR =
-        String.format(mergeRelationshipTemplate, startType, reverseRelationshipType, endType);
-
-    // Parameters for the reverse relationship statement - only for property values
-    Map<String, Object> paramsR = new HashMap<>();
-    paramsR.put("sourceUrn", startUrn);
-    paramsR.put("destUrn", endUrn);
-
-    statements.add(buildStatement(statementR, paramsR));
-
-    executeStatements(statements);
+  /** Groups edges by the parts of their statements that cannot be parameters, keeping order. */
+  private Map<EdgeGroup, List<Edge>> groupEdges(@Nonnull final List<Edge> edges) {
+    final Map<EdgeGroup, List<Edge>> groups = new LinkedHashMap<>();
+    for (Edge edge : edges) {
+      final String sourceType = edge.getSource().getEntityType();
+      groups
+          .computeIfAbsent(
+              new EdgeGroup(
+                  sourceType,
+                  edge.getDestination().getEntityType(),
+                  edge.getRelationshipType(),
+                  isSourceDestReversed(sourceType, edge.getRelationshipType())),
+              group -> new ArrayList<>())
+          .add(edge);
+    }
+    return groups;
   }
 
   @Nonnull
@@ -809,6 +837,14 @@ public class Neo4jGraphService implements GraphService {
     return obj;
   }
 
+  @Value
+  private static class EdgeGroup {
+    String sourceType;
+    String destinationType;
+    String relationshipType;
+    boolean reversed;
+  }
+
   @AllArgsConstructor
   @Data
   private static final class ExecutionResult {
@@ -826,7 +862,7 @@ public class Neo4jGraphService implements GraphService {
     stopWatch.start();
     int retry = 0;
     try (final Session session = driver.session(sessionConfig)) {
-      for (retry = 0; retry <= MAX_TRANSACTION_RETRY; retry++) {
+      for (retry = 0; retry <= maxTransactionRetry; retry++) {
         try {
           session.executeWrite(
               tx -> {
@@ -838,10 +874,10 @@ public class Neo4jGraphService implements GraphService {
           break;
         } catch (Neo4jException e) {
           log.warn("Failed to execute Neo4j write transaction. Retry count: {}", retry, e);
-          if (retry == MAX_TRANSACTION_RETRY) {
+          if (retry == maxTransactionRetry) {
             throw new RetryLimitReached(
                 "Failed to execute Neo4j write transaction after "
-                    + MAX_TRANSACTION_RETRY
+                    + maxTransactionRetry
                     + " retries",
                 e);
           }
@@ -6,12 +6,14 @@ import static com.linkedin.metadata.utils.SearchUtil.INDEX_VIRTUAL_FIELD;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.LongMap;
 import com.linkedin.metadata.config.ConfigUtils;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration;
 import com.linkedin.metadata.config.search.SearchServiceConfiguration;
 import com.linkedin.metadata.query.SearchFlags;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
 import com.linkedin.metadata.search.cache.EntityDocCountCache;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
+import com.linkedin.metadata.search.ranker.HybridRanker;
 import com.linkedin.metadata.search.ranker.SimpleRanker;
 import com.linkedin.metadata.search.semantic.SemanticEntitySearch;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
@@ -42,6 +44,7 @@ public class SemanticSearchService {
   private final EntityDocCountCache entityDocCountCache;
   private final SearchServiceConfiguration searchServiceConfig;
   private final SemanticEntitySearch semanticEntitySearchService;
+  @Nullable private final HybridRanker hybridRanker;
 
   public SemanticSearchService(
       EntityDocCountCache entityDocCountCache,
@@ -52,6 +55,10 @@ public class SemanticSearchService {
     this.entityDocCountCache = entityDocCountCache;
     this.semanticEntitySearchService = semanticEntitySearchService;
     this.searchServiceConfig = searchServiceConfig;
+    this.hybridRanker =
+        searchServiceConfig.getHybrid() != null && searchServiceConfig.getHybrid().isEnabled()
+            ? new HybridRanker(searchServiceConfig.getHybrid())
+            : null;
   }
 
   /**
@@ -67,6 +74,10 @@ public class SemanticSearchService {
    * "entity" aggregates via {@link #withAdditionalAggregates(SearchEntityArray,
    * AggregationMetadataArray, List)}.
    *
+   * <p>When hybrid search is enabled and no sort criteria are given, step 1 also runs the keyword
+   * query and step 2 fuses both result lists with {@link HybridRanker}, see {@link
+   * #performHybridSearch}.
+   *
    * @param opContext session-scoped {@link OperationContext}; incoming {@code SearchFlags} are read
    *     to honor caller preferences (e.g., {@code skipAggregates}, {@code maxAggValues}).
    * @param entityNames list of entity types to search in semantic indices
@@ -161,6 +172,13 @@ public class SemanticSearchService {
       facetsFuture = fetchKeywordFacetsAsync(opContext, entityNames, postFilters, facets);
     }
 
+    if (hybridRanker != null && (sortCriteria == null || sortCriteria.isEmpty())) {
+      return attachFacets(
+          performHybridSearch(opContext, entityNames, input, postFilters, from, size),
+          facetsFuture,
+          facets);
+    }
+
     // 1) Execute semantic search
     SearchResult semantic =
         semanticEntitySearchService.search(
@@ -183,8 +201,108 @@ public class SemanticSearchService {
       throw new RuntimeException("Failed to rank " + semantic.toString());
     }
 
+    return attachFacets(semantic, facetsFuture, facets);
+  }
+
+  /**
+   * Hybrid search: runs the keyword query and the kNN query concurrently and fuses both result
+   * lists with {@link HybridRanker}.
+   *
+   * <p>Both lists are first fetched as deep as the requested page. While a result further down
+   * either list could still enter the page, or change its order, both lists are fetched twice as
+   * deep, up to {@link HybridSearchConfiguration#getMaxCandidates()}. Without early termination
+   * they are fetched that deep right away.
+   */
+  @Nonnull
+  private SearchResult performHybridSearch(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nonnull String input,
+      @Nullable Filter postFilters,
+      int from,
+      int size) {
+    final HybridSearchConfiguration hybridConfig = searchServiceConfig.getHybrid();
+    final OperationContext keywordContext =
+        opContext.withSearchFlags(flags -> flags.setFulltext(true).setSkipAggregates(true));
+    final int topK = from + size;
+    final int maxDepth = Math.max(topK, hybridConfig.getMaxCandidates());
+
+    int depth = hybridConfig.isEarlyTermination() ? Math.max(topK, 1) : maxDepth;
+    SearchResult keyword = null;
+    SearchResult semantic = null;
+    boolean keywordExhausted = false;
+    boolean semanticExhausted = false;
+    HybridRanker.FusedResults fused;
+    while (true) {
+      // A list shorter than asked for has nothing further down, it is not fetched again
+      final int fetchDepth = depth;
+      CompletableFuture<SearchResult> keywordFuture =
+          keywordExhausted
+              ? CompletableFuture.completedFuture(keyword)
+              : CompletableFuture.supplyAsync(
+                  () ->
+                      cachingEntitySearchService.search(
+                          keywordContext,
+                          entityNames,
+                          input,
+                          postFilters,
+                          Collections.emptyList(),
+                          0,
+                          fetchDepth,
+                          Collections.emptyList()));
+      if (!semanticExhausted) {
+        semantic =
+            semanticEntitySearchService.search(
+                opContext, entityNames, input, postFilters, null, 0, fetchDepth);
+        semanticExhausted = semantic.getEntities().size() < fetchDepth;
+      }
+      try {
+        keyword = keywordFuture.join();
+      } catch (CompletionException e) {
+        Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+        throw new RuntimeException("Failed to run keyword search for hybrid search", cause);
+      }
+      keywordExhausted = keywordExhausted || keyword.getEntities().size() < fetchDepth;
+
+      fused =
+          hybridRanker.fuse(
+              keyword.getEntities(),
+              semantic.getEntities(),
+              topK,
+              keywordExhausted,
+              semanticExhausted);
+      if (fused.isTopKStable() || (keywordExhausted && semanticExhausted) || depth >= maxDepth) {
+        break;
+      }
+      depth = Math.min(depth * 2, maxDepth);
+    }
+    log.debug(
+        "Hybrid search fetched {} results from each list, top {} stable: {}",
+        depth,
+        topK,
+        fused.isTopKStable());
+
+    List<SearchEntity> ranked = fused.getEntities();
+    return new SearchResult()
+        .setEntities(
+            new SearchEntityArray(
+                ranked.subList(Math.min(from, ranked.size()), Math.min(topK, ranked.size()))))
+        .setNumEntities(
+            Math.max(
+                ranked.size(), Math.max(keyword.getNumEntities(), semantic.getNumEntities())))
+        .setFrom(from)
+        .setPageSize(size)
+        .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()));
+  }
+
+  /** Attach the keyword facets, when requested, and the additional aggregates to a result. */
+  @Nonnull
+  private static SearchResult attachFacets(
+      @Nonnull SearchResult semantic,
+      @Nullable CompletableFuture<SearchResult> facetsFuture,
+      @Nonnull List<String> facets) {
     // 3) Consume parallel facets future if requested
-    if (needFacets && facetsFuture != null) {
+    if (facetsFuture != null) {
       try {
         SearchResult facetsOnly = facetsFuture.join();
         if (facetsOnly.getMetadata() != null) {
@@ -1,6 +1,5 @@
 package com.linkedin.metadata.search.cache;
 
-import static com.datahub.util.RecordUtils.*;
 import static com.linkedin.metadata.utils.metrics.MetricUtils.CACHE_HIT_ATTR;
 
 import com.linkedin.metadata.search.SearchEntity;
@@ -14,12 +13,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 import org.springframework.cache.Cache;
 
 /** Wrapper class to allow searching in batches and caching the results. */
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class CacheableSearcher<K> {
   @Nonnull private final Cache cache;
   private final int batchSize;
@@ -29,6 +28,17 @@ public class CacheableSearcher<K> {
   // Function that generates the cache key given the query batch (from, size)
   private final Function<QueryPagination, K> cacheKeyGenerator;
   private final boolean enableCache;
+  // Shared loader providing request coalescing and stale-while-revalidate across searchers
+  @Nonnull private final CoalescingCacheLoader cacheLoader;
+
+  public CacheableSearcher(
+      @Nonnull Cache cache,
+      int batchSize,
+      Function<QueryPagination, SearchResult> searcher,
+      Function<QueryPagination, K> cacheKeyGenerator,
+      boolean enableCache) {
+    this(cache, batchSize, searcher, cacheKeyGenerator, enableCache, new CoalescingCacheLoader());
+  }
 
   @Value
   public static class QueryPagination implements Serializable {
@@ -101,13 +111,13 @@ public class CacheableSearcher<K> {
             if ((opContext.getSearchContext().getSearchFlags().isSkipCache() == null
                 || !opContext.getSearchContext().getSearchFlags().isSkipCache())) {
 
-              String json = cache.get(cacheKey, String.class);
-              result = json != null ? toRecordTemplate(SearchResult.class, json) : null;
+              CoalescingCacheLoader.Lookup<SearchResult> lookup =
+                  cacheLoader.get(
+                      opContext, cache, cacheKey, SearchResult.class, () -> searcher.apply(batch));
+              result = lookup.getValue();
 
-              if (result == null) {
+              if (!lookup.isCacheHit()) {
                 Span.current().setAttribute(CACHE_HIT_ATTR, false);
-                result = searcher.apply(batch);
-                cache.put(cacheKey, toJsonString(result));
                 opContext
                     .getMetricUtils()
                     .ifPresent(
@@ -119,8 +129,7 @@ public class CacheableSearcher<K> {
 
             } else {
               Span.current().setAttribute(CACHE_HIT_ATTR, false);
-              result = searcher.apply(batch);
-              cache.put(cacheKey, toJsonString(result));
+              result = cacheLoader.refresh(cache, cacheKey, () -> searcher.apply(batch));
             }
           } else {
             Span.current().setAttribute(CACHE_HIT_ATTR, false);
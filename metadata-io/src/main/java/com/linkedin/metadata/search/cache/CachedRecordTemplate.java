@@ -0,0 +1,46 @@
+package com.linkedin.metadata.search.cache;
+
+import static com.datahub.util.RecordUtils.toRecordTemplate;
+
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.ProtobufDataCodec;
+import com.linkedin.data.template.RecordTemplate;
+import java.io.IOException;
+import java.io.Serializable;
+import javax.annotation.Nonnull;
+import lombok.Data;
+
+/**
+ * Cache value holding a {@link RecordTemplate} in Pegasus' binary (protobuf) encoding along with
+ * the time it was written. Decoding the binary form avoids the JSON parse paid by string-valued
+ * entries on every hit, and the timestamp drives stale-while-revalidate in {@link
+ * CoalescingCacheLoader}. Being {@link Serializable}, it works with both the Caffeine and
+ * Hazelcast cache managers.
+ */
+@Data
+public class CachedRecordTemplate implements Serializable {
+  private static final ProtobufDataCodec CODEC = new ProtobufDataCodec();
+
+  private final byte[] payload;
+  private final long timestamp;
+
+  public CachedRecordTemplate(@Nonnull RecordTemplate record, long timestamp) {
+    try {
+      this.payload = CODEC.mapToBytes(record.data());
+    } catch (IOException e) {
+      throw new IllegalStateException("Error while encoding cache value.", e);
+    }
+    this.timestamp = timestamp;
+  }
+
+  @Nonnull
+  public <T extends RecordTemplate> T getRecord(@Nonnull Class<T> type) {
+    final DataMap dataMap;
+    try {
+      dataMap = CODEC.bytesToMap(payload);
+    } catch (IOException e) {
+      throw new IllegalStateException("Error while decoding cache value.", e);
+    }
+    return toRecordTemplate(type, dataMap);
+  }
+}
@@ -0,0 +1,230 @@
+package com.linkedin.metadata.search.cache;
+
+import static com.datahub.util.RecordUtils.toRecordTemplate;
+
+import com.linkedin.data.template.RecordTemplate;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.cache.Cache;
+
+/**
+ * Loads {@link RecordTemplate} values through a Spring {@link Cache} with:
+ *
+ * <ul>
+ *   <li>single-flight coalescing: concurrent misses for the same key share one load
+ *   <li>stale-while-revalidate: entries older than {@code refreshAfterMillis} are served as-is
+ *       while a single background refresh replaces them
+ *   <li>binary values: entries are stored as {@link CachedRecordTemplate}
+ * </ul>
+ *
+ * <p>Coalescing is local to this JVM. Legacy JSON string values left behind by previous versions
+ * in a shared (Hazelcast) cache are still read, and are rewritten in the binary form on a hit.
+ */
+@Slf4j
+public class CoalescingCacheLoader {
+
+  private final long refreshAfterMillis;
+  @Nullable private final ExecutorService refreshExecutor;
+  private final Map<Pair<String, Object>, CompletableFuture<CachedRecordTemplate>> inFlight =
+      new ConcurrentHashMap<>();
+
+  /** Loader with coalescing only, stale entries are never served. */
+  public CoalescingCacheLoader() {
+    this(0, null);
+  }
+
+  /**
+   * @param refreshAfterMillis age after which a cached value is refreshed in the background, 0
+   *     disables stale-while-revalidate
+   * @param refreshExecutor executor running background refreshes, required when refreshAfterMillis
+   *     is positive
+   */
+  public CoalescingCacheLoader(
+      long refreshAfterMillis, @Nullable ExecutorService refreshExecutor) {
+    if (refreshAfterMillis > 0 && refreshExecutor == null) {
+      throw new IllegalArgumentException("A refresh executor is required for refreshAfterMillis.");
+    }
+    this.refreshAfterMillis = refreshAfterMillis;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  @Value
+  public static class Lookup<T> {
+    T value;
+    boolean cacheHit;
+  }
+
+  /**
+   * Returns the cached value for the key, loading it on a miss. Only one load per key runs at a
+   * time, other callers wait for and share its result.
+   */
+  @Nonnull
+  public <T extends RecordTemplate> Lookup<T> get(
+      @Nonnull OperationContext opContext,
+      @Nonnull Cache cache,
+      @Nonnull Object cacheKey,
+      @Nonnull Class<T> type,
+      @Nonnull Supplier<T> loader) {
+    return get(opContext, cache, cacheKey, type, loader, 0);
+  }
+
+  /**
+   * Same as {@link #get(OperationContext, Cache, Object, Class, Supplier)}, with entries older than
+   * {@code maxAgeMillis} loaded again as if they were missing. Lets a cache expire its entries
+   * sooner than the cache manager's time to live, which is shared by all caches.
+   *
+   * @param maxAgeMillis age after which a cached value is no longer served, 0 for no limit
+   */
+  @Nonnull
+  public <T extends RecordTemplate> Lookup<T> get(
+      @Nonnull OperationContext opContext,
+      @Nonnull Cache cache,
+      @Nonnull Object cacheKey,
+      @Nonnull Class<T> type,
+      @Nonnull Supplier<T> loader,
+      long maxAgeMillis) {
+    final Object cached = readCache(cache, cacheKey);
+
+    if (cached instanceof CachedRecordTemplate
+        && !isExpired((CachedRecordTemplate) cached, maxAgeMillis)) {
+      CachedRecordTemplate entry = (CachedRecordTemplate) cached;
+      if (isStale(entry)) {
+        refreshAsync(opContext, cache, cacheKey, loader);
+      }
+      return new Lookup<>(entry.getRecord(type), true);
+    } else if (cached instanceof String) {
+      T legacy = toRecordTemplate(type, (String) cached);
+      // Rewritten in the binary form, its age is unknown so it counts as the oldest possible
+      cache.put(cacheKey, new CachedRecordTemplate(legacy, 0));
+      return new Lookup<>(legacy, true);
+    }
+
+    final Pair<String, Object> flightKey = Pair.of(cache.getName(), cacheKey);
+    final CompletableFuture<CachedRecordTemplate> flight = new CompletableFuture<>();
+    final CompletableFuture<CachedRecordTemplate> existing =
+        inFlight.putIfAbsent(flightKey, flight);
+
+    if (existing != null) {
+      opContext
+          .getMetricUtils()
+          .ifPresent(
+              metricUtils -> metricUtils.increment(this.getClass(), "coalesced_load_count", 1));
+      // Waiters decode their own copy so callers are free to mutate the returned record
+      return new Lookup<>(await(existing).getRecord(type), false);
+    }
+
+    try {
+      T result = loader.get();
+      flight.complete(write(cache, cacheKey, result));
+      return new Lookup<>(result, false);
+    } catch (Throwable t) {
+      // Errors too, or the waiters would never be released
+      flight.completeExceptionally(t);
+      throw t;
+    } finally {
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  /** Unconditionally loads and caches a value, e.g. when the caller asked to skip the cache. */
+  @Nonnull
+  public <T extends RecordTemplate> T refresh(
+      @Nonnull Cache cache, @Nonnull Object cacheKey, @Nonnull Supplier<T> loader) {
+    T result = loader.get();
+    write(cache, cacheKey, result);
+    return result;
+  }
+
+  private static boolean isExpired(@Nonnull CachedRecordTemplate entry, long maxAgeMillis) {
+    return maxAgeMillis > 0 && System.currentTimeMillis() - entry.getTimestamp() > maxAgeMillis;
+  }
+
+  private boolean isStale(@Nonnull CachedRecordTemplate entry) {
+    return refreshAfterMillis > 0
+        && System.currentTimeMillis() - entry.getTimestamp() > refreshAfterMillis;
+  }
+
+  private <T extends RecordTemplate> void refreshAsync(
+      @Nonnull OperationContext opContext,
+      @Nonnull Cache cache,
+      @Nonnull Object cacheKey,
+      @Nonnull Supplier<T> loader) {
+    final Pair<String, Object> flightKey = Pair.of(cache.getName(), cacheKey);
+    final CompletableFuture<CachedRecordTemplate> flight = new CompletableFuture<>();
+    if (inFlight.putIfAbsent(flightKey, flight) != null) {
+      // A load or refresh for this key is already running
+      return;
+    }
+
+    opContext
+        .getMetricUtils()
+        .ifPresent(metricUtils -> metricUtils.increment(this.getClass(), "stale_hit_count", 1));
+
+    try {
+      refreshExecutor.execute(
+          () -> {
+            try {
+              flight.complete(write(cache, cacheKey, loader.get()));
+            } catch (Throwable t) {
+              log.warn("Failed to refresh stale cache entry for key {}", cacheKey, t);
+              flight.completeExceptionally(t);
+              opContext
+                  .getMetricUtils()
+                  .ifPresent(
+                      metricUtils ->
+                          metricUtils.increment(this.getClass(), "refresh_failure_count", 1));
+              if (t instanceof Error) {
+                throw (Error) t;
+              }
+            } finally {
+              inFlight.remove(flightKey, flight);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      log.debug("Refresh executor saturated, serving stale entry for key {}", cacheKey);
+      flight.cancel(false);
+      inFlight.remove(flightKey, flight);
+    }
+  }
+
+  @Nonnull
+  private static CachedRecordTemplate write(
+      @Nonnull Cache cache, @Nonnull Object cacheKey, @Nonnull RecordTemplate value) {
+    CachedRecordTemplate entry = new CachedRecordTemplate(value, System.currentTimeMillis());
+    cache.put(cacheKey, entry);
+    return entry;
+  }
+
+  @Nullable
+  private static Object readCache(@Nonnull Cache cache, @Nonnull Object cacheKey) {
+    Cache.ValueWrapper wrapper = cache.get(cacheKey);
+    return wrapper != null ? wrapper.get() : null;
+  }
+
+  @Nonnull
+  private static CachedRecordTemplate await(
+      @Nonnull CompletableFuture<CachedRecordTemplate> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package com.linkedin.metadata.search.client;
 
 import static com.datahub.util.RecordUtils.toJsonString;
-import static com.datahub.util.RecordUtils.toRecordTemplate;
 import static com.linkedin.metadata.utils.metrics.MetricUtils.CACHE_HIT_ATTR;
 
 import com.linkedin.metadata.browse.BrowseResult;
@@ -10,38 +9,100 @@ import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.SearchFlags;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.search.AggregationMetadataArray;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.SearchResultMetadata;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
+import com.linkedin.metadata.search.cache.CoalescingCacheLoader;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.api.trace.Span;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.javatuples.Octet;
+import org.javatuples.Quintet;
 import org.javatuples.Septet;
 import org.javatuples.Sextet;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
-@RequiredArgsConstructor
 public class CachingEntitySearchService {
   public static final String ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME = "entitySearchServiceSearch";
   public static final String ENTITY_SEARCH_SERVICE_AUTOCOMPLETE_CACHE_NAME =
       "entitySearchServiceAutoComplete";
   public static final String ENTITY_SEARCH_SERVICE_BROWSE_CACHE_NAME = "entitySearchServiceBrowse";
   public static final String ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME = "entitySearchServiceScroll";
+  public static final String ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME =
+      "entitySearchServiceAggregations";
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
   private final CacheManager cacheManager;
   private final EntitySearchService
       entitySearchService; // This is a shared component, also used in search aggregation
   private final int batchSize;
   private final boolean enableCache;
+  // Shared by all requests so that identical concurrent misses are coalesced
+  @Nonnull private final CoalescingCacheLoader cacheLoader;
+  // Whether aggregations are cached apart from the hits, keyed without the sort and the page
+  private final boolean enableAggregationsCache;
+  // Age after which cached aggregations are computed again, 0 for the cache manager's TTL only
+  private final long aggregationsCacheTtlMillis;
+  // Runs the aggregation requests made beside the hits requests
+  @Nullable private final Executor aggregationsExecutor;
+
+  public CachingEntitySearchService(
+      @Nonnull CacheManager cacheManager,
+      @Nonnull EntitySearchService entitySearchService,
+      int batchSize,
+      boolean enableCache) {
+    this(
+        cacheManager,
+        entitySearchService,
+        batchSize,
+        enableCache,
+        new CoalescingCacheLoader(),
+        false,
+        0,
+        null);
+  }
+
+  /**
+   * @param aggregationsExecutor executor running the aggregation requests, required when the
+   *     aggregations cache is enabled
+   */
+  public CachingEntitySearchService(
+      @Nonnull CacheManager cacheManager,
+      @Nonnull EntitySearchService entitySearchService,
+      int batchSize,
+      boolean enableCache,
+      @Nonnull CoalescingCacheLoader cacheLoader,
+      boolean enableAggregationsCache,
+      long aggregationsCacheTtlMillis,
+      @Nullable Executor aggregationsExecutor) {
+    if (enableAggregationsCache && aggregationsExecutor == null) {
+      throw new IllegalArgumentException(
+          "An aggregations executor is required for the aggregations cache.");
+    }
+    this.cacheManager = cacheManager;
+    this.entitySearchService = entitySearchService;
+    this.batchSize = batchSize;
+    this.enableCache = enableCache;
+    this.cacheLoader = cacheLoader;
+    this.enableAggregationsCache = enableAggregationsCache;
+    this.aggregationsCacheTtlMillis = aggregationsCacheTtlMillis;
+    this.aggregationsExecutor = aggregationsExecutor;
+  }
 
   /**
    * Retrieves cached search results. If the query has been cached, this will return quickly. If
@@ -144,6 +205,10 @@ public class CachingEntitySearchService {
    * starting from the beginning, until we get enough results to return This lets us have batches
    * that return a variable number of results (we have no idea which batch the "from" "size" page
    * corresponds to)
+   *
+   * <p>With the aggregations cache enabled, the aggregations are cached apart from the hits. They
+   * do not depend on the sort or the page, so paging or sorting only fetches hits, and on a miss
+   * the aggregations are computed by a separate request of size 0 running beside the hits request.
    */
   public SearchResult getCachedSearchResults(
       @Nonnull OperationContext opContext,
@@ -155,6 +220,48 @@ public class CachingEntitySearchService {
       @Nullable Integer size,
       @Nonnull List<String> facets) {
     size = ConfigUtils.applyLimit(entitySearchService.getSearchServiceConfig(), size);
+    final SearchFlags searchFlags = opContext.getSearchContext().getSearchFlags();
+    if (!enableAggregationsCache
+        || !enableCache(searchFlags)
+        || Boolean.TRUE.equals(searchFlags.isSkipAggregates())) {
+      return getCachedSearchHits(
+          opContext, entityNames, query, filters, sortCriteria, from, size, facets);
+    }
+
+    final CompletableFuture<AggregationMetadataArray> aggregations =
+        CompletableFuture.supplyAsync(
+            () -> getCachedAggregations(opContext, entityNames, query, filters, facets),
+            aggregationsExecutor);
+    final SearchResult result =
+        getCachedSearchHits(
+            opContext.withSearchFlags(flags -> flags.setSkipAggregates(true)),
+            entityNames,
+            query,
+            filters,
+            sortCriteria,
+            from,
+            size,
+            facets);
+    try {
+      result.getMetadata().setAggregations(aggregations.join());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return result;
+  }
+
+  private SearchResult getCachedSearchHits(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nonnull String query,
+      @Nullable Filter filters,
+      List<SortCriterion> sortCriteria,
+      int from,
+      int size,
+      @Nonnull List<String> facets) {
     return new CacheableSearcher<>(
             cacheManager.getCache(ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME),
             batchSize,
@@ -177,10 +284,67 @@ public class CachingEntitySearchService {
                     CollectionUtils.isNotEmpty(sortCriteria) ? toJsonString(sortCriteria) : null,
                     facets,
                     querySize),
-            enableCache)
+            enableCache,
+            cacheLoader)
         .getSearchResults(opContext, from, size);
   }
 
+  /**
+   * Returns the cached aggregations of a search, computing them with a request of size 0 on a
+   * miss. The query is normalized so that searches differing only in whitespace share an entry.
+   * Views are already part of the filters.
+   */
+  private AggregationMetadataArray getCachedAggregations(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nonnull String query,
+      @Nullable Filter filters,
+      @Nonnull List<String> facets) {
+    final OperationContext aggregationContext =
+        opContext.withSearchFlags(
+            flags -> flags.setSkipAggregates(false).setSkipHighlighting(true));
+    final String normalizedQuery = normalizeQuery(query);
+    final Object cacheKey =
+        Quintet.with(
+            aggregationContext.getSearchContextId(),
+            entityNames,
+            normalizedQuery,
+            filters != null ? toJsonString(filters) : null,
+            facets);
+    final CoalescingCacheLoader.Lookup<SearchResultMetadata> lookup =
+        cacheLoader.get(
+            aggregationContext,
+            cacheManager.getCache(ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME),
+            cacheKey,
+            SearchResultMetadata.class,
+            () ->
+                getRawSearchResults(
+                        aggregationContext,
+                        entityNames,
+                        normalizedQuery,
+                        filters,
+                        Collections.emptyList(),
+                        0,
+                        0,
+                        facets)
+                    .getMetadata(),
+            aggregationsCacheTtlMillis);
+
+    if (!lookup.isCacheHit()) {
+      opContext
+          .getMetricUtils()
+          .ifPresent(
+              metricUtils ->
+                  metricUtils.increment(this.getClass(), "aggregations_cache_miss_count", 1));
+    }
+    return lookup.getValue().getAggregations();
+  }
+
+  /** Trims the query and collapses its runs of whitespace. */
+  private static String normalizeQuery(@Nonnull String query) {
+    return WHITESPACE.matcher(query.trim()).replaceAll(" ");
+  }
+
   /** Returns cached auto-complete results. */
   public AutoCompleteResult getCachedAutoCompleteResults(
       @Nonnull OperationContext opContext,
@@ -205,13 +369,18 @@ public class CachingEntitySearchService {
                     field,
                     filters != null ? toJsonString(filters) : null,
                     limit);
-            String json = cache.get(cacheKey, String.class);
-            result = json != null ? toRecordTemplate(AutoCompleteResult.class, json) : null;
+            CoalescingCacheLoader.Lookup<AutoCompleteResult> lookup =
+                cacheLoader.get(
+                    opContext,
+                    cache,
+                    cacheKey,
+                    AutoCompleteResult.class,
+                    () ->
+                        getRawAutoCompleteResults(
+                            opContext, entityName, input, field, filters, limit));
+            result = lookup.getValue();
 
-            if (result == null) {
-              result =
-                  getRawAutoCompleteResults(opContext, entityName, input, field, filters, limit);
-              cache.put(cacheKey, toJsonString(result));
+            if (!lookup.isCacheHit()) {
               Span.current().setAttribute(CACHE_HIT_ATTR, false);
               opContext
                   .getMetricUtils()
@@ -255,12 +424,17 @@ public class CachingEntitySearchService {
                     filters != null ? toJsonString(filters) : null,
                     from,
                     size);
-            String json = cache.get(cacheKey, String.class);
-            result = json != null ? toRecordTemplate(BrowseResult.class, json) : null;
+            CoalescingCacheLoader.Lookup<BrowseResult> lookup =
+                cacheLoader.get(
+                    opContext,
+                    cache,
+                    cacheKey,
+                    BrowseResult.class,
+                    () ->
+                        getRawBrowseResults(opContext, entityName, path, filters, from, size));
+            result = lookup.getValue();
 
-            if (result == null) {
-              result = getRawBrowseResults(opContext, entityName, path, filters, from, size);
-              cache.put(cacheKey, toJsonString(result));
+            if (!lookup.isCacheHit()) {
               Span.current().setAttribute(CACHE_HIT_ATTR, false);
               opContext
                   .getMetricUtils()
@@ -314,23 +488,27 @@ public class CachingEntitySearchService {
                     scrollId,
                     facets,
                     size);
-            String json = cache.get(cacheKey, String.class);
-            result = json != null ? toRecordTemplate(ScrollResult.class, json) : null;
-
-            if (result == null) {
-              result =
-                  getRawScrollResults(
-                      opContext,
-                      entities,
-                      query,
-                      filters,
-                      sortCriteria,
-                      scrollId,
-                      keepAlive,
-                      size,
-                      isFullText,
-                      facets);
-              cache.put(cacheKey, toJsonString(result));
+            CoalescingCacheLoader.Lookup<ScrollResult> lookup =
+                cacheLoader.get(
+                    opContext,
+                    cache,
+                    cacheKey,
+                    ScrollResult.class,
+                    () ->
+                        getRawScrollResults(
+                            opContext,
+                            entities,
+                            query,
+                            filters,
+                            sortCriteria,
+                            scrollId,
+                            keepAlive,
+                            size,
+                            isFullText,
+                            facets));
+            result = lookup.getValue();
+
+            if (!lookup.isCacheHit()) {
               Span.current().setAttribute(CACHE_HIT_ATTR, false);
               opContext
                   .getMetricUtils()
@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import org.javatuples.Octet;
+import org.javatuples.Quintet;
 import org.javatuples.Septet;
 
 class UrnCacheKeyMatcher implements CacheKeyMatcher {
@@ -16,7 +17,9 @@ class UrnCacheKeyMatcher implements CacheKeyMatcher {
 
   final List<String> SUPPORTED_CACHE_NAMES =
       Arrays.asList(
-          ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME, ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME);
+          ENTITY_SEARCH_SERVICE_SEARCH_CACHE_NAME,
+          ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME,
+          ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME);
 
   UrnCacheKeyMatcher(List<Urn> urns) {
     this.urns = urns;
@@ -39,6 +42,8 @@ class UrnCacheKeyMatcher implements CacheKeyMatcher {
         return matchSearchServiceCacheKey(key);
       case ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME:
         return matchSearchServiceScrollCacheKey(key);
+      case ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME:
+        return matchSearchServiceAggregationsCacheKey(key);
     }
     return false;
   }
@@ -96,6 +101,25 @@ class UrnCacheKeyMatcher implements CacheKeyMatcher {
     return isKeyImpactedByEntity(entitiesInCacheKey, query, filter);
   }
 
+  private boolean matchSearchServiceAggregationsCacheKey(Object key) {
+    Quintet<?, List<String>, String, String, List<String>> cacheKey =
+        (Quintet<?, List<String>, String, String, List<String>>) key;
+    // For reference
+    //      @Nonnull OperationContext opContext,
+    //      @Nonnull List<String> entityNames,
+    //      @Nonnull String query,
+    //      @Nullable Filter filters,
+    //      @Nonnull List<String> facets
+
+    String filter = cacheKey.getValue3();
+    if (filter == null) {
+      filter = "";
+    }
+    filter += " " + String.join(" ", cacheKey.getValue4());
+
+    return isKeyImpactedByEntity(cacheKey.getValue1(), cacheKey.getValue2(), filter);
+  }
+
   boolean isKeyImpactedByEntity(List<String> entitiesInCacheKey, String query, String filter) {
     boolean entityMatch = entitiesInCacheKey.stream().anyMatch(entityTypes::contains);
     if (!entityMatch) {
@@ -495,6 +495,20 @@ public class ElasticSearchService implements EntitySearchService, ElasticSearchI
         ConfigUtils.applyLimit(searchServiceConfig, count));
   }
 
+  /**
+   * Loads the in memory browse path tree, if browseV2 has one, from the search indices.
+   *
+   * @param slices number of slices each index is scanned in, in parallel
+   */
+  public void loadBrowsePathTrie(@Nonnull OperationContext opContext, int slices) {
+    esBrowseDAO.loadBrowsePathTrie(opContext, slices);
+  }
+
+  /** Loads the autocomplete prefix index, if autocomplete has one, from the search indices. */
+  public void loadAutocompletePrefixIndex(@Nonnull OperationContext opContext) {
+    esSearchDAO.loadAutocompletePrefixIndex(opContext);
+  }
+
   @Nonnull
   @Override
   public List<String> getBrowsePaths(
@@ -89,6 +89,7 @@ import com.linkedin.metadata.utils.metrics.MetricUtils;
 import java.io.IOException;
 import java.io.StringReader;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -117,6 +118,8 @@ import org.apache.http.config.RegistryBuilder;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.util.PublicSuffixMatcherLoader;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
 import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
@@ -165,6 +168,8 @@ import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.DeletePitInfo;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -201,6 +206,7 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.BulkByScrollTask;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
@@ -493,6 +499,33 @@ public class Es8SearchClientShim extends AbstractBulkProcessorShim<BulkIngester<
             .createParser(X_CONTENT_REGISTRY, LoggingDeprecationHandler.INSTANCE, json));
   }
 
+  /**
+   * Sends the searches as the multi line body of a low level _msearch request instead of
+   * converting each of them, the response has the same format as that of OpenSearch.
+   */
+  @Nonnull
+  @Override
+  public MultiSearchResponse msearch(
+      @Nonnull MultiSearchRequest multiSearchRequest, @Nonnull RequestOptions options)
+      throws IOException {
+    Request request = new Request("POST", "/_msearch");
+    request.setEntity(
+        new ByteArrayEntity(
+            MultiSearchRequest.writeMultiLineFormat(
+                multiSearchRequest, XContentType.JSON.xContent()),
+            ContentType.create("application/x-ndjson", StandardCharsets.UTF_8)));
+    RawResponse response = performLowLevelRequest(request);
+    try (XContentParser parser =
+        XContentType.JSON
+            .xContent()
+            .createParser(
+                X_CONTENT_REGISTRY,
+                LoggingDeprecationHandler.INSTANCE,
+                response.getEntity().getContent())) {
+      return MultiSearchResponse.fromXContext(parser);
+    }
+  }
+
   @Nonnull
   private Map<String, Aggregation> convertAggregations(
       @Nullable AggregatorFactories.Builder aggregations) throws JsonProcessingException {
@@ -1550,15 +1583,18 @@ public class Es8SearchClientShim extends AbstractBulkProcessorShim<BulkIngester<
         new Destination.Builder().index(reindexRequest.getDestination().index()).build();
     Slices slices = new Slices.Builder().value(reindexRequest.getSlices()).build();
     Time time = new Time.Builder().time(reindexRequest.getTimeout().getStringRep()).build();
-    co.elastic.clients.elasticsearch.core.ReindexRequest esReindexRequest =
+    co.elastic.clients.elasticsearch.core.ReindexRequest.Builder esReindexRequest =
         new co.elastic.clients.elasticsearch.core.ReindexRequest.Builder()
             .source(sourceIndex)
             .dest(destinationIndex)
             .conflicts(Conflicts.Proceed)
             .slices(slices)
-            .timeout(time)
-            .build();
-    ReindexResponse esReindexResponse = withTransportOptions(options).reindex(esReindexRequest);
+            .timeout(time);
+    if (Float.isFinite(reindexRequest.getRequestsPerSecond())) {
+      esReindexRequest.requestsPerSecond(reindexRequest.getRequestsPerSecond());
+    }
+    ReindexResponse esReindexResponse =
+        withTransportOptions(options).reindex(esReindexRequest.build());
 
     return Optional.ofNullable(esReindexResponse.task()).orElse(StringUtils.EMPTY);
   }
@@ -70,6 +70,8 @@ import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -269,6 +271,14 @@ public class OpenSearch2SearchClientShim extends AbstractBulkProcessorShim<BulkP
     return client.search(searchRequest, options);
   }
 
+  @Nonnull
+  @Override
+  public MultiSearchResponse msearch(
+      @Nonnull MultiSearchRequest multiSearchRequest, @Nonnull RequestOptions options)
+      throws IOException {
+    return client.msearch(multiSearchRequest, options);
+  }
+
   @Nonnull
   @Override
   public SearchResponse scroll(
@@ -3,6 +3,7 @@ package com.linkedin.metadata.search.elasticsearch.indexbuilder;
 import static com.linkedin.metadata.Constants.*;
 import static com.linkedin.metadata.search.utils.ESUtils.PROPERTIES;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import com.linkedin.common.urn.Urn;
@@ -40,13 +41,16 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.util.EntityUtils;
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.admin.cluster.node.tasks.list.ListTasksRequest;
@@ -124,6 +128,11 @@ public class ESIndexBuilder {
   // would wait >3000s for the 5th retry
   private static final int deleteMaxAttempts = 5;
 
+  /** Documents per second each new reindex task runs at, lowered by {@link ReindexOrchestrator}. */
+  @Getter @Setter private volatile float reindexRequestsPerSecond = Float.POSITIVE_INFINITY;
+
+  private final Map<String, ReindexProgress> reindexesInProgress = new ConcurrentHashMap<>();
+
   public ESIndexBuilder(
       SearchClientShim<?> searchClient,
       ElasticSearchConfiguration elasticSearchConfiguration,
@@ -784,6 +793,15 @@ public class ESIndexBuilder {
           documentCounts = tempDocumentsCount;
           previousDocCount = documentCounts.getSecond();
         }
+        reindexesInProgress.put(
+            indexState.name(),
+            new ReindexProgress(
+                indexState.name(),
+                tempIndexName,
+                parentTaskId,
+                documentCounts.getFirst(),
+                documentCounts.getSecond(),
+                estimatedMinutesRemaining));
 
         if (documentCounts.getFirst().equals(documentCounts.getSecond())) {
           log.info(
@@ -818,6 +836,7 @@ public class ESIndexBuilder {
                       null,
                       null,
                       targetShards);
+              parentTaskId = (String) reinfo.get("taskId");
               reindexCount = reindexCount + 1;
               documentCountsLastUpdated = System.currentTimeMillis(); // reset timer
             } else {
@@ -867,6 +886,8 @@ public class ESIndexBuilder {
           e.toString());
       deleteActionWithRetry(searchClient, tempIndexName);
       throw e;
+    } finally {
+      reindexesInProgress.remove(indexState.name());
     }
 
     log.info("Reindex from {} to {} succeeded", indexState.name(), tempIndexName);
@@ -1104,6 +1125,65 @@ public class ESIndexBuilder {
     setIndexSetting(indexName, String.valueOf(replicaCount), INDEX_NUMBER_OF_REPLICAS);
   }
 
+  /**
+   * Reindexes currently running in {@link #buildIndex}, with their latest progress.
+   *
+   * @return a snapshot of the running reindexes
+   */
+  public Collection<ReindexProgress> getReindexesInProgress() {
+    return List.copyOf(reindexesInProgress.values());
+  }
+
+  /**
+   * Changes how fast a running reindex task goes, including all of its slices.
+   *
+   * @param taskId the reindex task id
+   * @param requestsPerSecond documents per second, infinite for no limit
+   * @throws IOException if there's an error communicating with Elasticsearch
+   */
+  public void rethrottleReindex(@Nonnull String taskId, float requestsPerSecond)
+      throws IOException {
+    Request request = new Request("POST", "/_reindex/" + taskId + "/_rethrottle");
+    request.addParameter(
+        "requests_per_second",
+        Float.isInfinite(requestsPerSecond) ? "-1" : String.valueOf(requestsPerSecond));
+    searchClient.performLowLevelRequest(request);
+  }
+
+  /**
+   * Gets the number of cluster level changes waiting to be executed by the master node.
+   *
+   * @return the number of pending cluster tasks
+   * @throws IOException if there's an error communicating with Elasticsearch
+   */
+  public long getPendingTasks() throws IOException {
+    Request request = new Request("GET", "/_cluster/health");
+    request.addParameter("filter_path", "number_of_pending_tasks");
+    return readJson(request).path("number_of_pending_tasks").asLong();
+  }
+
+  /**
+   * Gets the number of writes the nodes rejected because their write queue was full, since they
+   * started.
+   *
+   * @return the total of rejected write thread pool tasks across nodes
+   * @throws IOException if there's an error communicating with Elasticsearch
+   */
+  public long getRejectedWrites() throws IOException {
+    Request request = new Request("GET", "/_nodes/stats/thread_pool");
+    request.addParameter("filter_path", "nodes.*.thread_pool.write.rejected");
+    long rejected = 0;
+    for (JsonNode node : readJson(request).path("nodes")) {
+      rejected += node.path("thread_pool").path("write").path("rejected").asLong();
+    }
+    return rejected;
+  }
+
+  private JsonNode readJson(Request request) throws IOException {
+    RawResponse response = searchClient.performLowLevelRequest(request);
+    return ReindexConfig.OBJECT_MAPPER.readTree(EntityUtils.toString(response.getEntity()));
+  }
+
   private Map<String, Object> submitReindex(
       String[] sourceIndices,
       String destinationIndex,
@@ -1125,7 +1205,8 @@ public class ESIndexBuilder {
             .setAbortOnVersionConflict(false)
             // we cannot set to 'auto', so explicitely set to the number of target number_of_shards
             .setSlices((Integer) reindexInfo.get("optimalSlices"))
-            .setSourceBatchSize(lBatchSize);
+            .setSourceBatchSize(lBatchSize)
+            .setRequestsPerSecond(reindexRequestsPerSecond);
     if (timeout != null) {
       reindexRequest.setTimeout(timeout);
     }
@@ -0,0 +1,262 @@
+package com.linkedin.metadata.search.elasticsearch.indexbuilder;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.config.search.BuildIndicesConfiguration;
+import com.linkedin.util.Pair;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds indices with at most {@code maxConcurrentReindexes} reindexes running at once, largest
+ * index first so that the longest reindex does not start last.
+ *
+ * <p>While they run, the reindex tasks are slowed down when the cluster has too many pending tasks
+ * or starts rejecting writes, and sped back up once it recovers. Each index's progress, and an
+ * estimate of the time left for all of them, is logged at the same interval.
+ */
+@Slf4j
+public class ReindexOrchestrator {
+
+  private final BuildIndicesConfiguration config;
+
+  /** Documents not yet picked up, by index name, for the overall estimate. */
+  private final Map<String, Long> queuedDocs = new ConcurrentHashMap<>();
+
+  // Only touched by the single monitor thread
+  private final Map<String, Long> lastReindexedDocs = new HashMap<>();
+  private float requestsPerSecond = Float.POSITIVE_INFINITY;
+  private long lastRejectedWrites = -1;
+  private long lastCheckMillis;
+
+  public ReindexOrchestrator(@Nonnull BuildIndicesConfiguration config) {
+    this.config = config;
+  }
+
+  /**
+   * Builds the given indices, reindexing where needed, and waits for all of them. Once one fails
+   * the indices that have not started yet are skipped.
+   *
+   * @param indices the indices to build, each with the index builder of the service that owns it
+   * @throws Exception the first failure, after the reindexes that were running have finished
+   */
+  public void buildIndices(@Nonnull List<Pair<ESIndexBuilder, ReindexConfig>> indices)
+      throws Exception {
+    final Set<ESIndexBuilder> builders = new LinkedHashSet<>();
+    final Map<ReindexConfig, Long> sizes = new HashMap<>();
+    for (Pair<ESIndexBuilder, ReindexConfig> index : indices) {
+      builders.add(index.getFirst());
+      sizes.put(index.getSecond(), getReindexSize(index.getFirst(), index.getSecond()));
+    }
+    final List<Pair<ESIndexBuilder, ReindexConfig>> largestFirst = new ArrayList<>(indices);
+    largestFirst.sort(Comparator.comparing(index -> -sizes.get(index.getSecond())));
+
+    final int concurrency = Math.max(1, config.getMaxConcurrentReindexes());
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            concurrency, new ThreadFactoryBuilder().setNameFormat("reindex-%d").build());
+    final ScheduledExecutorService monitor =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("reindex-monitor-%d").setDaemon(true).build());
+    if (config.getReindexThrottleIntervalSeconds() > 0) {
+      lastCheckMillis = System.currentTimeMillis();
+      monitor.scheduleWithFixedDelay(
+          () -> {
+            try {
+              checkReindexes(builders);
+            } catch (Exception e) {
+              // The reindexes go on at their current rate
+              log.warn("Failed to check on running reindexes", e);
+            }
+          },
+          config.getReindexThrottleIntervalSeconds(),
+          config.getReindexThrottleIntervalSeconds(),
+          TimeUnit.SECONDS);
+    }
+    log.info(
+        "Building {} indices, up to {} reindexes at once, largest first",
+        indices.size(),
+        concurrency);
+
+    try {
+      final AtomicBoolean failed = new AtomicBoolean();
+      final List<Future<ReindexResult>> futures = new ArrayList<>();
+      for (Pair<ESIndexBuilder, ReindexConfig> index : largestFirst) {
+        final ReindexConfig indexState = index.getSecond();
+        queuedDocs.put(indexState.name(), sizes.get(indexState));
+        futures.add(
+            executor.submit(
+                () -> {
+                  queuedDocs.remove(indexState.name());
+                  if (failed.get()) {
+                    return null;
+                  }
+                  try {
+                    return index.getFirst().buildIndex(indexState);
+                  } catch (Exception e) {
+                    failed.set(true);
+                    throw e;
+                  }
+                }));
+      }
+
+      Exception failure = null;
+      for (Future<ReindexResult> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          if (failure == null) {
+            failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+          }
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    } finally {
+      monitor.shutdownNow();
+      executor.shutdownNow();
+      builders.forEach(builder -> builder.setReindexRequestsPerSecond(Float.POSITIVE_INFINITY));
+    }
+  }
+
+  /**
+   * Picks the next throttle of each reindex task: half of what the tasks managed when the cluster
+   * is overloaded, otherwise double the throttle until it is far above what the tasks manage and no
+   * longer limits them.
+   *
+   * @param current the current throttle in documents per second, infinite for none
+   * @param observedPerTask documents per second each task reindexed since the last check
+   * @param overloaded whether the cluster is overloaded
+   * @param min the lowest throttle
+   * @return the next throttle in documents per second, infinite for none
+   */
+  @VisibleForTesting
+  public static float nextRequestsPerSecond(
+      float current, double observedPerTask, boolean overloaded, float min) {
+    if (overloaded) {
+      double base =
+          Float.isInfinite(current) ? observedPerTask : Math.min(current, observedPerTask);
+      return Math.max(min, (float) (base / 2));
+    }
+    if (Float.isInfinite(current)) {
+      return current;
+    }
+    float raised = current * 2;
+    return raised > observedPerTask * 4 ? Float.POSITIVE_INFINITY : raised;
+  }
+
+  /**
+   * Logs the progress of the running reindexes and rethrottles them to the cluster's load. A task
+   * is only rethrottled once its rate has been observed, that is from its second check on.
+   *
+   * @param builders the index builders whose reindexes to check
+   */
+  @VisibleForTesting
+  public void checkReindexes(@Nonnull Set<ESIndexBuilder> builders) throws IOException {
+    final List<Pair<ESIndexBuilder, ReindexProgress>> running = new ArrayList<>();
+    for (ESIndexBuilder builder : builders) {
+      builder.getReindexesInProgress().forEach(progress -> running.add(Pair.of(builder, progress)));
+    }
+    final long now = System.currentTimeMillis();
+    final double elapsedSeconds = Math.max(1, now - lastCheckMillis) / 1000.0;
+    lastCheckMillis = now;
+    if (running.isEmpty()) {
+      return;
+    }
+
+    double docsPerSecond = 0;
+    int sampledTasks = 0;
+    long remainingDocs = queuedDocs.values().stream().mapToLong(Long::longValue).sum();
+    final Map<String, Long> reindexedDocs = new HashMap<>();
+    for (Pair<ESIndexBuilder, ReindexProgress> entry : running) {
+      final ReindexProgress progress = entry.getSecond();
+      final Long previous = lastReindexedDocs.get(progress.getIndexName());
+      if (previous != null) {
+        docsPerSecond += Math.max(0, progress.getReindexedDocs() - previous) / elapsedSeconds;
+        sampledTasks++;
+      }
+      remainingDocs += Math.max(0, progress.getSourceDocs() - progress.getReindexedDocs());
+      reindexedDocs.put(progress.getIndexName(), progress.getReindexedDocs());
+      log.info(
+          "Reindex {} -> {}: {} of {} documents, about {} minutes remaining",
+          progress.getIndexName(),
+          progress.getTempIndexName(),
+          progress.getReindexedDocs(),
+          progress.getSourceDocs(),
+          progress.getEstimatedMinutesRemaining());
+    }
+    lastReindexedDocs.clear();
+    lastReindexedDocs.putAll(reindexedDocs);
+    log.info(
+        "{} reindexes running at {} documents per second, about {} minutes remaining overall",
+        running.size(),
+        Math.round(docsPerSecond),
+        docsPerSecond > 0 ? Math.round(remainingDocs / docsPerSecond / 60) : "unknown");
+
+    // All builders share the cluster, so any of them can read its load
+    final ESIndexBuilder anyBuilder = running.get(0).getFirst();
+    final long pendingTasks = anyBuilder.getPendingTasks();
+    final long rejectedWrites = anyBuilder.getRejectedWrites();
+    final boolean overloaded =
+        pendingTasks > config.getReindexMaxPendingTasks()
+            || (lastRejectedWrites >= 0 && rejectedWrites > lastRejectedWrites);
+    lastRejectedWrites = rejectedWrites;
+    if (sampledTasks < running.size()) {
+      // A task without a previous sample has no rate yet, throttling it now would be a guess
+      return;
+    }
+
+    final float next =
+        nextRequestsPerSecond(
+            requestsPerSecond,
+            docsPerSecond / sampledTasks,
+            overloaded,
+            config.getReindexMinRequestsPerSecond());
+    if (next == requestsPerSecond) {
+      return;
+    }
+    log.info(
+        "Rethrottling reindexes from {} to {} documents per second, pending tasks: {}, rejected writes: {}",
+        requestsPerSecond,
+        next,
+        pendingTasks,
+        rejectedWrites);
+    requestsPerSecond = next;
+    builders.forEach(builder -> builder.setReindexRequestsPerSecond(next));
+    for (Pair<ESIndexBuilder, ReindexProgress> entry : running) {
+      if (!entry.getSecond().getTaskId().isEmpty()) {
+        entry.getFirst().rethrottleReindex(entry.getSecond().getTaskId(), next);
+      }
+    }
+  }
+
+  /** Documents that building the index will copy, 0 when it is not reindexed. */
+  private static long getReindexSize(ESIndexBuilder builder, ReindexConfig indexState) {
+    if (!indexState.exists() || !indexState.requiresReindex()) {
+      return 0;
+    }
+    try {
+      return builder.getCount(indexState.name());
+    } catch (IOException e) {
+      log.warn("Failed to count documents of {}, scheduling it last", indexState.name(), e);
+      return 0;
+    }
+  }
+}
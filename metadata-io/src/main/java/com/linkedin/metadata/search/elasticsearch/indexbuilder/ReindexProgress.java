@@ -0,0 +1,17 @@
+package com.linkedin.metadata.search.elasticsearch.indexbuilder;
+
+import lombok.Value;
+
+/** Where a running reindex of one index stands, as last polled by {@link ESIndexBuilder}. */
+@Value
+public class ReindexProgress {
+  String indexName;
+  String tempIndexName;
+
+  /** Reindex task id, empty when there was nothing to reindex. */
+  String taskId;
+
+  long sourceDocs;
+  long reindexedDocs;
+  long estimatedMinutesRemaining;
+}
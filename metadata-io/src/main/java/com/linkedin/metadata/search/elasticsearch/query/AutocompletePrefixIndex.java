@@ -0,0 +1,569 @@
+package com.linkedin.metadata.search.elasticsearch.query;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In memory prefix index over the autocomplete fields (names, qualified names) and the urns of the
+ * most used entities of each type. It answers autocomplete for them without a search request, and
+ * answers nothing when it cannot tell that its answer is complete, leaving the request to the
+ * search index.
+ *
+ * <p>The terms of each entity type are kept in sorted arrays. A term is the lower cased value of a
+ * field, or its tail from the start of one of its words, and is stored as the entity, the value and
+ * the offset of the tail rather than as a string of its own. Changes are kept beside the sorted
+ * terms until enough of them have built up to sort the terms again, and changes applied while a
+ * load is running are applied again on top of the loaded state.
+ */
+@Slf4j
+public class AutocompletePrefixIndex {
+  // Changed entities of a type kept beside its sorted terms before they are sorted again
+  static final int MAX_PENDING_CHANGES = 1000;
+  // Word starts of a value indexed besides its start
+  private static final int MAX_WORD_STARTS = 8;
+  private static final String WORD_DELIMITERS = " ._-/:,()";
+
+  private static final String HITS_METRIC = "datahub.search.autocomplete.prefix_index.hits";
+  private static final String MISSES_METRIC = "datahub.search.autocomplete.prefix_index.misses";
+  private static final String LATENCY_METRIC = "datahub.search.autocomplete.prefix_index.latency";
+
+  @Getter private final int maxEntitiesPerType;
+  // Usage counts that rank entities, compared in order
+  @Getter @Nonnull private final List<String> usageFields;
+  @Nullable private final MetricUtils metricUtils;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Map<String, Shard> shards = new HashMap<>();
+  private boolean ready;
+  // Changes received while a load is running, null when no load is
+  @Nullable private List<Runnable> changesDuringLoad;
+
+  public AutocompletePrefixIndex(
+      int maxEntitiesPerType,
+      @Nonnull List<String> usageFields,
+      @Nullable MetricUtils metricUtils) {
+    this.maxEntitiesPerType = maxEntitiesPerType;
+    this.usageFields = List.copyOf(usageFields);
+    this.metricUtils = metricUtils;
+  }
+
+  /** Whether a load has completed, until then autocomplete goes to the search index. */
+  public boolean isReady() {
+    lock.readLock().lock();
+    try {
+      return ready;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Sets autocomplete field values and usage counts of an entity, leaving its other fields as they
+   * are. A field with no values is cleared.
+   */
+  public void update(
+      @Nonnull Urn urn,
+      @Nonnull Map<String, List<String>> fields,
+      @Nonnull Map<String, Long> usage) {
+    change(
+        urn,
+        (shard, current) -> {
+          final Map<String, List<String>> mergedFields =
+              new LinkedHashMap<>(current == null ? Map.of() : current.getFields());
+          fields.forEach(
+              (field, values) -> {
+                if (values.isEmpty()) {
+                  mergedFields.remove(field);
+                } else {
+                  mergedFields.put(field, List.copyOf(values));
+                }
+              });
+          final long[] mergedUsage =
+              current == null ? new long[usageFields.size()] : current.getUsage().clone();
+          usage.forEach(
+              (field, count) -> {
+                final int i = usageFields.indexOf(field);
+                if (i >= 0) {
+                  mergedUsage[i] = count;
+                }
+              });
+          return new Entry(urn, mergedFields, mergedUsage, current != null && current.isRemoved());
+        });
+  }
+
+  /** Sets whether an entity is soft deleted. */
+  public void setRemoved(@Nonnull Urn urn, boolean removed) {
+    change(
+        urn,
+        (shard, current) -> {
+          if (current == null) {
+            // A restored entity the index does not hold, it may now be missing from answers
+            shard.complete &= removed;
+            return null;
+          }
+          return new Entry(urn, current.getFields(), current.getUsage(), removed);
+        });
+  }
+
+  /** Takes a hard deleted entity out of the index. */
+  public void delete(@Nonnull Urn urn) {
+    change(urn, (shard, current) -> null);
+  }
+
+  /** Starts recording changes so that they can be applied again once the load completes. */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Replaces the index with the loaded entities, then applies the changes received since {@link
+   * #beginLoad()}. Only the loaded entity types are indexed.
+   *
+   * @param loaded by entity type, its live entities, the most used first. A type with fewer than
+   *     {@code maxEntitiesPerType} entities is taken to be loaded in full.
+   */
+  public void completeLoad(@Nonnull Map<String, List<LoadedEntity>> loaded) {
+    final Map<String, Shard> loadedShards = new HashMap<>();
+    loaded.forEach(
+        (entityType, entities) -> {
+          final Shard shard = new Shard();
+          shard.complete = entities.size() < maxEntitiesPerType;
+          entities.forEach(
+              entity ->
+                  shard.entries.put(
+                      entity.getUrn(),
+                      new Entry(
+                          entity.getUrn(), entity.getFields(), toUsage(entity.getUsage()), false)));
+          shard.sortTerms(maxEntitiesPerType);
+          loadedShards.put(entityType, shard);
+        });
+
+    lock.writeLock().lock();
+    try {
+      final List<Runnable> changes = changesDuringLoad;
+      changesDuringLoad = null;
+      shards = loadedShards;
+      if (changes != null) {
+        changes.forEach(Runnable::run);
+      }
+      ready = true;
+      log.info(
+          "Loaded autocomplete prefix index with {} entities in about {} bytes, {} changes applied"
+              + " during the load",
+          shards.values().stream().mapToInt(shard -> shard.entries.size()).sum(),
+          estimateBytes(),
+          changes == null ? 0 : changes.size());
+      reportSize();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Stops recording changes after a failed load, the previous index stays in use. */
+  public void abortLoad() {
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Suggests entities of a type with a value starting with the input, or with a word of the value
+   * starting with it. Matches of a whole value come first, then matches of the start of a value,
+   * then of a word, and each of those by usage.
+   *
+   * @param entityType entity type to suggest
+   * @param input text typed so far
+   * @param limit number of suggestions
+   * @param visible entities the caller may see
+   * @return the suggestions, or null when the search index has to answer instead: the index is not
+   *     loaded, the type is not indexed, or fewer than {@code limit} entities match and the index
+   *     does not hold every entity of the type
+   */
+  @Nullable
+  public List<Suggestion> autoComplete(
+      @Nonnull String entityType,
+      @Nonnull String input,
+      int limit,
+      @Nonnull Predicate<Urn> visible) {
+    final long startNanos = System.nanoTime();
+    final String prefix = input.trim().toLowerCase(Locale.ROOT);
+    final List<Match> matches;
+    final boolean complete;
+    lock.readLock().lock();
+    try {
+      final Shard shard = shards.get(entityType);
+      if (!ready || shard == null || prefix.isEmpty()) {
+        matches = null;
+        complete = false;
+      } else {
+        matches = shard.match(prefix);
+        complete = shard.complete;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    List<Suggestion> suggestions = null;
+    if (matches != null) {
+      suggestions =
+          matches.stream()
+              .filter(match -> visible.test(match.getEntry().getUrn()))
+              .limit(limit)
+              .map(
+                  match ->
+                      new Suggestion(
+                          match.getEntry().getUrn(),
+                          match.getEntry().getValues().get(match.getValue())))
+              .collect(Collectors.toList());
+      if (suggestions.size() < limit && !complete) {
+        suggestions = null;
+      }
+    }
+
+    if (metricUtils != null) {
+      metricUtils.incrementMicrometer(suggestions != null ? HITS_METRIC : MISSES_METRIC, 1);
+      Timer.builder(LATENCY_METRIC)
+          .publishPercentiles(0.5, 0.95, 0.99)
+          .register(metricUtils.getRegistry())
+          .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    return suggestions;
+  }
+
+  private void change(@Nonnull Urn urn, @Nonnull BiFunction<Shard, Entry, Entry> change) {
+    final Runnable apply =
+        () -> {
+          final Shard shard = shards.get(urn.getEntityType());
+          if (shard == null) {
+            return;
+          }
+          final Entry next = change.apply(shard, shard.entries.get(urn));
+          if (shard.apply(urn, next, maxEntitiesPerType)) {
+            reportSize();
+          }
+        };
+    lock.writeLock().lock();
+    try {
+      if (changesDuringLoad != null) {
+        changesDuringLoad.add(apply);
+      }
+      apply.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private long[] toUsage(@Nonnull Map<String, Long> usage) {
+    final long[] counts = new long[usageFields.size()];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = usage.getOrDefault(usageFields.get(i), 0L);
+    }
+    return counts;
+  }
+
+  /** Must be called with a lock held. */
+  private long estimateBytes() {
+    return shards.values().stream().mapToLong(Shard::estimateBytes).sum();
+  }
+
+  /** Must be called with a lock held. */
+  private void reportSize() {
+    if (metricUtils != null) {
+      metricUtils.setGaugeValue(this.getClass(), "memoryBytes", estimateBytes());
+      metricUtils.setGaugeValue(
+          this.getClass(),
+          "entities",
+          shards.values().stream().mapToInt(shard -> shard.entries.size()).sum());
+    }
+  }
+
+  private static class Shard {
+    // Entities of the type, whether in the sorted terms or changed since they were sorted
+    private final Map<Urn, Entry> entries = new HashMap<>();
+    // Sorted terms, term i is the tail from termOffsets[i] of value termValues[i] of termEntries[i]
+    private Entry[] termEntries = new Entry[0];
+    private short[] termValues = new short[0];
+    private short[] termOffsets = new short[0];
+    // Entities changed since the terms were sorted, whose sorted terms are out of date
+    private final Set<Urn> changed = new HashSet<>();
+    // Terms of the changed entities, by term, urn and value
+    private final NavigableMap<String, Term> pendingTerms = new TreeMap<>();
+    // Whether every live entity of the type is held, so that a short answer is complete
+    private boolean complete;
+
+    /** Returns whether the terms were sorted again. */
+    boolean apply(@Nonnull Urn urn, @Nullable Entry next, int maxEntities) {
+      final Entry previous = next == null ? entries.remove(urn) : entries.put(urn, next);
+      if (previous == null && next == null) {
+        return false;
+      }
+      if (previous != null) {
+        forEachTerm(previous, term -> pendingTerms.remove(pendingKey(term)));
+      }
+      if (next != null) {
+        forEachTerm(next, term -> pendingTerms.put(pendingKey(term), term));
+      }
+      changed.add(urn);
+      if (changed.size() > MAX_PENDING_CHANGES) {
+        sortTerms(maxEntities);
+        return true;
+      }
+      return false;
+    }
+
+    /** Keeps the most used live entities, then sorts their terms. */
+    void sortTerms(int maxEntities) {
+      final List<Entry> live =
+          entries.values().stream()
+              .filter(entry -> !entry.isRemoved())
+              .sorted(Entry.BY_USAGE)
+              .collect(Collectors.toList());
+      if (live.size() > maxEntities) {
+        complete = false;
+        live.subList(maxEntities, live.size()).clear();
+      }
+      entries.clear();
+      live.forEach(entry -> entries.put(entry.getUrn(), entry));
+
+      final List<Term> terms = new ArrayList<>();
+      live.forEach(entry -> forEachTerm(entry, terms::add));
+      Collections.sort(terms);
+      termEntries = new Entry[terms.size()];
+      termValues = new short[terms.size()];
+      termOffsets = new short[terms.size()];
+      for (int i = 0; i < terms.size(); i++) {
+        termEntries[i] = terms.get(i).getEntry();
+        termValues[i] = (short) terms.get(i).getValue();
+        termOffsets[i] = (short) terms.get(i).getOffset();
+      }
+      changed.clear();
+      pendingTerms.clear();
+    }
+
+    /** Best match of each live entity with a term starting with the prefix, best first. */
+    List<Match> match(@Nonnull String prefix) {
+      final Map<Urn, Match> matches = new HashMap<>();
+      for (int i = lowerBound(prefix); i < termEntries.length; i++) {
+        final Entry entry = termEntries[i];
+        if (!entry.getLowerValues().get(termValues[i]).startsWith(prefix, termOffsets[i])) {
+          break;
+        }
+        if (!changed.contains(entry.getUrn())) {
+          addMatch(matches, new Term(entry, termValues[i], termOffsets[i]), prefix);
+        }
+      }
+      pendingTerms
+          .subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+          .values()
+          .forEach(term -> addMatch(matches, term, prefix));
+
+      final List<Match> sorted = new ArrayList<>(matches.values());
+      sorted.sort(Match.BEST_FIRST);
+      return sorted;
+    }
+
+    long estimateBytes() {
+      long bytes = termEntries.length * (8L + 2 + 2);
+      for (Entry entry : entries.values()) {
+        bytes += 64 + 8L * entry.getUsage().length;
+        for (int i = 0; i < entry.getValues().size(); i++) {
+          bytes += 40 + 2L * entry.getValues().get(i).length();
+          if (entry.getLowerValues().get(i) != entry.getValues().get(i)) {
+            bytes += 40 + 2L * entry.getLowerValues().get(i).length();
+          }
+        }
+      }
+      return bytes + pendingTerms.size() * 128L;
+    }
+
+    private int lowerBound(@Nonnull String prefix) {
+      int low = 0;
+      int high = termEntries.length;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        final String value = termEntries[mid].getLowerValues().get(termValues[mid]);
+        if (compareTails(value, termOffsets[mid], prefix, 0) < 0) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
+    }
+
+    private static void addMatch(
+        @Nonnull Map<Urn, Match> matches, @Nonnull Term term, @Nonnull String prefix) {
+      if (term.getEntry().isRemoved()) {
+        return;
+      }
+      final String value = term.getEntry().getLowerValues().get(term.getValue());
+      final int rank = term.getOffset() > 0 ? 2 : value.length() == prefix.length() ? 0 : 1;
+      final Match match = new Match(term.getEntry(), term.getValue(), rank);
+      matches.merge(
+          term.getEntry().getUrn(),
+          match,
+          (a, b) -> Match.BEST_FIRST.compare(a, b) <= 0 ? a : b);
+    }
+
+    private static String pendingKey(@Nonnull Term term) {
+      return term.getEntry().getLowerValues().get(term.getValue()).substring(term.getOffset())
+          + '\0'
+          + term.getEntry().getUrn()
+          + '\0'
+          + term.getValue();
+    }
+  }
+
+  /** Calls the consumer with the start and each word start of every value of the entity. */
+  private static void forEachTerm(
+      @Nonnull Entry entry, @Nonnull Consumer<Term> consumer) {
+    final List<String> lowerValues = entry.getLowerValues();
+    for (int v = 0; v < lowerValues.size() && v <= Short.MAX_VALUE; v++) {
+      final String value = lowerValues.get(v);
+      if (value.isEmpty()) {
+        continue;
+      }
+      consumer.accept(new Term(entry, v, 0));
+      // The urn, last, is only matched from its start
+      if (v == lowerValues.size() - 1) {
+        continue;
+      }
+      int wordStarts = 0;
+      for (int i = 1;
+          i < value.length() && i <= Short.MAX_VALUE && wordStarts < MAX_WORD_STARTS;
+          i++) {
+        if (WORD_DELIMITERS.indexOf(value.charAt(i - 1)) >= 0
+            && WORD_DELIMITERS.indexOf(value.charAt(i)) < 0) {
+          consumer.accept(new Term(entry, v, i));
+          wordStarts++;
+        }
+      }
+    }
+  }
+
+  private static int compareTails(@Nonnull String a, int aOffset, @Nonnull String b, int bOffset) {
+    final int aLength = a.length() - aOffset;
+    final int bLength = b.length() - bOffset;
+    for (int i = 0; i < Math.min(aLength, bLength); i++) {
+      final int diff = a.charAt(aOffset + i) - b.charAt(bOffset + i);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return aLength - bLength;
+  }
+
+  private static final class Entry {
+    static final Comparator<Entry> BY_USAGE = (a, b) -> Arrays.compare(b.getUsage(), a.getUsage());
+
+    @Getter private final Urn urn;
+    @Getter private final Map<String, List<String>> fields;
+    @Getter private final long[] usage;
+    @Getter private final boolean removed;
+    // Field values followed by the urn, as suggested and lower cased
+    @Getter private final List<String> values;
+    @Getter private final List<String> lowerValues;
+
+    Entry(
+        @Nonnull Urn urn,
+        @Nonnull Map<String, List<String>> fields,
+        @Nonnull long[] usage,
+        boolean removed) {
+      this.urn = urn;
+      this.fields = Collections.unmodifiableMap(fields);
+      this.usage = usage;
+      this.removed = removed;
+      final List<String> allValues = new ArrayList<>();
+      fields.values().forEach(allValues::addAll);
+      allValues.add(urn.toString());
+      this.values = List.copyOf(allValues);
+      this.lowerValues =
+          allValues.stream()
+              .map(
+                  value -> {
+                    final String lower = value.toLowerCase(Locale.ROOT);
+                    // Shares the string when lower casing does not change it
+                    return lower.equals(value) ? value : lower;
+                  })
+              .collect(Collectors.toUnmodifiableList());
+    }
+  }
+
+  @Value
+  private static class Term implements Comparable<Term> {
+    Entry entry;
+    int value;
+    int offset;
+
+    @Override
+    public int compareTo(@Nonnull Term other) {
+      return compareTails(
+          entry.getLowerValues().get(value),
+          offset,
+          other.getEntry().getLowerValues().get(other.getValue()),
+          other.getOffset());
+    }
+  }
+
+  @Value
+  private static class Match {
+    static final Comparator<Match> BEST_FIRST =
+        Comparator.comparingInt(Match::getRank)
+            .thenComparing(Match::getEntry, Entry.BY_USAGE)
+            .thenComparing(match -> match.getEntry().getValues().get(match.getValue()));
+
+    Entry entry;
+    int value;
+    // 0 when the input is a whole value, 1 when it starts a value, 2 when it starts a word
+    int rank;
+  }
+
+  /** Autocomplete fields and usage counts of an entity as read from its search document. */
+  @Value
+  public static class LoadedEntity {
+    Urn urn;
+    Map<String, List<String>> fields;
+    Map<String, Long> usage;
+  }
+
+  /** A suggested entity and the value of it that matched. */
+  @Value
+  public static class Suggestion {
+    Urn urn;
+    String value;
+  }
+}
@@ -0,0 +1,301 @@
+package com.linkedin.metadata.search.elasticsearch.query;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.browse.BrowseResultGroupV2;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In memory tree of the browsePathV2 values of all entities, with per entity type counts at every
+ * node. It answers the group listings of browseV2 without aggregating over the search index, and
+ * counts entities the same way the aggregation does: a group counts every live entity at or below
+ * it, and soft deleted entities are left out.
+ *
+ * <p>The tree is loaded in full from the search indices and kept current by applying the
+ * browsePathsV2 and status changes of each entity. Changes applied while a load is running are
+ * applied again on top of the loaded state, so that a slow load does not undo them.
+ */
+@Slf4j
+public class BrowsePathTrie {
+  public static final String DELIMITER = "␟";
+
+  // Same cap as the terms aggregation browseV2 uses
+  static final int MAX_GROUPS = 2000;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Node root = new Node();
+  private Map<Urn, Entity> entities = new HashMap<>();
+  private boolean ready;
+  // Changes received while a load is running, null when no load is
+  @Nullable private List<Runnable> changesDuringLoad;
+
+  /** Whether a load has completed, until then browse requests go to the search index. */
+  public boolean isReady() {
+    lock.readLock().lock();
+    try {
+      return ready;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Sets the browse path of an entity, a null or empty path takes it out of the tree. */
+  public void setPath(@Nonnull Urn urn, @Nullable String browsePathV2) {
+    change(
+        () -> {
+          final Entity current = entities.get(urn);
+          apply(
+              new Entity(
+                  urn, parsePath(browsePathV2), current != null && current.isRemoved(), false));
+        });
+  }
+
+  /** Sets whether an entity is soft deleted. */
+  public void setRemoved(@Nonnull Urn urn, boolean removed) {
+    change(
+        () -> {
+          final Entity current = entities.get(urn);
+          apply(new Entity(urn, current == null ? null : current.getPath(), removed, false));
+        });
+  }
+
+  /** Takes a hard deleted entity out of the tree. */
+  public void delete(@Nonnull Urn urn) {
+    change(() -> apply(new Entity(urn, null, false, true)));
+  }
+
+  /** Starts recording changes so that they can be applied again once the load completes. */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Replaces the tree with the loaded entities, then applies the changes received since {@link
+   * #beginLoad()}.
+   *
+   * @param loaded browsePathV2 value and removed flag of every entity with a browse path
+   */
+  public void completeLoad(@Nonnull Map<Urn, LoadedEntity> loaded) {
+    lock.writeLock().lock();
+    try {
+      final List<Runnable> changes = changesDuringLoad;
+      changesDuringLoad = null;
+      root = new Node();
+      entities = new HashMap<>(loaded.size());
+      loaded.forEach(
+          (urn, entity) ->
+              apply(
+                  new Entity(urn, parsePath(entity.getBrowsePathV2()), entity.isRemoved(), false)));
+      if (changes != null) {
+        changes.forEach(Runnable::run);
+      }
+      ready = true;
+      log.info(
+          "Loaded browse path tree with {} entities, {} changes applied during the load",
+          entities.size(),
+          changes == null ? 0 : changes.size());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Stops recording changes after a failed load, the previous tree stays in use. */
+  public void abortLoad() {
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Lists the groups directly below a browse path for the given entity types, sorted the way the
+   * terms aggregation sorts them: by count, then by name.
+   *
+   * @param entityTypes entity types to count
+   * @param path browse path, empty for the root
+   */
+  @Nonnull
+  public BrowseLevel browse(@Nonnull Collection<String> entityTypes, @Nonnull String path) {
+    lock.readLock().lock();
+    try {
+      Node node = root;
+      for (String segment : parsePathSegments(path)) {
+        node = node.children.get(segment);
+        if (node == null) {
+          return new BrowseLevel(List.of(), 0);
+        }
+      }
+
+      final List<BrowseResultGroupV2> groups = new ArrayList<>();
+      for (Map.Entry<String, Node> child : node.children.entrySet()) {
+        final long count = child.getValue().countBelowOrAt(entityTypes);
+        if (count > 0) {
+          final BrowseResultGroupV2 group =
+              new BrowseResultGroupV2()
+                  .setName(child.getKey())
+                  .setCount(count)
+                  .setHasSubGroups(child.getValue().countBelow(entityTypes) > 0);
+          if (child.getKey().startsWith("urn:li:")) {
+            group.setUrn(UrnUtils.getUrn(child.getKey()));
+          }
+          groups.add(group);
+        }
+      }
+      groups.sort(
+          Comparator.comparingLong(BrowseResultGroupV2::getCount)
+              .reversed()
+              .thenComparing(BrowseResultGroupV2::getName));
+      return new BrowseLevel(
+          groups.size() > MAX_GROUPS ? groups.subList(0, MAX_GROUPS) : groups,
+          (int) node.countBelow(entityTypes));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void change(Runnable change) {
+    lock.writeLock().lock();
+    try {
+      if (changesDuringLoad != null) {
+        changesDuringLoad.add(change);
+      }
+      change.run();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Must be called with the write lock held. */
+  private void apply(Entity entity) {
+    final Entity previous =
+        entity.isDeleted() || (entity.getPath() == null && !entity.isRemoved())
+            ? entities.remove(entity.getUrn())
+            : entities.put(entity.getUrn(), entity);
+    if (previous != null && previous.isCounted()) {
+      count(previous, -1);
+    }
+    if (entity.isCounted()) {
+      count(entity, 1);
+    }
+  }
+
+  private void count(Entity entity, int delta) {
+    final String entityType = entity.getUrn().getEntityType();
+    final List<Node> nodes = new ArrayList<>(entity.getPath().size() + 1);
+    Node node = root;
+    nodes.add(node);
+    for (String segment : entity.getPath()) {
+      node =
+          delta > 0
+              ? node.children.computeIfAbsent(segment, key -> new Node())
+              : node.children.get(segment);
+      if (node == null) {
+        log.warn("Browse path tree has no node for {} of {}", segment, entity.getUrn());
+        return;
+      }
+      nodes.add(node);
+    }
+    nodes.forEach(n -> n.belowOrAt.merge(entityType, delta, Integer::sum));
+    node.at.merge(entityType, delta, Integer::sum);
+
+    if (delta < 0) {
+      // Drop the nodes no entity is at or below any more
+      for (int i = nodes.size() - 1; i > 0; i--) {
+        final Node child = nodes.get(i);
+        child.belowOrAt.values().removeIf(value -> value <= 0);
+        child.at.values().removeIf(value -> value <= 0);
+        if (!child.belowOrAt.isEmpty()) {
+          break;
+        }
+        nodes.get(i - 1).children.remove(entity.getPath().get(i - 1));
+      }
+    }
+  }
+
+  @Nullable
+  private static List<String> parsePath(@Nullable String browsePathV2) {
+    if (browsePathV2 == null) {
+      return null;
+    }
+    final List<String> segments = parsePathSegments(browsePathV2);
+    return segments.isEmpty() ? null : segments;
+  }
+
+  private static List<String> parsePathSegments(@Nonnull String path) {
+    final List<String> segments = new ArrayList<>();
+    for (String segment : path.split(DELIMITER)) {
+      if (!segment.isEmpty()) {
+        segments.add(segment);
+      }
+    }
+    return segments;
+  }
+
+  private static class Node {
+    private final Map<String, Node> children = new HashMap<>();
+    // Per entity type, entities whose path is this node or passes through it
+    private final Map<String, Integer> belowOrAt = new HashMap<>(4);
+    // Per entity type, entities whose path ends at this node
+    private final Map<String, Integer> at = new HashMap<>(4);
+
+    long countBelowOrAt(Collection<String> entityTypes) {
+      return sum(belowOrAt, entityTypes);
+    }
+
+    long countBelow(Collection<String> entityTypes) {
+      return sum(belowOrAt, entityTypes) - sum(at, entityTypes);
+    }
+
+    private static long sum(Map<String, Integer> counts, Collection<String> entityTypes) {
+      long sum = 0;
+      for (String entityType : entityTypes) {
+        sum += counts.getOrDefault(entityType, 0);
+      }
+      return sum;
+    }
+  }
+
+  @Value
+  private static class Entity {
+    Urn urn;
+    @Nullable List<String> path;
+    boolean removed;
+    boolean deleted;
+
+    boolean isCounted() {
+      return !deleted && !removed && path != null;
+    }
+  }
+
+  /** Browse path and status of an entity as read from its search document. */
+  @Value
+  public static class LoadedEntity {
+    @Nullable String browsePathV2;
+    boolean removed;
+  }
+
+  /** Groups directly below a browse path, and the number of entities below it. */
+  @Value
+  public static class BrowseLevel {
+    List<BrowseResultGroupV2> groups;
+    int totalNumEntities;
+  }
+}
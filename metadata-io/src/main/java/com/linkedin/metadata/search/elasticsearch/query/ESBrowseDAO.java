@@ -5,6 +5,7 @@ import static com.linkedin.metadata.search.utils.SearchUtils.applyDefaultSearchF
 
 import com.datahub.util.exception.ESQueryException;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.metadata.browse.BrowseResult;
@@ -27,6 +28,7 @@ import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.search.elasticsearch.query.filter.QueryFilterRewriteChain;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchRequestHandler;
 import com.linkedin.metadata.search.utils.ESUtils;
+import com.linkedin.metadata.search.utils.QueryUtils;
 import com.linkedin.metadata.search.utils.SearchUtils;
 import com.linkedin.metadata.utils.SearchUtil;
 import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
@@ -42,17 +44,26 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.Value;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.client.RequestOptions;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
@@ -63,6 +74,7 @@ import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
 import org.opensearch.search.aggregations.bucket.terms.ParsedTerms;
 import org.opensearch.search.aggregations.bucket.terms.Terms;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortOrder;
 
 @Slf4j
@@ -75,6 +87,10 @@ public class ESBrowseDAO {
   @Nullable private final CustomSearchConfiguration customSearchConfiguration;
   @Nonnull private final QueryFilterRewriteChain queryFilterRewriteChain;
   @Nonnull private final SearchServiceConfiguration searchServiceConfig;
+  // Combines searches issued at the same time into one _msearch call when set
+  @Setter @Nullable private SearchRequestBatcher searchRequestBatcher;
+  // Serves unfiltered browseV2 group listings from memory when set and loaded
+  @Setter @Nullable private BrowsePathTrie browsePathTrie;
 
   private static final String BROWSE_PATH = "browsePaths";
   private static final String BROWSE_PATH_DEPTH = "browsePaths.length";
@@ -89,6 +105,9 @@ public class ESBrowseDAO {
   // Set explicit max size for grouping
   private static final int AGGREGATION_MAX_SIZE = 2000;
 
+  private static final int TRIE_SCAN_BATCH_SIZE = 5000;
+  private static final TimeValue TRIE_SCAN_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
   private static final SearchFlags DEFAULT_BROWSE_SEARCH_FLAGS =
       new SearchFlags()
           .setFulltext(true)
@@ -148,10 +167,9 @@ public class ESBrowseDAO {
               "esGroupSearch",
               () -> {
                 try {
-                  return client.search(
+                  return search(
                       constructGroupsSearchRequest(
-                          finalOpContext, entityName, indexName, path, requestMap),
-                      RequestOptions.DEFAULT);
+                          finalOpContext, entityName, indexName, path, requestMap));
                 } catch (IOException e) {
                   throw new RuntimeException(e);
                 }
@@ -174,7 +192,7 @@ public class ESBrowseDAO {
               "esEntitiesSearch",
               () -> {
                 try {
-                  return client.search(
+                  return search(
                       constructEntitiesSearchRequest(
                           finalOpContext,
                           entityName,
@@ -182,8 +200,7 @@ public class ESBrowseDAO {
                           path,
                           requestMap,
                           entityFrom,
-                          entitySize),
-                      RequestOptions.DEFAULT);
+                          entitySize));
                 } catch (IOException e) {
                   throw new RuntimeException(e);
                 }
@@ -213,6 +230,12 @@ public class ESBrowseDAO {
     }
   }
 
+  private SearchResponse search(@Nonnull SearchRequest searchRequest) throws IOException {
+    return searchRequestBatcher == null
+        ? client.search(searchRequest, RequestOptions.DEFAULT)
+        : searchRequestBatcher.search(searchRequest);
+  }
+
   /**
    * Builds aggregations for search request.
    *
@@ -448,7 +471,7 @@ public class ESBrowseDAO {
         new SearchSourceBuilder().query(QueryBuilders.termQuery(URN, urn.toString())));
     final SearchHit[] searchHits;
     try {
-      searchHits = client.search(searchRequest, RequestOptions.DEFAULT).getHits().getHits();
+      searchHits = search(searchRequest).getHits().getHits();
     } catch (Exception e) {
       log.error("Get paths from urn query failed: " + e.getMessage());
       throw new ESQueryException("Get paths from urn query failed: ", e);
@@ -481,15 +504,20 @@ public class ESBrowseDAO {
               flags -> applyDefaultSearchFlags(flags, path, DEFAULT_BROWSE_SEARCH_FLAGS));
       count = ConfigUtils.applyLimit(searchServiceConfig, count);
 
+      final BrowseResultV2 trieResult =
+          browseFromTrie(finalOpContext, List.of(entityName), path, filter, input, start, count);
+      if (trieResult != null) {
+        return trieResult;
+      }
+
       final SearchResponse groupsResponse =
           opContext.withSpan(
               "esGroupSearch",
               () -> {
                 try {
-                  return client.search(
+                  return search(
                       constructGroupsSearchRequestV2(
-                          finalOpContext, entityName, path, filter, input.isEmpty() ? "*" : input),
-                      RequestOptions.DEFAULT);
+                          finalOpContext, entityName, path, filter, input.isEmpty() ? "*" : input));
                 } catch (IOException e) {
                   throw new RuntimeException(e);
                 }
@@ -530,15 +558,20 @@ public class ESBrowseDAO {
               flags -> applyDefaultSearchFlags(flags, path, DEFAULT_BROWSE_SEARCH_FLAGS));
       count = ConfigUtils.applyLimit(searchServiceConfig, count);
 
+      final BrowseResultV2 trieResult =
+          browseFromTrie(finalOpContext, entities, path, filter, input, start, count);
+      if (trieResult != null) {
+        return trieResult;
+      }
+
       final SearchResponse groupsResponse =
           opContext.withSpan(
               "esGroupSearch",
               () -> {
                 try {
-                  return client.search(
+                  return search(
                       constructGroupsSearchRequestBrowseAcrossEntities(
-                          finalOpContext, entities, path, filter, input.isEmpty() ? "*" : input),
-                      RequestOptions.DEFAULT);
+                          finalOpContext, entities, path, filter, input.isEmpty() ? "*" : input));
                 } catch (IOException e) {
                   throw new RuntimeException(e);
                 }
@@ -565,6 +598,147 @@ public class ESBrowseDAO {
     }
   }
 
+  /**
+   * Lists the groups of a browse path from the browse path tree. Returns null when the tree is not
+   * loaded or the browse needs the search index: when it has a filter, such as that of a view, a
+   * search input, or includes soft deleted entities.
+   */
+  @Nullable
+  private BrowseResultV2 browseFromTrie(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nonnull String path,
+      @Nullable Filter filter,
+      @Nonnull String input,
+      int start,
+      int count) {
+    if (browsePathTrie == null
+        || !browsePathTrie.isReady()
+        || !QueryUtils.isEmptyFilter(filter)
+        || !(input.isEmpty() || "*".equals(input))
+        || Boolean.TRUE.equals(
+            opContext.getSearchContext().getSearchFlags().isIncludeSoftDeleted())) {
+      return null;
+    }
+    final BrowsePathTrie.BrowseLevel level = browsePathTrie.browse(entityNames, path);
+    final List<BrowseResultGroupV2> groups = level.getGroups();
+    final List<BrowseResultGroupV2> paginatedGroups =
+        groups.size() <= start
+            ? Collections.emptyList()
+            : groups.subList(start, Math.min(start + count, groups.size()));
+    return new BrowseResultV2()
+        .setMetadata(
+            new BrowseResultMetadata()
+                .setTotalNumEntities(level.getTotalNumEntities())
+                .setPath(path))
+        .setGroups(new BrowseResultGroupV2Array(paginatedGroups))
+        .setNumGroups(groups.size())
+        .setFrom(start)
+        .setPageSize(count);
+  }
+
+  /**
+   * Loads the browse path tree from the search index of every entity type with a browse path. Each
+   * index is scrolled in {@code slices} slices in parallel.
+   */
+  public void loadBrowsePathTrie(@Nonnull OperationContext opContext, int slices) {
+    if (browsePathTrie == null) {
+      return;
+    }
+    final List<String> indexNames =
+        opContext.getEntityRegistry().getEntitySpecs().values().stream()
+            .filter(spec -> spec.getSearchableFieldTypes().containsKey(BROWSE_PATH_V2))
+            .map(spec -> opContext.getSearchContext().getIndexConvention().getIndexName(spec))
+            .collect(Collectors.toList());
+    final int sliceCount = Math.max(slices, 1);
+    final Map<Urn, BrowsePathTrie.LoadedEntity> loaded = new ConcurrentHashMap<>();
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            sliceCount,
+            new ThreadFactoryBuilder()
+                .setNameFormat("browse-path-trie-%d")
+                .setDaemon(true)
+                .build());
+    final long startTime = System.currentTimeMillis();
+    browsePathTrie.beginLoad();
+    try {
+      for (String indexName : indexNames) {
+        CompletableFuture.allOf(
+                IntStream.range(0, sliceCount)
+                    .mapToObj(
+                        slice ->
+                            CompletableFuture.runAsync(
+                                () -> scanBrowsePaths(indexName, slice, sliceCount, loaded),
+                                executor))
+                    .toArray(CompletableFuture[]::new))
+            .join();
+      }
+      browsePathTrie.completeLoad(loaded);
+      log.info(
+          "Scanned browse paths of {} entities in {} indices in {} ms",
+          loaded.size(),
+          indexNames.size(),
+          System.currentTimeMillis() - startTime);
+    } catch (RuntimeException e) {
+      browsePathTrie.abortLoad();
+      throw e;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void scanBrowsePaths(
+      @Nonnull String indexName,
+      int slice,
+      int sliceCount,
+      @Nonnull Map<Urn, BrowsePathTrie.LoadedEntity> loaded) {
+    final SearchSourceBuilder searchSourceBuilder =
+        new SearchSourceBuilder()
+            .query(QueryBuilders.existsQuery(BROWSE_PATH_V2))
+            .fetchSource(new String[] {URN, BROWSE_PATH_V2, REMOVED}, null)
+            .size(TRIE_SCAN_BATCH_SIZE);
+    if (sliceCount > 1) {
+      searchSourceBuilder.slice(new SliceBuilder(slice, sliceCount));
+    }
+    String scrollId = null;
+    try {
+      SearchResponse response =
+          client.search(
+              new SearchRequest(indexName).source(searchSourceBuilder).scroll(TRIE_SCAN_KEEP_ALIVE),
+              RequestOptions.DEFAULT);
+      scrollId = response.getScrollId();
+      while (response.getHits().getHits().length > 0) {
+        for (SearchHit hit : response.getHits().getHits()) {
+          final Map<String, Object> source = hit.getSourceAsMap();
+          if (source.get(URN) != null) {
+            loaded.put(
+                UrnUtils.getUrn(source.get(URN).toString()),
+                new BrowsePathTrie.LoadedEntity(
+                    (String) source.get(BROWSE_PATH_V2),
+                    Boolean.parseBoolean(String.valueOf(source.get(REMOVED)))));
+          }
+        }
+        response =
+            client.scroll(
+                new SearchScrollRequest(scrollId).scroll(TRIE_SCAN_KEEP_ALIVE),
+                RequestOptions.DEFAULT);
+        scrollId = response.getScrollId();
+      }
+    } catch (IOException e) {
+      throw new ESQueryException("Browse path scan of " + indexName + " failed", e);
+    } finally {
+      if (scrollId != null) {
+        try {
+          final ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+          clearScrollRequest.addScrollId(scrollId);
+          client.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+        } catch (Exception e) {
+          log.warn("Failed to clear browse path scroll of {}", indexName, e);
+        }
+      }
+    }
+  }
+
   @Nonnull
   private SearchRequest constructGroupsSearchRequestV2(
       @Nonnull OperationContext opContext,
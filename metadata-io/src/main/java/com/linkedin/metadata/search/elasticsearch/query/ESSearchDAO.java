@@ -9,13 +9,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
 import com.linkedin.data.template.LongMap;
+import com.linkedin.data.template.StringArray;
 import com.linkedin.metadata.config.ConfigUtils;
 import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
 import com.linkedin.metadata.config.search.SearchServiceConfiguration;
 import com.linkedin.metadata.config.search.custom.CustomSearchConfiguration;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.SearchableFieldSpec;
+import com.linkedin.metadata.models.annotation.SearchableAnnotation;
 import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.query.AutoCompleteEntity;
+import com.linkedin.metadata.query.AutoCompleteEntityArray;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
@@ -29,6 +35,7 @@ import com.linkedin.metadata.search.elasticsearch.query.request.AggregationQuery
 import com.linkedin.metadata.search.elasticsearch.query.request.AutocompleteRequestHandler;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchAfterWrapper;
 import com.linkedin.metadata.search.elasticsearch.query.request.SearchRequestHandler;
+import com.linkedin.metadata.search.utils.ESAccessControlUtil;
 import com.linkedin.metadata.search.utils.ESUtils;
 import com.linkedin.metadata.search.utils.QueryUtils;
 import com.linkedin.metadata.utils.elasticsearch.IndexConvention;
@@ -38,6 +45,9 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.opentelemetry.instrumentation.annotations.WithSpan;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,6 +57,7 @@ import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
@@ -61,7 +72,10 @@ import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortBuilders;
+import org.opensearch.search.sort.SortOrder;
 
 /** A search DAO for Elasticsearch backend. */
 @Slf4j
@@ -76,6 +90,10 @@ public class ESSearchDAO {
   @Nonnull private final QueryFilterRewriteChain queryFilterRewriteChain;
   private final boolean testLoggingEnabled;
   @Nonnull private final SearchServiceConfiguration searchServiceConfig;
+  // Combines searches issued at the same time into one _msearch call when set
+  @Setter @Nullable private SearchRequestBatcher searchRequestBatcher;
+  // Answers autocomplete of the most used entities from memory when set
+  @Setter @Nullable private AutocompletePrefixIndex autocompletePrefixIndex;
 
   public ESSearchDAO(
       SearchClientShim<?> client,
@@ -115,6 +133,17 @@ public class ESSearchDAO {
         "docCount",
         () -> {
           try {
+            if (searchRequestBatcher != null) {
+              // A hitless search can share an _msearch call with the searches around it
+              SearchRequest searchRequest =
+                  new SearchRequest(countRequest.indices())
+                      .source(
+                          new SearchSourceBuilder()
+                              .query(countRequest.query())
+                              .size(0)
+                              .trackTotalHits(true));
+              return searchRequestBatcher.search(searchRequest).getHits().getTotalHits().value;
+            }
             return client.count(countRequest, RequestOptions.DEFAULT).getCount();
           } catch (IOException e) {
             log.error("Count query failed:" + e.getMessage());
@@ -125,6 +154,12 @@ public class ESSearchDAO {
         MetricUtils.name(this.getClass(), "docCount"));
   }
 
+  private SearchResponse search(@Nonnull SearchRequest searchRequest) throws IOException {
+    return searchRequestBatcher == null
+        ? client.search(searchRequest, RequestOptions.DEFAULT)
+        : searchRequestBatcher.search(searchRequest);
+  }
+
   @Nonnull
   @WithSpan
   private SearchResult executeAndExtract(
@@ -142,7 +177,7 @@ public class ESSearchDAO {
           SearchResponse searchResponse = null;
           try {
             log.debug("Executing request {}: {}", id, searchRequest);
-            searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+            searchResponse = search(searchRequest);
             // extract results, validated against document model as well
             return transformIndexIntoEntityName(
                 opContext.getSearchContext().getIndexConvention(),
@@ -255,8 +290,7 @@ public class ESSearchDAO {
         "executeAndExtract_scroll",
         () -> {
           try {
-            final SearchResponse searchResponse =
-                client.search(searchRequest, RequestOptions.DEFAULT);
+            final SearchResponse searchResponse = search(searchRequest);
             // extract results, validated against document model as well
             return transformIndexIntoEntityName(
                 opContext.getSearchContext().getIndexConvention(),
@@ -428,11 +462,15 @@ public class ESSearchDAO {
       @Nullable String field,
       @Nullable Filter requestParams,
       @Nullable Integer limit) {
+    final AutoCompleteResult prefixIndexResult =
+        autoCompleteFromPrefixIndex(opContext, entityName, query, field, requestParams, limit);
+    if (prefixIndexResult != null) {
+      return prefixIndexResult;
+    }
     try {
       Pair<SearchRequest, AutocompleteRequestHandler> searchRequestAndBuilder =
           buildAutocompleteRequest(opContext, entityName, query, field, requestParams, limit);
-      SearchResponse searchResponse =
-          client.search(searchRequestAndBuilder.getLeft(), RequestOptions.DEFAULT);
+      SearchResponse searchResponse = search(searchRequestAndBuilder.getLeft());
       return searchRequestAndBuilder.getRight().extractResult(opContext, searchResponse, query);
     } catch (Exception e) {
       log.error("Auto complete query failed:" + e.getMessage());
@@ -440,6 +478,147 @@ public class ESSearchDAO {
     }
   }
 
+  /**
+   * Answers autocomplete from the prefix index, or returns null when the search index has to
+   * answer. Only requests over the default fields, without filters or a custom autocomplete
+   * configuration, are answered.
+   */
+  @Nullable
+  private AutoCompleteResult autoCompleteFromPrefixIndex(
+      @Nonnull OperationContext opContext,
+      @Nonnull String entityName,
+      @Nonnull String query,
+      @Nullable String field,
+      @Nullable Filter requestParams,
+      @Nullable Integer limit) {
+    if (autocompletePrefixIndex == null
+        || (field != null && !field.isEmpty())
+        || !QueryUtils.isEmptyFilter(requestParams)
+        || (customSearchConfiguration != null
+            && !customSearchConfiguration.getAutocompleteConfigurations().isEmpty())
+        // The index leaves out soft deleted entities, as search does only when asked to
+        || !Boolean.FALSE.equals(
+            opContext.getSearchContext().getSearchFlags().isIncludeSoftDeleted())) {
+      return null;
+    }
+    final List<AutocompletePrefixIndex.Suggestion> suggestions =
+        autocompletePrefixIndex.autoComplete(
+            entityName,
+            query,
+            ConfigUtils.applyLimit(searchServiceConfig, limit),
+            urn -> !ESAccessControlUtil.restrictUrn(opContext, urn));
+    if (suggestions == null) {
+      return null;
+    }
+    return new AutoCompleteResult()
+        .setQuery(query)
+        .setSuggestions(
+            new StringArray(
+                suggestions.stream()
+                    .map(AutocompletePrefixIndex.Suggestion::getValue)
+                    .collect(Collectors.toList())))
+        .setEntities(
+            new AutoCompleteEntityArray(
+                suggestions.stream()
+                    .map(suggestion -> new AutoCompleteEntity().setUrn(suggestion.getUrn()))
+                    .collect(Collectors.toList())));
+  }
+
+  /**
+   * Loads the autocomplete prefix index with the most used live entities of every type that has
+   * autocomplete fields.
+   */
+  public void loadAutocompletePrefixIndex(@Nonnull OperationContext opContext) {
+    if (autocompletePrefixIndex == null) {
+      return;
+    }
+    autocompletePrefixIndex.beginLoad();
+    try {
+      final Map<String, List<AutocompletePrefixIndex.LoadedEntity>> loaded = new HashMap<>();
+      for (EntitySpec entitySpec : opContext.getEntityRegistry().getEntitySpecs().values()) {
+        final List<String> fields =
+            entitySpec.getSearchableFieldSpecs().stream()
+                .map(SearchableFieldSpec::getSearchableAnnotation)
+                .filter(SearchableAnnotation::isEnableAutocomplete)
+                .map(SearchableAnnotation::getFieldName)
+                .distinct()
+                .collect(Collectors.toList());
+        if (!fields.isEmpty()) {
+          loaded.put(entitySpec.getName(), loadMostUsed(opContext, entitySpec, fields));
+        }
+      }
+      autocompletePrefixIndex.completeLoad(loaded);
+    } catch (RuntimeException e) {
+      autocompletePrefixIndex.abortLoad();
+      throw e;
+    }
+  }
+
+  private List<AutocompletePrefixIndex.LoadedEntity> loadMostUsed(
+      @Nonnull OperationContext opContext,
+      @Nonnull EntitySpec entitySpec,
+      @Nonnull List<String> fields) {
+    final List<String> usageFields = autocompletePrefixIndex.getUsageFields();
+    final SearchSourceBuilder source =
+        new SearchSourceBuilder()
+            .query(
+                QueryBuilders.boolQuery()
+                    .mustNot(QueryBuilders.termQuery(ESUtils.REMOVED, true))
+                    .filter(QueryBuilders.existsQuery(URN_FIELD)))
+            .size(autocompletePrefixIndex.getMaxEntitiesPerType())
+            .fetchSource(
+                Stream.of(List.of(URN_FIELD), fields, usageFields)
+                    .flatMap(List::stream)
+                    .toArray(String[]::new),
+                null);
+    // Types without the usage fields come back in index order
+    usageFields.forEach(
+        usageField ->
+            source.sort(
+                SortBuilders.fieldSort(usageField).order(SortOrder.DESC).unmappedType("long")));
+    final SearchRequest searchRequest =
+        new SearchRequest(
+                opContext.getSearchContext().getIndexConvention().getIndexName(entitySpec))
+            .source(source);
+
+    final SearchResponse response;
+    try {
+      response = client.search(searchRequest, RequestOptions.DEFAULT);
+    } catch (IOException e) {
+      throw new ESQueryException("Failed to load autocomplete prefix index", e);
+    }
+    final List<AutocompletePrefixIndex.LoadedEntity> entities = new ArrayList<>();
+    for (SearchHit hit : response.getHits().getHits()) {
+      final Map<String, Object> document = hit.getSourceAsMap();
+      final Map<String, List<String>> values = new LinkedHashMap<>();
+      fields.forEach(
+          field -> {
+            final Object value = document.get(field);
+            if (value instanceof Collection) {
+              values.put(
+                  field,
+                  ((Collection<?>) value)
+                      .stream()
+                      .map(String::valueOf)
+                      .collect(Collectors.toList()));
+            } else if (value != null) {
+              values.put(field, List.of(String.valueOf(value)));
+            }
+          });
+      final Map<String, Long> usage = new HashMap<>();
+      usageFields.forEach(
+          usageField -> {
+            if (document.get(usageField) instanceof Number) {
+              usage.put(usageField, ((Number) document.get(usageField)).longValue());
+            }
+          });
+      entities.add(
+          new AutocompletePrefixIndex.LoadedEntity(
+              UrnUtils.getUrn((String) document.get(URN_FIELD)), values, usage));
+    }
+    return entities;
+  }
+
   @VisibleForTesting
   public Pair<SearchRequest, AutocompleteRequestHandler> buildAutocompleteRequest(
       @Nonnull OperationContext opContext,
@@ -493,8 +672,7 @@ public class ESSearchDAO {
           try {
             final SearchRequest searchRequest =
                 buildAggregateByValue(opContext, entityNames, field, requestParams, limit);
-            final SearchResponse searchResponse =
-                client.search(searchRequest, RequestOptions.DEFAULT);
+            final SearchResponse searchResponse = search(searchRequest);
             // extract results, validated against document model as well
             return AggregationQueryBuilder.extractAggregationsFromResponse(searchResponse, field);
           } catch (Exception e) {
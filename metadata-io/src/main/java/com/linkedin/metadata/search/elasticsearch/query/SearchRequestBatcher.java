@@ -0,0 +1,193 @@
+package com.linkedin.metadata.search.elasticsearch.query;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.linkedin.metadata.config.search.MultiSearchConfiguration;
+import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+
+/**
+ * Combines searches that are issued at about the same time, such as the result, facet and count
+ * queries of one search page, into a single _msearch call. The first search to arrive waits up to
+ * {@code lingerMs} for others to join it, or until the batch is full, and then runs the batch for
+ * all of them on its own thread. Every search gets its own response or failure, so one failing
+ * search does not fail the others in its batch.
+ */
+@Slf4j
+public class SearchRequestBatcher {
+  static final String REQUESTS_METRIC = "datahub.search.msearch.requests";
+  static final String CALLS_METRIC = "datahub.search.msearch.calls";
+
+  private final SearchClientShim<?> client;
+  private final MultiSearchConfiguration config;
+  @Nullable private final MetricUtils metricUtils;
+
+  private final Object lock = new Object();
+  // Batch that new searches join, guarded by lock
+  private Batch open;
+
+  public SearchRequestBatcher(
+      @Nonnull SearchClientShim<?> client,
+      @Nonnull MultiSearchConfiguration config,
+      @Nullable MetricUtils metricUtils) {
+    this.client = client;
+    this.config = config;
+    this.metricUtils = metricUtils;
+  }
+
+  /** Runs the search, batched with any searches issued at the same time. */
+  @Nonnull
+  public SearchResponse search(@Nonnull SearchRequest searchRequest) throws IOException {
+    if (!isBatchable(searchRequest)) {
+      return client.search(searchRequest, RequestOptions.DEFAULT);
+    }
+
+    final CompletableFuture<SearchResponse> future = new CompletableFuture<>();
+    final Batch batch;
+    final boolean leader;
+    synchronized (lock) {
+      leader = open == null;
+      if (leader) {
+        open = new Batch();
+      }
+      batch = open;
+      batch.add(searchRequest, future);
+      if (batch.size() >= config.getMaxBatchSize()) {
+        open = null;
+        lock.notifyAll();
+      }
+    }
+
+    if (leader) {
+      awaitBatch(batch);
+      execute(batch);
+    }
+    return await(future);
+  }
+
+  /** Scrolls and point in time searches are tied to server side state and run on their own. */
+  @VisibleForTesting
+  static boolean isBatchable(@Nonnull SearchRequest searchRequest) {
+    return searchRequest.scroll() == null
+        && (searchRequest.source() == null
+            || searchRequest.source().pointInTimeBuilder() == null);
+  }
+
+  /** Waits until the batch is full or has lingered long enough, then closes it to new searches. */
+  private void awaitBatch(Batch batch) {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getLingerMs());
+    synchronized (lock) {
+      try {
+        long remaining = deadline - System.nanoTime();
+        while (open == batch && remaining > 0) {
+          TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+          remaining = deadline - System.nanoTime();
+        }
+      } catch (InterruptedException e) {
+        // The batch still runs, other searches are waiting on it
+        Thread.currentThread().interrupt();
+      } finally {
+        if (open == batch) {
+          open = null;
+        }
+      }
+    }
+  }
+
+  private void execute(Batch batch) {
+    final List<Item> items = batch.items;
+    if (items.size() == 1) {
+      final Item item = items.get(0);
+      try {
+        item.future.complete(client.search(item.request, RequestOptions.DEFAULT));
+      } catch (Exception e) {
+        item.future.completeExceptionally(e);
+      }
+      return;
+    }
+
+    final MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+    items.forEach(item -> multiSearchRequest.add(item.request));
+    try {
+      final MultiSearchResponse.Item[] responses =
+          client.msearch(multiSearchRequest, RequestOptions.DEFAULT).getResponses();
+      for (int i = 0; i < items.size(); i++) {
+        final CompletableFuture<SearchResponse> future = items.get(i).future;
+        if (i >= responses.length) {
+          future.completeExceptionally(
+              new IOException("Multi search returned fewer responses than requests"));
+        } else if (responses[i].isFailure()) {
+          future.completeExceptionally(responses[i].getFailure());
+        } else {
+          future.complete(responses[i].getResponse());
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Multi search of {} requests failed", items.size(), e);
+      items.forEach(item -> item.future.completeExceptionally(e));
+    }
+
+    if (metricUtils != null) {
+      metricUtils.incrementMicrometer(REQUESTS_METRIC, items.size());
+      metricUtils.incrementMicrometer(CALLS_METRIC, 1);
+      metricUtils.histogram(this.getClass(), "msearchBatchSize", items.size());
+    }
+  }
+
+  private SearchResponse await(CompletableFuture<SearchResponse> future) throws IOException {
+    try {
+      return future.get(config.getTimeoutMs(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      throw new IOException(
+          String.format("Search did not complete within %d ms", config.getTimeoutMs()), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for search", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private static class Batch {
+    private final List<Item> items = new ArrayList<>();
+
+    void add(SearchRequest request, CompletableFuture<SearchResponse> future) {
+      items.add(new Item(request, future));
+    }
+
+    int size() {
+      return items.size();
+    }
+  }
+
+  private static class Item {
+    private final SearchRequest request;
+    private final CompletableFuture<SearchResponse> future;
+
+    Item(SearchRequest request, CompletableFuture<SearchResponse> future) {
+      this.request = request;
+      this.future = future;
+    }
+  }
+}
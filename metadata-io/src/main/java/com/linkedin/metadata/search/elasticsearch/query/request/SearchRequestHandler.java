@@ -3,6 +3,7 @@ package com.linkedin.metadata.search.elasticsearch.query.request;
 import static com.linkedin.metadata.search.utils.ESUtils.NAME_SUGGESTION;
 import static com.linkedin.metadata.search.utils.ESUtils.applyDefaultSearchFilters;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -36,6 +37,7 @@ import com.linkedin.metadata.search.elasticsearch.query.filter.QueryFilterRewrit
 import com.linkedin.metadata.search.features.Features;
 import com.linkedin.metadata.search.utils.ESAccessControlUtil;
 import com.linkedin.metadata.search.utils.ESUtils;
+import com.linkedin.metadata.search.utils.SearchResultUtils;
 import com.linkedin.metadata.search.utils.UrnExtractionUtils;
 import com.linkedin.util.Pair;
 import io.datahubproject.metadata.context.OperationContext;
@@ -78,6 +80,7 @@ public class SearchRequestHandler extends BaseRequestHandler {
 
   private static final Map<SearchHandlerKey, SearchRequestHandler> REQUEST_HANDLER_BY_ENTITY_NAME =
       new ConcurrentHashMap<>();
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
   private final List<EntitySpec> entitySpecs;
   private final List<String> entityNames;
   @Getter private final Set<String> defaultQueryFieldNames;
@@ -92,6 +95,9 @@ public class SearchRequestHandler extends BaseRequestHandler {
 
   private final QueryFilterRewriteChain queryFilterRewriteChain;
 
+  // Card fields configured for search results that these entity types index
+  private final Set<String> cardFieldNames;
+
   private SearchRequestHandler(
       @Nonnull OperationContext opContext,
       @Nonnull EntitySpec entitySpec,
@@ -135,6 +141,7 @@ public class SearchRequestHandler extends BaseRequestHandler {
     this.customizedQueryHandler =
         CustomizedQueryHandler.builder(configs.getSearch().getCustom(), customSearchConfiguration)
             .build();
+    cardFieldNames = getCardFieldNames(annotations);
   }
 
   public static SearchRequestHandler getBuilder(
@@ -199,6 +206,18 @@ public class SearchRequestHandler extends BaseRequestHandler {
         .collect(Collectors.toSet());
   }
 
+  private Set<String> getCardFieldNames(List<SearchableAnnotation> annotations) {
+    if (searchServiceConfig.getCardFields() == null
+        || searchServiceConfig.getCardFields().getNames() == null) {
+      return Set.of();
+    }
+    Set<String> indexedFieldNames =
+        annotations.stream().map(SearchableAnnotation::getFieldName).collect(Collectors.toSet());
+    return searchServiceConfig.getCardFields().getNames().stream()
+        .filter(indexedFieldNames::contains)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
   @Override
   protected Collection<String> getValidQueryFieldNames() {
     return searchableFieldTypes.keySet();
@@ -252,7 +271,7 @@ public class SearchRequestHandler extends BaseRequestHandler {
 
     searchSourceBuilder.from(from);
     searchSourceBuilder.size(ConfigUtils.applyLimit(searchServiceConfig, size));
-    searchSourceBuilder.fetchSource("urn", null);
+    searchSourceBuilder.fetchSource(getSourceFields(searchFlags), null);
 
     BoolQueryBuilder filterQuery = getFilterQuery(opContext, filter);
     searchSourceBuilder.query(
@@ -314,7 +333,7 @@ public class SearchRequestHandler extends BaseRequestHandler {
     ESUtils.setSliceOptions(searchSourceBuilder, searchFlags.getSliceOptions());
 
     searchSourceBuilder.size(ConfigUtils.applyLimit(searchServiceConfig, size));
-    searchSourceBuilder.fetchSource("urn", null);
+    searchSourceBuilder.fetchSource(getSourceFields(searchFlags), null);
 
     BoolQueryBuilder filterQuery = getFilterQuery(opContext, filter);
     searchSourceBuilder.query(
@@ -456,9 +475,11 @@ public class SearchRequestHandler extends BaseRequestHandler {
     }
 
     List<SearchEntity> results = new ArrayList<>(searchHits.length);
+    final boolean includeCardFields =
+        Boolean.TRUE.equals(opContext.getSearchContext().getSearchFlags().isIncludeCardFields());
     for (SearchHit hit : searchHits) {
       // Build base SearchEntity
-      SearchEntity entity = getResult(hit);
+      SearchEntity entity = getResult(hit, includeCardFields);
       // Compute per-hit scrollId using this hit's sort values
       Object[] sort = hit.getSortValues();
       String perHitScrollId =
@@ -477,7 +498,7 @@ public class SearchRequestHandler extends BaseRequestHandler {
 
     // Apply access control restrictions while preserving order
     Collection<SearchEntity> resultList =
-        ESAccessControlUtil.restrictSearchResult(opContext, results);
+        removeRestrictedCardFields(ESAccessControlUtil.restrictSearchResult(opContext, results));
 
     SearchResultMetadata searchResultMetadata =
         extractSearchResultMetadata(opContext, searchResponse, filter);
@@ -598,12 +619,58 @@ public class SearchRequestHandler extends BaseRequestHandler {
         Features.Name.SEARCH_BACKEND_SCORE.toString(), (double) searchHit.getScore());
   }
 
-  private SearchEntity getResult(@Nonnull SearchHit hit) {
-    return new SearchEntity()
-        .setEntity(getUrnFromSearchHit(hit))
-        .setMatchedFields(new MatchedFieldArray(extractMatchedFields(hit)))
-        .setScore(hit.getScore())
-        .setFeatures(new DoubleMap(extractFeatures(hit)));
+  private SearchEntity getResult(@Nonnull SearchHit hit, boolean includeCardFields) {
+    SearchEntity entity =
+        new SearchEntity()
+            .setEntity(getUrnFromSearchHit(hit))
+            .setMatchedFields(new MatchedFieldArray(extractMatchedFields(hit)))
+            .setScore(hit.getScore())
+            .setFeatures(new DoubleMap(extractFeatures(hit)));
+    if (includeCardFields && !cardFieldNames.isEmpty()) {
+      entity.setExtraFields(
+          SearchResultUtils.toExtraFields(OBJECT_MAPPER, extractCardFields(hit.getSourceAsMap())));
+    }
+    return entity;
+  }
+
+  /** Source fields to fetch: the urn, and the card fields when the search flags ask for them. */
+  private String[] getSourceFields(@Nonnull SearchFlags searchFlags) {
+    if (!Boolean.TRUE.equals(searchFlags.isIncludeCardFields())) {
+      return new String[] {"urn"};
+    }
+    return Stream.concat(Stream.of("urn"), cardFieldNames.stream()).toArray(String[]::new);
+  }
+
+  /** Card fields of a search document, long string values cut to the configured length. */
+  private Map<String, Object> extractCardFields(@Nullable Map<String, Object> source) {
+    if (source == null) {
+      return Map.of();
+    }
+    final int maxValueLength = searchServiceConfig.getCardFields().getMaxValueLength();
+    final Map<String, Object> cardFields = new HashMap<>();
+    for (String fieldName : cardFieldNames) {
+      Object value = source.get(fieldName);
+      if (value instanceof String
+          && maxValueLength > 0
+          && ((String) value).length() > maxValueLength) {
+        value = ((String) value).substring(0, maxValueLength);
+      }
+      if (value != null) {
+        cardFields.put(fieldName, value);
+      }
+    }
+    return cardFields;
+  }
+
+  /** Card fields are not returned for entities the actor may not view. */
+  private Collection<SearchEntity> removeRestrictedCardFields(
+      @Nonnull Collection<SearchEntity> searchEntities) {
+    for (SearchEntity searchEntity : searchEntities) {
+      if (searchEntity.hasRestrictedAspects() && searchEntity.hasExtraFields()) {
+        cardFieldNames.forEach(searchEntity.getExtraFields()::remove);
+      }
+    }
+    return searchEntities;
   }
 
   /**
@@ -615,11 +682,14 @@ public class SearchRequestHandler extends BaseRequestHandler {
   @Nonnull
   private Collection<SearchEntity> getRestrictedResults(
       @Nonnull OperationContext opContext, @Nonnull SearchResponse searchResponse) {
-    return ESAccessControlUtil.restrictSearchResult(
-        opContext,
-        Arrays.stream(searchResponse.getHits().getHits())
-            .map(this::getResult)
-            .collect(Collectors.toList()));
+    final boolean includeCardFields =
+        Boolean.TRUE.equals(opContext.getSearchContext().getSearchFlags().isIncludeCardFields());
+    return removeRestrictedCardFields(
+        ESAccessControlUtil.restrictSearchResult(
+            opContext,
+            Arrays.stream(searchResponse.getHits().getHits())
+                .map(hit -> getResult(hit, includeCardFields))
+                .collect(Collectors.toList())));
   }
 
   @Nonnull
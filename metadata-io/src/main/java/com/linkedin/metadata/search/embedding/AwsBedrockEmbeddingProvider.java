@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -43,11 +45,13 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
 
   private static final String DEFAULT_MODEL = "cohere.embed-english-v3";
   private static final int DEFAULT_MAX_CHARACTER_LENGTH = 2048; // Cohere's hard limit
+  private static final int DEFAULT_BATCH_SIZE = 96; // Cohere's limit of texts per request
 
   private final BedrockRuntimeClient bedrockClient;
   private final ObjectMapper objectMapper;
   private final String defaultModel;
   private final int maxCharacterLength;
+  private final int batchSize;
 
   /**
    * Creates a new AwsBedrockEmbeddingProvider with default settings.
@@ -67,11 +71,28 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
    */
   public AwsBedrockEmbeddingProvider(
       @Nonnull String awsRegion, @Nonnull String defaultModel, int maxCharacterLength) {
+    this(awsRegion, defaultModel, maxCharacterLength, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a new AwsBedrockEmbeddingProvider with custom configuration.
+   *
+   * @param awsRegion AWS region where Bedrock is available
+   * @param defaultModel Default embedding model (e.g., "cohere.embed-english-v3")
+   * @param maxCharacterLength Maximum text length before truncation (Cohere enforces 2048)
+   * @param batchSize Maximum texts embedded per Bedrock call (Cohere accepts up to 96)
+   */
+  public AwsBedrockEmbeddingProvider(
+      @Nonnull String awsRegion,
+      @Nonnull String defaultModel,
+      int maxCharacterLength,
+      int batchSize) {
     Objects.requireNonNull(awsRegion, "awsRegion cannot be null");
     Objects.requireNonNull(defaultModel, "defaultModel cannot be null");
 
     this.defaultModel = defaultModel;
     this.maxCharacterLength = maxCharacterLength;
+    this.batchSize = Math.max(1, batchSize);
     this.objectMapper = new ObjectMapper();
 
     // Create Bedrock Runtime client with default credential chain
@@ -83,10 +104,11 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
             .build();
 
     log.info(
-        "Initialized AwsBedrockEmbeddingProvider with region={}, model={}, maxCharLength={}",
+        "Initialized AwsBedrockEmbeddingProvider with region={}, model={}, maxCharLength={}, batchSize={}",
         awsRegion,
         defaultModel,
-        maxCharacterLength);
+        maxCharacterLength,
+        this.batchSize);
   }
 
   /**
@@ -101,9 +123,26 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
       @Nonnull BedrockRuntimeClient bedrockClient,
       @Nonnull String defaultModel,
       int maxCharacterLength) {
+    this(bedrockClient, defaultModel, maxCharacterLength, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Creates a provider with an existing BedrockRuntimeClient and a custom batch size.
+   *
+   * @param bedrockClient Pre-configured Bedrock Runtime client
+   * @param defaultModel Default embedding model
+   * @param maxCharacterLength Maximum text length before truncation
+   * @param batchSize Maximum texts embedded per Bedrock call
+   */
+  public AwsBedrockEmbeddingProvider(
+      @Nonnull BedrockRuntimeClient bedrockClient,
+      @Nonnull String defaultModel,
+      int maxCharacterLength,
+      int batchSize) {
     this.bedrockClient = Objects.requireNonNull(bedrockClient, "bedrockClient cannot be null");
     this.defaultModel = Objects.requireNonNull(defaultModel, "defaultModel cannot be null");
     this.maxCharacterLength = maxCharacterLength;
+    this.batchSize = Math.max(1, batchSize);
     this.objectMapper = new ObjectMapper();
 
     log.info(
@@ -116,25 +155,47 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
   @Nonnull
   public float[] embed(@Nonnull String text, @Nullable String model) {
     Objects.requireNonNull(text, "text cannot be null");
+    return invokeModel(List.of(text), model != null ? model : defaultModel).get(0);
+  }
 
-    String modelToUse = model != null ? model : defaultModel;
+  /**
+   * Embeds the texts with one Bedrock call per {@code batchSize} texts, instead of one call per
+   * text.
+   */
+  @Override
+  @Nonnull
+  public List<float[]> embedBatch(@Nonnull List<String> texts, @Nullable String model) {
+    Objects.requireNonNull(texts, "texts cannot be null");
+    texts.forEach(text -> Objects.requireNonNull(text, "text cannot be null"));
 
-    // Truncate text if it exceeds the max character length
-    // Cohere enforces a 2048-character limit separate from token context window
-    String truncatedText = text;
-    if (text.length() > maxCharacterLength) {
-      truncatedText = text.substring(0, maxCharacterLength);
-      log.info("Truncated input text from {} to {} characters", text.length(), maxCharacterLength);
+    String modelToUse = model != null ? model : defaultModel;
+    List<float[]> embeddings = new ArrayList<>(texts.size());
+    for (int start = 0; start < texts.size(); start += batchSize) {
+      embeddings.addAll(
+          invokeModel(texts.subList(start, Math.min(texts.size(), start + batchSize)), modelToUse));
     }
+    return embeddings;
+  }
 
+  /** Embeds up to {@code batchSize} texts with a single Bedrock call. */
+  private List<float[]> invokeModel(@Nonnull List<String> texts, @Nonnull String modelToUse) {
     try {
       // Build request JSON for Cohere Embed v3
-      // Format: {"texts": ["text"], "input_type": "search_query", "truncate": "END"}
+      // Format: {"texts": ["text", ...], "input_type": "search_query", "truncate": "END"}
       ObjectNode requestBody = objectMapper.createObjectNode();
 
-      // texts: array with single text (we're embedding one query at a time)
       ArrayNode textsArray = objectMapper.createArrayNode();
-      textsArray.add(truncatedText);
+      for (String text : texts) {
+        // Truncate text if it exceeds the max character length
+        // Cohere enforces a 2048-character limit separate from token context window
+        if (text.length() > maxCharacterLength) {
+          log.info(
+              "Truncated input text from {} to {} characters", text.length(), maxCharacterLength);
+          textsArray.add(text.substring(0, maxCharacterLength));
+        } else {
+          textsArray.add(text);
+        }
+      }
       requestBody.set("texts", textsArray);
 
       // input_type: "search_query" for query embeddings (required for Cohere v3)
@@ -158,8 +219,8 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
       InvokeModelResponse response = bedrockClient.invokeModel(invokeRequest);
 
       // Parse response
-      // Format: {"embeddings": [[0.123, 0.456, ...]], "id": "...", "response_type":
-      // "embeddings_floats", "texts": ["..."]}
+      // Format: {"embeddings": [[0.123, 0.456, ...], ...], "id": "...", "response_type":
+      // "embeddings_floats", "texts": ["...", ...]}
       String responseJson = response.body().asString(StandardCharsets.UTF_8);
       log.debug("Bedrock response: {}", responseJson);
 
@@ -170,28 +231,25 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
         throw new RuntimeException(
             "Invalid response from Bedrock: missing or empty embeddings array");
       }
-
-      // Extract first (and only) embedding
-      JsonNode embeddingArray = embeddingsNode.get(0);
-      if (!embeddingArray.isArray()) {
-        throw new RuntimeException("Invalid response from Bedrock: embedding is not an array");
+      if (embeddingsNode.size() != texts.size()) {
+        throw new RuntimeException(
+            String.format(
+                "Invalid response from Bedrock: %d embeddings for %d texts",
+                embeddingsNode.size(), texts.size()));
       }
 
-      // Convert to float[]
-      int dimensions = embeddingArray.size();
-      float[] embedding = new float[dimensions];
-      for (int i = 0; i < dimensions; i++) {
-        JsonNode value = embeddingArray.get(i);
-        if (value.isNumber()) {
-          embedding[i] = (float) value.asDouble();
-        } else {
-          throw new RuntimeException(
-              "Invalid response from Bedrock: embedding contains non-numeric value");
-        }
+      // Embeddings come back in the order of the texts
+      List<float[]> embeddings = new ArrayList<>(texts.size());
+      for (JsonNode embeddingArray : embeddingsNode) {
+        embeddings.add(toFloatArray(embeddingArray));
       }
 
-      log.debug("Generated embedding with {} dimensions for model {}", dimensions, modelToUse);
-      return embedding;
+      log.debug(
+          "Generated {} embeddings with {} dimensions for model {}",
+          embeddings.size(),
+          embeddings.get(0).length,
+          modelToUse);
+      return embeddings;
 
     } catch (IOException e) {
       String errorMsg =
@@ -207,6 +265,25 @@ public class AwsBedrockEmbeddingProvider implements EmbeddingProvider {
     }
   }
 
+  private static float[] toFloatArray(@Nonnull JsonNode embeddingArray) {
+    if (!embeddingArray.isArray()) {
+      throw new RuntimeException("Invalid response from Bedrock: embedding is not an array");
+    }
+
+    int dimensions = embeddingArray.size();
+    float[] embedding = new float[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      JsonNode value = embeddingArray.get(i);
+      if (value.isNumber()) {
+        embedding[i] = (float) value.asDouble();
+      } else {
+        throw new RuntimeException(
+            "Invalid response from Bedrock: embedding contains non-numeric value");
+      }
+    }
+    return embedding;
+  }
+
   /** Closes the Bedrock client. Should be called when the provider is no longer needed. */
   public void close() {
     if (bedrockClient != null) {
@@ -0,0 +1,120 @@
+package com.linkedin.metadata.search.embedding;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/**
+ * Caches the embeddings of another {@link EmbeddingProvider}, keyed by model and whitespace
+ * normalized text, so that repeated queries do not call the embedding service again.
+ *
+ * <p>Hits, misses and evictions are exposed as the {@value #CACHE_NAME} cache metrics, and the time
+ * spent in the wrapped provider as the {@value #LATENCY_METRIC} timer. Cache hits are not timed.
+ */
+public class CachingEmbeddingProvider implements EmbeddingProvider {
+
+  public static final String CACHE_NAME = "embeddings";
+  public static final String LATENCY_METRIC = "datahub.embedding.latency";
+
+  private final EmbeddingProvider delegate;
+  private final Cache<EmbeddingKey, float[]> cache;
+  private final Timer embedLatency;
+  private final Timer embedBatchLatency;
+
+  /**
+   * @param delegate the provider that computes the embeddings that are not cached
+   * @param maxSize the most embeddings to keep, the least recently used are evicted first
+   * @param ttlSeconds how long an embedding is kept, 0 to keep it until evicted
+   * @param meterRegistry where the cache and latency metrics are registered
+   */
+  public CachingEmbeddingProvider(
+      @Nonnull EmbeddingProvider delegate,
+      long maxSize,
+      long ttlSeconds,
+      @Nonnull MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+
+    Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(maxSize).recordStats();
+    if (ttlSeconds > 0) {
+      caffeine.expireAfterWrite(Duration.ofSeconds(ttlSeconds));
+    }
+    this.cache = caffeine.build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+    this.embedLatency = latencyTimer(meterRegistry, "embed");
+    this.embedBatchLatency = latencyTimer(meterRegistry, "embedBatch");
+  }
+
+  @Nonnull
+  @Override
+  public float[] embed(@Nonnull String text, @Nullable String model) {
+    Objects.requireNonNull(text, "text cannot be null");
+    final EmbeddingKey key = new EmbeddingKey(model, normalize(text));
+    // Callers get their own copy, so that changing it does not change the cached embedding
+    return cache
+        .get(key, k -> embedLatency.record(() -> delegate.embed(k.getText(), model)))
+        .clone();
+  }
+
+  /** Embeds only the texts that are not cached, with one batch call to the wrapped provider. */
+  @Nonnull
+  @Override
+  public List<float[]> embedBatch(@Nonnull List<String> texts, @Nullable String model) {
+    final List<EmbeddingKey> keys =
+        texts.stream()
+            .map(text -> new EmbeddingKey(model, normalize(text)))
+            .collect(Collectors.toList());
+    final Map<EmbeddingKey, float[]> embeddings =
+        cache.getAll(
+            keys,
+            missing -> {
+              final List<EmbeddingKey> missingKeys = new ArrayList<>(missing);
+              final List<float[]> missingEmbeddings =
+                  embedBatchLatency.record(
+                      () ->
+                          delegate.embedBatch(
+                              missingKeys.stream()
+                                  .map(EmbeddingKey::getText)
+                                  .collect(Collectors.toList()),
+                              model));
+              final Map<EmbeddingKey, float[]> loaded = new HashMap<>();
+              for (int i = 0; i < missingKeys.size(); i++) {
+                loaded.put(missingKeys.get(i), missingEmbeddings.get(i));
+              }
+              return loaded;
+            });
+    return keys.stream().map(key -> embeddings.get(key).clone()).collect(Collectors.toList());
+  }
+
+  /** Trims the text and collapses its runs of whitespace, which do not change its embedding. */
+  static String normalize(@Nonnull String text) {
+    return text.trim().replaceAll("\\s+", " ");
+  }
+
+  private static Timer latencyTimer(MeterRegistry meterRegistry, String operation) {
+    return Timer.builder(LATENCY_METRIC)
+        .description("Time spent computing embeddings that were not cached")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  @Value
+  private static class EmbeddingKey {
+    /** Null for the provider's default model. */
+    @Nullable String model;
+
+    String text;
+  }
+}
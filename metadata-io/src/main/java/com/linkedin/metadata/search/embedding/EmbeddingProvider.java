@@ -1,5 +1,7 @@
 package com.linkedin.metadata.search.embedding;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -18,4 +20,19 @@ public interface EmbeddingProvider {
    */
   @Nonnull
   float[] embed(@Nonnull String text, @Nullable String model);
+
+  /**
+   * Returns embedding vectors for the given texts, in the order of the texts. Providers whose
+   * service accepts several texts per call override this to batch them; by default each text is
+   * embedded on its own.
+   *
+   * @param texts The texts to embed
+   * @param model The model identifier. If null, uses the provider's default model.
+   * @return One embedding vector per text
+   * @throws RuntimeException if embedding generation fails
+   */
+  @Nonnull
+  default List<float[]> embedBatch(@Nonnull List<String> texts, @Nullable String model) {
+    return texts.stream().map(text -> embed(text, model)).collect(Collectors.toList());
+  }
 }
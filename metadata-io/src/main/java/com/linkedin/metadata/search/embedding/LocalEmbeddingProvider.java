@@ -0,0 +1,61 @@
+package com.linkedin.metadata.search.embedding;
+
+import java.util.Locale;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Deterministic {@link EmbeddingProvider} that needs no external service, for tests and local
+ * development.
+ *
+ * <p>Each word of the text is hashed to one dimension of the vector, and the vector is scaled to
+ * unit length. Texts that share words are therefore close under cosine similarity, which is enough
+ * to exercise semantic search end to end, but the vectors carry no meaning beyond word overlap. The
+ * model is ignored.
+ */
+public class LocalEmbeddingProvider implements EmbeddingProvider {
+
+  private final int dimensions;
+
+  /**
+   * @param dimensions length of the returned vectors, which must match the vector dimension of the
+   *     semantic search index
+   */
+  public LocalEmbeddingProvider(int dimensions) {
+    if (dimensions <= 0) {
+      throw new IllegalArgumentException("dimensions must be positive, was " + dimensions);
+    }
+    this.dimensions = dimensions;
+  }
+
+  @Nonnull
+  @Override
+  public float[] embed(@Nonnull String text, @Nullable String model) {
+    Objects.requireNonNull(text, "text cannot be null");
+
+    final float[] embedding = new float[dimensions];
+    for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+      if (!word.isEmpty()) {
+        // String hash codes are specified, so the vectors are the same on every JVM
+        final int hash = word.hashCode();
+        embedding[Math.floorMod(hash, dimensions)] += (hash & 0x40000000) == 0 ? 1 : -1;
+      }
+    }
+
+    double norm = 0;
+    for (float value : embedding) {
+      norm += value * value;
+    }
+    if (norm == 0) {
+      // Texts without words still need a vector that cosine similarity is defined for
+      embedding[0] = 1;
+      return embedding;
+    }
+    final float scale = (float) (1 / Math.sqrt(norm));
+    for (int i = 0; i < dimensions; i++) {
+      embedding[i] *= scale;
+    }
+    return embedding;
+  }
+}
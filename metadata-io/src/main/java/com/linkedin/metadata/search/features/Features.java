@@ -18,7 +18,11 @@ public class Features {
     SEARCH_BACKEND_SCORE, // Score returned by search backend
     NUM_ENTITIES_PER_TYPE, // Number of entities per entity type
     RANK_WITHIN_TYPE,
-    ONLY_MATCH_CUSTOM_PROPERTIES; // Rank within the entity type
+    ONLY_MATCH_CUSTOM_PROPERTIES, // Rank within the entity type
+    KEYWORD_SCORE, // Keyword search score, scaled by the top score of the keyword results
+    SEMANTIC_SCORE, // Semantic search score, scaled by the top score of the semantic results
+    KEYWORD_RANK, // 1-based rank in the keyword results
+    SEMANTIC_RANK; // 1-based rank in the semantic results
   }
 
   public Double getNumericFeature(Name featureName, double defaultValue) {
@@ -0,0 +1,200 @@
+package com.linkedin.metadata.search.ranker;
+
+import com.google.common.collect.ImmutableList;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.DoubleMap;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration.Fusion;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.features.FeatureExtractor;
+import com.linkedin.metadata.search.features.Features;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.Value;
+
+/**
+ * Ranker that fuses the keyword and the semantic results of the same query into one list, with
+ * reciprocal rank fusion or a weighted sum of the score features of each result.
+ *
+ * <p>Both lists are usually fetched only as deep as the requested page. {@link #fuse} also reports
+ * whether the order of the first k fused results is final, i.e. whether no result further down
+ * either list could still be placed among them. Until then the caller should deepen the lists.
+ */
+public class HybridRanker extends SearchRanker<Double> {
+
+  public static final int DEFAULT_RANK_CONSTANT = 60;
+
+  private static final Set<Features.Name> WEIGHTED_FEATURES =
+      Set.of(Features.Name.KEYWORD_SCORE, Features.Name.SEMANTIC_SCORE);
+
+  @Getter private final Fusion fusion;
+  private final int rankConstant;
+  private final Map<Features.Name, Double> weights;
+
+  public HybridRanker(@Nonnull HybridSearchConfiguration config) {
+    this.fusion = config.getFusion() == null ? Fusion.RRF : config.getFusion();
+    this.rankConstant =
+        config.getRankConstant() > 0 ? config.getRankConstant() : DEFAULT_RANK_CONSTANT;
+    this.weights = new EnumMap<>(Features.Name.class);
+    if (config.getWeights() != null) {
+      for (Map.Entry<Features.Name, Double> weight :
+          Features.from(config.getWeights()).getNumericFeatures().entrySet()) {
+        // Bounds on unseen results only hold for non-negative weights of the list scores
+        if (!WEIGHTED_FEATURES.contains(weight.getKey()) || weight.getValue() < 0) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Hybrid search weights must be non-negative weights of %s, got %s=%s",
+                  WEIGHTED_FEATURES, weight.getKey(), weight.getValue()));
+        }
+        weights.put(weight.getKey(), weight.getValue());
+      }
+    }
+  }
+
+  @Override
+  public List<FeatureExtractor> getFeatureExtractors() {
+    return ImmutableList.of();
+  }
+
+  @Override
+  public Double score(SearchEntity searchEntity) {
+    return score(Features.from(searchEntity.getFeatures()));
+  }
+
+  private double score(@Nonnull Features features) {
+    if (fusion == Fusion.WEIGHTED) {
+      return weights.entrySet().stream()
+          .mapToDouble(weight -> weight.getValue() * features.getNumericFeature(weight.getKey(), 0))
+          .sum();
+    }
+    return reciprocalRank(features.getNumericFeature(Features.Name.KEYWORD_RANK, 0))
+        + reciprocalRank(features.getNumericFeature(Features.Name.SEMANTIC_RANK, 0));
+  }
+
+  /**
+   * Fuse the keyword and semantic results of a query, both in the order returned by their backend.
+   *
+   * @param keyword top keyword results
+   * @param semantic top semantic results
+   * @param k number of fused results the caller needs, from + size
+   * @param keywordExhausted whether there are no keyword results after the given ones
+   * @param semanticExhausted whether there are no semantic results after the given ones
+   * @return every result of either list, ranked by fused score
+   */
+  @Nonnull
+  public FusedResults fuse(
+      @Nonnull List<SearchEntity> keyword,
+      @Nonnull List<SearchEntity> semantic,
+      int k,
+      boolean keywordExhausted,
+      boolean semanticExhausted) {
+    Map<Urn, DoubleMap> features = new LinkedHashMap<>();
+    Map<Urn, SearchEntity> entities = new LinkedHashMap<>();
+    addList(keyword, Features.Name.KEYWORD_SCORE, Features.Name.KEYWORD_RANK, features, entities);
+    addList(
+        semantic, Features.Name.SEMANTIC_SCORE, Features.Name.SEMANTIC_RANK, features, entities);
+
+    // Most that a result could still gain from a list it is missing from
+    double keywordBound = keywordExhausted ? 0 : nextContribution(keyword, true);
+    double semanticBound = semanticExhausted ? 0 : nextContribution(semantic, false);
+
+    List<SearchEntity> fused = new ArrayList<>();
+    for (Map.Entry<Urn, SearchEntity> entry : entities.entrySet()) {
+      fused.add(withFeatures(entry.getValue(), features.get(entry.getKey())));
+    }
+    List<SearchEntity> ranked = rank(fused);
+
+    // Threshold algorithm: the first k are final once each one scores at least as high as anything
+    // ranked after it could, including results not fetched from either list yet
+    double[] upperBounds = new double[ranked.size() + 1];
+    upperBounds[ranked.size()] = keywordBound + semanticBound;
+    for (int i = ranked.size() - 1; i >= 0; i--) {
+      DoubleMap rankedFeatures = ranked.get(i).getFeatures();
+      double upperBound =
+          ranked.get(i).getScore()
+              + (rankedFeatures.containsKey(Features.Name.KEYWORD_RANK.toString())
+                  ? 0
+                  : keywordBound)
+              + (rankedFeatures.containsKey(Features.Name.SEMANTIC_RANK.toString())
+                  ? 0
+                  : semanticBound);
+      upperBounds[i] = Math.max(upperBound, upperBounds[i + 1]);
+    }
+    boolean topKStable = true;
+    for (int i = 0; i < k && topKStable; i++) {
+      topKStable =
+          i < ranked.size()
+              ? ranked.get(i).getScore() >= upperBounds[i + 1]
+              : upperBounds[ranked.size()] == 0;
+    }
+    return new FusedResults(ranked, topKStable);
+  }
+
+  private void addList(
+      @Nonnull List<SearchEntity> results,
+      @Nonnull Features.Name scoreFeature,
+      @Nonnull Features.Name rankFeature,
+      @Nonnull Map<Urn, DoubleMap> features,
+      @Nonnull Map<Urn, SearchEntity> entities) {
+    double topScore = results.isEmpty() ? 0 : backendScore(results.get(0));
+    for (int i = 0; i < results.size(); i++) {
+      SearchEntity result = results.get(i);
+      // Keep the first occurrence, its matched fields come from the keyword search
+      entities.putIfAbsent(result.getEntity(), result);
+      DoubleMap resultFeatures =
+          features.computeIfAbsent(result.getEntity(), urn -> new DoubleMap());
+      resultFeatures.putIfAbsent(
+          scoreFeature.toString(), topScore > 0 ? backendScore(result) / topScore : 0);
+      resultFeatures.putIfAbsent(rankFeature.toString(), (double) (i + 1));
+    }
+  }
+
+  /** Most that a result not in the given list yet could get from it once fetched. */
+  private double nextContribution(@Nonnull List<SearchEntity> results, boolean isKeyword) {
+    if (fusion == Fusion.WEIGHTED) {
+      double weight =
+          weights.getOrDefault(
+              isKeyword ? Features.Name.KEYWORD_SCORE : Features.Name.SEMANTIC_SCORE, 0.0);
+      if (results.isEmpty() || backendScore(results.get(0)) <= 0) {
+        return weight;
+      }
+      return weight
+          * Math.max(0, backendScore(results.get(results.size() - 1)))
+          / backendScore(results.get(0));
+    }
+    return reciprocalRank(results.size() + 1);
+  }
+
+  private double reciprocalRank(double rank) {
+    return rank > 0 ? 1.0 / (rankConstant + rank) : 0;
+  }
+
+  @SneakyThrows
+  private SearchEntity withFeatures(@Nonnull SearchEntity entity, @Nonnull DoubleMap features) {
+    DoubleMap merged = entity.hasFeatures() ? new DoubleMap(entity.getFeatures()) : new DoubleMap();
+    merged.putAll(features);
+    double score = score(Features.from(merged));
+    merged.put(Features.Name.SEARCH_BACKEND_SCORE.toString(), score);
+    return entity.clone().setFeatures(merged).setScore(score);
+  }
+
+  private static double backendScore(@Nonnull SearchEntity entity) {
+    return entity.hasScore() ? entity.getScore() : 0;
+  }
+
+  @Value
+  public static class FusedResults {
+    /** Results of either list ranked by fused score, the score of each set to its fused score */
+    List<SearchEntity> entities;
+
+    /** Whether the order of the first k results can no longer change by deepening either list */
+    boolean topKStable;
+  }
+}
@@ -0,0 +1,376 @@
+package com.linkedin.metadata.search.semantic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.Value;
+
+/**
+ * Hierarchical navigable small world graph (Malkov and Yashunin) over unit length vectors, for
+ * approximate nearest neighbour search by cosine similarity.
+ *
+ * <p>Vectors are kept off heap in direct buffers of {@value #VECTORS_PER_BLOCK} vectors each, so a
+ * large graph adds little to garbage collection; the neighbour lists are on heap. A deleted node is
+ * only marked: it still routes searches but is never returned, and is dropped when the graph is
+ * built again. Not thread safe.
+ */
+class HnswGraph {
+  static final int VECTORS_PER_BLOCK = 1024;
+  private static final int MAX_LEVEL = 16;
+
+  private static final Comparator<ScoredNode> BEST_FIRST =
+      Comparator.comparingDouble(ScoredNode::getScore).reversed();
+  private static final Comparator<ScoredNode> WORST_FIRST =
+      Comparator.comparingDouble(ScoredNode::getScore);
+
+  private final int dimensions;
+  // Neighbours kept per node above level 0, twice as many on level 0
+  private final int maxConnections;
+  private final int efConstruction;
+  private final double levelMultiplier;
+  private final Random random;
+
+  private final List<FloatBuffer> blocks = new ArrayList<>();
+  // Neighbours of each node by level, each list prefixed by its length
+  private final List<int[][]> neighbours = new ArrayList<>();
+  private final BitSet deleted = new BitSet();
+  private int deletedCount;
+  private int entryPoint = -1;
+  private int topLevel = -1;
+
+  /**
+   * @param dimensions length of the vectors
+   * @param m neighbours kept per node, more improves recall at the cost of memory and build time
+   * @param efConstruction candidates considered when connecting a node
+   * @param seed seed of the level of each node, so that the same inserts build the same graph
+   */
+  HnswGraph(int dimensions, int m, int efConstruction, long seed) {
+    if (dimensions <= 0 || m < 2 || efConstruction <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid graph parameters: dimensions=%d, m=%d, efConstruction=%d",
+              dimensions, m, efConstruction));
+    }
+    this.dimensions = dimensions;
+    this.maxConnections = m;
+    this.efConstruction = efConstruction;
+    this.levelMultiplier = 1 / Math.log(m);
+    this.random = new Random(seed);
+  }
+
+  int getDimensions() {
+    return dimensions;
+  }
+
+  /** Nodes added, deleted ones included. */
+  int size() {
+    return neighbours.size();
+  }
+
+  /** Nodes added and not deleted. */
+  int liveSize() {
+    return size() - deletedCount;
+  }
+
+  boolean isDeleted(int node) {
+    return deleted.get(node);
+  }
+
+  /** Adds a vector, scaled to unit length, and returns its node. */
+  int add(@Nonnull float[] vector) {
+    final float[] unit = toUnit(vector);
+    final int node = size();
+    store(node, unit);
+
+    final int level = randomLevel();
+    final int[][] levels = new int[level + 1][];
+    for (int l = 0; l <= level; l++) {
+      levels[l] = new int[1 + maxConnections(l)];
+    }
+    neighbours.add(levels);
+    if (entryPoint < 0) {
+      entryPoint = node;
+      topLevel = level;
+      return node;
+    }
+
+    int nearest = entryPoint;
+    for (int l = topLevel; l > level; l--) {
+      nearest = greedyClosest(unit, nearest, l);
+    }
+    for (int l = Math.min(level, topLevel); l >= 0; l--) {
+      final List<ScoredNode> candidates = searchLevel(unit, nearest, efConstruction, l, null);
+      setNeighbours(levels[l], selectNeighbours(candidates, maxConnections));
+      for (int i = 1; i <= levels[l][0]; i++) {
+        connect(levels[l][i], node, l);
+      }
+      nearest = candidates.get(0).getNode();
+    }
+    if (level > topLevel) {
+      entryPoint = node;
+      topLevel = level;
+    }
+    return node;
+  }
+
+  /** Marks a node deleted, it is no longer returned by searches. */
+  void delete(int node) {
+    if (!deleted.get(node)) {
+      deleted.set(node);
+      deletedCount++;
+    }
+  }
+
+  /**
+   * Finds about the {@code k} live nodes most similar to the query that the filter accepts. Nodes
+   * the filter rejects are still traversed, so a selective filter makes the search slower rather
+   * than return fewer nodes.
+   *
+   * @param query query vector, need not be unit length
+   * @param k number of nodes to return
+   * @param ef candidates kept while searching, raised to {@code k}, more improves recall
+   * @param accept nodes that may be returned, null for all
+   * @return the nodes, most similar first
+   */
+  @Nonnull
+  List<ScoredNode> search(@Nonnull float[] query, int k, int ef, @Nullable IntPredicate accept) {
+    if (entryPoint < 0 || k <= 0) {
+      return List.of();
+    }
+    final float[] unit = toUnit(query);
+    int nearest = entryPoint;
+    for (int l = topLevel; l > 0; l--) {
+      nearest = greedyClosest(unit, nearest, l);
+    }
+    final List<ScoredNode> results =
+        searchLevel(
+            unit,
+            nearest,
+            Math.max(ef, k),
+            0,
+            node -> !deleted.get(node) && (accept == null || accept.test(node)));
+    return results.size() > k ? results.subList(0, k) : results;
+  }
+
+  /** Cosine similarity of a node with a unit length query. */
+  float similarity(int node, @Nonnull float[] unitQuery) {
+    final FloatBuffer block = blocks.get(node / VECTORS_PER_BLOCK);
+    final int offset = (node % VECTORS_PER_BLOCK) * dimensions;
+    float dot = 0;
+    for (int i = 0; i < dimensions; i++) {
+      dot += block.get(offset + i) * unitQuery[i];
+    }
+    return dot;
+  }
+
+  /** The vector scaled to unit length, checking its length. */
+  @Nonnull
+  float[] toUnit(@Nonnull float[] vector) {
+    if (vector.length != dimensions) {
+      throw new IllegalArgumentException(
+          String.format("Expected a vector of %d dimensions, got %d", dimensions, vector.length));
+    }
+    double norm = 0;
+    for (float value : vector) {
+      norm += value * value;
+    }
+    final float[] unit = new float[dimensions];
+    if (norm > 0) {
+      final float scale = (float) (1 / Math.sqrt(norm));
+      for (int i = 0; i < dimensions; i++) {
+        unit[i] = vector[i] * scale;
+      }
+    }
+    return unit;
+  }
+
+  /** Bytes held by the vectors, off heap. */
+  long offHeapBytes() {
+    return (long) blocks.size() * VECTORS_PER_BLOCK * dimensions * Float.BYTES;
+  }
+
+  /** Rough bytes held by the neighbour lists, on heap. */
+  long heapBytes() {
+    // A level 0 list per node, and on average less than one list on the levels above
+    return (long) size() * ((3 * maxConnections + 2) * Integer.BYTES + 64);
+  }
+
+  private int maxConnections(int level) {
+    return level == 0 ? 2 * maxConnections : maxConnections;
+  }
+
+  private int randomLevel() {
+    final double level = -Math.log(1 - random.nextDouble()) * levelMultiplier;
+    return (int) Math.min(MAX_LEVEL, Math.floor(level));
+  }
+
+  private void store(int node, @Nonnull float[] unit) {
+    if (node / VECTORS_PER_BLOCK == blocks.size()) {
+      blocks.add(
+          ByteBuffer.allocateDirect(VECTORS_PER_BLOCK * dimensions * Float.BYTES)
+              .order(ByteOrder.nativeOrder())
+              .asFloatBuffer());
+    }
+    final FloatBuffer block = blocks.get(node / VECTORS_PER_BLOCK);
+    final int offset = (node % VECTORS_PER_BLOCK) * dimensions;
+    for (int i = 0; i < dimensions; i++) {
+      block.put(offset + i, unit[i]);
+    }
+  }
+
+  private float[] vector(int node) {
+    final float[] vector = new float[dimensions];
+    final FloatBuffer block = blocks.get(node / VECTORS_PER_BLOCK);
+    final int offset = (node % VECTORS_PER_BLOCK) * dimensions;
+    for (int i = 0; i < dimensions; i++) {
+      vector[i] = block.get(offset + i);
+    }
+    return vector;
+  }
+
+  private int greedyClosest(@Nonnull float[] unit, int start, int level) {
+    int best = start;
+    float bestScore = similarity(start, unit);
+    boolean improved = true;
+    while (improved) {
+      improved = false;
+      final int[] list = neighbours.get(best)[level];
+      for (int i = 1; i <= list[0]; i++) {
+        final float score = similarity(list[i], unit);
+        if (score > bestScore) {
+          best = list[i];
+          bestScore = score;
+          improved = true;
+        }
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Best first search of one level from an entry node, keeping the {@code ef} most similar nodes
+   * the filter accepts.
+   */
+  private List<ScoredNode> searchLevel(
+      @Nonnull float[] unit, int entry, int ef, int level, @Nullable IntPredicate accept) {
+    final BitSet visited = new BitSet(size());
+    final PriorityQueue<ScoredNode> candidates = new PriorityQueue<>(BEST_FIRST);
+    final PriorityQueue<ScoredNode> results = new PriorityQueue<>(WORST_FIRST);
+
+    visited.set(entry);
+    final ScoredNode start = new ScoredNode(entry, similarity(entry, unit));
+    candidates.add(start);
+    if (accept == null || accept.test(entry)) {
+      results.add(start);
+    }
+    while (!candidates.isEmpty()) {
+      final ScoredNode current = candidates.poll();
+      if (results.size() >= ef && current.getScore() < results.peek().getScore()) {
+        break;
+      }
+      final int[] list = neighbours.get(current.getNode())[level];
+      for (int i = 1; i <= list[0]; i++) {
+        final int neighbour = list[i];
+        if (visited.get(neighbour)) {
+          continue;
+        }
+        visited.set(neighbour);
+        final float score = similarity(neighbour, unit);
+        if (results.size() < ef || score > results.peek().getScore()) {
+          final ScoredNode scored = new ScoredNode(neighbour, score);
+          candidates.add(scored);
+          if (accept == null || accept.test(neighbour)) {
+            results.add(scored);
+            if (results.size() > ef) {
+              results.poll();
+            }
+          }
+        }
+      }
+    }
+
+    final List<ScoredNode> sorted = new ArrayList<>(results);
+    sorted.sort(BEST_FIRST);
+    return sorted;
+  }
+
+  /**
+   * Picks up to {@code max} of the candidates, most similar first, preferring those closer to the
+   * node than to any neighbour already picked so that the neighbours point in different directions.
+   */
+  private int[] selectNeighbours(@Nonnull List<ScoredNode> candidates, int max) {
+    final List<Integer> selected = new ArrayList<>(max);
+    final List<float[]> selectedVectors = new ArrayList<>(max);
+    final List<Integer> pruned = new ArrayList<>();
+    for (ScoredNode candidate : candidates) {
+      if (selected.size() >= max) {
+        break;
+      }
+      final float[] candidateVector = vector(candidate.getNode());
+      boolean diverse = true;
+      for (float[] selectedVector : selectedVectors) {
+        if (dot(candidateVector, selectedVector) > candidate.getScore()) {
+          diverse = false;
+          break;
+        }
+      }
+      if (diverse) {
+        selected.add(candidate.getNode());
+        selectedVectors.add(candidateVector);
+      } else {
+        pruned.add(candidate.getNode());
+      }
+    }
+    // Fill up with the pruned candidates, which keeps the graph connected
+    for (int i = 0; i < pruned.size() && selected.size() < max; i++) {
+      selected.add(pruned.get(i));
+    }
+    return selected.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /** Adds a new node to the neighbours of a node, picking them again when there are too many. */
+  private void connect(int node, int newNeighbour, int level) {
+    final int[] list = neighbours.get(node)[level];
+    final int max = maxConnections(level);
+    if (list[0] < max) {
+      list[++list[0]] = newNeighbour;
+      return;
+    }
+    final float[] nodeVector = vector(node);
+    final List<ScoredNode> candidates = new ArrayList<>(max + 1);
+    for (int i = 1; i <= list[0]; i++) {
+      candidates.add(new ScoredNode(list[i], similarity(list[i], nodeVector)));
+    }
+    candidates.add(new ScoredNode(newNeighbour, similarity(newNeighbour, nodeVector)));
+    candidates.sort(BEST_FIRST);
+    setNeighbours(list, selectNeighbours(candidates, max));
+  }
+
+  private static void setNeighbours(@Nonnull int[] list, @Nonnull int[] selected) {
+    list[0] = selected.length;
+    System.arraycopy(selected, 0, list, 1, selected.length);
+  }
+
+  private static float dot(@Nonnull float[] left, @Nonnull float[] right) {
+    float dot = 0;
+    for (int i = 0; i < left.length; i++) {
+      dot += left[i] * right[i];
+    }
+    return dot;
+  }
+
+  @Value
+  static class ScoredNode {
+    int node;
+    float score;
+  }
+}
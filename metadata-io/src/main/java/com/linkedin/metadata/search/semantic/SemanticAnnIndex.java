@@ -0,0 +1,603 @@
+package com.linkedin.metadata.search.semantic;
+
+import static com.linkedin.metadata.Constants.IS_LATEST_FIELD_NAME;
+import static com.linkedin.metadata.utils.SearchUtil.INDEX_VIRTUAL_FIELD;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.query.filter.ConjunctiveCriterion;
+import com.linkedin.metadata.query.filter.Criterion;
+import com.linkedin.metadata.query.filter.Filter;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In memory approximate nearest neighbour index over the chunk embeddings of the semantic indices,
+ * answering semantic search without a kNN request to the search cluster.
+ *
+ * <p>The chunk vectors of all held entities are kept in one {@link HnswGraph}, beside the values of
+ * a few filter fields of each entity. A search is only answered when the index is loaded, holds the
+ * requested entity types, and every criterion of the filter is one it can evaluate on those values;
+ * otherwise it answers nothing and the request goes to the search cluster. A filter that lets
+ * through at most {@code exactSearchThreshold} chunks is evaluated first and those chunks are
+ * scored exactly, since a graph search would visit most of the graph to find them.
+ *
+ * <p>Scores follow the {@code cosinesimil} space of the semantic indices, {@code (1 + cosine) / 2},
+ * and an entity scores as its best chunk, as the nested kNN query does. Changes applied while a
+ * load is running are applied again on top of the loaded state. Replaced vectors stay in the graph,
+ * marked deleted, until the next load; once the graph holds more than {@code maxVectors} the index
+ * stops answering until then. A load builds its graph beside the one in use, so until it completes
+ * direct memory holds both.
+ */
+@Slf4j
+public class SemanticAnnIndex {
+  private static final String HITS_METRIC = "datahub.search.semantic.ann_index.hits";
+  private static final String MISSES_METRIC = "datahub.search.semantic.ann_index.misses";
+  private static final String LATENCY_METRIC = "datahub.search.semantic.ann_index.latency";
+  private static final String URN_FIELD = "urn";
+  private static final long GRAPH_SEED = 42;
+
+  @Getter @Nonnull private final Set<String> entityTypes;
+  // Fields whose values are held for filtering
+  @Getter @Nonnull private final Set<String> filterFields;
+  @Getter private final int maxVectors;
+  private final int m;
+  private final int efConstruction;
+  private final int efSearch;
+  private final int exactSearchThreshold;
+  @Nullable private final MetricUtils metricUtils;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  @Nullable private HnswGraph graph;
+  private final Map<Urn, Entity> entities = new HashMap<>();
+  // Entity of each live node, null for deleted nodes
+  private final List<Entity> nodeEntities = new ArrayList<>();
+  private boolean ready;
+  // Changes received while a load is running, null when no load is
+  @Nullable private List<Runnable> changesDuringLoad;
+  // Index being loaded, only touched by the loading thread, null when no load is running
+  @Nullable private PendingLoad pendingLoad;
+
+  public SemanticAnnIndex(
+      @Nonnull Set<String> entityTypes,
+      @Nonnull Set<String> filterFields,
+      int maxVectors,
+      int m,
+      int efConstruction,
+      int efSearch,
+      int exactSearchThreshold,
+      @Nullable MetricUtils metricUtils) {
+    this.entityTypes = Set.copyOf(entityTypes);
+    this.filterFields = Set.copyOf(filterFields);
+    this.maxVectors = maxVectors;
+    this.m = m;
+    this.efConstruction = efConstruction;
+    this.efSearch = efSearch;
+    this.exactSearchThreshold = exactSearchThreshold;
+    this.metricUtils = metricUtils;
+  }
+
+  /** Whether a load has completed, until then semantic search goes to the search cluster. */
+  public boolean isReady() {
+    lock.readLock().lock();
+    try {
+      return ready;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Sets the chunk vectors of an entity, adding it to the index when it holds its type. An entity
+   * without vectors is taken out of the index, as it cannot match a kNN query either.
+   */
+  public void setVectors(@Nonnull Urn urn, @Nonnull List<float[]> vectors) {
+    final List<float[]> copies = vectors.stream().map(float[]::clone).collect(Collectors.toList());
+    change(
+        urn,
+        current -> {
+          if (copies.isEmpty()) {
+            return null;
+          }
+          final int dimensions = graph == null ? copies.get(0).length : graph.getDimensions();
+          if (copies.stream().anyMatch(vector -> vector.length != dimensions)) {
+            log.warn("Ignoring embeddings of {} that do not have {} dimensions", urn, dimensions);
+            return current;
+          }
+          return new Entity(
+              urn,
+              addNodes(copies),
+              current == null ? Map.of() : current.getFields(),
+              current == null ? Map.of(URN_FIELD, urn.toString()) : current.getSource());
+        });
+  }
+
+  /**
+   * Sets filter field values of an entity the index holds, leaving its other fields as they are. A
+   * field with no values is cleared.
+   */
+  public void updateFields(@Nonnull Urn urn, @Nonnull Map<String, List<String>> fields) {
+    change(
+        urn,
+        current -> {
+          if (current == null) {
+            // Picked up with the rest of the entity once it has vectors
+            return null;
+          }
+          final Map<String, Set<String>> merged = new HashMap<>(current.getFields());
+          fields.forEach(
+              (field, values) -> {
+                if (!filterFields.contains(field)) {
+                  return;
+                }
+                if (values.isEmpty()) {
+                  merged.remove(field);
+                } else {
+                  merged.put(field, Set.copyOf(values));
+                }
+              });
+          return new Entity(urn, current.getNodes(), merged, current.getSource());
+        });
+  }
+
+  /** Takes a hard deleted entity out of the index. */
+  public void delete(@Nonnull Urn urn) {
+    change(urn, current -> null);
+  }
+
+  /**
+   * Starts a load: records changes so that they can be applied again once the load completes, and
+   * starts an empty graph for {@link #loadEntity(LoadedEntity)} to build.
+   */
+  public void beginLoad() {
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+    pendingLoad = new PendingLoad();
+  }
+
+  /**
+   * Adds an entity read by the running load to the graph being built, searches go on against the
+   * current graph meanwhile. Entities without vectors are skipped.
+   *
+   * @param entity an entity of a held type
+   */
+  public void loadEntity(@Nonnull LoadedEntity entity) {
+    final PendingLoad load = pendingLoad;
+    if (load == null) {
+      throw new IllegalStateException("No semantic ANN index load is running");
+    }
+    if (entity.getVectors().isEmpty()) {
+      return;
+    }
+    if (load.graph == null) {
+      load.graph = new HnswGraph(entity.getVectors().get(0).length, m, efConstruction, GRAPH_SEED);
+    }
+    final int[] nodes = new int[entity.getVectors().size()];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = load.graph.add(entity.getVectors().get(i));
+    }
+    final Entity loadedEntity =
+        new Entity(entity.getUrn(), nodes, toValueSets(entity.getFields()), entity.getSource());
+    load.entities.put(entity.getUrn(), loadedEntity);
+    for (int node : nodes) {
+      load.nodeEntities.add(loadedEntity);
+    }
+  }
+
+  /** Vectors added by the running load so far. */
+  public int getLoadedVectors() {
+    final PendingLoad load = pendingLoad;
+    return load == null || load.graph == null ? 0 : load.graph.size();
+  }
+
+  /**
+   * Replaces the index with the loaded entities, then applies the changes received since {@link
+   * #beginLoad()}.
+   */
+  public void completeLoad() {
+    final PendingLoad load = pendingLoad;
+    if (load == null) {
+      throw new IllegalStateException("No semantic ANN index load is running");
+    }
+    pendingLoad = null;
+
+    lock.writeLock().lock();
+    try {
+      final List<Runnable> changes = changesDuringLoad;
+      changesDuringLoad = null;
+      graph = load.graph;
+      entities.clear();
+      entities.putAll(load.entities);
+      nodeEntities.clear();
+      nodeEntities.addAll(load.nodeEntities);
+      if (changes != null) {
+        changes.forEach(Runnable::run);
+      }
+      ready = graph == null || graph.size() <= maxVectors;
+      log.info(
+          "Loaded semantic ANN index with {} entities and {} vectors in {} ms, about {} bytes off"
+              + " heap, {} changes applied during the load",
+          entities.size(),
+          graph == null ? 0 : graph.liveSize(),
+          System.currentTimeMillis() - load.startMillis,
+          graph == null ? 0 : graph.offHeapBytes(),
+          changes == null ? 0 : changes.size());
+      reportSize();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Stops recording changes after a failed load and drops the graph it built, the previous index
+   * stays in use.
+   */
+  public void abortLoad() {
+    pendingLoad = null;
+    lock.writeLock().lock();
+    try {
+      changesDuringLoad = null;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Finds the entities whose chunks are most similar to the query.
+   *
+   * @param entityTypes entity types to search
+   * @param query query embedding
+   * @param filter document filter, before any {@code _entityType} rewrite
+   * @param filterNonLatestVersions whether entities that are not the latest version are left out
+   * @param k number of entities to return
+   * @return the entities, most similar first, or null when the search cluster has to answer
+   *     instead: the index is not loaded, does not hold a type, or cannot evaluate the filter
+   */
+  @Nullable
+  public List<Match> search(
+      @Nonnull List<String> entityTypes,
+      @Nonnull float[] query,
+      @Nullable Filter filter,
+      boolean filterNonLatestVersions,
+      int k) {
+    final long startNanos = System.nanoTime();
+    List<Match> matches = null;
+    lock.readLock().lock();
+    try {
+      if (ready && this.entityTypes.containsAll(entityTypes)) {
+        final Predicate<Entity> accept = toPredicate(entityTypes, filter, filterNonLatestVersions);
+        if (accept != null) {
+          matches = graph == null ? List.of() : searchGraph(graph, query, accept, k);
+        }
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    if (metricUtils != null) {
+      metricUtils.incrementMicrometer(matches != null ? HITS_METRIC : MISSES_METRIC, 1);
+      Timer.builder(LATENCY_METRIC)
+          .publishPercentiles(0.5, 0.95, 0.99)
+          .register(metricUtils.getRegistry())
+          .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    return matches;
+  }
+
+  /** Must be called with the read lock held. */
+  private List<Match> searchGraph(
+      @Nonnull HnswGraph graph, @Nonnull float[] query, @Nonnull Predicate<Entity> accept, int k) {
+    if (query.length != graph.getDimensions()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Query embedding has %d dimensions, the semantic ANN index holds %d",
+              query.length, graph.getDimensions()));
+    }
+
+    // Pre-check the filter: when few chunks pass it, score them all rather than search the graph
+    final List<Entity> accepted = new ArrayList<>();
+    int acceptedVectors = 0;
+    for (Entity entity : entities.values()) {
+      if (accept.test(entity)) {
+        accepted.add(entity);
+        acceptedVectors += entity.getNodes().length;
+        if (acceptedVectors > exactSearchThreshold) {
+          break;
+        }
+      }
+    }
+
+    // Best chunk of each entity
+    final Map<Entity, Float> scores = new LinkedHashMap<>();
+    if (acceptedVectors <= exactSearchThreshold) {
+      final float[] unit = graph.toUnit(query);
+      for (Entity entity : accepted) {
+        for (int node : entity.getNodes()) {
+          scores.merge(entity, graph.similarity(node, unit), Math::max);
+        }
+      }
+    } else {
+      // An entity has several chunks, ask for enough of them to find k entities
+      final int chunksPerEntity =
+          Math.max(1, (int) Math.ceil((double) graph.liveSize() / Math.max(1, entities.size())));
+      graph
+          .search(
+              query,
+              k * chunksPerEntity,
+              efSearch * chunksPerEntity,
+              node -> accept.test(nodeEntities.get(node)))
+          .forEach(
+              scored ->
+                  scores.merge(nodeEntities.get(scored.getNode()), scored.getScore(), Math::max));
+    }
+
+    return scores.entrySet().stream()
+        .sorted(Map.Entry.<Entity, Float>comparingByValue(Comparator.reverseOrder()))
+        .limit(k)
+        .map(
+            entry ->
+                new Match(
+                    entry.getKey().getUrn(),
+                    (1 + entry.getValue()) / 2,
+                    entry.getKey().getSource()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * The filter as a predicate on held entities, or null when it has a criterion the index cannot
+   * evaluate: a condition other than equality, in, exists and is null, or a field it does not hold.
+   */
+  @Nullable
+  private Predicate<Entity> toPredicate(
+      @Nonnull List<String> entityTypes, @Nullable Filter filter, boolean filterNonLatestVersions) {
+    final Set<String> types = new HashSet<>(entityTypes);
+    Predicate<Entity> predicate = entity -> types.contains(entity.getUrn().getEntityType());
+
+    if (filter != null && filter.getOr() != null && !filter.getOr().isEmpty()) {
+      final List<Predicate<Entity>> conjuncts = new ArrayList<>();
+      for (ConjunctiveCriterion conjunct : filter.getOr()) {
+        final Predicate<Entity> conjunctPredicate = toPredicate(conjunct.getAnd());
+        if (conjunctPredicate == null) {
+          return null;
+        }
+        conjuncts.add(conjunctPredicate);
+      }
+      predicate =
+          predicate.and(entity -> conjuncts.stream().anyMatch(conjunct -> conjunct.test(entity)));
+    } else if (filter != null && filter.getCriteria() != null) {
+      final Predicate<Entity> criteriaPredicate = toPredicate(filter.getCriteria());
+      if (criteriaPredicate == null) {
+        return null;
+      }
+      predicate = predicate.and(criteriaPredicate);
+    }
+
+    if (filterNonLatestVersions) {
+      // Latest versions, and entities that are not versioned
+      if (!filterFields.contains(IS_LATEST_FIELD_NAME)) {
+        return null;
+      }
+      predicate =
+          predicate.and(
+              entity -> {
+                final Set<String> isLatest =
+                    entity.getFields().getOrDefault(IS_LATEST_FIELD_NAME, Set.of());
+                return isLatest.isEmpty() || isLatest.contains("true");
+              });
+    }
+    return predicate;
+  }
+
+  @Nullable
+  private Predicate<Entity> toPredicate(@Nonnull List<Criterion> criteria) {
+    Predicate<Entity> predicate = entity -> true;
+    for (Criterion criterion : criteria) {
+      final Predicate<Entity> criterionPredicate = toPredicate(criterion);
+      if (criterionPredicate == null) {
+        return null;
+      }
+      predicate = predicate.and(criterionPredicate);
+    }
+    return predicate;
+  }
+
+  @Nullable
+  private Predicate<Entity> toPredicate(@Nonnull Criterion criterion) {
+    final String field = criterion.getField().replaceFirst("\\.keyword$", "");
+    final Function<Entity, Set<String>> values;
+    final Function<String, String> normalize;
+    if (field.equalsIgnoreCase(INDEX_VIRTUAL_FIELD)) {
+      // Values name entity types in any case, with or without underscores
+      values = entity -> Set.of(normalizeEntityType(entity.getUrn().getEntityType()));
+      normalize = SemanticAnnIndex::normalizeEntityType;
+    } else if (URN_FIELD.equals(field)) {
+      values = entity -> Set.of(entity.getUrn().toString());
+      normalize = Function.identity();
+    } else if (filterFields.contains(field)) {
+      values = entity -> entity.getFields().getOrDefault(field, Set.of());
+      normalize = Function.identity();
+    } else {
+      return null;
+    }
+
+    final Predicate<Entity> matches;
+    switch (criterion.getCondition()) {
+      case EQUAL:
+      case IN:
+        if (criterion.getValues().isEmpty()) {
+          return null;
+        }
+        final Set<String> wanted =
+            criterion.getValues().stream().map(normalize).collect(Collectors.toSet());
+        matches = entity -> !Collections.disjoint(values.apply(entity), wanted);
+        break;
+      case IEQUAL:
+        if (criterion.getValues().isEmpty()) {
+          return null;
+        }
+        final Set<String> wantedIgnoringCase =
+            criterion.getValues().stream()
+                .map(normalize)
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+        matches =
+            entity ->
+                values.apply(entity).stream()
+                    .anyMatch(value -> wantedIgnoringCase.contains(value.toLowerCase(Locale.ROOT)));
+        break;
+      case EXISTS:
+        matches = entity -> !values.apply(entity).isEmpty();
+        break;
+      case IS_NULL:
+        matches = entity -> values.apply(entity).isEmpty();
+        break;
+      default:
+        return null;
+    }
+    return criterion.isNegated() ? matches.negate() : matches;
+  }
+
+  private static String normalizeEntityType(@Nonnull String entityType) {
+    return entityType.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+
+  private Map<String, Set<String>> toValueSets(@Nonnull Map<String, List<String>> fields) {
+    final Map<String, Set<String>> valueSets = new HashMap<>();
+    fields.forEach(
+        (field, values) -> {
+          if (filterFields.contains(field) && !values.isEmpty()) {
+            valueSets.put(field, Set.copyOf(values));
+          }
+        });
+    return valueSets;
+  }
+
+  private void change(@Nonnull Urn urn, @Nonnull Function<Entity, Entity> change) {
+    if (!entityTypes.contains(urn.getEntityType())) {
+      return;
+    }
+    final Runnable apply =
+        () -> {
+          final Entity current = entities.get(urn);
+          final Entity next = change.apply(current);
+          if (current != null && (next == null || next.getNodes() != current.getNodes())) {
+            for (int node : current.getNodes()) {
+              graph.delete(node);
+              nodeEntities.set(node, null);
+            }
+          }
+          if (next == null) {
+            entities.remove(urn);
+          } else {
+            entities.put(urn, next);
+            for (int node : next.getNodes()) {
+              nodeEntities.set(node, next);
+            }
+          }
+          if (graph != null && graph.size() > maxVectors && ready) {
+            log.warn(
+                "The semantic ANN index holds more than {} vectors, semantic search goes to the"
+                    + " search cluster until the next load",
+                maxVectors);
+            ready = false;
+          }
+        };
+    lock.writeLock().lock();
+    try {
+      apply.run();
+      if (changesDuringLoad != null) {
+        changesDuringLoad.add(apply);
+      }
+      reportSize();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Adds vectors to the graph, creating it with the first ones. Must hold the write lock. */
+  private int[] addNodes(@Nonnull List<float[]> vectors) {
+    if (graph == null) {
+      graph = new HnswGraph(vectors.get(0).length, m, efConstruction, GRAPH_SEED);
+    }
+    final int[] nodes = new int[vectors.size()];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = graph.add(vectors.get(i));
+      nodeEntities.add(null);
+    }
+    return nodes;
+  }
+
+  /** Must be called with a lock held. */
+  private void reportSize() {
+    if (metricUtils != null) {
+      metricUtils.setGaugeValue(this.getClass(), "entities", entities.size());
+      metricUtils.setGaugeValue(this.getClass(), "vectors", graph == null ? 0 : graph.liveSize());
+      metricUtils.setGaugeValue(
+          this.getClass(),
+          "memoryBytes",
+          graph == null ? 0 : graph.offHeapBytes() + graph.heapBytes());
+    }
+  }
+
+  @Value
+  public static class LoadedEntity {
+    @Nonnull Urn urn;
+    @Nonnull List<float[]> vectors;
+
+    /** Values of the filter fields, by field. */
+    @Nonnull Map<String, List<String>> fields;
+
+    /** Fields returned with search results. */
+    @Nonnull Map<String, Object> source;
+  }
+
+  /** The index a running load builds, swapped in once it completes. */
+  private static class PendingLoad {
+    private final long startMillis = System.currentTimeMillis();
+    @Nullable private HnswGraph graph;
+    private final Map<Urn, Entity> entities = new HashMap<>();
+    private final List<Entity> nodeEntities = new ArrayList<>();
+  }
+
+  @Value
+  public static class Match {
+    @Nonnull Urn urn;
+    float score;
+    @Nonnull Map<String, Object> source;
+  }
+
+  /** Compared by identity, every change replaces the entity. */
+  @Getter
+  @AllArgsConstructor
+  private static class Entity {
+    private final Urn urn;
+    private final int[] nodes;
+    private final Map<String, Set<String>> fields;
+    private final Map<String, Object> source;
+  }
+}
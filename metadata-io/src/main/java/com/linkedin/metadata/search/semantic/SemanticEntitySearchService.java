@@ -3,6 +3,7 @@ package com.linkedin.metadata.search.semantic;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.models.EntitySpec;
 import com.linkedin.metadata.models.annotation.SearchableAnnotation;
 import com.linkedin.metadata.query.filter.Filter;
@@ -23,6 +24,7 @@ import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
 import com.linkedin.metadata.utils.elasticsearch.responses.RawResponse;
 import io.datahubproject.metadata.context.OperationContext;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +35,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.util.EntityUtils;
 import org.opensearch.client.Request;
@@ -78,20 +81,31 @@ import org.opensearch.client.Request;
  * and clients are expected to suppress highlights in this mode. Facets are attached by the caller
  * (see {@code SearchService}) using a parallel keyword aggregation to maintain parity with existing
  * consumers.
+ *
+ * <p>When a {@link SemanticAnnIndex} is set, searches it can evaluate are answered from memory, see
+ * {@link #loadAnnIndex(OperationContext)}; the others still go to the semantic indices.
  */
 @Slf4j
 public class SemanticEntitySearchService implements SemanticEntitySearch {
 
-  private static final String NESTED_PATH = "embeddings.cohere_embed_v3.chunks";
+  /** Model whose chunk embeddings are searched. */
+  public static final String EMBEDDING_MODEL = "cohere_embed_v3";
+
+  private static final String NESTED_PATH = "embeddings." + EMBEDDING_MODEL + ".chunks";
   private static final String VECTOR_FIELD = NESTED_PATH + ".vector";
   private static final double DEFAULT_OVERSAMPLE_FACTOR = 1.2d; // Lower for pre-filtering
   private static final int MAX_K = 500;
+  private static final int ANN_LOAD_BATCH_SIZE = 500;
+  private static final String ANN_LOAD_SCROLL_TTL = "1m";
 
   private final SearchClientShim<?> searchClient;
   private final EmbeddingProvider embeddingProvider;
   private final QueryFilterRewriteChain queryFilterRewriteChain;
   private final MappingsBuilder mappingsBuilder;
 
+  /** Answers searches it can evaluate without the search cluster, when enabled. */
+  @Setter @Nullable private SemanticAnnIndex annIndex;
+
   /**
    * Constructs a semantic entity search service backed by OpenSearch's low-level REST client.
    *
@@ -152,6 +166,240 @@ public class SemanticEntitySearchService implements SemanticEntitySearch {
     // TODO: Make model configurable
     float[] queryEmbedding = embeddingProvider.embed(input, null);
 
+    // Calculate k for oversampling
+    int normalizedPageSize = pageSize != null ? pageSize : 10;
+    int needed = from + normalizedPageSize;
+    int k =
+        Math.max(
+            normalizedPageSize,
+            Math.min(MAX_K, (int) Math.ceil(needed * DEFAULT_OVERSAMPLE_FACTOR)));
+
+    // Answer from the in memory index when it can, otherwise from the semantic indices
+    List<SearchEntity> hits =
+        searchAnnIndex(opContext, entityNames, queryEmbedding, postFilters, k);
+    if (hits == null) {
+      hits = searchIndices(opContext, entityNames, indices, queryEmbedding, postFilters, k);
+    }
+
+    // 9) Slice [from, from+pageSize)
+    if (from >= hits.size()) {
+      return emptyResult(from, normalizedPageSize);
+    }
+    int to = Math.min(hits.size(), from + normalizedPageSize);
+    List<SearchEntity> page = hits.subList(from, to);
+
+    // 10) Build SearchResult following keyword search pattern
+    // Note: For k-NN, numEntities represents the total candidates found (after filtering),
+    // not total documents in index. With track_total_hits=false, hits.size() is our best estimate.
+    SearchResultMetadata metadata =
+        new SearchResultMetadata().setAggregations(new AggregationMetadataArray());
+    return new SearchResult()
+        .setEntities(new SearchEntityArray(page))
+        .setMetadata(metadata)
+        .setFrom(from)
+        .setPageSize(normalizedPageSize)
+        .setNumEntities(hits.size());
+  }
+
+  /**
+   * Loads the ANN index from the semantic indices of the entity types it holds, scrolling through
+   * them for the chunk vectors, filter fields and fields returned with results of each document.
+   * Each page of hits goes straight into the graph being built rather than being held first. Does
+   * nothing when there is no ANN index. The load is abandoned when the indices hold more than
+   * {@code maxVectors} vectors, semantic search then keeps going to the search cluster.
+   *
+   * @param opContext operation context
+   */
+  public void loadAnnIndex(@Nonnull OperationContext opContext) throws IOException {
+    if (annIndex == null) {
+      return;
+    }
+    ObjectMapper objectMapper = opContext.getObjectMapper();
+    Set<String> fieldsToFetch =
+        new HashSet<>(SearchDocFieldFetchConfig.DEFAULT_FIELDS_TO_FETCH_ON_SEARCH);
+    Set<String> sourceFields = new HashSet<>(fieldsToFetch);
+    sourceFields.addAll(annIndex.getFilterFields());
+    sourceFields.add(VECTOR_FIELD);
+
+    annIndex.beginLoad();
+    try {
+      for (String entityName : annIndex.getEntityTypes()) {
+        String index =
+            appendSemanticSuffix(
+                opContext.getSearchContext().getIndexConvention().getEntityIndexName(entityName));
+        Request request = new Request("POST", "/" + index + "/_search");
+        request.addParameter("scroll", ANN_LOAD_SCROLL_TTL);
+        request.addParameter("ignore_unavailable", "true");
+        request.setJsonEntity(
+            objectMapper.writeValueAsString(
+                Map.of(
+                    "size",
+                    ANN_LOAD_BATCH_SIZE,
+                    "_source",
+                    sourceFields.toArray(new String[0]),
+                    "query",
+                    Map.of("match_all", Map.of()))));
+        JsonNode response = performRequest(objectMapper, request);
+        String scrollId = response.path("_scroll_id").asText(null);
+        try {
+          JsonNode hits = response.path("hits").path("hits");
+          while (hits.size() > 0) {
+            for (JsonNode hit : hits) {
+              SemanticAnnIndex.LoadedEntity entity =
+                  toLoadedEntity(objectMapper, hit.path("_source"), fieldsToFetch);
+              if (entity != null) {
+                annIndex.loadEntity(entity);
+              }
+            }
+            if (annIndex.getLoadedVectors() > annIndex.getMaxVectors()) {
+              log.warn(
+                  "Semantic indices hold more than {} vectors, not loading the semantic ANN index",
+                  annIndex.getMaxVectors());
+              annIndex.abortLoad();
+              return;
+            }
+            if (scrollId == null) {
+              break;
+            }
+            Request scroll = new Request("POST", "/_search/scroll");
+            scroll.setJsonEntity(
+                objectMapper.writeValueAsString(
+                    Map.of("scroll", ANN_LOAD_SCROLL_TTL, "scroll_id", scrollId)));
+            response = performRequest(objectMapper, scroll);
+            scrollId = response.path("_scroll_id").asText(scrollId);
+            hits = response.path("hits").path("hits");
+          }
+        } finally {
+          if (scrollId != null) {
+            clearScroll(objectMapper, scrollId);
+          }
+        }
+      }
+      annIndex.completeLoad();
+    } catch (IOException | RuntimeException e) {
+      annIndex.abortLoad();
+      throw e;
+    }
+  }
+
+  @Nullable
+  private static SemanticAnnIndex.LoadedEntity toLoadedEntity(
+      @Nonnull ObjectMapper objectMapper,
+      @Nonnull JsonNode source,
+      @Nonnull Set<String> fieldsToFetch) {
+    Urn urn;
+    try {
+      urn = Urn.createFromString(source.path("urn").asText());
+    } catch (URISyntaxException e) {
+      log.warn("Invalid URN in semantic index: {}", source.path("urn").asText());
+      return null;
+    }
+
+    List<float[]> vectors = new ArrayList<>();
+    for (JsonNode chunk : source.path("embeddings").path(EMBEDDING_MODEL).path("chunks")) {
+      JsonNode vectorNode = chunk.path("vector");
+      if (vectorNode.isArray() && vectorNode.size() > 0) {
+        float[] vector = new float[vectorNode.size()];
+        for (int i = 0; i < vector.length; i++) {
+          vector[i] = (float) vectorNode.get(i).asDouble();
+        }
+        vectors.add(vector);
+      }
+    }
+    if (vectors.isEmpty()) {
+      return null;
+    }
+
+    Map<String, List<String>> fields = new HashMap<>();
+    Map<String, Object> fetched = new HashMap<>();
+    source
+        .fields()
+        .forEachRemaining(
+            field -> {
+              if ("embeddings".equals(field.getKey())) {
+                return;
+              }
+              List<String> values = new ArrayList<>();
+              if (field.getValue().isArray()) {
+                field.getValue().forEach(value -> values.add(value.asText()));
+              } else if (!field.getValue().isNull()) {
+                values.add(field.getValue().asText());
+              }
+              fields.put(field.getKey(), values);
+              if (fieldsToFetch.contains(field.getKey())) {
+                fetched.put(
+                    field.getKey(), objectMapper.convertValue(field.getValue(), Object.class));
+              }
+            });
+    return new SemanticAnnIndex.LoadedEntity(urn, vectors, fields, fetched);
+  }
+
+  private JsonNode performRequest(@Nonnull ObjectMapper objectMapper, @Nonnull Request request)
+      throws IOException {
+    RawResponse response = searchClient.performLowLevelRequest(request);
+    return objectMapper.readTree(EntityUtils.toString(response.getEntity()));
+  }
+
+  private void clearScroll(@Nonnull ObjectMapper objectMapper, @Nonnull String scrollId) {
+    try {
+      Request request = new Request("DELETE", "/_search/scroll");
+      request.setJsonEntity(objectMapper.writeValueAsString(Map.of("scroll_id", scrollId)));
+      searchClient.performLowLevelRequest(request);
+    } catch (IOException | RuntimeException e) {
+      // Expires on its own
+      log.warn("Failed to clear semantic ANN index load scroll", e);
+    }
+  }
+
+  /**
+   * Searches the in memory ANN index.
+   *
+   * @return the nearest entities, or null when the index cannot answer the search
+   */
+  @Nullable
+  private List<SearchEntity> searchAnnIndex(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nonnull float[] queryEmbedding,
+      @Nullable Filter postFilters,
+      int k) {
+    if (annIndex == null) {
+      return null;
+    }
+    List<SemanticAnnIndex.Match> matches =
+        annIndex.search(
+            entityNames,
+            queryEmbedding,
+            postFilters,
+            Boolean.TRUE.equals(
+                opContext.getSearchContext().getSearchFlags().isFilterNonLatestVersions()),
+            k);
+    if (matches == null) {
+      return null;
+    }
+    ObjectMapper objectMapper = opContext.getObjectMapper();
+    List<SearchEntity> results = new ArrayList<>(matches.size());
+    for (SemanticAnnIndex.Match match : matches) {
+      SearchEntity entity = new SearchEntity();
+      entity.setEntity(match.getUrn());
+      entity.setScore(match.getScore());
+      entity.setFeatures(SearchResultUtils.buildBaseFeatures(match.getScore(), match.getSource()));
+      entity.setExtraFields(SearchResultUtils.toExtraFields(objectMapper, match.getSource()));
+      results.add(entity);
+    }
+    log.debug("Semantic ANN index returned {} hits", results.size());
+    return results;
+  }
+
+  /** Runs a nested kNN query with the filters applied inside it against the semantic indices. */
+  @Nonnull
+  private List<SearchEntity> searchIndices(
+      @Nonnull OperationContext opContext,
+      @Nonnull List<String> entityNames,
+      @Nonnull List<String> indices,
+      @Nonnull float[] queryEmbedding,
+      @Nullable Filter postFilters,
+      int k) {
     // 3) Get entity specs to extract field types
     List<EntitySpec> entitySpecs =
         entityNames.stream()
@@ -200,41 +448,13 @@ public class SemanticEntitySearchService implements SemanticEntitySearch {
                 queryFilterRewriteChain)
             : null;
 
-    // Calculate k for oversampling
-    int normalizedPageSize = pageSize != null ? pageSize : 10;
-    int needed = from + normalizedPageSize;
-    int k =
-        Math.max(
-            normalizedPageSize,
-            Math.min(MAX_K, (int) Math.ceil(needed * DEFAULT_OVERSAMPLE_FACTOR)));
-
     // 7) Build field set using same logic as keyword search
     Set<String> fieldsToFetch =
         new HashSet<>(SearchDocFieldFetchConfig.DEFAULT_FIELDS_TO_FETCH_ON_SEARCH);
 
     // 8) Execute OpenSearch nested kNN query with pre-filtering inside kNN
-    List<SearchEntity> hits =
-        executeKnn(
-            opContext.getObjectMapper(), indices, queryEmbedding, k, finalFilterMap, fieldsToFetch);
-
-    // 9) Slice [from, from+pageSize)
-    if (from >= hits.size()) {
-      return emptyResult(from, normalizedPageSize);
-    }
-    int to = Math.min(hits.size(), from + normalizedPageSize);
-    List<SearchEntity> page = hits.subList(from, to);
-
-    // 10) Build SearchResult following keyword search pattern
-    // Note: For k-NN, numEntities represents the total candidates found (after filtering),
-    // not total documents in index. With track_total_hits=false, hits.size() is our best estimate.
-    SearchResultMetadata metadata =
-        new SearchResultMetadata().setAggregations(new AggregationMetadataArray());
-    return new SearchResult()
-        .setEntities(new SearchEntityArray(page))
-        .setMetadata(metadata)
-        .setFrom(from)
-        .setPageSize(normalizedPageSize)
-        .setNumEntities(hits.size());
+    return executeKnn(
+        opContext.getObjectMapper(), indices, queryEmbedding, k, finalFilterMap, fieldsToFetch);
   }
 
   /**
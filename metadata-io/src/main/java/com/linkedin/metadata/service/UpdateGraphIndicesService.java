@@ -392,7 +392,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
                 new Filter().setOr(new ConjunctiveCriterionArray()),
                 RelationshipDirection.OUTGOING));
       }
-      edgesToAdd.forEach(graphService::addEdge);
+      graphService.addEdges(edgesToAdd);
     }
   }
 
@@ -437,7 +437,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Remove any old edges that no longer exist first
     if (!subtractiveDifference.isEmpty()) {
       log.debug("Removing edges: {}", subtractiveDifference);
-      subtractiveDifference.forEach(graphService::removeEdge);
+      graphService.removeEdges(subtractiveDifference);
       opContext
           .getMetricUtils()
           .ifPresent(
@@ -451,7 +451,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Then add new edges
     if (!additiveDifference.isEmpty()) {
       log.debug("Adding edges: {}", additiveDifference);
-      additiveDifference.forEach(graphService::addEdge);
+      graphService.addEdges(additiveDifference);
       opContext
           .getMetricUtils()
           .ifPresent(
@@ -463,7 +463,7 @@ public class UpdateGraphIndicesService implements SearchIndicesService {
     // Then update existing edges
     if (!mergedEdges.isEmpty()) {
       log.debug("Updating edges: {}", mergedEdges);
-      mergedEdges.forEach(graphService::upsertEdge);
+      graphService.upsertEdges(mergedEdges);
       opContext
           .getMetricUtils()
           .ifPresent(
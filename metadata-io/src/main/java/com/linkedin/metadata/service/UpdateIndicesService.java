@@ -4,6 +4,11 @@ import static com.linkedin.metadata.Constants.*;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
+import com.linkedin.common.BrowsePathEntry;
+import com.linkedin.common.BrowsePathsV2;
+import com.linkedin.common.EmbeddingChunk;
+import com.linkedin.common.EmbeddingModelData;
+import com.linkedin.common.SemanticContent;
 import com.linkedin.common.Status;
 import com.linkedin.common.urn.Urn;
 import com.linkedin.data.template.RecordTemplate;
@@ -15,9 +20,16 @@ import com.linkedin.metadata.entity.SearchIndicesService;
 import com.linkedin.metadata.entity.ebean.batch.MCLItemImpl;
 import com.linkedin.metadata.models.AspectSpec;
 import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.annotation.SearchableAnnotation;
+import com.linkedin.metadata.models.extractor.FieldExtractor;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import com.linkedin.metadata.search.elasticsearch.query.AutocompletePrefixIndex;
+import com.linkedin.metadata.search.elasticsearch.query.BrowsePathTrie;
 import com.linkedin.metadata.search.elasticsearch.update.ESBulkProcessor;
 import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
+import com.linkedin.metadata.search.semantic.SemanticAnnIndex;
+import com.linkedin.metadata.search.semantic.SemanticEntitySearchService;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.systemmetadata.SystemMetadataService;
 import com.linkedin.mxe.MetadataChangeLog;
 import com.linkedin.mxe.SystemMetadata;
@@ -26,14 +38,17 @@ import io.datahubproject.metadata.context.OperationContext;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -52,6 +67,13 @@ public class UpdateIndicesService implements SearchIndicesService {
   // Update indices strategies
   private final Collection<UpdateIndicesStrategy> updateStrategies;
 
+  // In memory browse path tree served by browseV2, kept current here when set
+  @Setter @Nullable private BrowsePathTrie browsePathTrie;
+  // In memory autocomplete prefix index, kept current here when set
+  @Setter @Nullable private AutocompletePrefixIndex autocompletePrefixIndex;
+  // In memory ANN index served by semantic search, kept current here when set
+  @Setter @Nullable private SemanticAnnIndex semanticAnnIndex;
+
   private static final String DOCUMENT_TRANSFORM_FAILED_METRIC = "document_transform_failed";
   private static final String SEARCH_DIFF_MODE_SKIPPED_METRIC = "search_diff_no_changes_detected";
 
@@ -135,6 +157,12 @@ public class UpdateIndicesService implements SearchIndicesService {
 
         // Process system metadata updates
         handleSystemMetadataUpdateChangeEvents(opContext, updateEvents);
+
+        for (MCLItem event : updateEvents) {
+          updateBrowsePathTrie(event, false, false);
+          updateAutocompletePrefixIndex(event, false, false);
+          updateSemanticAnnIndex(event, false, false);
+        }
       }
 
       // Process delete events
@@ -150,6 +178,10 @@ public class UpdateIndicesService implements SearchIndicesService {
         // graph update
         updateGraphIndicesService.handleChangeEvent(opContext, deleteEvent.getMetadataChangeLog());
 
+        updateBrowsePathTrie(deleteEvent, true, isDeletingKey);
+        updateAutocompletePrefixIndex(deleteEvent, true, isDeletingKey);
+        updateSemanticAnnIndex(deleteEvent, true, isDeletingKey);
+
         // system metadata is last for tracing
         handleSystemMetadataDeleteChangeEvent(deleteEvent.getUrn(), specPair, isDeletingKey);
       }
@@ -191,6 +223,132 @@ public class UpdateIndicesService implements SearchIndicesService {
     }
   }
 
+  /** Applies browse path and status changes, and hard deletes, to the browse path tree. */
+  private void updateBrowsePathTrie(
+      @Nonnull MCLItem event, boolean isDelete, boolean isDeletingKey) {
+    if (browsePathTrie == null
+        || !Boolean.TRUE.equals(event.getEntitySpec().hasAspect(BROWSE_PATHS_V2_ASPECT_NAME))) {
+      return;
+    }
+    if (isDeletingKey) {
+      browsePathTrie.delete(event.getUrn());
+    } else if (BROWSE_PATHS_V2_ASPECT_NAME.equals(event.getAspectName())) {
+      final BrowsePathsV2 browsePaths = isDelete ? null : event.getAspect(BrowsePathsV2.class);
+      // Joined the same way as the browsePathV2 field of the search document
+      browsePathTrie.setPath(
+          event.getUrn(),
+          browsePaths == null
+              ? null
+              : browsePaths.getPath().stream()
+                  .map(BrowsePathEntry::getId)
+                  .map(id -> BrowsePathTrie.DELIMITER + id)
+                  .collect(Collectors.joining()));
+    } else if (STATUS_ASPECT_NAME.equals(event.getAspectName())) {
+      final Status status = isDelete ? null : event.getAspect(Status.class);
+      browsePathTrie.setRemoved(event.getUrn(), status != null && status.isRemoved());
+    }
+  }
+
+  /**
+   * Applies autocomplete field, usage count and status changes, and hard deletes, to the
+   * autocomplete prefix index.
+   */
+  private void updateAutocompletePrefixIndex(
+      @Nonnull MCLItem event, boolean isDelete, boolean isDeletingKey) {
+    if (autocompletePrefixIndex == null) {
+      return;
+    }
+    if (isDeletingKey) {
+      autocompletePrefixIndex.delete(event.getUrn());
+      return;
+    }
+    if (STATUS_ASPECT_NAME.equals(event.getAspectName())) {
+      final Status status = isDelete ? null : event.getAspect(Status.class);
+      autocompletePrefixIndex.setRemoved(event.getUrn(), status != null && status.isRemoved());
+      return;
+    }
+
+    final Map<String, List<String>> fields = new LinkedHashMap<>();
+    final Map<String, Long> usage = new HashMap<>();
+    FieldExtractor.extractFields(
+            isDelete ? null : event.getRecordTemplate(),
+            event.getAspectSpec().getSearchableFieldSpecs())
+        .forEach(
+            (fieldSpec, values) -> {
+              final SearchableAnnotation annotation = fieldSpec.getSearchableAnnotation();
+              if (annotation.isEnableAutocomplete()) {
+                fields.put(
+                    annotation.getFieldName(),
+                    values.stream().map(String::valueOf).collect(Collectors.toList()));
+              } else if (autocompletePrefixIndex
+                  .getUsageFields()
+                  .contains(annotation.getFieldName())) {
+                usage.put(
+                    annotation.getFieldName(),
+                    values.isEmpty() ? 0L : ((Number) values.get(0)).longValue());
+              }
+            });
+    if (!fields.isEmpty() || !usage.isEmpty()) {
+      autocompletePrefixIndex.update(event.getUrn(), fields, usage);
+    }
+  }
+
+  /**
+   * Applies chunk embedding and filter field changes, and hard deletes, to the semantic ANN index.
+   */
+  private void updateSemanticAnnIndex(
+      @Nonnull MCLItem event, boolean isDelete, boolean isDeletingKey) {
+    if (semanticAnnIndex == null
+        || !semanticAnnIndex.getEntityTypes().contains(event.getUrn().getEntityType())) {
+      return;
+    }
+    if (isDeletingKey) {
+      semanticAnnIndex.delete(event.getUrn());
+      return;
+    }
+    if (SearchDocumentTransformer.SEMANTIC_DATA_ASPECTS.contains(event.getAspectName())) {
+      final SemanticContent semanticContent =
+          isDelete ? null : event.getAspect(SemanticContent.class);
+      final EmbeddingModelData modelData =
+          semanticContent == null
+              ? null
+              : semanticContent.getEmbeddings().get(SemanticEntitySearchService.EMBEDDING_MODEL);
+      semanticAnnIndex.setVectors(
+          event.getUrn(),
+          modelData == null
+              ? List.of()
+              : modelData.getChunks().stream()
+                  .map(EmbeddingChunk::getVector)
+                  .map(UpdateIndicesService::toFloatArray)
+                  .collect(Collectors.toList()));
+      return;
+    }
+
+    final Map<String, List<String>> fields = new HashMap<>();
+    FieldExtractor.extractFields(
+            isDelete ? null : event.getRecordTemplate(),
+            event.getAspectSpec().getSearchableFieldSpecs())
+        .forEach(
+            (fieldSpec, values) -> {
+              final String fieldName = fieldSpec.getSearchableAnnotation().getFieldName();
+              if (semanticAnnIndex.getFilterFields().contains(fieldName)) {
+                fields.put(
+                    fieldName, values.stream().map(String::valueOf).collect(Collectors.toList()));
+              }
+            });
+    if (!fields.isEmpty()) {
+      semanticAnnIndex.updateFields(event.getUrn(), fields);
+    }
+  }
+
+  private static float[] toFloatArray(@Nonnull List<Float> values) {
+    final float[] array = new float[values.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = values.get(i);
+    }
+    return array;
+  }
+
   /**
    * Handle the system metadata deletion separately for tracing
    *
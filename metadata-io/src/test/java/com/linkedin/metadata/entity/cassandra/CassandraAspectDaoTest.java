@@ -11,10 +11,14 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -27,9 +31,11 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.sql.Timestamp;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -253,13 +259,14 @@ public class CassandraAspectDaoTest {
 
     ResultSet mockResultSet = mock(ResultSet.class);
     when(mockResultSet.one()).thenReturn(mockRow);
-    when(mockSession.execute(any(SimpleStatement.class))).thenReturn(mockResultSet);
+    when(mockSession.execute(any(BoundStatement.class))).thenReturn(mockResultSet);
+    mockPreparedReads(List.of(mockRow));
 
     // Read operations should still work
     EntityAspect aspect = testDao.getAspect(urnString, aspectName, ASPECT_LATEST_VERSION);
     assertNotNull(aspect, "Read operations should work when not writable");
     assertEquals(aspect.getMetadata(), "test-metadata", "Read should return correct data");
-    verify(mockSession, times(1)).execute(any(SimpleStatement.class));
+    verify(mockSession, times(1)).execute(any(BoundStatement.class));
 
     // Batch get should work
     Map<EntityAspectIdentifier, EntityAspect> batchResult =
@@ -267,8 +274,77 @@ public class CassandraAspectDaoTest {
             Set.of(new EntityAspectIdentifier(urnString, aspectName, ASPECT_LATEST_VERSION)),
             false);
     assertEquals(batchResult.size(), 1, "Batch get should work when not writable");
-    verify(mockSession, times(2))
-        .execute(any(SimpleStatement.class)); // 1 from getAspect + 1 from batchGet
+    verify(mockSession, times(1)).executeAsync(any(BoundStatement.class));
+    verify(mockSession, never()).execute(any(SimpleStatement.class));
+  }
+
+  @Test
+  public void testBatchGetQueriesEachPartitionOnce() {
+    String urn1 = "urn:li:corpuser:batch1";
+    String urn2 = "urn:li:corpuser:batch2";
+    mockPreparedReads(
+        List.of(
+            mockAspectRow(urn1, "status"),
+            mockAspectRow(urn1, "corpUserInfo"),
+            mockAspectRow(urn2, "status")));
+
+    Map<EntityAspectIdentifier, EntityAspect> result =
+        testDao.batchGet(
+            Set.of(
+                new EntityAspectIdentifier(urn1, "status", ASPECT_LATEST_VERSION),
+                new EntityAspectIdentifier(urn1, "corpUserInfo", ASPECT_LATEST_VERSION),
+                new EntityAspectIdentifier(urn2, "status", ASPECT_LATEST_VERSION)),
+            false);
+
+    assertEquals(result.size(), 3);
+    assertTrue(
+        result.containsKey(
+            new EntityAspectIdentifier(urn1, "corpUserInfo", ASPECT_LATEST_VERSION)));
+    // One query per urn, prepared once
+    verify(mockSession, times(2)).executeAsync(any(BoundStatement.class));
+    verify(mockSession, times(1)).prepare(any(SimpleStatement.class));
+  }
+
+  @Test(timeOut = 10000)
+  public void testBatchGetReleasesPermitWhenSubmissionFails() {
+    String urn = "urn:li:corpuser:batchSubmitFailure";
+    Set<EntityAspectIdentifier> keys =
+        Set.of(new EntityAspectIdentifier(urn, "status", ASPECT_LATEST_VERSION));
+    CassandraAspectDao singleRequestDao = new CassandraAspectDao(mockSession, 1);
+    singleRequestDao.setConnectionValidated(true);
+    mockPreparedReads(List.of(mockAspectRow(urn, "status")));
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(asyncResultSet.currentPage()).thenReturn(List.of(mockAspectRow(urn, "status")));
+    when(mockSession.executeAsync(any(BoundStatement.class)))
+        .thenThrow(new IllegalStateException("Session is closed"))
+        .thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+
+    assertThrows(IllegalStateException.class, () -> singleRequestDao.batchGet(keys, false));
+    // The only permit was given back, so the next read does not block
+    assertEquals(singleRequestDao.batchGet(keys, false).size(), 1);
+  }
+
+  /** Every asynchronous read returns the rows in a single page. */
+  private void mockPreparedReads(List<Row> rows) {
+    PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    when(preparedStatement.bind(any())).thenReturn(mock(BoundStatement.class));
+    when(mockSession.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+
+    AsyncResultSet asyncResultSet = mock(AsyncResultSet.class);
+    when(asyncResultSet.currentPage()).thenReturn(rows);
+    when(asyncResultSet.hasMorePages()).thenReturn(false);
+    when(mockSession.executeAsync(any(BoundStatement.class)))
+        .thenReturn(CompletableFuture.completedFuture(asyncResultSet));
+  }
+
+  private static Row mockAspectRow(String urn, String aspectName) {
+    Row row = mock(Row.class);
+    when(row.getString(CassandraAspect.URN_COLUMN)).thenReturn(urn);
+    when(row.getString(CassandraAspect.ASPECT_COLUMN)).thenReturn(aspectName);
+    when(row.getLong(CassandraAspect.VERSION_COLUMN)).thenReturn(ASPECT_LATEST_VERSION);
+    when(row.getString(CassandraAspect.METADATA_COLUMN)).thenReturn("{}");
+    when(row.getString(CassandraAspect.CREATED_BY_COLUMN)).thenReturn("urn:li:corpuser:test");
+    return row;
   }
 
   @Test
@@ -0,0 +1,97 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.config.EbeanConfiguration;
+import java.sql.Timestamp;
+import org.testng.annotations.Test;
+
+public class AspectPayloadCodecTest {
+  private static final String SMALL_PAYLOAD = "{\"removed\":false}";
+  private static final String LARGE_PAYLOAD = largePayload();
+
+  private static String largePayload() {
+    StringBuilder sb = new StringBuilder("{\"fields\":[");
+    for (int i = 0; i < 500; i++) {
+      sb.append(i > 0 ? "," : "")
+          .append("{\"fieldPath\":\"field_")
+          .append(i)
+          .append("\",\"nativeDataType\":\"VARCHAR(255)\"}");
+    }
+    return sb.append("]}").toString();
+  }
+
+  @Test
+  public void testRoundTrip() {
+    for (AspectPayloadCodec.Compression compression :
+        new AspectPayloadCodec.Compression[] {
+          AspectPayloadCodec.Compression.ZSTD, AspectPayloadCodec.Compression.LZ4
+        }) {
+      AspectPayloadCodec codec = new AspectPayloadCodec(compression, 1024, 3);
+      String encoded = codec.encode(LARGE_PAYLOAD);
+
+      assertTrue(encoded.startsWith("#" + compression.name().toLowerCase() + ":"));
+      assertTrue(encoded.length() < LARGE_PAYLOAD.length());
+      assertEquals(AspectPayloadCodec.decode(encoded), LARGE_PAYLOAD);
+    }
+  }
+
+  @Test
+  public void testUncompressedPayloads() {
+    AspectPayloadCodec codec = new AspectPayloadCodec(AspectPayloadCodec.Compression.ZSTD, 1024, 3);
+
+    // Below the minimum size
+    assertSame(codec.encode(SMALL_PAYLOAD), SMALL_PAYLOAD);
+    assertSame(AspectPayloadCodec.NONE.encode(LARGE_PAYLOAD), LARGE_PAYLOAD);
+    assertNull(codec.encode(null));
+
+    // Rows written without compression decode as is
+    assertSame(AspectPayloadCodec.decode(LARGE_PAYLOAD), LARGE_PAYLOAD);
+    assertNull(AspectPayloadCodec.decode(null));
+  }
+
+  @Test
+  public void testFromConfiguration() {
+    assertSame(AspectPayloadCodec.fromConfiguration(null), AspectPayloadCodec.NONE);
+    assertSame(
+        AspectPayloadCodec.fromConfiguration(EbeanConfiguration.testDefault),
+        AspectPayloadCodec.NONE);
+    assertEquals(
+        AspectPayloadCodec.fromConfiguration(
+                EbeanConfiguration.builder().payloadCompression("lz4").build())
+            .getCompression(),
+        AspectPayloadCodec.Compression.LZ4);
+  }
+
+  @Test
+  public void testEncodePayloads() {
+    EbeanAspectV2 aspect =
+        new EbeanAspectV2(
+            "urn:li:corpuser:test",
+            "schemaMetadata",
+            0,
+            LARGE_PAYLOAD,
+            new Timestamp(0),
+            "urn:li:corpuser:datahub",
+            null,
+            SMALL_PAYLOAD);
+    AspectPayloadCodec codec = new AspectPayloadCodec(AspectPayloadCodec.Compression.ZSTD, 1024, 3);
+
+    assertTrue(aspect.encodePayloads(codec));
+    assertTrue(aspect.metadata.startsWith("#zstd:"));
+    assertSame(aspect.systemMetadata, SMALL_PAYLOAD);
+    assertEquals(aspect.getMetadata(), LARGE_PAYLOAD);
+    assertEquals(aspect.toEntityAspect().getMetadata(), LARGE_PAYLOAD);
+
+    // Already encoded with the codec
+    assertFalse(aspect.encodePayloads(codec));
+
+    // Decompressed again without compression
+    assertTrue(aspect.encodePayloads(AspectPayloadCodec.NONE));
+    assertEquals(aspect.metadata, LARGE_PAYLOAD);
+  }
+}
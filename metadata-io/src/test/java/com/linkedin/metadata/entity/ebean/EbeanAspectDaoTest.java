@@ -6,14 +6,19 @@ import static com.linkedin.metadata.Constants.DATA_PLATFORM_INSTANCE_ASPECT_NAME
 import static com.linkedin.metadata.Constants.STATUS_ASPECT_NAME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
+import com.datahub.util.exception.RetryLimitReached;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.common.Status;
@@ -24,8 +29,10 @@ import com.linkedin.metadata.aspect.EntityAspect;
 import com.linkedin.metadata.aspect.SystemAspect;
 import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.config.EbeanReplicaConfiguration;
 import com.linkedin.metadata.entity.EntityAspectIdentifier;
 import com.linkedin.metadata.entity.TransactionResult;
+import com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs;
 import com.linkedin.metadata.utils.AuditStampUtils;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import com.linkedin.mxe.SystemMetadata;
@@ -34,10 +41,15 @@ import io.datahubproject.test.metadata.context.TestOperationContexts;
 import io.ebean.Database;
 import io.ebean.test.LoggedSql;
 import java.sql.Timestamp;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -181,7 +193,7 @@ public class EbeanAspectDaoTest {
   @Test
   public void testStreamAspectBatchesWithIsolationLevel() {
     // Test the new overloaded method with isolation level parameter
-    var args = new com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs();
+    var args = new RestoreIndicesArgs();
     args.limit = 10;
 
     // Test with READ_UNCOMMITTED isolation level
@@ -197,7 +209,7 @@ public class EbeanAspectDaoTest {
   @Test
   public void testStreamAspectBatchesDefault() {
     // Test the original method still works
-    var args = new com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs();
+    var args = new RestoreIndicesArgs();
     args.limit = 5;
 
     var stream = testDao.streamAspectBatches(args);
@@ -230,18 +242,18 @@ public class EbeanAspectDaoTest {
     insertTestData();
 
     // Test case 1: No filter - should return count of all aspects
-    var args1 = new com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs();
+    var args1 = new RestoreIndicesArgs();
     int count1 = testDao.countAspect(args1);
     assertEquals(count1, 5, "Should return count of all aspects");
 
     // Test case 2: urnLike filter - should return count of aspects matching the URN pattern
-    var args2 = new com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs();
+    var args2 = new RestoreIndicesArgs();
     args2.urnLike = "%:test:%";
     int count2 = testDao.countAspect(args2);
     assertEquals(count2, 3, "Should return count of aspects matching URN pattern '%:test:%'");
 
     // Test case 3: urnLike + aspect filter - should return count of matching aspects
-    var args3 = new com.linkedin.metadata.entity.restoreindices.RestoreIndicesArgs();
+    var args3 = new RestoreIndicesArgs();
     args3.urnLike = "%:test:%";
     args3.aspectName = "testAspect1";
     int count3 = testDao.countAspect(args3);
@@ -503,4 +515,149 @@ public class EbeanAspectDaoTest {
         testDao.getAspect("urn:li:corpuser:postMigration", "status", ASPECT_LATEST_VERSION);
     assertTrue(aspect != null, "Writes work after migration");
   }
+
+  @Test
+  public void testWriteBatchSize() {
+    testDao.runInTransactionWithRetryUnlocked(
+        (txContext) -> {
+          assertEquals(txContext.tx().getBatchSize(), EbeanAspectDao.DEFAULT_WRITE_BATCH_SIZE);
+          return TransactionResult.commit("");
+        },
+        null,
+        0);
+
+    EbeanAspectDao configuredDao =
+        new EbeanAspectDao(
+            server,
+            EbeanConfiguration.builder().writeBatchSize(7).build(),
+            mock(MetricUtils.class));
+    configuredDao.runInTransactionWithRetryUnlocked(
+        (txContext) -> {
+          assertEquals(txContext.tx().getBatchSize(), 7);
+          return TransactionResult.commit("");
+        },
+        null,
+        0);
+  }
+
+  @Test
+  public void testBatchedWritesFlushedOnCommit() {
+    // More rows than a single JDBC batch holds
+    int rowCount = EbeanAspectDao.DEFAULT_WRITE_BATCH_SIZE + 10;
+
+    testDao.runInTransactionWithRetryUnlocked(
+        (txContext) -> {
+          for (int i = 0; i < rowCount; i++) {
+            testDao.insertAspect(
+                txContext, statusAspect("urn:li:corpuser:testBatchedWrites" + i), 0);
+          }
+          return TransactionResult.commit("");
+        },
+        null,
+        0);
+
+    var args = new RestoreIndicesArgs();
+    args.urnLike = "%testBatchedWrites%";
+    assertEquals(testDao.countAspect(args), rowCount);
+  }
+
+  @Test
+  public void testBatchedDuplicateKeyIsRetried() {
+    AtomicInteger attempts = new AtomicInteger();
+
+    // The duplicate is only detected when the batch is flushed, which must still be retried
+    assertThrows(
+        RetryLimitReached.class,
+        () ->
+            testDao.runInTransactionWithRetryUnlocked(
+                (txContext) -> {
+                  attempts.incrementAndGet();
+                  SystemAspect aspect = statusAspect("urn:li:corpuser:testBatchedDuplicateKey");
+                  testDao.insertAspect(txContext, aspect, ASPECT_LATEST_VERSION);
+                  testDao.insertAspect(txContext, aspect, ASPECT_LATEST_VERSION);
+                  return TransactionResult.commit("");
+                },
+                null,
+                1));
+    assertEquals(attempts.get(), 2);
+  }
+
+  @Test
+  public void testBatchGetFanOut() {
+    MetricUtils metricUtils = mock(MetricUtils.class);
+    ExecutorService batchGetExecutor = Executors.newFixedThreadPool(2);
+    EbeanAspectDao fanOutDao =
+        new EbeanAspectDao(
+            server,
+            null,
+            EbeanConfiguration.builder().batchGetConcurrency(4).build(),
+            metricUtils,
+            batchGetExecutor);
+
+    // Three pages of keys, one of which does not exist
+    Set<EntityAspectIdentifier> keys = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      String urn = "urn:li:corpuser:testBatchGetFanOut" + i;
+      insertAspect(urn, STATUS_ASPECT_NAME, ASPECT_LATEST_VERSION, "{}");
+      keys.add(new EntityAspectIdentifier(urn, STATUS_ASPECT_NAME, ASPECT_LATEST_VERSION));
+    }
+    keys.add(
+        new EntityAspectIdentifier(
+            "urn:li:corpuser:testBatchGetFanOutMissing",
+            STATUS_ASPECT_NAME,
+            ASPECT_LATEST_VERSION));
+
+    Map<EntityAspectIdentifier, EntityAspect> sequential = testDao.batchGet(keys, false);
+    Map<EntityAspectIdentifier, EntityAspect> fanOut;
+    try {
+      fanOut = fanOutDao.batchGet(keys, false);
+    } finally {
+      batchGetExecutor.shutdown();
+    }
+
+    assertEquals(fanOut.size(), 1000);
+    assertEquals(fanOut.keySet(), sequential.keySet());
+    verify(metricUtils, times(3))
+        .time(eq(EbeanAspectDao.class.getName() + ".batchGetPage"), anyLong());
+  }
+
+  @Test
+  public void testReplicaReads() {
+    // A replica whose connection pool is shut down, an availability error on every query
+    Database replica =
+        EbeanTestUtils.createNamedTestServer("ebeanAspectDaoReplica", "ebeanAspectDaoReplica");
+    EbeanTestUtils.shutdownDatabase(replica);
+    EbeanAspectDao replicaDao =
+        new EbeanAspectDao(
+            server,
+            replica,
+            EbeanConfiguration.builder()
+                .replica(EbeanReplicaConfiguration.builder().enabled(true).build())
+                .build(),
+            mock(MetricUtils.class),
+            null);
+    insertAspect("urn:li:corpuser:testReplicaReads", STATUS_ASPECT_NAME, 0, "{}");
+
+    // Paged lists are fetched inside the routed call, so the failure falls back to the primary
+    assertEquals(
+        replicaDao.listUrns(CORP_USER_ENTITY_NAME, STATUS_ASPECT_NAME, 0, 10).getValues(),
+        List.of("urn:li:corpuser:testReplicaReads"));
+    // Streams are read from the primary
+    try (Stream<EntityAspect> aspects =
+        replicaDao.streamAspects(CORP_USER_ENTITY_NAME, STATUS_ASPECT_NAME)) {
+      assertEquals(aspects.count(), 1L);
+    }
+  }
+
+  private SystemAspect statusAspect(String urn) {
+    return new EbeanSystemAspect(
+        null,
+        UrnUtils.getUrn(urn),
+        STATUS_ASPECT_NAME,
+        opContext.getEntityRegistry().getEntitySpec(CORP_USER_ENTITY_NAME),
+        opContext.getEntityRegistry().getAspectSpecs().get(STATUS_ASPECT_NAME),
+        new Status(),
+        new SystemMetadata(),
+        AuditStampUtils.createDefaultAuditStamp());
+  }
 }
@@ -0,0 +1,154 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static com.linkedin.metadata.entity.ebean.EbeanReadRouter.READ_ROUTE_METRIC;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.config.EbeanReplicaConfiguration;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import io.ebean.Database;
+import io.ebean.Transaction;
+import jakarta.persistence.PersistenceException;
+import java.net.ConnectException;
+import java.sql.SQLException;
+import java.util.Set;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class EbeanReadRouterTest {
+  private static final String URN = "urn:li:corpuser:testReadRouter";
+
+  private Database primary;
+  private Database replica;
+  private MetricUtils metricUtils;
+  private EbeanReadRouter router;
+
+  @BeforeMethod
+  public void setup() {
+    primary = mock(Database.class);
+    replica = mock(Database.class);
+    metricUtils = mock(MetricUtils.class);
+    router =
+        new EbeanReadRouter(
+            primary,
+            replica,
+            EbeanReplicaConfiguration.builder()
+                .enabled(true)
+                .readAfterWriteSeconds(60)
+                .failureBackoffSeconds(60)
+                .build(),
+            metricUtils);
+  }
+
+  @Test
+  public void testWithoutReplica() {
+    EbeanReadRouter primaryOnly = new EbeanReadRouter(primary, null, null, metricUtils);
+    primaryOnly.recordWrite(URN);
+
+    assertFalse(primaryOnly.hasReplica());
+    assertSame(primaryOnly.scan(database -> database), primary);
+    assertSame(primaryOnly.read(Set.of(URN), database -> database), primary);
+    assertSame(primaryOnly.stream(database -> database), primary);
+  }
+
+  @Test
+  public void testStreamsUsePrimary() {
+    assertSame(router.stream(database -> database), primary);
+    verify(metricUtils)
+        .incrementMicrometer(READ_ROUTE_METRIC, 1, "target", "primary", "reason", "stream");
+  }
+
+  @Test
+  public void testReadsUseReplica() {
+    assertTrue(router.hasReplica());
+    assertSame(router.scan(database -> database), replica);
+    assertSame(router.read(Set.of(URN), database -> database), replica);
+    verify(metricUtils, times(2))
+        .incrementMicrometer(READ_ROUTE_METRIC, 1, "target", "replica", "reason", "default");
+  }
+
+  @Test
+  public void testReadAfterWriteUsesPrimary() {
+    router.recordWrite(URN);
+
+    assertSame(router.read(Set.of(URN, "urn:li:corpuser:other"), database -> database), primary);
+    assertSame(router.read(Set.of("urn:li:corpuser:other"), database -> database), replica);
+    // Scans are not tied to urns and tolerate lag
+    assertSame(router.scan(database -> database), replica);
+    verify(metricUtils)
+        .incrementMicrometer(READ_ROUTE_METRIC, 1, "target", "primary", "reason", "recent_write");
+  }
+
+  @Test
+  public void testTransactionUsesPrimary() {
+    when(primary.currentTransaction()).thenReturn(mock(Transaction.class));
+
+    assertSame(router.scan(database -> database), primary);
+    verify(metricUtils)
+        .incrementMicrometer(READ_ROUTE_METRIC, 1, "target", "primary", "reason", "transaction");
+  }
+
+  @Test
+  public void testReplicaFailureFallsBackToPrimary() {
+    assertSame(
+        router.scan(
+            database -> {
+              if (database == replica) {
+                throw new PersistenceException(
+                    new SQLException("Communications link failure", "08S01"));
+              }
+              return database;
+            }),
+        primary);
+    verify(metricUtils)
+        .incrementMicrometer(READ_ROUTE_METRIC, 1, "target", "primary", "reason", "replica_error");
+
+    // Replica is skipped during the backoff
+    assertSame(router.scan(database -> database), primary);
+    verify(metricUtils)
+        .incrementMicrometer(
+            READ_ROUTE_METRIC, 1, "target", "primary", "reason", "replica_unavailable");
+  }
+
+  @Test
+  public void testQueryErrorOnReplicaIsRethrown() {
+    // A bad query fails the same way on the primary, so it neither falls back nor backs off
+    assertThrows(
+        PersistenceException.class,
+        () ->
+            router.scan(
+                database -> {
+                  throw new PersistenceException(
+                      new SQLException("Unknown column 'x'", "42S22", 1054));
+                }));
+    assertSame(router.scan(database -> database), replica);
+    verify(metricUtils, never())
+        .incrementMicrometer(READ_ROUTE_METRIC, 1, "target", "primary", "reason", "replica_error");
+  }
+
+  @Test
+  public void testIsUnavailable() {
+    assertTrue(
+        EbeanReadRouter.isUnavailable(
+            new PersistenceException(new SQLException("Connection refused", "08001"))));
+    assertTrue(
+        EbeanReadRouter.isUnavailable(
+            new PersistenceException(
+                new SQLException("Could not connect", "HY000", new ConnectException()))));
+    // Raised by the connection pool, such as a pool that is shut down or exhausted
+    assertTrue(
+        EbeanReadRouter.isUnavailable(
+            new PersistenceException(new SQLException("Pool is shutting down"))));
+    assertFalse(
+        EbeanReadRouter.isUnavailable(
+            new PersistenceException(new SQLException("Deadlock found", "40001"))));
+    assertFalse(EbeanReadRouter.isUnavailable(new PersistenceException("Query failed")));
+  }
+}
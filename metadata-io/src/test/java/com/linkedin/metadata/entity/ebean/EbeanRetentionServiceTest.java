@@ -0,0 +1,150 @@
+package com.linkedin.metadata.entity.ebean;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.metadata.Constants;
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.retention.RetentionCheckpoint;
+import com.linkedin.metadata.key.DataHubRetentionKey;
+import com.linkedin.metadata.utils.EntityKeyUtils;
+import com.linkedin.retention.DataHubRetentionConfig;
+import com.linkedin.retention.Retention;
+import com.linkedin.retention.VersionBasedRetention;
+import io.ebean.Database;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nonnull;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class EbeanRetentionServiceTest {
+  private static final String CORPUSER = "urn:li:corpuser:user";
+  private static final String DATASET = "urn:li:dataset:(urn:li:dataPlatform:hive,table";
+
+  private Database database;
+  private EbeanRetentionService<?> retentionService;
+
+  @BeforeMethod
+  public void setup() {
+    String instanceId = "retention_" + UUID.randomUUID().toString().replace("-", "");
+    database = EbeanTestUtils.createNamedTestServer(instanceId, instanceId);
+    // Pages of 2 groups, 2 entity types at a time
+    retentionService = new EbeanRetentionService<>(mock(EntityService.class), database, 2, 2);
+
+    // Keep the latest 2 versions of everything
+    insert(
+        EntityKeyUtils.convertEntityKeyToUrn(
+                new DataHubRetentionKey().setEntityName("*").setAspectName("*"),
+                Constants.DATAHUB_RETENTION_ENTITY)
+            .toString(),
+        Constants.DATAHUB_RETENTION_ASPECT,
+        0,
+        RecordUtils.toJsonString(
+            new DataHubRetentionConfig()
+                .setRetention(
+                    new Retention().setVersion(new VersionBasedRetention().setMaxVersions(2)))));
+    for (int i = 0; i < 5; i++) {
+      for (long version = 0; version < 5; version++) {
+        insert(CORPUSER + i, "status", version, "{\"removed\":false}");
+        insert(DATASET + i + ",PROD)", "status", version, "{\"removed\":false}");
+      }
+    }
+  }
+
+  @AfterMethod
+  public void cleanup() {
+    database.shutdown();
+  }
+
+  @Test
+  public void testBatchApplyRetention() {
+    RecordingCheckpoint checkpoint = new RecordingCheckpoint(Map.of());
+
+    retentionService.batchApplyRetention(null, null, checkpoint);
+
+    // Version 0, the latest, and versions 3 and 4 are kept
+    for (int i = 0; i < 5; i++) {
+      assertEquals(versionCount(CORPUSER + i), 3);
+      assertEquals(versionCount(DATASET + i + ",PROD)"), 3);
+    }
+    assertEquals(checkpoint.saved.get("corpuser"), EbeanRetentionService.PARTITION_COMPLETE);
+    assertEquals(checkpoint.saved.get("dataset"), EbeanRetentionService.PARTITION_COMPLETE);
+  }
+
+  @Test
+  public void testBatchApplyRetentionResumesFromCheckpoint() {
+    RecordingCheckpoint checkpoint =
+        new RecordingCheckpoint(
+            Map.of(
+                "corpuser",
+                CORPUSER + "2 status",
+                "dataset",
+                EbeanRetentionService.PARTITION_COMPLETE));
+
+    retentionService.batchApplyRetention(null, null, checkpoint);
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals(versionCount(CORPUSER + i), i <= 2 ? 5 : 3);
+      assertEquals(versionCount(DATASET + i + ",PROD)"), 5);
+    }
+    assertEquals(checkpoint.saved.get("corpuser"), EbeanRetentionService.PARTITION_COMPLETE);
+  }
+
+  @Test
+  public void testBatchApplyRetentionToEntity() {
+    retentionService.batchApplyRetention("corpuser", "status");
+
+    for (int i = 0; i < 5; i++) {
+      assertEquals(versionCount(CORPUSER + i), 3);
+      assertEquals(versionCount(DATASET + i + ",PROD)"), 5);
+    }
+  }
+
+  private void insert(String urn, String aspect, long version, String metadata) {
+    database.insert(
+        new EbeanAspectV2(
+            urn,
+            aspect,
+            version,
+            metadata,
+            new Timestamp(0),
+            "urn:li:corpuser:datahub",
+            null,
+            null));
+  }
+
+  private int versionCount(String urn) {
+    return database
+        .find(EbeanAspectV2.class)
+        .where()
+        .eq(EbeanAspectV2.URN_COLUMN, urn)
+        .findCount();
+  }
+
+  private static class RecordingCheckpoint implements RetentionCheckpoint {
+    private final Map<String, String> loaded;
+    private final Map<String, String> saved = new HashMap<>();
+
+    RecordingCheckpoint(Map<String, String> loaded) {
+      this.loaded = loaded;
+    }
+
+    @Nonnull
+    @Override
+    public Map<String, String> load() {
+      return loaded;
+    }
+
+    @Override
+    public synchronized void save(@Nonnull Map<String, String> progress) {
+      saved.clear();
+      saved.putAll(progress);
+    }
+  }
+}
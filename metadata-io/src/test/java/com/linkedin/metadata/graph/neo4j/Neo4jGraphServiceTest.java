@@ -35,11 +35,13 @@ import com.linkedin.metadata.query.filter.RelationshipFilter;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.test.metadata.context.TestOperationContexts;
 import io.datahubproject.test.search.config.SearchCommonTestConfiguration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -254,6 +256,66 @@ public class Neo4jGraphServiceTest extends GraphServiceTestBaseNoVia {
     assertEquals(result.getTotal(), 0);
   }
 
+  @Test
+  public void testBatchAddAndRemoveEdges() throws Exception {
+    // Two edges per statement, so each group spans several batches
+    Neo4jGraphService service =
+        new Neo4jGraphService(
+            _client.getLineageRegistry(),
+            _driver,
+            SessionConfig.defaultConfig(),
+            _client.getGraphServiceConfig(),
+            2,
+            Neo4jGraphService.DEFAULT_MAX_TRANSACTION_RETRY);
+    DatasetUrn datasetUrn =
+        new DatasetUrn(new DataPlatformUrn("snowflake"), "test", FabricType.TEST);
+    DatasetUrn upstreamUrn =
+        new DatasetUrn(new DataPlatformUrn("snowflake"), "upstream", FabricType.TEST);
+    List<Edge> edges = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      TagUrn tagUrn = new TagUrn("tag" + i);
+      edges.add(new Edge(datasetUrn, tagUrn, TAG_RELATIONSHIP, 1L, null, null, null, null));
+    }
+    edges.add(new Edge(datasetUrn, upstreamUrn, downstreamOf, null, null, null, null, null));
+    service.addEdges(edges);
+
+    RelatedEntitiesResult result =
+        service.findRelatedEntities(
+            operationContext,
+            Set.of(datasetType),
+            newFilter(Collections.singletonMap("urn", datasetUrn.toString())),
+            Set.of("tag"),
+            EMPTY_FILTER,
+            Set.of(TAG_RELATIONSHIP),
+            newRelationshipFilter(EMPTY_FILTER, RelationshipDirection.OUTGOING),
+            0,
+            100);
+    assertEquals(result.getTotal(), 5);
+    // DownstreamOf is an upstream edge of datasets, so its r_ relationship is reversed
+    assertEquals(
+        countRelationships(
+            "MATCH (:dataset {urn: $urn})-[r:r_DownstreamOf]->(:dataset) "
+                + "WHERE r.startUrn = $urn RETURN count(r)",
+            upstreamUrn.toString()),
+        1);
+    assertEquals(
+        countRelationships(
+            "MATCH (:dataset {urn: $urn})-[r:r_SchemaFieldTaggedWith]->(:tag) "
+                + "WHERE r.createdOn = 1 RETURN count(r)",
+            datasetUrn.toString()),
+        5);
+
+    service.removeEdges(edges);
+
+    assertEquals(countRelationships("MATCH ()-[r]->() RETURN count(r)", ""), 0);
+  }
+
+  private long countRelationships(String query, String urn) {
+    try (var session = _driver.session()) {
+      return session.run(query, Map.of("urn", urn)).single().get(0).asLong();
+    }
+  }
+
   private Set<UrnArray> getPathUrnArraysFromLineageResult(EntityLineageResult result) {
     return result.getRelationships().stream()
         .map(x -> x.getPaths().get(0))
@@ -0,0 +1,284 @@
+package com.linkedin.metadata.search;
+
+import static org.testng.Assert.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.config.cache.EntityDocCountCacheConfiguration;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration;
+import com.linkedin.metadata.config.search.SearchServiceConfiguration;
+import com.linkedin.metadata.config.shared.LimitConfig;
+import com.linkedin.metadata.config.shared.ResultsLimitConfig;
+import com.linkedin.metadata.search.cache.EntityDocCountCache;
+import com.linkedin.metadata.search.client.CachingEntitySearchService;
+import com.linkedin.metadata.search.elasticsearch.client.shim.SearchClientShimUtil;
+import com.linkedin.metadata.search.elasticsearch.index.NoOpMappingsBuilder;
+import com.linkedin.metadata.search.embedding.AwsBedrockEmbeddingProvider;
+import com.linkedin.metadata.search.semantic.SemanticEntitySearchService;
+import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
+import com.linkedin.metadata.utils.elasticsearch.responses.RawResponse;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import io.datahubproject.test.search.SearchTestUtils;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.util.EntityUtils;
+import org.mockito.Mockito;
+import org.opensearch.client.Request;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Offline evaluation of hybrid search against keyword and semantic search alone, over judged
+ * dataset queries: NDCG@10, recall@10, MRR and p50/p95 latency of each.
+ *
+ * <p>Judgments are read from the JSON file named by the {@code hybridSearchEvaluation.judgments}
+ * system property, an array of {@code {"query": "...", "relevant": ["urn:li:dataset:...", ...]}}.
+ * Keyword results come from a BM25 query on {@code datasetindex_v2}, query embeddings from AWS
+ * Bedrock in the region of {@code AWS_REGION}.
+ */
+@Slf4j
+@Test(enabled = false) // Disabled: Requires OpenSearch with semantic indices and judged queries
+public class HybridSearchEvaluationIT {
+
+  private static final int K = 10;
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private SearchClientShim<?> client;
+  private Map<String, Set<Urn>> judgments;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    String judgmentsPath = System.getProperty("hybridSearchEvaluation.judgments");
+    if (judgmentsPath == null) {
+      throw new SkipException("No hybridSearchEvaluation.judgments file; skipping evaluation");
+    }
+    judgments = new LinkedHashMap<>();
+    for (JsonNode judgment : MAPPER.readTree(new File(judgmentsPath))) {
+      Set<Urn> relevant = new HashSet<>();
+      judgment.path("relevant").forEach(urn -> relevant.add(UrnUtils.getUrn(urn.asText())));
+      judgments.put(judgment.path("query").asText(), relevant);
+    }
+
+    SearchClientShimUtil.ShimConfigurationBuilder configBuilder =
+        new SearchClientShimUtil.ShimConfigurationBuilder()
+            .withHost("localhost")
+            .withPort(9200)
+            .withSSL(false);
+    client = SearchClientShimUtil.createShimWithAutoDetection(configBuilder.build(), MAPPER);
+
+    RawResponse headIndex =
+        client.performLowLevelRequest(new Request("HEAD", "/datasetindex_v2_semantic"));
+    if (headIndex.getStatusLine().getStatusCode() == 404) {
+      throw new SkipException("Index datasetindex_v2_semantic not found; skipping evaluation");
+    }
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void tearDown() throws IOException {
+    if (client != null) {
+      client.close();
+    }
+  }
+
+  public void testHybridAgainstKeywordAndSemantic() throws Exception {
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+
+    // Keyword search with a BM25 query, uncached so each mode pays for its own requests
+    EntitySearchService keywordSearch = Mockito.mock(EntitySearchService.class);
+    Mockito.when(keywordSearch.getSearchServiceConfig())
+        .thenReturn(SearchTestUtils.TEST_SEARCH_SERVICE_CONFIG);
+    Mockito.when(
+            keywordSearch.search(
+                Mockito.any(),
+                Mockito.anyList(),
+                Mockito.anyString(),
+                Mockito.any(),
+                Mockito.anyList(),
+                Mockito.anyInt(),
+                Mockito.any(),
+                Mockito.anyList()))
+        .thenAnswer(
+            invocation ->
+                bm25Search(
+                    invocation.getArgument(2),
+                    invocation.getArgument(5),
+                    invocation.getArgument(6)));
+    CachingEntitySearchService cachingEntitySearchService =
+        new CachingEntitySearchService(new ConcurrentMapCacheManager(), keywordSearch, 100, false);
+
+    EntityDocCountCacheConfiguration docCountCacheConfiguration =
+        new EntityDocCountCacheConfiguration();
+    docCountCacheConfiguration.setTtlSeconds(600L);
+    EntityDocCountCache docCountCache =
+        new EntityDocCountCache(
+            opContext.getEntityRegistry(), keywordSearch, docCountCacheConfiguration);
+    SemanticEntitySearchService semanticEntitySearchService =
+        new SemanticEntitySearchService(
+            client,
+            new AwsBedrockEmbeddingProvider(
+                System.getenv().getOrDefault("AWS_REGION", "us-west-2")),
+            new NoOpMappingsBuilder());
+    SearchServiceConfiguration searchConfig =
+        SearchServiceConfiguration.builder()
+            .limit(
+                LimitConfig.builder()
+                    .results(ResultsLimitConfig.builder().apiDefault(100).max(1000).build())
+                    .build())
+            .semanticSearchEnabled(true)
+            .build();
+
+    Map<String, Function<String, SearchResult>> modes = new LinkedHashMap<>();
+    modes.put(
+        "keyword",
+        query ->
+            cachingEntitySearchService.search(
+                opContext, List.of("dataset"), query, null, List.of(), 0, K, List.of()));
+    for (SearchServiceConfiguration config :
+        List.of(
+            searchConfig,
+            hybrid(searchConfig, HybridSearchConfiguration.Fusion.RRF),
+            hybrid(searchConfig, HybridSearchConfiguration.Fusion.WEIGHTED))) {
+      SemanticSearchService service =
+          new SemanticSearchService(
+              docCountCache, cachingEntitySearchService, semanticEntitySearchService, config);
+      modes.put(
+          config.getHybrid() == null ? "semantic" : "hybrid " + config.getHybrid().getFusion(),
+          query ->
+              service.semanticSearchAcrossEntities(
+                  opContext, List.of("dataset"), query, null, null, 0, K, List.of()));
+    }
+
+    for (Map.Entry<String, Function<String, SearchResult>> mode : modes.entrySet()) {
+      // Warm up connections and the embedding client before timing
+      mode.getValue().apply(judgments.keySet().iterator().next());
+
+      double ndcg = 0;
+      double recall = 0;
+      double reciprocalRank = 0;
+      List<Long> nanos = new ArrayList<>();
+      for (Map.Entry<String, Set<Urn>> judgment : judgments.entrySet()) {
+        long start = System.nanoTime();
+        SearchResult result = mode.getValue().apply(judgment.getKey());
+        nanos.add(System.nanoTime() - start);
+        List<Urn> ranked =
+            result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList());
+        ndcg += ndcg(ranked, judgment.getValue());
+        recall += recall(ranked, judgment.getValue());
+        reciprocalRank += reciprocalRank(ranked, judgment.getValue());
+      }
+      int queries = judgments.size();
+      log.info(
+          "{} over {} queries: NDCG@{} {}, recall@{} {}, MRR {}, p50 {} ms, p95 {} ms",
+          mode.getKey(),
+          queries,
+          K,
+          String.format("%.3f", ndcg / queries),
+          K,
+          String.format("%.3f", recall / queries),
+          String.format("%.3f", reciprocalRank / queries),
+          percentileMillis(nanos, 0.5),
+          percentileMillis(nanos, 0.95));
+      assertFalse(nanos.isEmpty());
+    }
+  }
+
+  private static SearchServiceConfiguration hybrid(
+      SearchServiceConfiguration config, HybridSearchConfiguration.Fusion fusion) {
+    return config.toBuilder()
+        .hybrid(
+            HybridSearchConfiguration.builder()
+                .enabled(true)
+                .fusion(fusion)
+                .rankConstant(60)
+                .weights(Map.of("KEYWORD_SCORE", 0.5, "SEMANTIC_SCORE", 0.5))
+                .maxCandidates(200)
+                .earlyTermination(true)
+                .build())
+        .build();
+  }
+
+  private SearchResult bm25Search(String query, int from, Integer size) throws IOException {
+    ObjectNode body = MAPPER.createObjectNode();
+    body.put("from", from);
+    body.put("size", size == null ? K : size);
+    body.putArray("_source").add("urn");
+    body.putObject("query").putObject("simple_query_string").put("query", query);
+    Request request = new Request("POST", "/datasetindex_v2/_search");
+    request.setJsonEntity(MAPPER.writeValueAsString(body));
+    JsonNode response =
+        MAPPER.readTree(EntityUtils.toString(client.performLowLevelRequest(request).getEntity()));
+
+    SearchEntityArray entities = new SearchEntityArray();
+    for (JsonNode hit : response.path("hits").path("hits")) {
+      entities.add(
+          new SearchEntity()
+              .setEntity(UrnUtils.getUrn(hit.path("_source").path("urn").asText()))
+              .setScore(hit.path("_score").asDouble()));
+    }
+    return new SearchResult()
+        .setEntities(entities)
+        .setFrom(from)
+        .setPageSize(size == null ? K : size)
+        .setNumEntities(response.path("hits").path("total").path("value").asInt())
+        .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()));
+  }
+
+  /** Binary relevance NDCG of the first K results. */
+  private static double ndcg(List<Urn> ranked, Set<Urn> relevant) {
+    double dcg = 0;
+    for (int i = 0; i < Math.min(K, ranked.size()); i++) {
+      if (relevant.contains(ranked.get(i))) {
+        dcg += 1 / log2(i + 2);
+      }
+    }
+    double idealDcg = 0;
+    for (int i = 0; i < Math.min(K, relevant.size()); i++) {
+      idealDcg += 1 / log2(i + 2);
+    }
+    return idealDcg == 0 ? 0 : dcg / idealDcg;
+  }
+
+  private static double recall(List<Urn> ranked, Set<Urn> relevant) {
+    if (relevant.isEmpty()) {
+      return 0;
+    }
+    return (double) ranked.stream().limit(K).filter(relevant::contains).count() / relevant.size();
+  }
+
+  private static double reciprocalRank(List<Urn> ranked, Set<Urn> relevant) {
+    for (int i = 0; i < ranked.size(); i++) {
+      if (relevant.contains(ranked.get(i))) {
+        return 1.0 / (i + 1);
+      }
+    }
+    return 0;
+  }
+
+  private static double log2(double value) {
+    return Math.log(value) / Math.log(2);
+  }
+
+  private static String percentileMillis(List<Long> nanos, double percentile) {
+    List<Long> sorted = new ArrayList<>(nanos);
+    Collections.sort(sorted);
+    long value = sorted.get(Math.min(sorted.size() - 1, (int) (percentile * sorted.size())));
+    return String.format("%.2f", value / 1_000_000.0);
+  }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +15,8 @@ import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertThrows;
 
 import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration;
 import com.linkedin.metadata.config.search.SearchServiceConfiguration;
 import com.linkedin.metadata.config.shared.LimitConfig;
 import com.linkedin.metadata.config.shared.ResultsLimitConfig;
@@ -33,6 +36,7 @@ import io.datahubproject.test.metadata.context.TestOperationContexts;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -656,4 +660,130 @@ public class SemanticSearchServiceTest {
     verify(mockSemanticEntitySearchService, times(1))
         .search(eq(opContext), eq(entityNames), eq(query), eq(null), eq(null), eq(from), eq(100));
   }
+
+  @Test
+  public void testHybridSearchFusesKeywordAndSemanticResults() {
+    SemanticSearchService hybridService = hybridSearchService(true);
+    List<String> entityNames = Collections.singletonList("dataset");
+    stubHybridResults(List.of("a", "b", "c"), List.of("c", "a", "d"));
+
+    SearchResult result =
+        hybridService.semanticSearchAcrossEntities(
+            opContext, entityNames, "orders", null, null, 1, 3, List.of());
+
+    // Reciprocal rank fusion orders a, c, b, d; the page starts at the second
+    assertEquals(names(result), List.of("c", "b", "d"));
+    assertEquals(result.getFrom().intValue(), 1);
+    assertEquals(result.getPageSize().intValue(), 3);
+    assertEquals(result.getNumEntities().intValue(), 4);
+    // Both lists end before the page does, nothing is fetched twice
+    verify(mockCachingEntitySearchService, times(1))
+        .search(any(), eq(entityNames), eq("orders"), any(), anyList(), eq(0), eq(4), anyList());
+    verify(mockSemanticEntitySearchService, times(1))
+        .search(any(), eq(entityNames), eq("orders"), any(), eq(null), eq(0), eq(4));
+  }
+
+  @Test
+  public void testHybridSearchDeepensUntilTopKStable() {
+    SemanticSearchService hybridService = hybridSearchService(true);
+    stubHybridResults(
+        List.of("a", "b", "c", "d", "e", "f", "g", "h"),
+        List.of("c", "a", "h", "b", "i", "j", "k", "l"));
+
+    SearchResult result =
+        hybridService.semanticSearchAcrossEntities(
+            opContext, List.of("dataset"), "orders", null, null, 0, 3, List.of());
+
+    // The top 3 is not final 3 deep in each list, it is 6 deep
+    assertEquals(names(result), List.of("a", "c", "b"));
+    verify(mockSemanticEntitySearchService, times(1))
+        .search(any(), anyList(), anyString(), any(), any(), eq(0), eq(3));
+    verify(mockSemanticEntitySearchService, times(1))
+        .search(any(), anyList(), anyString(), any(), any(), eq(0), eq(6));
+    verify(mockCachingEntitySearchService, times(1))
+        .search(any(), anyList(), anyString(), any(), anyList(), eq(0), eq(6), anyList());
+  }
+
+  @Test
+  public void testHybridSearchWithoutEarlyTermination() {
+    SemanticSearchService hybridService = hybridSearchService(false);
+    stubHybridResults(List.of("a", "b"), List.of("b", "c"));
+
+    SearchResult result =
+        hybridService.semanticSearchAcrossEntities(
+            opContext, List.of("dataset"), "orders", null, null, 0, 3, List.of());
+
+    assertEquals(names(result), List.of("b", "a", "c"));
+    verify(mockSemanticEntitySearchService, times(1))
+        .search(any(), anyList(), anyString(), any(), any(), eq(0), eq(50));
+    verify(mockCachingEntitySearchService, times(1))
+        .search(any(), anyList(), anyString(), any(), anyList(), eq(0), eq(50), anyList());
+  }
+
+  @Test
+  public void testHybridSearchNotUsedWithSortCriteria() {
+    SemanticSearchService hybridService = hybridSearchService(true);
+    stubHybridResults(List.of("a"), List.of("b"));
+    List<SortCriterion> sortCriteria =
+        List.of(new SortCriterion().setField("name").setOrder(SortOrder.ASCENDING));
+
+    SearchResult result =
+        hybridService.semanticSearchAcrossEntities(
+            opContext, List.of("dataset"), "orders", null, sortCriteria, 0, 3, List.of());
+
+    assertEquals(names(result), List.of("b"));
+    verify(mockCachingEntitySearchService, never())
+        .search(any(), anyList(), anyString(), any(), anyList(), anyInt(), any(), anyList());
+  }
+
+  private SemanticSearchService hybridSearchService(boolean earlyTermination) {
+    return new SemanticSearchService(
+        mockEntityDocCountCache,
+        mockCachingEntitySearchService,
+        mockSemanticEntitySearchService,
+        mockSearchServiceConfig.toBuilder()
+            .hybrid(
+                HybridSearchConfiguration.builder()
+                    .enabled(true)
+                    .fusion(HybridSearchConfiguration.Fusion.RRF)
+                    .rankConstant(60)
+                    .maxCandidates(50)
+                    .earlyTermination(earlyTermination)
+                    .build())
+            .build());
+  }
+
+  /** Stub both searches to return the first {@code size} of the given results. */
+  private void stubHybridResults(List<String> keyword, List<String> semantic) {
+    when(mockCachingEntitySearchService.search(
+            any(), anyList(), anyString(), any(), anyList(), anyInt(), any(), anyList()))
+        .thenAnswer(invocation -> hybridResult(keyword, invocation.getArgument(6)));
+    when(mockSemanticEntitySearchService.search(
+            any(), anyList(), anyString(), any(), any(), anyInt(), any()))
+        .thenAnswer(invocation -> hybridResult(semantic, invocation.getArgument(6)));
+  }
+
+  private static SearchResult hybridResult(List<String> names, int size) {
+    SearchEntityArray entities = new SearchEntityArray();
+    for (int i = 0; i < Math.min(size, names.size()); i++) {
+      entities.add(
+          new SearchEntity()
+              .setEntity(
+                  UrnUtils.getUrn(
+                      "urn:li:dataset:(urn:li:dataPlatform:test," + names.get(i) + ",PROD)"))
+              .setScore(1.0 - i * 0.1));
+    }
+    return new SearchResult()
+        .setEntities(entities)
+        .setFrom(0)
+        .setPageSize(size)
+        .setNumEntities(names.size())
+        .setMetadata(new SearchResultMetadata().setAggregations(new AggregationMetadataArray()));
+  }
+
+  private static List<String> names(SearchResult result) {
+    return result.getEntities().stream()
+        .map(entity -> entity.getEntity().getEntityKey().get(1))
+        .collect(Collectors.toList());
+  }
 }
@@ -160,7 +160,7 @@ public class CacheableSearcherTest {
         result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
         getUrns(0, 10));
     Mockito.verify(mockCache, Mockito.times(1)).put(Mockito.any(), Mockito.any());
-    Mockito.verify(mockCache, Mockito.times(0)).get(Mockito.any(), Mockito.any(Class.class));
+    Mockito.verify(mockCache, Mockito.times(0)).get(Mockito.any());
     Mockito.reset(mockCache);
 
     // Test cache hit when searchFlags is null
@@ -179,7 +179,7 @@ public class CacheableSearcherTest {
         result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
         getUrns(0, 10));
     Mockito.verify(mockCache, Mockito.times(1)).put(Mockito.any(), Mockito.any());
-    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any(), Mockito.any(Class.class));
+    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any());
     Mockito.reset(mockCache);
 
     // Test cache hit when skipCache is false
@@ -199,7 +199,7 @@ public class CacheableSearcherTest {
         result.getEntities().stream().map(SearchEntity::getEntity).collect(Collectors.toList()),
         getUrns(0, 10));
     Mockito.verify(mockCache, Mockito.times(1)).put(Mockito.any(), Mockito.any());
-    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any(), Mockito.any(Class.class));
+    Mockito.verify(mockCache, Mockito.times(1)).get(Mockito.any());
   }
 
   private SearchResult getEmptySearchResult(CacheableSearcher.QueryPagination queryPagination) {
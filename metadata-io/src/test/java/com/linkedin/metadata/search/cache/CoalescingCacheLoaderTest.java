@@ -0,0 +1,238 @@
+package com.linkedin.metadata.search.cache;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.metadata.browse.BrowseResult;
+import com.linkedin.metadata.browse.BrowseResultEntityArray;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.testng.annotations.Test;
+
+public class CoalescingCacheLoaderTest {
+  private final OperationContext opContext =
+      TestOperationContexts.systemContextNoSearchAuthorization(mock(EntityRegistry.class));
+
+  @Test
+  public void testBinaryRoundTrip() {
+    Cache cache = new ConcurrentMapCache("roundTrip");
+    CoalescingCacheLoader loader = new CoalescingCacheLoader();
+
+    CoalescingCacheLoader.Lookup<BrowseResult> miss =
+        loader.get(opContext, cache, "key", BrowseResult.class, () -> browseResult(42));
+    assertFalse(miss.isCacheHit());
+    assertTrue(cache.get("key").get() instanceof CachedRecordTemplate);
+
+    CoalescingCacheLoader.Lookup<BrowseResult> hit =
+        loader.get(
+            opContext,
+            cache,
+            "key",
+            BrowseResult.class,
+            () -> {
+              throw new IllegalStateException("Should not load on hit");
+            });
+    assertTrue(hit.isCacheHit());
+    assertEquals(hit.getValue(), browseResult(42));
+    assertNotSame(hit.getValue(), miss.getValue());
+  }
+
+  @Test
+  public void testLegacyJsonValue() {
+    Cache cache = new ConcurrentMapCache("legacy");
+    cache.put("key", "{\"entities\":[],\"from\":0,\"pageSize\":10,\"numEntities\":7}");
+
+    CoalescingCacheLoader.Lookup<BrowseResult> hit =
+        new CoalescingCacheLoader()
+            .get(opContext, cache, "key", BrowseResult.class, () -> browseResult(0));
+    assertTrue(hit.isCacheHit());
+    assertEquals(hit.getValue().getNumEntities().intValue(), 7);
+
+    // The hit rewrote the entry in the binary form
+    CachedRecordTemplate rewritten = (CachedRecordTemplate) cache.get("key").get();
+    assertEquals(rewritten.getRecord(BrowseResult.class).getNumEntities().intValue(), 7);
+    assertEquals(rewritten.getTimestamp(), 0L);
+  }
+
+  @Test
+  public void testConcurrentMissesCoalesced() throws Exception {
+    Cache cache = new ConcurrentMapCache("coalesce");
+    CoalescingCacheLoader loader = new CoalescingCacheLoader();
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<BrowseResult>> futures = new ArrayList<>();
+      futures.add(
+          executor.submit(
+              () ->
+                  loader
+                      .get(
+                          opContext,
+                          cache,
+                          "key",
+                          BrowseResult.class,
+                          () -> {
+                            loads.incrementAndGet();
+                            loading.countDown();
+                            awaitQuietly(release);
+                            return browseResult(5);
+                          })
+                      .getValue()));
+      assertTrue(loading.await(10, TimeUnit.SECONDS));
+
+      for (int i = 0; i < 7; i++) {
+        futures.add(
+            executor.submit(
+                () ->
+                    loader
+                        .get(
+                            opContext,
+                            cache,
+                            "key",
+                            BrowseResult.class,
+                            () -> {
+                              loads.incrementAndGet();
+                              return browseResult(5);
+                            })
+                        .getValue()));
+      }
+      release.countDown();
+
+      for (Future<BrowseResult> future : futures) {
+        assertEquals(future.get(10, TimeUnit.SECONDS).getNumEntities().intValue(), 5);
+      }
+      assertEquals(loads.get(), 1);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testLoaderErrorReleasesWaiters() throws Exception {
+    Cache cache = new ConcurrentMapCache("error");
+    CoalescingCacheLoader loader = new CoalescingCacheLoader();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<BrowseResult> leader =
+          executor.submit(
+              () ->
+                  loader
+                      .get(
+                          opContext,
+                          cache,
+                          "key",
+                          BrowseResult.class,
+                          () -> {
+                            loading.countDown();
+                            awaitQuietly(release);
+                            throw new AssertionError("load failed");
+                          })
+                      .getValue());
+      assertTrue(loading.await(10, TimeUnit.SECONDS));
+      Future<BrowseResult> waiter =
+          executor.submit(
+              () ->
+                  loader
+                      .get(opContext, cache, "key", BrowseResult.class, () -> browseResult(5))
+                      .getValue());
+      release.countDown();
+
+      ExecutionException leaderFailure =
+          expectThrows(ExecutionException.class, () -> leader.get(10, TimeUnit.SECONDS));
+      assertTrue(leaderFailure.getCause() instanceof AssertionError);
+      // The waiter either shared the failed load or ran its own, but is never left waiting
+      try {
+        assertEquals(waiter.get(10, TimeUnit.SECONDS).getNumEntities().intValue(), 5);
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause() instanceof AssertionError);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testStaleWhileRevalidate() throws Exception {
+    Cache cache = new ConcurrentMapCache("swr");
+    cache.put("key", new CachedRecordTemplate(browseResult(1), System.currentTimeMillis() - 60000));
+
+    ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+    try {
+      CoalescingCacheLoader loader = new CoalescingCacheLoader(1000, refreshExecutor);
+
+      CoalescingCacheLoader.Lookup<BrowseResult> stale =
+          loader.get(opContext, cache, "key", BrowseResult.class, () -> browseResult(2));
+      assertTrue(stale.isCacheHit());
+      assertEquals(stale.getValue().getNumEntities().intValue(), 1);
+
+      refreshExecutor.shutdown();
+      assertTrue(refreshExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+      CachedRecordTemplate refreshed = (CachedRecordTemplate) cache.get("key").get();
+      assertEquals(refreshed.getRecord(BrowseResult.class).getNumEntities().intValue(), 2);
+    } finally {
+      refreshExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testMaxAge() {
+    Cache cache = new ConcurrentMapCache("maxAge");
+    cache.put("key", new CachedRecordTemplate(browseResult(1), System.currentTimeMillis() - 60000));
+    CoalescingCacheLoader loader = new CoalescingCacheLoader();
+
+    CoalescingCacheLoader.Lookup<BrowseResult> young =
+        loader.get(opContext, cache, "key", BrowseResult.class, () -> browseResult(2), 120000);
+    assertTrue(young.isCacheHit());
+    assertEquals(young.getValue().getNumEntities().intValue(), 1);
+
+    CoalescingCacheLoader.Lookup<BrowseResult> expired =
+        loader.get(opContext, cache, "key", BrowseResult.class, () -> browseResult(2), 1000);
+    assertFalse(expired.isCacheHit());
+    assertEquals(expired.getValue().getNumEntities().intValue(), 2);
+    assertEquals(
+        ((CachedRecordTemplate) cache.get("key").get())
+            .getRecord(BrowseResult.class)
+            .getNumEntities()
+            .intValue(),
+        2);
+  }
+
+  private static BrowseResult browseResult(int numEntities) {
+    return new BrowseResult()
+        .setEntities(new BrowseResultEntityArray())
+        .setFrom(0)
+        .setPageSize(10)
+        .setNumEntities(numEntities);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -15,6 +15,7 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import org.javatuples.Octet;
+import org.javatuples.Quintet;
 import org.javatuples.Septet;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.cache.CacheManager;
@@ -56,6 +57,8 @@ public class CacheEvictionServiceTest {
             nativeCacheMapForCaffeine.put(UNSUPPORTED_CACHE_NAME, caffeine.build());
             nativeCacheMapForCaffeine.put(
                 ENTITY_SEARCH_SERVICE_SCROLL_CACHE_NAME, caffeine.build());
+            nativeCacheMapForCaffeine.put(
+                ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME, caffeine.build());
           }
 
           @Override
@@ -224,6 +227,23 @@ public class CacheEvictionServiceTest {
       cache.put(entry.getKey(), entry.getValue());
     }
 
+    cache =
+        (Cache)
+            cacheManager.getCache(ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME).getNativeCache();
+    cache.invalidateAll();
+    cache.put(
+        Quintet.with(
+            null, // opContext
+            Arrays.asList("container", "dataset"),
+            "*", // query
+            "{\"or\":[{\"and\":[{\"condition\":\"EQUAL\",\"negated\":false,\"field\":\"container\",\"value\":\"\",\"values\":[\"urn:li:container:bar\"]}]}]}",
+            // filters
+            Arrays.asList("platform")),
+        "container.bar");
+    cache.put(
+        Quintet.with(null, Arrays.asList("dashboard"), "*", null, Arrays.asList("platform")),
+        "dashboards");
+
     cache = (Cache) cacheManager.getCache(UNSUPPORTED_CACHE_NAME).getNativeCache();
     cache.invalidateAll();
     for (Map.Entry entry : searchCacheData.entrySet()) {
@@ -281,6 +301,17 @@ public class CacheEvictionServiceTest {
     assertEquals(getAsMap(UNSUPPORTED_CACHE_NAME).size(), cacheKeyCount); // no evictions
   }
 
+  @Test
+  void testAggregationsCacheEvicted() throws URISyntaxException {
+    evictionService.evict(List.of(Urn.createFromString("urn:li:container:foo")));
+    assertEquals(getAsMap(ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME).size(), 2);
+
+    evictionService.evict(List.of(Urn.createFromString("urn:li:container:bar")));
+    Map cacheAsMap = getAsMap(ENTITY_SEARCH_SERVICE_AGGREGATIONS_CACHE_NAME);
+    assertEquals(cacheAsMap.size(), 1);
+    assertTrue(cacheAsMap.values().contains("dashboards"));
+  }
+
   @Test
   void testPerfWithLargeCache() throws URISyntaxException {
     Cache cache =
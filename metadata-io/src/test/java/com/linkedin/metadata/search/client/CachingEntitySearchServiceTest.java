@@ -5,17 +5,24 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
+import com.linkedin.data.template.LongMap;
 import com.linkedin.metadata.browse.BrowseResult;
 import com.linkedin.metadata.query.AutoCompleteResult;
 import com.linkedin.metadata.query.SearchFlags;
 import com.linkedin.metadata.query.filter.Filter;
 import com.linkedin.metadata.query.filter.SortCriterion;
+import com.linkedin.metadata.query.filter.SortOrder;
+import com.linkedin.metadata.search.AggregationMetadata;
+import com.linkedin.metadata.search.AggregationMetadataArray;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.FilterValueArray;
 import com.linkedin.metadata.search.ScrollResult;
 import com.linkedin.metadata.search.SearchEntityArray;
 import com.linkedin.metadata.search.SearchResult;
 import com.linkedin.metadata.search.SearchResultMetadata;
 import com.linkedin.metadata.search.cache.CacheableSearcher;
+import com.linkedin.metadata.search.cache.CachedRecordTemplate;
+import com.linkedin.metadata.search.cache.CoalescingCacheLoader;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.metadata.context.SearchContext;
@@ -25,11 +32,14 @@ import io.opentelemetry.api.trace.Span;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -103,8 +113,9 @@ public class CachingEntitySearchServiceTest {
     Integer size = 10;
     List<String> facets = Arrays.asList("platform", "origin");
 
-    when(searchCache.get(any(), eq(String.class)))
-        .thenReturn("{\"entities\":[],\"metadata\":{},\"numEntities\":0}");
+    when(searchCache.get(any()))
+        .thenReturn(
+            new SimpleValueWrapper("{\"entities\":[],\"metadata\":{},\"numEntities\":0}"));
 
     // Act
     SearchResult result =
@@ -135,7 +146,7 @@ public class CachingEntitySearchServiceTest {
             .setPageSize(size)
             .setMetadata(new SearchResultMetadata())
             .setFrom(0);
-    when(searchCache.get(any(), eq(String.class))).thenReturn(null);
+    when(searchCache.get(any())).thenReturn(null);
     when(entitySearchService.search(any(), any(), any(), any(), any(), anyInt(), any(), any()))
         .thenReturn(expectedResult);
 
@@ -157,7 +168,7 @@ public class CachingEntitySearchServiceTest {
             eq(from),
             eq(100),
             eq(facets));
-    verify(searchCache).put(any(), anyString());
+    verify(searchCache).put(any(), any(CachedRecordTemplate.class));
     verify(metricUtils)
         .increment(eq(CacheableSearcher.class), eq("getBatch_cache_miss_count"), eq(1d));
   }
@@ -202,7 +213,8 @@ public class CachingEntitySearchServiceTest {
     Integer limit = 10;
 
     AutoCompleteResult cachedResult = new AutoCompleteResult();
-    when(autoCompleteCache.get(any(), eq(String.class))).thenReturn("{\"query\":\"test\"}");
+    when(autoCompleteCache.get(any()))
+        .thenReturn(new SimpleValueWrapper("{\"query\":\"test\"}"));
 
     // Act
     AutoCompleteResult result =
@@ -223,7 +235,7 @@ public class CachingEntitySearchServiceTest {
     Integer limit = 5;
 
     AutoCompleteResult expectedResult = new AutoCompleteResult();
-    when(autoCompleteCache.get(any(), eq(String.class))).thenReturn(null);
+    when(autoCompleteCache.get(any())).thenReturn(null);
     when(entitySearchService.autoComplete(any(), any(), any(), any(), any(), any()))
         .thenReturn(expectedResult);
 
@@ -236,7 +248,7 @@ public class CachingEntitySearchServiceTest {
     assertEquals(result, expectedResult);
     verify(entitySearchService)
         .autoComplete(eq(opContext), eq(entityName), eq(input), eq(field), eq(filter), eq(limit));
-    verify(autoCompleteCache).put(any(), anyString());
+    verify(autoCompleteCache).put(any(), any(CachedRecordTemplate.class));
     verify(metricUtils)
         .increment(
             eq(CachingEntitySearchService.class), eq("autocomplete_cache_miss_count"), eq(1d));
@@ -252,7 +264,7 @@ public class CachingEntitySearchServiceTest {
     Integer size = 20;
 
     BrowseResult cachedResult = new BrowseResult();
-    when(browseCache.get(any(), eq(String.class))).thenReturn("{\"entities\":[]}");
+    when(browseCache.get(any())).thenReturn(new SimpleValueWrapper("{\"entities\":[]}"));
 
     // Act
     BrowseResult result = cachingService.browse(opContext, entityName, path, filter, from, size);
@@ -272,7 +284,7 @@ public class CachingEntitySearchServiceTest {
     Integer size = 50;
 
     BrowseResult expectedResult = new BrowseResult();
-    when(browseCache.get(any(), eq(String.class))).thenReturn(null);
+    when(browseCache.get(any())).thenReturn(null);
     when(entitySearchService.browse(any(), any(), any(), any(), anyInt(), any()))
         .thenReturn(expectedResult);
 
@@ -284,7 +296,7 @@ public class CachingEntitySearchServiceTest {
     assertEquals(result, expectedResult);
     verify(entitySearchService)
         .browse(eq(opContext), eq(entityName), eq(path), eq(filter), eq(from), eq(size));
-    verify(browseCache).put(any(), anyString());
+    verify(browseCache).put(any(), any(CachedRecordTemplate.class));
     verify(metricUtils)
         .increment(eq(CachingEntitySearchService.class), eq("browse_cache_miss_count"), eq(1d));
   }
@@ -302,7 +314,7 @@ public class CachingEntitySearchServiceTest {
     List<String> facets = Arrays.asList("platform");
 
     ScrollResult cachedResult = new ScrollResult();
-    when(scrollCache.get(any(), eq(String.class))).thenReturn("{\"entities\":[]}");
+    when(scrollCache.get(any())).thenReturn(new SimpleValueWrapper("{\"entities\":[]}"));
 
     // Act
     ScrollResult result =
@@ -331,7 +343,7 @@ public class CachingEntitySearchServiceTest {
 
     ScrollResult expectedResult =
         new ScrollResult().setEntities(new SearchEntityArray()).setNumEntities(0).setPageSize(size);
-    when(scrollCache.get(any(), eq(String.class))).thenReturn(null);
+    when(scrollCache.get(any())).thenReturn(null);
     when(entitySearchService.fullTextScroll(
             any(), any(), any(), any(), any(), any(), any(), any(), any()))
         .thenReturn(expectedResult);
@@ -365,7 +377,7 @@ public class CachingEntitySearchServiceTest {
             eq(facets));
     verify(entitySearchService, never())
         .structuredScroll(any(), any(), any(), any(), any(), any(), any(), any(), any());
-    verify(scrollCache).put(any(), anyString());
+    verify(scrollCache).put(any(), any(CachedRecordTemplate.class));
     verify(metricUtils)
         .increment(eq(CachingEntitySearchService.class), eq("scroll_cache_miss_count"), eq(1d));
   }
@@ -380,7 +392,7 @@ public class CachingEntitySearchServiceTest {
     when(searchContext.getSearchFlags()).thenReturn(searchFlags);
 
     ScrollResult expectedResult = new ScrollResult();
-    when(scrollCache.get(any(), eq(String.class))).thenReturn(null);
+    when(scrollCache.get(any())).thenReturn(null);
     when(entitySearchService.structuredScroll(
             any(), any(), any(), any(), any(), any(), any(), any(), any()))
         .thenReturn(expectedResult);
@@ -435,7 +447,7 @@ public class CachingEntitySearchServiceTest {
     String path = "/test";
     BrowseResult expectedResult = new BrowseResult();
 
-    when(browseCache.get(any(), eq(String.class))).thenReturn(null);
+    when(browseCache.get(any())).thenReturn(null);
     when(entitySearchService.browse(any(), any(), any(), any(), anyInt(), any()))
         .thenReturn(expectedResult);
 
@@ -444,8 +456,8 @@ public class CachingEntitySearchServiceTest {
 
     // Assert
     assertNotNull(result);
-    verify(browseCache).get(any(), eq(String.class));
-    verify(browseCache).put(any(), anyString());
+    verify(browseCache).get(any());
+    verify(browseCache).put(any(), any(CachedRecordTemplate.class));
   }
 
   @Test
@@ -454,7 +466,7 @@ public class CachingEntitySearchServiceTest {
     String query1 = "test1";
     String query2 = "test2";
 
-    when(searchCache.get(any(), eq(String.class))).thenReturn(null);
+    when(searchCache.get(any())).thenReturn(null);
     SearchResult result =
         new SearchResult()
             .setEntities(new SearchEntityArray())
@@ -473,9 +485,81 @@ public class CachingEntitySearchServiceTest {
         opContext, Arrays.asList("dataset"), query2, null, null, 0, 10, Collections.emptyList());
 
     // Verify two different cache keys were used
-    verify(searchCache, times(2)).get(any(), eq(String.class));
-    verify(searchCache, times(2)).put(any(), anyString());
+    verify(searchCache, times(2)).get(any());
+    verify(searchCache, times(2)).put(any(), any(CachedRecordTemplate.class));
     verify(entitySearchService, times(2))
         .search(any(), any(), any(), any(), any(), anyInt(), any(), any());
   }
+
+  @Test
+  public void testAggregationsCachedApartFromHits() {
+    CachingEntitySearchService service =
+        new CachingEntitySearchService(
+            new ConcurrentMapCacheManager(),
+            entitySearchService,
+            BATCH_SIZE,
+            ENABLE_CACHE,
+            new CoalescingCacheLoader(),
+            true,
+            0,
+            Runnable::run);
+    AggregationMetadataArray aggregations =
+        new AggregationMetadataArray(
+            new AggregationMetadata()
+                .setName("platform")
+                .setDisplayName("Platform")
+                .setAggregations(new LongMap(Map.of("urn:li:dataPlatform:hive", 3L)))
+                .setFilterValues(new FilterValueArray()));
+    when(entitySearchService.search(any(), any(), any(), any(), any(), anyInt(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              OperationContext context = invocation.getArgument(0);
+              SearchResultMetadata metadata = new SearchResultMetadata();
+              if (invocation.<Integer>getArgument(6) == 0) {
+                assertFalse(context.getSearchContext().getSearchFlags().isSkipAggregates());
+                metadata.setAggregations(aggregations);
+              } else {
+                // Hits are fetched without aggregations
+                assertTrue(context.getSearchContext().getSearchFlags().isSkipAggregates());
+              }
+              return new SearchResult()
+                  .setEntities(new SearchEntityArray())
+                  .setMetadata(metadata)
+                  .setNumEntities(0)
+                  .setFrom(0)
+                  .setPageSize(invocation.<Integer>getArgument(6));
+            });
+    List<String> facets = List.of("platform");
+    List<SortCriterion> byName =
+        List.of(new SortCriterion().setField("name").setOrder(SortOrder.ASCENDING));
+
+    SearchResult first =
+        service.search(opContext, List.of("dataset"), "orders", null, null, 0, 10, facets);
+    // Another sort and spacing of the same query reuse the aggregations
+    SearchResult sorted =
+        service.search(opContext, List.of("dataset"), " orders ", null, byName, 0, 10, facets);
+
+    assertEquals(first.getMetadata().getAggregations(), aggregations);
+    assertEquals(sorted.getMetadata().getAggregations(), aggregations);
+    verify(entitySearchService, times(1))
+        .search(any(), any(), eq("orders"), any(), any(), eq(0), eq(0), eq(facets));
+    verify(entitySearchService, times(2))
+        .search(any(), any(), any(), any(), any(), eq(0), eq(BATCH_SIZE), eq(facets));
+    verify(metricUtils)
+        .increment(
+            eq(CachingEntitySearchService.class), eq("aggregations_cache_miss_count"), eq(1d));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testAggregationsCacheRequiresExecutor() {
+    new CachingEntitySearchService(
+        new ConcurrentMapCacheManager(),
+        entitySearchService,
+        BATCH_SIZE,
+        ENABLE_CACHE,
+        new CoalescingCacheLoader(),
+        true,
+        0,
+        null);
+  }
 }
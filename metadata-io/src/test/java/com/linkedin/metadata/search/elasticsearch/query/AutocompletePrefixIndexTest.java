@@ -0,0 +1,157 @@
+package com.linkedin.metadata.search.elasticsearch.query;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class AutocompletePrefixIndexTest {
+
+  private static final Urn ORDERS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,sales.orders,PROD)");
+  private static final Urn ORDER_ITEMS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,sales.order_items,PROD)");
+  private static final Urn CUSTOMER_ORDERS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,crm.customer_orders,PROD)");
+  private static final Urn PAYMENTS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,sales.payments,PROD)");
+
+  private AutocompletePrefixIndex index;
+
+  @BeforeMethod
+  public void setup() {
+    index = new AutocompletePrefixIndex(10, List.of("totalSqlQueries"), null);
+    index.beginLoad();
+    index.completeLoad(
+        Map.of(
+            "dataset",
+            List.of(
+                entity(CUSTOMER_ORDERS, "customer_orders", 500),
+                entity(ORDER_ITEMS, "order_items", 100),
+                entity(ORDERS, "Orders", 10),
+                entity(PAYMENTS, "payments", 1))));
+  }
+
+  @Test
+  public void testWholeValuesThenValueStartsThenWordStarts() {
+    assertTrue(index.isReady());
+    List<AutocompletePrefixIndex.Suggestion> suggestions = autoComplete("orders", 3);
+
+    assertEquals(urns(suggestions), List.of(ORDERS, CUSTOMER_ORDERS));
+    // Suggests the value as stored, matched regardless of case
+    assertEquals(suggestions.get(0).getValue(), "Orders");
+
+    // Within a kind of match, the most used entity comes first
+    assertEquals(urns(autoComplete("ORDER", 3)), List.of(ORDER_ITEMS, ORDERS, CUSTOMER_ORDERS));
+  }
+
+  @Test
+  public void testUrnsMatchFromTheirStartOnly() {
+    assertEquals(urns(autoComplete(ORDERS.toString(), 1)), List.of(ORDERS));
+    assertEquals(autoComplete("datahub", 1), List.of());
+  }
+
+  @Test
+  public void testMissesWhenIndexMayNotHoldEveryMatch() {
+    AutocompletePrefixIndex partial = new AutocompletePrefixIndex(2, List.of(), null);
+    partial.beginLoad();
+    partial.completeLoad(
+        Map.of("dataset", List.of(entity(ORDERS, "orders", 0), entity(PAYMENTS, "payments", 0))));
+
+    assertNull(partial.autoComplete("dataset", "orders", 2, urn -> true));
+    assertEquals(partial.autoComplete("dataset", "orders", 1, urn -> true).size(), 1);
+    // Holding every entity of the type, a short answer is complete
+    assertEquals(urns(index.autoComplete("dataset", "pay", 5, urn -> true)), List.of(PAYMENTS));
+    // Types that were not loaded go to the search index
+    assertNull(index.autoComplete("chart", "pay", 5, urn -> true));
+  }
+
+  @Test
+  public void testNotVisibleEntitiesAreLeftOut() {
+    List<AutocompletePrefixIndex.Suggestion> suggestions =
+        index.autoComplete("dataset", "order", 3, urn -> !urn.equals(ORDER_ITEMS));
+    assertEquals(urns(suggestions), List.of(ORDERS, CUSTOMER_ORDERS));
+  }
+
+  @Test
+  public void testUpdatesRemovalsAndDeletes() {
+    index.update(PAYMENTS, Map.of("name", List.of("order_payments")), Map.of());
+    assertEquals(urns(autoComplete("order_p", 5)), List.of(PAYMENTS));
+    // The new value also matches from its words
+    assertEquals(autoComplete("payments", 5).get(0).getValue(), "order_payments");
+
+    // Usage changes re-rank
+    index.update(ORDERS, Map.of(), Map.of("totalSqlQueries", 1000L));
+    assertEquals(urns(autoComplete("order", 5)).get(0), ORDERS);
+
+    index.setRemoved(ORDERS, true);
+    assertFalse(urns(autoComplete("order", 5)).contains(ORDERS));
+    index.setRemoved(ORDERS, false);
+    assertTrue(urns(autoComplete("order", 5)).contains(ORDERS));
+
+    index.delete(ORDERS);
+    assertFalse(urns(autoComplete("order", 5)).contains(ORDERS));
+  }
+
+  @Test
+  public void testManyChangesAreSortedAndTrimmedToTheMostUsed() {
+    List<Urn> added = new ArrayList<>();
+    for (int i = 0; i <= AutocompletePrefixIndex.MAX_PENDING_CHANGES; i++) {
+      Urn urn =
+          UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,bulk.table_" + i + ",PROD)");
+      index.update(urn, Map.of("name", List.of("table_" + i)), Map.of("totalSqlQueries", (long) i));
+      added.add(urn);
+    }
+
+    // Only the 10 most used entities are kept, so the index is no longer known to be complete
+    List<AutocompletePrefixIndex.Suggestion> suggestions = autoComplete("table", 10);
+    assertEquals(suggestions.size(), 10);
+    assertEquals(suggestions.get(0).getUrn(), added.get(added.size() - 1));
+    assertNull(index.autoComplete("dataset", "table", 11, urn -> true));
+    assertNull(index.autoComplete("dataset", "orders", 10, urn -> true));
+  }
+
+  @Test
+  public void testChangesDuringLoadAreAppliedAfterIt() {
+    index.beginLoad();
+    // The load read the entity before it was soft deleted
+    index.setRemoved(ORDERS, true);
+    index.completeLoad(Map.of("dataset", List.of(entity(ORDERS, "orders", 10))));
+
+    assertEquals(autoComplete("orders", 5), List.of());
+  }
+
+  @Test
+  public void testNotReadyUntilLoaded() {
+    AutocompletePrefixIndex empty = new AutocompletePrefixIndex(10, List.of(), null);
+    assertFalse(empty.isReady());
+    assertNull(empty.autoComplete("dataset", "orders", 5, urn -> true));
+    empty.beginLoad();
+    empty.abortLoad();
+    assertFalse(empty.isReady());
+  }
+
+  private List<AutocompletePrefixIndex.Suggestion> autoComplete(String input, int limit) {
+    return index.autoComplete("dataset", input, limit, urn -> true);
+  }
+
+  private static AutocompletePrefixIndex.LoadedEntity entity(Urn urn, String name, long queries) {
+    return new AutocompletePrefixIndex.LoadedEntity(
+        urn, Map.of("name", List.of(name)), Map.of("totalSqlQueries", queries));
+  }
+
+  private static List<Urn> urns(List<AutocompletePrefixIndex.Suggestion> suggestions) {
+    return suggestions.stream()
+        .map(AutocompletePrefixIndex.Suggestion::getUrn)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,144 @@
+package com.linkedin.metadata.search.elasticsearch.query;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.browse.BrowseResultGroupV2;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class BrowsePathTrieTest {
+
+  private static final Urn DATASET_1 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.one,PROD)");
+  private static final Urn DATASET_2 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.two,PROD)");
+  private static final Urn DATASET_3 =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,other.three,PROD)");
+  private static final Urn CHART = UrnUtils.getUrn("urn:li:chart:(looker,one)");
+  private static final String CONTAINER = "urn:li:container:abc";
+
+  private BrowsePathTrie trie;
+
+  @BeforeMethod
+  public void setup() {
+    trie = new BrowsePathTrie();
+    trie.beginLoad();
+    trie.completeLoad(
+        Map.of(
+            DATASET_1, new BrowsePathTrie.LoadedEntity("␟prod␟" + CONTAINER, false),
+            DATASET_2, new BrowsePathTrie.LoadedEntity("␟prod␟" + CONTAINER + "␟schema", false),
+            DATASET_3, new BrowsePathTrie.LoadedEntity("␟prod␟other", false),
+            CHART, new BrowsePathTrie.LoadedEntity("␟prod␟" + CONTAINER, false)));
+  }
+
+  @Test
+  public void testBrowseCountsEntitiesBelowEachGroup() {
+    assertTrue(trie.isReady());
+
+    BrowsePathTrie.BrowseLevel root = trie.browse(List.of("dataset"), "");
+    assertEquals(root.getTotalNumEntities(), 3);
+    assertEquals(names(root), List.of("prod"));
+    assertEquals(root.getGroups().get(0).getCount().longValue(), 3L);
+    assertTrue(root.getGroups().get(0).isHasSubGroups());
+
+    BrowsePathTrie.BrowseLevel prod = trie.browse(List.of("dataset"), "␟prod");
+    assertEquals(prod.getTotalNumEntities(), 3);
+    // Sorted by count, then by name
+    assertEquals(names(prod), List.of(CONTAINER, "other"));
+    BrowseResultGroupV2 container = prod.getGroups().get(0);
+    assertEquals(container.getCount().longValue(), 2L);
+    assertTrue(container.isHasSubGroups());
+    assertEquals(container.getUrn(), UrnUtils.getUrn(CONTAINER));
+    BrowseResultGroupV2 other = prod.getGroups().get(1);
+    assertEquals(other.getCount().longValue(), 1L);
+    assertFalse(other.isHasSubGroups());
+    assertFalse(other.hasUrn());
+
+    // Entities at the browsed path itself are not below it
+    BrowsePathTrie.BrowseLevel inContainer =
+        trie.browse(List.of("dataset"), "␟prod␟" + CONTAINER);
+    assertEquals(inContainer.getTotalNumEntities(), 1);
+    assertEquals(names(inContainer), List.of("schema"));
+  }
+
+  @Test
+  public void testBrowseCountsOnlyRequestedEntityTypes() {
+    BrowsePathTrie.BrowseLevel prod = trie.browse(List.of("chart"), "␟prod");
+    assertEquals(prod.getTotalNumEntities(), 1);
+    assertEquals(names(prod), List.of(CONTAINER));
+    assertFalse(prod.getGroups().get(0).isHasSubGroups());
+
+    BrowsePathTrie.BrowseLevel both = trie.browse(List.of("dataset", "chart"), "␟prod");
+    assertEquals(both.getTotalNumEntities(), 4);
+    assertEquals(both.getGroups().get(0).getCount().longValue(), 3L);
+
+    assertEquals(trie.browse(List.of("dataset"), "␟missing").getTotalNumEntities(), 0);
+  }
+
+  @Test
+  public void testSoftDeletedEntitiesAreLeftOut() {
+    trie.setRemoved(DATASET_3, true);
+    assertEquals(names(trie.browse(List.of("dataset"), "␟prod")), List.of(CONTAINER));
+    assertEquals(trie.browse(List.of("dataset"), "").getTotalNumEntities(), 2);
+
+    trie.setRemoved(DATASET_3, false);
+    assertEquals(names(trie.browse(List.of("dataset"), "␟prod")), List.of(CONTAINER, "other"));
+  }
+
+  @Test
+  public void testPathChangesAndDeletes() {
+    trie.setPath(DATASET_2, "␟prod␟other");
+    BrowsePathTrie.BrowseLevel prod = trie.browse(List.of("dataset"), "␟prod");
+    assertEquals(names(prod), List.of("other", CONTAINER));
+    assertEquals(prod.getGroups().get(0).getCount().longValue(), 2L);
+    // The schema group no longer has any entity
+    assertFalse(prod.getGroups().get(1).isHasSubGroups());
+
+    trie.delete(DATASET_1);
+    trie.setPath(DATASET_3, null);
+    assertEquals(names(trie.browse(List.of("dataset"), "␟prod")), List.of("other"));
+    assertEquals(trie.browse(List.of("dataset"), "").getTotalNumEntities(), 1);
+  }
+
+  @Test
+  public void testChangesDuringLoadAreAppliedAfterIt() {
+    Urn added = UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,db.four,PROD)");
+    trie.beginLoad();
+    // Status arrives before the load has read the entity's browse path
+    trie.setRemoved(DATASET_1, true);
+    trie.setPath(added, "␟prod␟new");
+    trie.completeLoad(
+        Map.of(
+            DATASET_1, new BrowsePathTrie.LoadedEntity("␟prod␟" + CONTAINER, false),
+            DATASET_3, new BrowsePathTrie.LoadedEntity("␟prod␟other", false)));
+
+    BrowsePathTrie.BrowseLevel prod = trie.browse(List.of("dataset"), "␟prod");
+    assertEquals(names(prod), List.of("new", "other"));
+
+    trie.setRemoved(DATASET_1, false);
+    assertEquals(
+        names(trie.browse(List.of("dataset"), "␟prod")), List.of("new", "other", CONTAINER));
+  }
+
+  @Test
+  public void testNotReadyUntilLoaded() {
+    BrowsePathTrie empty = new BrowsePathTrie();
+    assertFalse(empty.isReady());
+    empty.beginLoad();
+    empty.abortLoad();
+    assertFalse(empty.isReady());
+  }
+
+  private static List<String> names(BrowsePathTrie.BrowseLevel level) {
+    return level.getGroups().stream()
+        .map(BrowseResultGroupV2::getName)
+        .collect(Collectors.toList());
+  }
+}
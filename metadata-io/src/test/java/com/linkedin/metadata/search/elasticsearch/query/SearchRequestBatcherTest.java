@@ -0,0 +1,166 @@
+package com.linkedin.metadata.search.elasticsearch.query;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.metadata.config.search.MultiSearchConfiguration;
+import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SearchRequestBatcherTest {
+
+  private SearchClientShim<?> client;
+  private ExecutorService executor;
+
+  @BeforeMethod
+  public void setup() {
+    client = mock(SearchClientShim.class);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterMethod
+  public void cleanup() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void testConcurrentSearchesShareOneMultiSearch() throws Exception {
+    SearchResponse first = mock(SearchResponse.class);
+    SearchResponse second = mock(SearchResponse.class);
+    Map<String, MultiSearchResponse.Item> itemsByIndex = new HashMap<>();
+    itemsByIndex.put("first", new MultiSearchResponse.Item(first, null));
+    itemsByIndex.put("second", new MultiSearchResponse.Item(second, null));
+    answerMultiSearch(itemsByIndex);
+
+    // A full batch runs at once, the long linger only applies to a partial batch
+    SearchRequestBatcher batcher = new SearchRequestBatcher(client, config(2, 60_000), null);
+    Future<SearchResponse> firstResult =
+        executor.submit(() -> batcher.search(new SearchRequest("first")));
+    Future<SearchResponse> secondResult =
+        executor.submit(() -> batcher.search(new SearchRequest("second")));
+
+    assertSame(firstResult.get(), first);
+    assertSame(secondResult.get(), second);
+    ArgumentCaptor<MultiSearchRequest> captor = ArgumentCaptor.forClass(MultiSearchRequest.class);
+    verify(client, times(1)).msearch(captor.capture(), any(RequestOptions.class));
+    assertEquals(captor.getValue().requests().size(), 2);
+    verify(client, never()).search(any(SearchRequest.class), any(RequestOptions.class));
+  }
+
+  @Test
+  public void testFailedSearchDoesNotFailBatch() throws Exception {
+    SearchResponse good = mock(SearchResponse.class);
+    Map<String, MultiSearchResponse.Item> itemsByIndex = new HashMap<>();
+    itemsByIndex.put("good", new MultiSearchResponse.Item(good, null));
+    itemsByIndex.put(
+        "bad", new MultiSearchResponse.Item(null, new IllegalStateException("no such index")));
+    answerMultiSearch(itemsByIndex);
+
+    SearchRequestBatcher batcher = new SearchRequestBatcher(client, config(2, 60_000), null);
+    Future<SearchResponse> goodResult =
+        executor.submit(() -> batcher.search(new SearchRequest("good")));
+    Future<SearchResponse> badResult =
+        executor.submit(() -> batcher.search(new SearchRequest("bad")));
+
+    assertSame(goodResult.get(), good);
+    Exception e = expectThrows(Exception.class, badResult::get);
+    assertTrue(e.getCause() instanceof IllegalStateException);
+  }
+
+  @Test
+  public void testMultiSearchErrorFailsEverySearch() throws Exception {
+    when(client.msearch(any(MultiSearchRequest.class), any(RequestOptions.class)))
+        .thenThrow(new IOException("connection refused"));
+
+    SearchRequestBatcher batcher = new SearchRequestBatcher(client, config(2, 60_000), null);
+    Future<SearchResponse> firstResult =
+        executor.submit(() -> batcher.search(new SearchRequest("first")));
+    Future<SearchResponse> secondResult =
+        executor.submit(() -> batcher.search(new SearchRequest("second")));
+
+    assertTrue(expectThrows(Exception.class, firstResult::get).getCause() instanceof IOException);
+    assertTrue(expectThrows(Exception.class, secondResult::get).getCause() instanceof IOException);
+  }
+
+  @Test
+  public void testSingleSearchRunsOnItsOwn() throws Exception {
+    SearchResponse response = mock(SearchResponse.class);
+    SearchRequest request = new SearchRequest("only");
+    when(client.search(request, RequestOptions.DEFAULT)).thenReturn(response);
+
+    SearchRequestBatcher batcher = new SearchRequestBatcher(client, config(10, 1), null);
+
+    assertSame(batcher.search(request), response);
+    verify(client, never()).msearch(any(MultiSearchRequest.class), any(RequestOptions.class));
+  }
+
+  @Test
+  public void testScrollAndPointInTimeSearchesAreNotBatched() throws Exception {
+    SearchRequest scroll = new SearchRequest("scroll").scroll(TimeValue.timeValueMinutes(1));
+    SearchRequest pointInTime =
+        new SearchRequest()
+            .source(new SearchSourceBuilder().pointInTimeBuilder(new PointInTimeBuilder("pit")));
+
+    assertFalse(SearchRequestBatcher.isBatchable(scroll));
+    assertFalse(SearchRequestBatcher.isBatchable(pointInTime));
+    assertTrue(SearchRequestBatcher.isBatchable(new SearchRequest("plain")));
+
+    SearchResponse response = mock(SearchResponse.class);
+    when(client.search(scroll, RequestOptions.DEFAULT)).thenReturn(response);
+    SearchRequestBatcher batcher = new SearchRequestBatcher(client, config(10, 60_000), null);
+
+    // Would linger for a minute if it joined a batch
+    assertSame(batcher.search(scroll), response);
+  }
+
+  private void answerMultiSearch(Map<String, MultiSearchResponse.Item> itemsByIndex)
+      throws IOException {
+    when(client.msearch(any(MultiSearchRequest.class), any(RequestOptions.class)))
+        .thenAnswer(
+            invocation -> {
+              List<SearchRequest> requests =
+                  invocation.<MultiSearchRequest>getArgument(0).requests();
+              return new MultiSearchResponse(
+                  requests.stream()
+                      .map(request -> itemsByIndex.get(request.indices()[0]))
+                      .toArray(MultiSearchResponse.Item[]::new),
+                  1L);
+            });
+  }
+
+  private static MultiSearchConfiguration config(int maxBatchSize, long lingerMs) {
+    return MultiSearchConfiguration.builder()
+        .enabled(true)
+        .maxBatchSize(maxBatchSize)
+        .lingerMs(lingerMs)
+        .timeoutMs(10_000)
+        .build();
+  }
+}
@@ -5,6 +5,8 @@ import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.mockito.ArgumentCaptor;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import software.amazon.awssdk.core.SdkBytes;
@@ -266,4 +268,49 @@ public class AwsBedrockEmbeddingProviderTest {
     assertEquals(embedding2[0], 0.3f, 0.001);
     verify(mockBedrockClient, times(2)).invokeModel(any(InvokeModelRequest.class));
   }
+
+  @Test
+  public void testEmbedBatchSendsBatchSizeTextsPerCall() {
+    AwsBedrockEmbeddingProvider batchingProvider =
+        new AwsBedrockEmbeddingProvider(mockBedrockClient, "cohere.embed-english-v3", 2048, 2);
+    String responseJson1 =
+        "{\"embeddings\": [[0.1], [0.2]], \"id\": \"test-id-1\", \"response_type\": \"embeddings_floats\"}";
+    String responseJson2 =
+        "{\"embeddings\": [[0.3]], \"id\": \"test-id-2\", \"response_type\": \"embeddings_floats\"}";
+    when(mockBedrockClient.invokeModel(any(InvokeModelRequest.class)))
+        .thenReturn(
+            InvokeModelResponse.builder()
+                .body(SdkBytes.fromString(responseJson1, StandardCharsets.UTF_8))
+                .build())
+        .thenReturn(
+            InvokeModelResponse.builder()
+                .body(SdkBytes.fromString(responseJson2, StandardCharsets.UTF_8))
+                .build());
+
+    List<float[]> embeddings =
+        batchingProvider.embedBatch(List.of("first", "second", "third"), null);
+
+    // Embeddings come back in the order of the texts
+    assertEquals(embeddings.size(), 3);
+    assertEquals(embeddings.get(0)[0], 0.1f, 0.001);
+    assertEquals(embeddings.get(1)[0], 0.2f, 0.001);
+    assertEquals(embeddings.get(2)[0], 0.3f, 0.001);
+    ArgumentCaptor<InvokeModelRequest> requests = ArgumentCaptor.forClass(InvokeModelRequest.class);
+    verify(mockBedrockClient, times(2)).invokeModel(requests.capture());
+    String firstRequest = requests.getAllValues().get(0).body().asUtf8String();
+    assertTrue(firstRequest.contains("\"texts\":[\"first\",\"second\"]"));
+  }
+
+  @Test(expectedExceptions = RuntimeException.class)
+  public void testEmbedBatchWithMissingEmbeddings() {
+    String responseJson =
+        "{\"embeddings\": [[0.1]], \"id\": \"test-id\", \"response_type\": \"embeddings_floats\"}";
+    when(mockBedrockClient.invokeModel(any(InvokeModelRequest.class)))
+        .thenReturn(
+            InvokeModelResponse.builder()
+                .body(SdkBytes.fromString(responseJson, StandardCharsets.UTF_8))
+                .build());
+
+    provider.embedBatch(List.of("first", "second"), null);
+  }
 }
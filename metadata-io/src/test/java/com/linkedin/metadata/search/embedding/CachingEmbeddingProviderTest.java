@@ -0,0 +1,96 @@
+package com.linkedin.metadata.search.embedding;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class CachingEmbeddingProviderTest {
+
+  private EmbeddingProvider delegate;
+  private SimpleMeterRegistry meterRegistry;
+  private CachingEmbeddingProvider provider;
+  private List<List<String>> batches;
+
+  @BeforeMethod
+  public void setup() {
+    delegate = mock(EmbeddingProvider.class);
+    batches = new ArrayList<>();
+    when(delegate.embed(anyString(), any()))
+        .thenAnswer(invocation -> vector(invocation.getArgument(0)));
+    when(delegate.embedBatch(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              List<String> texts = invocation.getArgument(0);
+              batches.add(texts);
+              return texts.stream()
+                  .map(CachingEmbeddingProviderTest::vector)
+                  .collect(Collectors.toList());
+            });
+    meterRegistry = new SimpleMeterRegistry();
+    provider = new CachingEmbeddingProvider(delegate, 100, 0, meterRegistry);
+  }
+
+  @Test
+  public void testRepeatedQueriesAreEmbeddedOnce() {
+    assertEquals(provider.embed("sales  orders ", null), vector("sales orders"));
+    assertEquals(provider.embed(" sales orders", null), vector("sales orders"));
+    verify(delegate, times(1)).embed("sales orders", null);
+
+    // Another model has its own embeddings
+    provider.embed("sales orders", "cohere.embed-multilingual-v3");
+    verify(delegate, times(1)).embed("sales orders", "cohere.embed-multilingual-v3");
+
+    assertEquals(
+        meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count(), 1.0);
+    assertEquals(
+        meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count(), 2.0);
+    assertEquals(
+        meterRegistry
+            .get(CachingEmbeddingProvider.LATENCY_METRIC)
+            .tag("operation", "embed")
+            .timer()
+            .count(),
+        2);
+  }
+
+  @Test
+  public void testCachedEmbeddingsCannotBeChangedByCallers() {
+    provider.embed("orders", null)[0] = 42;
+    assertEquals(provider.embed("orders", null), vector("orders"));
+  }
+
+  @Test
+  public void testBatchEmbedsOnlyMissingTextsInOneCall() {
+    provider.embed("orders", null);
+
+    List<float[]> embeddings =
+        provider.embedBatch(List.of("payments", "orders", "customers"), null);
+
+    assertEquals(embeddings.size(), 3);
+    assertEquals(embeddings.get(0), vector("payments"));
+    assertEquals(embeddings.get(1), vector("orders"));
+    assertEquals(embeddings.get(2), vector("customers"));
+    assertEquals(batches.size(), 1);
+    assertEquals(Set.copyOf(batches.get(0)), Set.of("payments", "customers"));
+
+    // All of them are cached now
+    provider.embedBatch(List.of("customers", "payments"), null);
+    assertEquals(batches.size(), 1);
+  }
+
+  private static float[] vector(String text) {
+    return new float[] {text.length(), text.hashCode()};
+  }
+}
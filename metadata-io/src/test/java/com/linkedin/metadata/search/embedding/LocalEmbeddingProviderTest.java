@@ -0,0 +1,61 @@
+package com.linkedin.metadata.search.embedding;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.testng.annotations.Test;
+
+public class LocalEmbeddingProviderTest {
+
+  private final LocalEmbeddingProvider provider = new LocalEmbeddingProvider(64);
+
+  @Test
+  public void testEmbeddingsAreDeterministicUnitVectors() {
+    float[] embedding = provider.embed("Sales orders by region", null);
+
+    assertEquals(embedding.length, 64);
+    assertEquals(embedding, new LocalEmbeddingProvider(64).embed("sales ORDERS, by region", null));
+    assertEquals(norm(embedding), 1, 1e-5);
+    // Texts without words still get a unit vector
+    assertEquals(norm(provider.embed("  --  ", null)), 1, 1e-5);
+  }
+
+  @Test
+  public void testTextsSharingWordsAreCloser() {
+    // Dot products of unit vectors are their cosine similarities
+    float[] orders = provider.embed("sales orders", null);
+
+    assertTrue(
+        dot(orders, provider.embed("orders by region", null))
+            > dot(orders, provider.embed("dashboard usage", null)));
+  }
+
+  @Test
+  public void testBatchMatchesSingleEmbeddings() {
+    List<float[]> embeddings = provider.embedBatch(List.of("orders", "payments"), null);
+
+    assertEquals(embeddings.get(0), provider.embed("orders", null));
+    assertEquals(embeddings.get(1), provider.embed("payments", null));
+    assertFalse(Arrays.equals(embeddings.get(0), embeddings.get(1)));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testDimensionsMustBePositive() {
+    new LocalEmbeddingProvider(0);
+  }
+
+  private static double norm(float[] vector) {
+    return Math.sqrt(dot(vector, vector));
+  }
+
+  private static double dot(float[] left, float[] right) {
+    double dot = 0;
+    for (int i = 0; i < left.length; i++) {
+      dot += left[i] * right[i];
+    }
+    return dot;
+  }
+}
@@ -0,0 +1,155 @@
+package com.linkedin.metadata.search.indexbuilder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.metadata.config.search.BuildIndicesConfiguration;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ESIndexBuilder;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexConfig;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexOrchestrator;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexProgress;
+import com.linkedin.metadata.search.elasticsearch.indexbuilder.ReindexResult;
+import com.linkedin.util.Pair;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+public class ReindexOrchestratorTest {
+
+  @Test
+  public void testLargestIndicesAreBuiltFirst() throws Exception {
+    ESIndexBuilder builder = mock(ESIndexBuilder.class);
+    ReindexConfig small = index(builder, "small", 10, true);
+    ReindexConfig large = index(builder, "large", 1000, true);
+    ReindexConfig unchanged = index(builder, "unchanged", 100000, false);
+    List<String> built = Collections.synchronizedList(new ArrayList<>());
+    when(builder.buildIndex(any()))
+        .thenAnswer(
+            invocation -> {
+              built.add(invocation.<ReindexConfig>getArgument(0).name());
+              return ReindexResult.REINDEXING;
+            });
+
+    orchestrator(1)
+        .buildIndices(
+            List.of(Pair.of(builder, small), Pair.of(builder, unchanged), Pair.of(builder, large)));
+
+    // Indices that are not reindexed take no time, whatever their size
+    assertEquals(built, List.of("large", "small", "unchanged"));
+    verify(builder, never()).getCount("unchanged");
+    verify(builder).setReindexRequestsPerSecond(Float.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void testRunsUpToMaxConcurrentReindexes() throws Exception {
+    ESIndexBuilder builder = mock(ESIndexBuilder.class);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    // Each reindex waits for another one to run beside it
+    CyclicBarrier pairs = new CyclicBarrier(2);
+    when(builder.buildIndex(any()))
+        .thenAnswer(
+            invocation -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              pairs.await(10, TimeUnit.SECONDS);
+              running.decrementAndGet();
+              return ReindexResult.REINDEXING;
+            });
+
+    List<Pair<ESIndexBuilder, ReindexConfig>> indices = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      indices.add(Pair.of(builder, index(builder, "index_" + i, i, true)));
+    }
+    orchestrator(2).buildIndices(indices);
+
+    assertEquals(maxRunning.get(), 2);
+    verify(builder, times(4)).buildIndex(any());
+  }
+
+  @Test
+  public void testFailureSkipsIndicesNotStarted() throws Exception {
+    ESIndexBuilder builder = mock(ESIndexBuilder.class);
+    ReindexConfig large = index(builder, "large", 1000, true);
+    ReindexConfig small = index(builder, "small", 10, true);
+    when(builder.buildIndex(large)).thenThrow(new RuntimeException("reindex failed"));
+
+    assertThrows(
+        RuntimeException.class,
+        () ->
+            orchestrator(1)
+                .buildIndices(List.of(Pair.of(builder, small), Pair.of(builder, large))));
+    verify(builder, never()).buildIndex(small);
+  }
+
+  @Test
+  public void testNextRequestsPerSecond() {
+    // Overloaded, halve what the tasks manage
+    assertEquals(
+        ReindexOrchestrator.nextRequestsPerSecond(Float.POSITIVE_INFINITY, 2000, true, 500), 1000f);
+    assertEquals(ReindexOrchestrator.nextRequestsPerSecond(1000, 3000, true, 100), 500f);
+    assertEquals(
+        ReindexOrchestrator.nextRequestsPerSecond(Float.POSITIVE_INFINITY, 600, true, 500), 500f);
+
+    // Recovered, speed back up until the throttle no longer limits the tasks
+    assertEquals(
+        ReindexOrchestrator.nextRequestsPerSecond(Float.POSITIVE_INFINITY, 2000, false, 500),
+        Float.POSITIVE_INFINITY);
+    assertEquals(ReindexOrchestrator.nextRequestsPerSecond(1000, 1000, false, 500), 2000f);
+    assertEquals(
+        ReindexOrchestrator.nextRequestsPerSecond(1000, 400, false, 500), Float.POSITIVE_INFINITY);
+  }
+
+  @Test
+  public void testOverloadedFirstCheckWaitsForRate() throws Exception {
+    ESIndexBuilder builder = mock(ESIndexBuilder.class);
+    when(builder.getReindexesInProgress())
+        .thenReturn(List.of(new ReindexProgress("index", "index_tmp", "task", 1000, 100, 10)))
+        .thenReturn(List.of(new ReindexProgress("index", "index_tmp", "task", 1000, 300, 5)));
+    when(builder.getPendingTasks()).thenReturn(100L);
+    ReindexOrchestrator orchestrator =
+        new ReindexOrchestrator(
+            BuildIndicesConfiguration.builder()
+                .reindexMaxPendingTasks(10)
+                .reindexMinRequestsPerSecond(1)
+                .build());
+
+    // No rate observed yet, so the task is not dropped to the minimum
+    orchestrator.checkReindexes(Set.of(builder));
+    verify(builder, never()).rethrottleReindex(any(), anyFloat());
+
+    orchestrator.checkReindexes(Set.of(builder));
+    ArgumentCaptor<Float> throttle = ArgumentCaptor.forClass(Float.class);
+    verify(builder).rethrottleReindex(eq("task"), throttle.capture());
+    assertTrue(throttle.getValue() > 1 && Float.isFinite(throttle.getValue()));
+  }
+
+  private static ReindexOrchestrator orchestrator(int maxConcurrentReindexes) {
+    return new ReindexOrchestrator(
+        BuildIndicesConfiguration.builder().maxConcurrentReindexes(maxConcurrentReindexes).build());
+  }
+
+  private static ReindexConfig index(
+      ESIndexBuilder builder, String name, long docs, boolean requiresReindex) throws Exception {
+    ReindexConfig config = mock(ReindexConfig.class);
+    when(config.name()).thenReturn(name);
+    when(config.exists()).thenReturn(true);
+    when(config.requiresReindex()).thenReturn(requiresReindex);
+    when(builder.getCount(name)).thenReturn(docs);
+    return config;
+  }
+}
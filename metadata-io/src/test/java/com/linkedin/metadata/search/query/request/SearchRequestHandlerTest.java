@@ -29,6 +29,7 @@ import com.linkedin.metadata.aspect.GraphRetriever;
 import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
 import com.linkedin.metadata.config.search.ExactMatchConfiguration;
 import com.linkedin.metadata.config.search.PartialConfiguration;
+import com.linkedin.metadata.config.search.SearchCardFieldsConfiguration;
 import com.linkedin.metadata.config.search.SearchServiceConfiguration;
 import com.linkedin.metadata.config.search.WordGramConfiguration;
 import com.linkedin.metadata.config.shared.LimitConfig;
@@ -1435,6 +1436,82 @@ public class SearchRequestHandlerTest extends AbstractTestNGSpringContextTests {
     assertFalse(result.hasScrollId()); // No scroll ID since no results
   }
 
+  @Test
+  public void testCardFieldsFromSource() {
+    SearchRequestHandler handler =
+        SearchRequestHandler.getBuilder(
+            operationContext,
+            operationContext.getEntityRegistry().getEntitySpec(DATASET_ENTITY_NAME),
+            testQueryConfig,
+            null,
+            QueryFilterRewriteChain.EMPTY,
+            TEST_SEARCH_SERVICE_CONFIG.toBuilder()
+                .cardFields(
+                    new SearchCardFieldsConfiguration(
+                        List.of("name", "description", "owners", "notIndexed"), 5))
+                .build());
+    OperationContext cardContext =
+        operationContext.withSearchFlags(flags -> flags.setIncludeCardFields(true));
+
+    // Only fields datasets index are fetched, and only when asked for
+    assertEquals(
+        handler
+            .getSearchRequest(cardContext, "orders", null, null, 0, 10, List.of())
+            .source()
+            .fetchSource()
+            .includes(),
+        new String[] {"urn", "name", "description", "owners"});
+    assertEquals(
+        handler
+            .getSearchRequest(operationContext, "orders", null, null, 0, 10, List.of())
+            .source()
+            .fetchSource()
+            .includes(),
+        new String[] {"urn"});
+
+    SearchHit hit = mock(SearchHit.class);
+    when(hit.getSourceAsMap())
+        .thenReturn(
+            ImmutableMap.of(
+                "urn",
+                "urn:li:dataset:(urn:li:dataPlatform:hive,orders,PROD)",
+                "name",
+                "orders",
+                "description",
+                "All the orders",
+                "owners",
+                List.of("urn:li:corpuser:datahub")));
+    when(hit.getHighlightFields()).thenReturn(ImmutableMap.of());
+    when(hit.getMatchedQueries()).thenReturn(new String[0]);
+    SearchResponse response = mock(SearchResponse.class);
+    SearchHits hits = mock(SearchHits.class);
+    when(response.getHits()).thenReturn(hits);
+    when(hits.getTotalHits()).thenReturn(new TotalHits(1L, TotalHits.Relation.EQUAL_TO));
+    when(hits.getHits()).thenReturn(new SearchHit[] {hit});
+
+    Map<String, String> extraFields =
+        handler
+            .extractResult(cardContext, response, null, 0, 10)
+            .getEntities()
+            .get(0)
+            .getExtraFields();
+    assertEquals(
+        extraFields,
+        Map.of(
+            "name",
+            "\"orders\"",
+            "description",
+            "\"All t\"",
+            "owners",
+            "[\"urn:li:corpuser:datahub\"]"));
+    assertNull(
+        handler
+            .extractResult(operationContext, response, null, 0, 10)
+            .getEntities()
+            .get(0)
+            .getExtraFields());
+  }
+
   // Helper method to create scroll results with specific sizes
   private ScrollResult verifyScrollResultSize(
       SearchRequestHandler handler,
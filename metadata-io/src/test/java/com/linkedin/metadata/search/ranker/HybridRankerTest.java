@@ -0,0 +1,156 @@
+package com.linkedin.metadata.search.ranker;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration;
+import com.linkedin.metadata.config.search.HybridSearchConfiguration.Fusion;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.features.Features;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.testng.annotations.Test;
+
+public class HybridRankerTest {
+
+  private static final HybridRanker RRF =
+      new HybridRanker(HybridSearchConfiguration.builder().fusion(Fusion.RRF).build());
+
+  @Test
+  public void testReciprocalRankFusion() {
+    HybridRanker.FusedResults fused =
+        RRF.fuse(results("a", "b", "c"), results("c", "a", "d"), 3, true, true);
+
+    // a: 1/61 + 1/62, c: 1/63 + 1/61, b: 1/62, d: 1/63
+    assertEquals(urns(fused.getEntities()), List.of("a", "c", "b", "d"));
+    assertEquals(fused.getEntities().get(0).getScore(), 1.0 / 61 + 1.0 / 62, 1e-9);
+    Map<String, Double> features = fused.getEntities().get(1).getFeatures();
+    assertEquals(features.get(Features.Name.KEYWORD_RANK.toString()), 3.0);
+    assertEquals(features.get(Features.Name.SEMANTIC_RANK.toString()), 1.0);
+    assertEquals(
+        features.get(Features.Name.SEARCH_BACKEND_SCORE.toString()),
+        fused.getEntities().get(1).getScore());
+    assertFalse(
+        fused
+            .getEntities()
+            .get(2)
+            .getFeatures()
+            .containsKey(Features.Name.SEMANTIC_RANK.toString()));
+    assertTrue(fused.isTopKStable());
+  }
+
+  @Test
+  public void testWeightedFusion() {
+    HybridRanker ranker =
+        new HybridRanker(
+            HybridSearchConfiguration.builder()
+                .fusion(Fusion.WEIGHTED)
+                .weights(Map.of("KEYWORD_SCORE", 0.2, "SEMANTIC_SCORE", 0.8))
+                .build());
+    List<SearchEntity> keyword = results("a", "b");
+    keyword.get(0).setScore(20.0);
+    keyword.get(1).setScore(10.0);
+    List<SearchEntity> semantic = results("b", "a");
+    semantic.get(0).setScore(0.9);
+    semantic.get(1).setScore(0.45);
+
+    HybridRanker.FusedResults fused = ranker.fuse(keyword, semantic, 2, true, true);
+
+    // a: 0.2 * 1 + 0.8 * 0.5, b: 0.2 * 0.5 + 0.8 * 1
+    assertEquals(urns(fused.getEntities()), List.of("b", "a"));
+    assertEquals(fused.getEntities().get(0).getScore(), 0.9, 1e-9);
+    assertEquals(fused.getEntities().get(1).getScore(), 0.6, 1e-9);
+  }
+
+  @Test
+  public void testRejectsWeightsWithoutBounds() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new HybridRanker(
+                HybridSearchConfiguration.builder()
+                    .fusion(Fusion.WEIGHTED)
+                    .weights(Map.of("NUM_ENTITIES_PER_TYPE", 1.0))
+                    .build()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new HybridRanker(
+                HybridSearchConfiguration.builder()
+                    .fusion(Fusion.WEIGHTED)
+                    .weights(Map.of("KEYWORD_SCORE", -1.0))
+                    .build()));
+  }
+
+  @Test
+  public void testTopKStableWhenListsAgree() {
+    // Both lists rank a then b, anything further down gets at most 1/63 + 1/63 < score of b
+    HybridRanker.FusedResults fused =
+        RRF.fuse(results("a", "b"), results("a", "b"), 2, false, false);
+
+    assertEquals(urns(fused.getEntities()), List.of("a", "b"));
+    assertTrue(fused.isTopKStable());
+  }
+
+  @Test
+  public void testTopKUnstableWhenListsDisagree() {
+    // a result in neither list yet could still reach 1/63 + 1/63, more than a or b
+    HybridRanker.FusedResults fused =
+        RRF.fuse(results("a", "x"), results("b", "y"), 1, false, false);
+    assertFalse(fused.isTopKStable());
+
+    // With no more keyword results, b cannot gain any more, and a also matched semantically
+    fused = RRF.fuse(results("a", "x"), results("b", "y", "a"), 1, true, false);
+    assertEquals(urns(fused.getEntities()).get(0), "a");
+    assertTrue(fused.isTopKStable());
+  }
+
+  @Test
+  public void testTopKUnstableWithFewerResultsThanK() {
+    assertFalse(RRF.fuse(results("a"), results("a"), 2, false, true).isTopKStable());
+    assertTrue(RRF.fuse(results("a"), results("a"), 2, true, true).isTopKStable());
+  }
+
+  @Test
+  public void testDeepeningReachesFullFusion() {
+    // Fusing growing prefixes of the lists stops at a depth whose top k matches the full lists
+    List<SearchEntity> keyword = results("a", "b", "c", "d", "e", "f", "g", "h");
+    List<SearchEntity> semantic = results("c", "a", "h", "b", "i", "j", "k", "l");
+    List<String> expected =
+        urns(RRF.fuse(keyword, semantic, 3, true, true).getEntities()).subList(0, 3);
+
+    for (int depth = 3; ; depth++) {
+      HybridRanker.FusedResults fused =
+          RRF.fuse(
+              keyword.subList(0, depth), semantic.subList(0, depth), 3, depth == 8, depth == 8);
+      if (fused.isTopKStable()) {
+        assertEquals(urns(fused.getEntities()).subList(0, 3), expected);
+        return;
+      }
+    }
+  }
+
+  private static List<SearchEntity> results(String... names) {
+    List<SearchEntity> results = new ArrayList<>();
+    for (int i = 0; i < names.length; i++) {
+      results.add(new SearchEntity().setEntity(urn(names[i])).setScore(1.0 - i * 0.1));
+    }
+    return results;
+  }
+
+  private static Urn urn(String name) {
+    return UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:test," + name + ",PROD)");
+  }
+
+  private static List<String> urns(List<SearchEntity> entities) {
+    return entities.stream()
+        .map(entity -> entity.getEntity().getEntityKey().get(1))
+        .collect(Collectors.toList());
+  }
+}
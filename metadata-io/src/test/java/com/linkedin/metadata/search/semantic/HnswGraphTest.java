@@ -0,0 +1,141 @@
+package com.linkedin.metadata.search.semantic;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class HnswGraphTest {
+
+  private static final int DIMENSIONS = 32;
+  private static final int VECTORS = 3000;
+
+  private HnswGraph graph;
+  private Random random;
+
+  @BeforeClass
+  public void setup() {
+    random = new Random(7);
+    graph = new HnswGraph(DIMENSIONS, 16, 128, 42);
+    for (int i = 0; i < VECTORS; i++) {
+      assertEquals(graph.add(randomVector()), i);
+    }
+  }
+
+  @Test
+  public void testRecallAgainstExactSearch() {
+    int found = 0;
+    int queries = 50;
+    for (int i = 0; i < queries; i++) {
+      float[] query = randomVector();
+      Set<Integer> exact = new HashSet<>(exactSearch(query, 10, node -> true));
+      for (HnswGraph.ScoredNode scored : graph.search(query, 10, 100, null)) {
+        if (exact.contains(scored.getNode())) {
+          found++;
+        }
+      }
+    }
+    double recall = (double) found / (queries * 10);
+    assertTrue(recall >= 0.9, "recall@10 was " + recall);
+  }
+
+  @Test
+  public void testResultsAreMostSimilarFirst() {
+    List<HnswGraph.ScoredNode> results = graph.search(randomVector(), 10, 50, null);
+
+    assertEquals(results.size(), 10);
+    for (int i = 1; i < results.size(); i++) {
+      assertTrue(results.get(i - 1).getScore() >= results.get(i).getScore());
+    }
+    // A stored vector is its own nearest neighbour, at cosine 1
+    List<HnswGraph.ScoredNode> self = graph.search(vectorOf(graph, 5), 1, 50, null);
+    assertEquals(self.get(0).getNode(), 5);
+    assertEquals(self.get(0).getScore(), 1f, 0.0001f);
+  }
+
+  @Test
+  public void testFilterIsHonoured() {
+    IntPredicate even = node -> node % 2 == 0;
+    float[] query = randomVector();
+
+    List<HnswGraph.ScoredNode> results = graph.search(query, 10, 100, even);
+
+    assertEquals(results.size(), 10);
+    assertTrue(results.stream().allMatch(scored -> even.test(scored.getNode())));
+    Set<Integer> exact = new HashSet<>(exactSearch(query, 10, even));
+    assertTrue(results.stream().filter(scored -> exact.contains(scored.getNode())).count() >= 8);
+  }
+
+  @Test
+  public void testDeletedNodesAreNotReturned() {
+    HnswGraph small = new HnswGraph(DIMENSIONS, 8, 64, 1);
+    for (int i = 0; i < 200; i++) {
+      small.add(randomVector());
+    }
+    float[] query = vectorOf(small, 10);
+
+    small.delete(10);
+    small.delete(10);
+
+    assertTrue(small.isDeleted(10));
+    assertEquals(small.size(), 200);
+    assertEquals(small.liveSize(), 199);
+    List<HnswGraph.ScoredNode> results = small.search(query, 5, 50, null);
+    assertEquals(results.size(), 5);
+    assertFalse(results.stream().anyMatch(scored -> scored.getNode() == 10));
+  }
+
+  @Test
+  public void testDimensionsAreChecked() {
+    assertThrows(IllegalArgumentException.class, () -> graph.add(new float[DIMENSIONS + 1]));
+    assertThrows(IllegalArgumentException.class, () -> graph.search(new float[2], 10, 50, null));
+  }
+
+  @Test
+  public void testEmptyGraph() {
+    HnswGraph empty = new HnswGraph(DIMENSIONS, 16, 128, 42);
+
+    assertEquals(empty.search(randomVector(), 10, 50, null), List.of());
+    assertEquals(empty.offHeapBytes(), 0);
+  }
+
+  private List<Integer> exactSearch(float[] query, int k, IntPredicate accept) {
+    float[] unit = graph.toUnit(query);
+    return IntStream.range(0, graph.size())
+        .filter(accept)
+        .boxed()
+        .sorted(Comparator.comparing((Integer node) -> graph.similarity(node, unit)).reversed())
+        .limit(k)
+        .collect(Collectors.toList());
+  }
+
+  private static float[] vectorOf(HnswGraph graph, int node) {
+    // Recovered through similarity with the unit axes
+    float[] vector = new float[graph.getDimensions()];
+    for (int i = 0; i < vector.length; i++) {
+      float[] axis = new float[graph.getDimensions()];
+      axis[i] = 1;
+      vector[i] = graph.similarity(node, axis);
+    }
+    return vector;
+  }
+
+  private float[] randomVector() {
+    float[] vector = new float[DIMENSIONS];
+    for (int i = 0; i < DIMENSIONS; i++) {
+      vector[i] = (float) random.nextGaussian();
+    }
+    return vector;
+  }
+}
@@ -0,0 +1,141 @@
+package com.linkedin.metadata.search.semantic;
+
+import static org.testng.Assert.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.search.SearchEntity;
+import com.linkedin.metadata.search.SearchResult;
+import com.linkedin.metadata.search.elasticsearch.client.shim.SearchClientShimUtil;
+import com.linkedin.metadata.search.elasticsearch.index.NoOpMappingsBuilder;
+import com.linkedin.metadata.search.embedding.EmbeddingProvider;
+import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
+import com.linkedin.metadata.utils.elasticsearch.responses.RawResponse;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.Request;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Compares semantic search answered by the in memory ANN index with the nested kNN query on the
+ * semantic dataset index: recall@10 of the ANN results against the kNN ones, and p50/p95 latency of
+ * each. Query embeddings are random, so no embedding service is needed.
+ */
+@Slf4j
+@Test(enabled = false) // Disabled: Requires OpenSearch with semantic indices
+public class SemanticAnnIndexBenchmarkIT {
+
+  private static final int DIMENSIONS = 1024;
+  private static final int QUERIES = 200;
+  private static final int K = 10;
+
+  private SearchClientShim<?> client;
+
+  @BeforeClass
+  public void setUp() throws IOException {
+    SearchClientShimUtil.ShimConfigurationBuilder configBuilder =
+        new SearchClientShimUtil.ShimConfigurationBuilder()
+            .withHost("localhost")
+            .withPort(9200)
+            .withSSL(false);
+    client =
+        SearchClientShimUtil.createShimWithAutoDetection(configBuilder.build(), new ObjectMapper());
+
+    RawResponse headIndex =
+        client.performLowLevelRequest(new Request("HEAD", "/datasetindex_v2_semantic"));
+    if (headIndex.getStatusLine().getStatusCode() == 404) {
+      throw new SkipException("Index datasetindex_v2_semantic not found; skipping benchmark");
+    }
+  }
+
+  @AfterClass(alwaysRun = true)
+  public void tearDown() throws IOException {
+    if (client != null) {
+      client.close();
+    }
+  }
+
+  public void testAnnIndexAgainstKnnQuery() throws IOException {
+    OperationContext opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    Random random = new Random(42);
+    List<float[]> queries = new ArrayList<>();
+    for (int i = 0; i < QUERIES; i++) {
+      float[] query = new float[DIMENSIONS];
+      for (int d = 0; d < DIMENSIONS; d++) {
+        query[d] = (float) random.nextGaussian();
+      }
+      queries.add(query);
+    }
+    // The query text is the index of its embedding
+    EmbeddingProvider embeddingProvider = (text, model) -> queries.get(Integer.parseInt(text));
+
+    SemanticEntitySearchService knn =
+        new SemanticEntitySearchService(client, embeddingProvider, new NoOpMappingsBuilder());
+    SemanticEntitySearchService ann =
+        new SemanticEntitySearchService(client, embeddingProvider, new NoOpMappingsBuilder());
+    SemanticAnnIndex annIndex =
+        new SemanticAnnIndex(
+            Set.of("dataset"), Set.of("platform", "removed"), 1_000_000, 16, 128, 100, 2000, null);
+    ann.setAnnIndex(annIndex);
+    long loadStart = System.nanoTime();
+    ann.loadAnnIndex(opContext);
+    log.info("Loaded the semantic ANN index in {} ms", (System.nanoTime() - loadStart) / 1_000_000);
+    assertTrue(annIndex.isReady(), "The semantic ANN index did not load");
+
+    List<Long> knnNanos = new ArrayList<>();
+    List<Long> annNanos = new ArrayList<>();
+    int found = 0;
+    int expected = 0;
+    for (int i = 0; i < QUERIES; i++) {
+      long start = System.nanoTime();
+      Set<Urn> exact = urns(knn.search(opContext, List.of("dataset"), "" + i, null, null, 0, K));
+      knnNanos.add(System.nanoTime() - start);
+
+      start = System.nanoTime();
+      Set<Urn> approximate =
+          urns(ann.search(opContext, List.of("dataset"), "" + i, null, null, 0, K));
+      annNanos.add(System.nanoTime() - start);
+
+      expected += exact.size();
+      found += (int) approximate.stream().filter(exact::contains).count();
+    }
+
+    double recall = expected == 0 ? 1 : (double) found / expected;
+    log.info(
+        "Semantic search over {} queries: recall@{} {}, kNN query p50 {} ms p95 {} ms, ANN index"
+            + " p50 {} ms p95 {} ms",
+        QUERIES,
+        K,
+        String.format("%.3f", recall),
+        percentileMillis(knnNanos, 0.5),
+        percentileMillis(knnNanos, 0.95),
+        percentileMillis(annNanos, 0.5),
+        percentileMillis(annNanos, 0.95));
+    assertTrue(recall >= 0.9, "recall@" + K + " was " + recall);
+  }
+
+  private static Set<Urn> urns(SearchResult result) {
+    return result.getEntities().stream()
+        .map(SearchEntity::getEntity)
+        .collect(Collectors.toCollection(HashSet::new));
+  }
+
+  private static String percentileMillis(List<Long> nanos, double percentile) {
+    List<Long> sorted = new ArrayList<>(nanos);
+    Collections.sort(sorted);
+    long value = sorted.get(Math.min(sorted.size() - 1, (int) (percentile * sorted.size())));
+    return String.format("%.2f", value / 1_000_000.0);
+  }
+}
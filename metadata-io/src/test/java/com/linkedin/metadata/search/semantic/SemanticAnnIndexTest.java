@@ -0,0 +1,244 @@
+package com.linkedin.metadata.search.semantic;
+
+import static com.linkedin.metadata.search.utils.QueryUtils.newConjunctiveFilter;
+import static com.linkedin.metadata.search.utils.QueryUtils.newDisjunctiveFilter;
+import static com.linkedin.metadata.utils.CriterionUtils.buildCriterion;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.query.filter.Condition;
+import com.linkedin.metadata.query.filter.Filter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+public class SemanticAnnIndexTest {
+
+  private static final Urn ORDERS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,sales.orders,PROD)");
+  private static final Urn PAYMENTS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:snowflake,sales.payments,PROD)");
+  private static final Urn REVENUE = UrnUtils.getUrn("urn:li:chart:(looker,revenue)");
+  private static final Urn CUSTOMERS =
+      UrnUtils.getUrn("urn:li:dataset:(urn:li:dataPlatform:hive,crm.customers,PROD)");
+
+  private static final float[] X = {1, 0, 0, 0};
+  private static final float[] Y = {0, 1, 0, 0};
+  private static final float[] Z = {0, 0, 1, 0};
+  private static final float[] W = {0, 0, 0, 1};
+
+  private static final Set<String> FILTER_FIELDS = Set.of("platform", "removed", "isLatest");
+
+  private SemanticAnnIndex index;
+
+  @BeforeMethod
+  public void setup() {
+    // Graph searches only, so that filters are applied while traversing it
+    index = index(0);
+    load(
+        index,
+        List.of(
+            entity(ORDERS, List.of(X, Y), Map.of("platform", List.of("urn:li:dataPlatform:hive"))),
+            entity(
+                PAYMENTS,
+                List.of(new float[] {0.9f, 0.1f, 0, 0}),
+                Map.of(
+                    "platform",
+                    List.of("urn:li:dataPlatform:snowflake"),
+                    "removed",
+                    List.of("true"))),
+            entity(REVENUE, List.of(Z), Map.of())));
+  }
+
+  @Test
+  public void testNotReadyUntilLoaded() {
+    SemanticAnnIndex notLoaded = index(0);
+    notLoaded.setVectors(ORDERS, List.of(X));
+
+    assertFalse(notLoaded.isReady());
+    assertNull(notLoaded.search(List.of("dataset"), X, null, false, 10));
+    assertTrue(index.isReady());
+  }
+
+  @Test
+  public void testEntitiesScoreAsTheirBestChunk() {
+    List<SemanticAnnIndex.Match> matches = index.search(List.of("dataset"), Y, null, false, 10);
+
+    // Each entity once, scored like cosinesimil: (1 + cosine) / 2
+    assertEquals(urns(matches), List.of(ORDERS, PAYMENTS));
+    assertEquals(matches.get(0).getScore(), 1f, 0.0001f);
+    assertEquals(matches.get(1).getScore(), (1 + 0.1f / (float) Math.hypot(0.9, 0.1)) / 2, 0.0001f);
+    assertEquals(matches.get(0).getSource(), Map.of("urn", ORDERS.toString()));
+
+    float[] nearPayments = {0.9f, 0.1f, 0, 0};
+    assertEquals(
+        urns(index.search(List.of("dataset"), nearPayments, null, false, 1)), List.of(PAYMENTS));
+    assertEquals(
+        urns(index.search(List.of("dataset", "chart"), Z, null, false, 1)), List.of(REVENUE));
+  }
+
+  @Test
+  public void testFiltersHeldFieldsInMemory() {
+    Filter hive =
+        newConjunctiveFilter(
+            buildCriterion("platform.keyword", Condition.EQUAL, "urn:li:dataPlatform:hive"));
+    assertEquals(urns(index.search(List.of("dataset"), X, hive, false, 10)), List.of(ORDERS));
+
+    Filter notRemoved =
+        newConjunctiveFilter(buildCriterion("removed", Condition.EQUAL, true, "true"));
+    assertEquals(
+        urns(index.search(List.of("dataset"), X, notRemoved, false, 10)), List.of(ORDERS));
+
+    Filter charts =
+        newDisjunctiveFilter(
+            buildCriterion("_entityType", Condition.EQUAL, "CHART"),
+            buildCriterion("urn", Condition.IN, PAYMENTS.toString()));
+    assertEquals(
+        urns(index.search(List.of("dataset", "chart"), X, charts, false, 10)),
+        List.of(PAYMENTS, REVENUE));
+
+    Filter noPlatform = newConjunctiveFilter(buildCriterion("platform", Condition.IS_NULL));
+    assertEquals(
+        urns(index.search(List.of("dataset", "chart"), X, noPlatform, false, 10)),
+        List.of(REVENUE));
+  }
+
+  @Test
+  public void testMissesWhenItCannotAnswer() {
+    // Fields that are not held, conditions that are not evaluated and types that are not loaded
+    assertNull(
+        index.search(
+            List.of("dataset"),
+            X,
+            newConjunctiveFilter(buildCriterion("owners", Condition.EQUAL, "urn:li:corpuser:a")),
+            false,
+            10));
+    assertNull(
+        index.search(
+            List.of("dataset"),
+            X,
+            newConjunctiveFilter(buildCriterion("platform", Condition.CONTAIN, "hive")),
+            false,
+            10));
+    assertNull(index.search(List.of("dashboard"), X, null, false, 10));
+
+    SemanticAnnIndex unversioned =
+        new SemanticAnnIndex(Set.of("dataset"), Set.of("platform"), 100, 8, 32, 32, 0, null);
+    load(unversioned, List.of());
+    assertNull(unversioned.search(List.of("dataset"), X, null, true, 10));
+    assertEquals(unversioned.search(List.of("dataset"), X, null, false, 10), List.of());
+  }
+
+  @Test
+  public void testFiltersNonLatestVersions() {
+    index.updateFields(ORDERS, Map.of("isLatest", List.of("false")));
+    index.updateFields(PAYMENTS, Map.of("isLatest", List.of("true")));
+
+    // Latest versions, and entities that are not versioned
+    assertEquals(
+        urns(index.search(List.of("dataset", "chart"), X, null, true, 10)),
+        List.of(PAYMENTS, REVENUE));
+  }
+
+  @Test
+  public void testExactSearchOfSelectiveFilters() {
+    SemanticAnnIndex exact = index(1);
+    load(
+        exact,
+        List.of(
+            entity(ORDERS, List.of(X), Map.of("platform", List.of("urn:li:dataPlatform:hive"))),
+            entity(PAYMENTS, List.of(Y), Map.of()),
+            entity(CUSTOMERS, List.of(Z), Map.of())));
+
+    Filter hive =
+        newConjunctiveFilter(
+            buildCriterion("platform", Condition.EQUAL, "urn:li:dataPlatform:hive"));
+    List<SemanticAnnIndex.Match> matches = exact.search(List.of("dataset"), W, hive, false, 10);
+
+    assertEquals(urns(matches), List.of(ORDERS));
+    assertEquals(matches.get(0).getScore(), 0.5f, 0.0001f);
+  }
+
+  @Test
+  public void testUpdatesAndDeletes() {
+    index.setVectors(CUSTOMERS, List.of(W));
+    index.updateFields(CUSTOMERS, Map.of("platform", List.of("urn:li:dataPlatform:hive")));
+    index.updateFields(ORDERS, Map.of("platform", List.of()));
+
+    assertEquals(urns(index.search(List.of("dataset"), W, null, false, 1)), List.of(CUSTOMERS));
+    Filter hive =
+        newConjunctiveFilter(
+            buildCriterion("platform", Condition.EQUAL, "urn:li:dataPlatform:hive"));
+    assertEquals(urns(index.search(List.of("dataset"), X, hive, false, 10)), List.of(CUSTOMERS));
+
+    // New vectors replace the old ones, filter fields are kept
+    index.setVectors(CUSTOMERS, List.of(Z));
+    assertEquals(urns(index.search(List.of("dataset"), W, hive, false, 10)), List.of(CUSTOMERS));
+    assertEquals(
+        index.search(List.of("dataset"), Z, hive, false, 10).get(0).getScore(), 1f, 0.0001f);
+
+    index.delete(CUSTOMERS);
+    index.setVectors(ORDERS, List.of());
+    assertEquals(urns(index.search(List.of("dataset"), W, null, false, 10)), List.of(PAYMENTS));
+  }
+
+  @Test
+  public void testChangesDuringLoadAreAppliedAgain() {
+    index.beginLoad();
+    index.setVectors(CUSTOMERS, List.of(W));
+    index.delete(PAYMENTS);
+    // Reloaded from a snapshot taken before the changes
+    index.loadEntity(entity(ORDERS, List.of(X), Map.of()));
+    index.loadEntity(entity(PAYMENTS, List.of(Y), Map.of()));
+    assertEquals(index.getLoadedVectors(), 2);
+    index.completeLoad();
+
+    assertEquals(
+        urns(index.search(List.of("dataset"), W, null, false, 10)), List.of(CUSTOMERS, ORDERS));
+
+    // An aborted load keeps the index as it was
+    index.beginLoad();
+    index.abortLoad();
+    assertTrue(index.isReady());
+  }
+
+  @Test
+  public void testStopsAnsweringPastMaxVectors() {
+    SemanticAnnIndex small =
+        new SemanticAnnIndex(Set.of("dataset"), FILTER_FIELDS, 2, 8, 32, 32, 0, null);
+    load(small, List.of(entity(ORDERS, List.of(X, Y), Map.of())));
+    assertEquals(urns(small.search(List.of("dataset"), X, null, false, 10)), List.of(ORDERS));
+
+    small.setVectors(PAYMENTS, List.of(Z));
+
+    assertFalse(small.isReady());
+    assertNull(small.search(List.of("dataset"), X, null, false, 10));
+  }
+
+  private static void load(SemanticAnnIndex index, List<SemanticAnnIndex.LoadedEntity> entities) {
+    index.beginLoad();
+    entities.forEach(index::loadEntity);
+    index.completeLoad();
+  }
+
+  private static SemanticAnnIndex index(int exactSearchThreshold) {
+    return new SemanticAnnIndex(
+        Set.of("dataset", "chart"), FILTER_FIELDS, 1000, 8, 32, 32, exactSearchThreshold, null);
+  }
+
+  private static SemanticAnnIndex.LoadedEntity entity(
+      Urn urn, List<float[]> vectors, Map<String, List<String>> fields) {
+    return new SemanticAnnIndex.LoadedEntity(urn, vectors, fields, Map.of("urn", urn.toString()));
+  }
+
+  private static List<Urn> urns(List<SemanticAnnIndex.Match> matches) {
+    return matches.stream().map(SemanticAnnIndex.Match::getUrn).collect(Collectors.toList());
+  }
+}
@@ -2,9 +2,11 @@ package com.linkedin.metadata.search.semantic;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
@@ -35,9 +37,11 @@ import io.datahubproject.metadata.context.OperationContext;
 import io.datahubproject.metadata.context.SearchContext;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
 import org.apache.http.util.EntityUtils;
@@ -487,6 +491,95 @@ public class SemanticEntitySearchServiceTest {
     // This ensures parity with keyword search field fetching logic
   }
 
+  @Test
+  public void testSearchAnsweredFromAnnIndexOnceLoaded() throws IOException {
+    String urn = "urn:li:dataset:(urn:li:dataPlatform:hive,test.table,PROD)";
+    ObjectNode source = JsonNodeFactory.instance.objectNode();
+    source.put("urn", urn);
+    source.put("platform", "urn:li:dataPlatform:hive");
+    source.put("usageCountLast30Days", 42);
+    ArrayNode chunks =
+        source.putObject("embeddings").putObject("cohere_embed_v3").putArray("chunks");
+    chunks.addObject().putArray("vector").add(0.1f).add(0.2f).add(0.3f).add(0.4f);
+    chunks.addObject().putArray("vector").add(1f).add(0f).add(0f).add(0f);
+    ObjectNode firstPage = JsonNodeFactory.instance.objectNode();
+    firstPage.put("_scroll_id", "scroll-1");
+    firstPage.putObject("hits").putArray("hits").addObject().set("_source", source);
+    ObjectNode lastPage = JsonNodeFactory.instance.objectNode();
+    lastPage.put("_scroll_id", "scroll-1");
+    lastPage.putObject("hits").putArray("hits");
+    ObjectNode knnResponse =
+        createMockSearchResponse(
+            1, "urn:li:dataset:(urn:li:dataPlatform:kafka,other.topic,PROD)", 0.5);
+
+    List<Request> requests = new ArrayList<>();
+    when(searchClientShim.performLowLevelRequest(any(Request.class)))
+        .thenAnswer(
+            invocation -> {
+              Request request = invocation.getArgument(0);
+              requests.add(request);
+              if (request.getParameters().containsKey("scroll")) {
+                return rawResponse(firstPage);
+              } else if (request.getEndpoint().equals("/_search/scroll")) {
+                return rawResponse(
+                    request.getMethod().equals("DELETE")
+                        ? JsonNodeFactory.instance.objectNode()
+                        : lastPage);
+              }
+              return rawResponse(knnResponse);
+            });
+    SemanticAnnIndex annIndex =
+        new SemanticAnnIndex(Set.of(TEST_ENTITY_NAME), Set.of("platform"), 100, 8, 32, 32, 0, null);
+    service.setAnnIndex(annIndex);
+
+    service.loadAnnIndex(mockOpContext);
+
+    assertTrue(annIndex.isReady());
+    assertEquals(requests.size(), 3);
+    assertTrue(requests.get(0).getEndpoint().contains(TEST_SEMANTIC_INDEX));
+    assertEquals(requests.get(2).getMethod(), "DELETE");
+
+    SearchResult result =
+        service.search(mockOpContext, List.of(TEST_ENTITY_NAME), TEST_QUERY, null, null, 0, 10);
+
+    // Answered from memory, scored like the cosinesimil space of the semantic index
+    assertEquals(requests.size(), 3);
+    assertEquals(result.getNumEntities().intValue(), 1);
+    SearchEntity entity = result.getEntities().get(0);
+    assertEquals(entity.getEntity().toString(), urn);
+    assertEquals(entity.getScore().floatValue(), 1f, 0.001f);
+    assertEquals(entity.getExtraFields().get("usageCountLast30Days"), "42");
+    assertEquals(entity.getExtraFields().get("urn"), "\"" + urn + "\"");
+
+    // Filters the index cannot evaluate go to the semantic index
+    SearchResult fallback =
+        service.search(
+            mockOpContext,
+            List.of(TEST_ENTITY_NAME),
+            TEST_QUERY,
+            createTestFilter("description", "orders"),
+            null,
+            0,
+            10);
+
+    assertEquals(requests.size(), 4);
+    assertEquals(
+        fallback.getEntities().get(0).getEntity().toString(),
+        "urn:li:dataset:(urn:li:dataPlatform:kafka,other.topic,PROD)");
+  }
+
+  @Test
+  public void testFailedAnnIndexLoadKeepsSearchOnSemanticIndex() throws IOException {
+    when(searchClientShim.performLowLevelRequest(any(Request.class)))
+        .thenThrow(new IOException("connection refused"));
+    SemanticAnnIndex annIndex =
+        new SemanticAnnIndex(Set.of(TEST_ENTITY_NAME), Set.of(), 100, 8, 32, 32, 0, null);
+    service.setAnnIndex(annIndex);
+
+    assertThrows(IOException.class, () -> service.loadAnnIndex(mockOpContext));
+    assertFalse(annIndex.isReady());
+  }
+
   // Helper methods
 
   private String extractRequestBody(Request request) throws IOException {
@@ -496,6 +589,15 @@ public class SemanticEntitySearchServiceTest {
     return "";
   }
 
+  private RawResponse rawResponse(ObjectNode responseJson) throws IOException {
+    HttpEntity entity = mock(HttpEntity.class);
+    when(entity.getContent())
+        .thenReturn(new ByteArrayInputStream(objectMapper.writeValueAsBytes(responseJson)));
+    RawResponse response = mock(RawResponse.class);
+    when(response.getEntity()).thenReturn(entity);
+    return response;
+  }
+
   private void setupMockOpenSearchResponse(ObjectNode responseJson) throws IOException {
     String responseBody = objectMapper.writeValueAsString(responseJson);
     when(mockResponse.getEntity()).thenReturn(mockHttpEntity);
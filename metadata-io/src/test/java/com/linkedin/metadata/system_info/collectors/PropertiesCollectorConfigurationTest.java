@@ -61,6 +61,7 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "salt",
           // Database passwords
           "ebean.password",
+          "ebean.replica.password",
           "cassandra.datasourcePassword",
           "neo4j.password",
           // Elasticsearch security
@@ -506,10 +507,13 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "cassandra.datacenter",
           "cassandra.datasourceUsername",
           "cassandra.hosts",
+          "cassandra.maxConcurrentRequests",
           "cassandra.port",
           "cassandra.useSsl",
           "ebean.autoCreateDdl",
+          "ebean.batchGetConcurrency",
           "ebean.batchGetMethod",
+          "ebean.batchGetThreads",
           "ebean.cloudProvider",
           "ebean.driver",
           "ebean.leakTimeMinutes",
@@ -517,22 +521,38 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "ebean.maxConnections",
           "ebean.maxInactiveTimeSeconds",
           "ebean.minConnections",
+          "ebean.payloadCompression",
+          "ebean.payloadCompressionLevel",
+          "ebean.payloadCompressionMinBytes",
+          "ebean.replica.failureBackoffSeconds",
+          "ebean.replica.maxConnections",
+          "ebean.replica.minConnections",
+          "ebean.replica.readAfterWriteSeconds",
+          "ebean.replica.url",
+          "ebean.replica.username",
           "ebean.url",
           "ebean.useIamAuth",
           "ebean.username",
           "ebean.waitTimeoutMillis",
+          "ebean.writeBatchSize",
           "neo4j.connectionLivenessCheckTimeout",
           "neo4j.database",
           "neo4j.maxConnectionAcquisitionTimeout",
           "neo4j.maxConnectionLifetimeInSeconds",
           "neo4j.maxConnectionPoolSize",
+          "neo4j.maxTransactionRetries",
           "neo4j.maxTransactionRetryTime",
           "neo4j.uri",
           "neo4j.username",
+          "neo4j.writeBatchSize",
           // Elasticsearch configuration
           "elasticsearch.buildIndices.allowDocCountMismatch",
           "elasticsearch.buildIndices.cloneIndices",
+          "elasticsearch.buildIndices.maxConcurrentReindexes",
+          "elasticsearch.buildIndices.reindexMaxPendingTasks",
+          "elasticsearch.buildIndices.reindexMinRequestsPerSecond",
           "elasticsearch.buildIndices.reindexOptimizationEnabled",
+          "elasticsearch.buildIndices.reindexThrottleIntervalSeconds",
           "elasticsearch.buildIndices.retentionUnit",
           "elasticsearch.buildIndices.retentionValue",
           "elasticsearch.bulkDelete.batchSize",
@@ -573,6 +593,11 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "elasticsearch.pathPrefix",
           "elasticsearch.port",
           "elasticsearch.region",
+          "elasticsearch.search.autocompletePrefixIndex.maxEntitiesPerType",
+          "elasticsearch.search.autocompletePrefixIndex.refreshIntervalSeconds",
+          "elasticsearch.search.autocompletePrefixIndex.usageFields",
+          "elasticsearch.search.browseTrie.refreshIntervalSeconds",
+          "elasticsearch.search.browseTrie.slices",
           "elasticsearch.search.custom.autoCompleteFieldConfigDefault",
           "elasticsearch.search.custom.enabled",
           "elasticsearch.search.custom.file",
@@ -599,6 +624,9 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "elasticsearch.search.graph.queryOptimization",
           "elasticsearch.search.graph.timeoutSeconds",
           "elasticsearch.search.maxTermBucketSize",
+          "elasticsearch.search.multiSearch.lingerMs",
+          "elasticsearch.search.multiSearch.maxBatchSize",
+          "elasticsearch.search.multiSearch.timeoutMs",
           "elasticsearch.search.partial.factor",
           "elasticsearch.search.partial.urnFactor",
           "elasticsearch.search.wordGram.fourGramFactor",
@@ -641,6 +669,7 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "entityClient.retryInterval",
           "entityService.impl",
           "entityService.retention.applyOnBootstrap",
+          "entityService.retention.applyThreads",
           "entityService.retention.enabled",
           "eventsApi.enabled",
           "forms.hook.consumerGroupSuffix",
@@ -699,6 +728,7 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "systemUpdate.backOffFactor",
           "systemUpdate.bootstrap.mcpConfig",
           "systemUpdate.cdcMode",
+          "systemUpdate.compressAspectPayloads.threads",
           "systemUpdate.browsePathsV2.batchSize",
           "systemUpdate.browsePathsV2.enabled",
           "systemUpdate.browsePathsV2.reprocess.enabled",
@@ -795,9 +825,23 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "searchService.cache.hazelcast.service-dns-timeout",
           "searchService.cache.hazelcast.kubernetes-api-retries",
           "searchService.cache.hazelcast.resolve-not-ready-addresses",
+          "searchService.cache.hazelcast.nearCache.maxBytesPerCache",
+          "searchService.cache.aggregations.threads",
+          "searchService.cache.aggregations.ttlSeconds",
+          "searchService.cache.refreshAfterSeconds",
+          "searchService.cache.refreshThreads",
+          "searchService.cardFields.maxValueLength",
+          "searchService.cardFields.names",
           "searchService.cacheImplementation",
           "searchService.enableCache",
           "searchService.enableEviction",
+          "searchService.hybrid.earlyTermination",
+          "searchService.hybrid.enabled",
+          "searchService.hybrid.fusion",
+          "searchService.hybrid.maxCandidates",
+          "searchService.hybrid.rankConstant",
+          "searchService.hybrid.weights.KEYWORD_SCORE",
+          "searchService.hybrid.weights.SEMANTIC_SCORE",
           "searchService.limit.results.apiDefault",
           "searchService.limit.results.max",
           "searchService.limit.results.strict",
@@ -915,6 +959,19 @@ public class PropertiesCollectorConfigurationTest extends AbstractTestNGSpringCo
           "elasticsearch.entityIndex.semanticSearch.embeddingProvider.awsRegion",
           "elasticsearch.entityIndex.semanticSearch.embeddingProvider.modelId",
           "elasticsearch.entityIndex.semanticSearch.embeddingProvider.maxCharacterLength",
+          "elasticsearch.entityIndex.semanticSearch.embeddingProvider.batchSize",
+          "elasticsearch.entityIndex.semanticSearch.embeddingProvider.dimensions",
+          "elasticsearch.entityIndex.semanticSearch.embeddingProvider.cache.enabled",
+          "elasticsearch.entityIndex.semanticSearch.embeddingProvider.cache.maxSize",
+          "elasticsearch.entityIndex.semanticSearch.embeddingProvider.cache.ttlSeconds",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.enabled",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.m",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.efConstruction",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.efSearch",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.exactSearchThreshold",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.maxVectors",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.filterFields",
+          "elasticsearch.entityIndex.semanticSearch.annIndex.refreshIntervalSeconds",
           // Metadata Change Log configuration
           "metadataChangeLog.consumer.batch.enabled",
           "metadataChangeLog.consumer.batch.size"
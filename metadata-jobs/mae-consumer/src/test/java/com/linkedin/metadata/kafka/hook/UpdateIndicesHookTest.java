@@ -123,6 +123,10 @@ public class UpdateIndicesHookTest {
   public void setupTest() {
     actorUrn = UrnUtils.getUrn(TEST_ACTOR_URN);
     mockGraphService = mock(ElasticSearchGraphService.class);
+    // Batch writes go through the per edge methods, as in ElasticSearchGraphService
+    Mockito.doCallRealMethod().when(mockGraphService).addEdges(any());
+    Mockito.doCallRealMethod().when(mockGraphService).upsertEdges(any());
+    Mockito.doCallRealMethod().when(mockGraphService).removeEdges(any());
     mockEntitySearchService = mock(ElasticSearchService.class);
     mockTimeseriesAspectService = mock(TimeseriesAspectService.class);
     mockSystemMetadataService = mock(SystemMetadataService.class);
@@ -16,6 +16,7 @@ import com.linkedin.gms.factory.entityclient.RestliEntityClientFactory;
 import com.linkedin.gms.factory.kafka.SimpleKafkaConsumerFactory;
 import com.linkedin.metadata.dao.throttle.ThrottleSensor;
 import com.linkedin.metadata.entity.EntityService;
+import com.linkedin.metadata.entity.ebean.AspectPayloadCodec;
 import com.linkedin.metadata.kafka.config.CDCProcessorCondition;
 import com.linkedin.metadata.kafka.util.KafkaListenerUtil;
 import com.linkedin.metadata.models.AspectSpec;
@@ -207,11 +208,16 @@ public class CDCProcessor {
     String aspectName =
         extractRequiredFieldWithFallback(afterRecord, beforeRecord, CDC_ASPECT_FIELD);
 
-    String beforeMetadata = extractFieldFromRecord(beforeRecord, CDC_METADATA_FIELD);
-    String afterMetadata = extractFieldFromRecord(afterRecord, CDC_METADATA_FIELD);
+    // Payloads may be stored compressed
+    String beforeMetadata =
+        AspectPayloadCodec.decode(extractFieldFromRecord(beforeRecord, CDC_METADATA_FIELD));
+    String afterMetadata =
+        AspectPayloadCodec.decode(extractFieldFromRecord(afterRecord, CDC_METADATA_FIELD));
 
-    String beforeSystemMetadata = extractFieldFromRecord(beforeRecord, CDC_SYSTEM_METADATA_FIELD);
-    String afterSystemMetadata = extractFieldFromRecord(afterRecord, CDC_SYSTEM_METADATA_FIELD);
+    String beforeSystemMetadata =
+        AspectPayloadCodec.decode(extractFieldFromRecord(beforeRecord, CDC_SYSTEM_METADATA_FIELD));
+    String afterSystemMetadata =
+        AspectPayloadCodec.decode(extractFieldFromRecord(afterRecord, CDC_SYSTEM_METADATA_FIELD));
 
     JsonNode createdOn =
         extractRequiredFieldNodeWithFallback(afterRecord, beforeRecord, CDC_CREATED_ON_FIELD);
@@ -0,0 +1,93 @@
+package com.linkedin.metadata.benchmark;
+
+import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.GLOBAL_TAGS_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.UPSTREAM_LINEAGE_ASPECT_NAME;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.metadata.aspect.patch.template.AspectTemplateEngine;
+import com.linkedin.metadata.models.EntitySpec;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import jakarta.json.Json;
+import jakarta.json.JsonPatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link AspectTemplateEngine} patches adding one entry to and removing one entry from aspects
+ * that already hold {@code existingEntries} entries, as sent by ingestion sources in patch mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class AspectTemplateEngineBenchmark {
+
+  @Param({"10", "1000"})
+  private int existingEntries;
+
+  private AspectTemplateEngine templateEngine;
+  private EntitySpec datasetSpec;
+  private GlobalTags globalTags;
+  private JsonPatch globalTagsPatch;
+  private UpstreamLineage upstreamLineage;
+  private JsonPatch upstreamLineagePatch;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    EntityRegistry entityRegistry = TestOperationContexts.defaultEntityRegistry();
+    templateEngine = entityRegistry.getAspectTemplateEngine();
+    datasetSpec = entityRegistry.getEntitySpec(DATASET_ENTITY_NAME);
+
+    globalTags = BenchmarkFixtures.globalTags(existingEntries);
+    globalTagsPatch =
+        Json.createPatchBuilder()
+            .add(
+                "/tags/urn:li:tag:added",
+                Json.createObjectBuilder().add("tag", "urn:li:tag:added").build())
+            .remove("/tags/urn:li:tag:tag_0")
+            .build();
+
+    upstreamLineage = BenchmarkFixtures.upstreamLineage(existingEntries);
+    String added = "urn:li:dataset:(urn:li:dataPlatform:hive,benchmark.added,PROD)";
+    String removed = "urn:li:dataset:(urn:li:dataPlatform:hive,benchmark.upstream_0,PROD)";
+    upstreamLineagePatch =
+        Json.createPatchBuilder()
+            .add(
+                "/upstreams/" + added,
+                Json.createObjectBuilder().add("dataset", added).add("type", "TRANSFORMED").build())
+            .remove("/upstreams/" + removed)
+            .build();
+  }
+
+  @Benchmark
+  public RecordTemplate patchGlobalTags() throws JsonProcessingException {
+    return templateEngine.applyPatch(
+        globalTags, globalTagsPatch, datasetSpec.getAspectSpec(GLOBAL_TAGS_ASPECT_NAME));
+  }
+
+  @Benchmark
+  public RecordTemplate patchUpstreamLineage() throws JsonProcessingException {
+    return templateEngine.applyPatch(
+        upstreamLineage,
+        upstreamLineagePatch,
+        datasetSpec.getAspectSpec(UPSTREAM_LINEAGE_ASPECT_NAME));
+  }
+}
@@ -0,0 +1,125 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.AuditStamp;
+import com.linkedin.common.GlobalTags;
+import com.linkedin.common.TagAssociation;
+import com.linkedin.common.TagAssociationArray;
+import com.linkedin.common.urn.DataPlatformUrn;
+import com.linkedin.common.urn.TagUrn;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.dataset.DatasetLineageType;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.dataset.Upstream;
+import com.linkedin.dataset.UpstreamArray;
+import com.linkedin.dataset.UpstreamLineage;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.SystemMetadataUtils;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.schema.OtherSchema;
+import com.linkedin.schema.SchemaField;
+import com.linkedin.schema.SchemaFieldArray;
+import com.linkedin.schema.SchemaFieldDataType;
+import com.linkedin.schema.SchemaMetadata;
+import com.linkedin.schema.StringType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+/** Aspects shaped like typical ingestion payloads, shared by the benchmarks. */
+final class BenchmarkFixtures {
+  static final AuditStamp AUDIT_STAMP =
+      new AuditStamp()
+          .setTime(1700000000000L)
+          .setActor(UrnUtils.getUrn("urn:li:corpuser:benchmark"));
+
+  private BenchmarkFixtures() {}
+
+  @Nonnull
+  static Urn datasetUrn(int index) {
+    return UrnUtils.getUrn(
+        "urn:li:dataset:(urn:li:dataPlatform:hive,benchmark.db.table_" + index + ",PROD)");
+  }
+
+  @Nonnull
+  static DatasetProperties datasetProperties(int index, int revision) {
+    Map<String, String> customProperties = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      customProperties.put("property_" + i, "value_" + i + "_" + index);
+    }
+    return new DatasetProperties()
+        .setName("table_" + index)
+        .setQualifiedName("benchmark.db.table_" + index)
+        .setDescription("Benchmark table " + index + " revision " + revision)
+        .setCustomProperties(new StringMap(customProperties));
+  }
+
+  @Nonnull
+  static GlobalTags globalTags(int tagCount) {
+    TagAssociationArray tags = new TagAssociationArray();
+    for (int i = 0; i < tagCount; i++) {
+      tags.add(new TagAssociation().setTag(new TagUrn("tag_" + i)));
+    }
+    return new GlobalTags().setTags(tags);
+  }
+
+  @Nonnull
+  static UpstreamLineage upstreamLineage(int upstreamCount) {
+    UpstreamArray upstreams = new UpstreamArray();
+    for (int i = 0; i < upstreamCount; i++) {
+      upstreams.add(
+          new Upstream()
+              .setDataset(UrnUtils.toDatasetUrn("hive", "benchmark.upstream_" + i, "PROD"))
+              .setType(DatasetLineageType.TRANSFORMED)
+              .setAuditStamp(AUDIT_STAMP));
+    }
+    return new UpstreamLineage().setUpstreams(upstreams);
+  }
+
+  @Nonnull
+  static SchemaMetadata schemaMetadata(int fieldCount) {
+    List<SchemaField> fields = new ArrayList<>(fieldCount);
+    for (int i = 0; i < fieldCount; i++) {
+      fields.add(
+          new SchemaField()
+              .setFieldPath("record.nested_" + (i % 10) + ".field_" + i)
+              .setNativeDataType("string")
+              .setType(
+                  new SchemaFieldDataType()
+                      .setType(SchemaFieldDataType.Type.create(new StringType())))
+              .setNullable(true)
+              .setDescription("Field " + i + " of the benchmark schema"));
+    }
+    return new SchemaMetadata()
+        .setSchemaName("benchmark")
+        .setPlatform(new DataPlatformUrn("hive"))
+        .setVersion(0)
+        .setHash("")
+        .setPlatformSchema(SchemaMetadata.PlatformSchema.create(new OtherSchema().setRawSchema("")))
+        .setFields(new SchemaFieldArray(fields));
+  }
+
+  @Nonnull
+  static MetadataChangeProposal proposal(
+      @Nonnull Urn urn, @Nonnull String aspectName, @Nonnull RecordTemplate aspect) {
+    return proposal(urn, aspectName, GenericRecordUtils.serializeAspect(aspect));
+  }
+
+  @Nonnull
+  static MetadataChangeProposal proposal(
+      @Nonnull Urn urn, @Nonnull String aspectName, @Nonnull GenericAspect aspect) {
+    return new MetadataChangeProposal()
+        .setEntityUrn(urn)
+        .setEntityType(urn.getEntityType())
+        .setAspectName(aspectName)
+        .setChangeType(ChangeType.UPSERT)
+        .setAspect(aspect)
+        .setSystemMetadata(SystemMetadataUtils.createDefaultSystemMetadata());
+  }
+}
@@ -0,0 +1,148 @@
+package com.linkedin.metadata.benchmark;
+
+import static com.linkedin.metadata.Constants.ASPECT_LATEST_VERSION;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.linkedin.metadata.entity.EntityAspectIdentifier;
+import com.linkedin.metadata.entity.cassandra.CassandraAspect;
+import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code CassandraAspectDao.batchGet} of two aspects per urn against a stand-in session that
+ * answers every request after a fixed round trip latency.
+ *
+ * <p>With a single request in flight the reads run one partition at a time, as the DAO did before
+ * reads were issued asynchronously, so the difference between the two settings is the time saved
+ * by overlapping round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CassandraAspectDaoBenchmark {
+  private static final List<String> ASPECTS = List.of("status", "datasetProperties");
+
+  @Param({"1", "64"})
+  private int maxConcurrentRequests;
+
+  @Param({"10", "100"})
+  private int urnCount;
+
+  @Param({"500"})
+  private int latencyMicros;
+
+  private ScheduledExecutorService network;
+  private CassandraAspectDao aspectDao;
+  private Set<EntityAspectIdentifier> keys;
+
+  @Setup
+  public void setup() {
+    network = Executors.newScheduledThreadPool(4);
+    keys = new HashSet<>();
+    final Map<String, AsyncResultSet> partitions = new HashMap<>();
+    for (int i = 0; i < urnCount; i++) {
+      String urn = "urn:li:dataset:(urn:li:dataPlatform:hive,bench_" + i + ",PROD)";
+      partitions.put(urn, resultSet(urn));
+      for (String aspect : ASPECTS) {
+        keys.add(new EntityAspectIdentifier(urn, aspect, ASPECT_LATEST_VERSION));
+      }
+    }
+
+    aspectDao = new CassandraAspectDao(session(partitions), maxConcurrentRequests);
+    aspectDao.setConnectionValidated(true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    network.shutdownNow();
+  }
+
+  @Benchmark
+  public Object batchGet() {
+    return aspectDao.batchGet(keys, false);
+  }
+
+  /** A session whose statements are bound to the urn of the partition they read. */
+  private CqlSession session(Map<String, AsyncResultSet> partitions) {
+    final Map<BoundStatement, String> boundUrns = new ConcurrentHashMap<>();
+    final PreparedStatement prepared = stub(PreparedStatement.class);
+    when(prepared.bind(any()))
+        .thenAnswer(
+            invocation -> {
+              BoundStatement bound = stub(BoundStatement.class);
+              boundUrns.put(bound, invocation.getArgument(0));
+              return bound;
+            });
+
+    final CqlSession session = stub(CqlSession.class);
+    when(session.prepare(any(SimpleStatement.class))).thenReturn(prepared);
+    when(session.executeAsync(any(BoundStatement.class)))
+        .thenAnswer(
+            invocation -> {
+              AsyncResultSet rs = partitions.get(boundUrns.remove(invocation.getArgument(0)));
+              CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+              network.schedule(() -> future.complete(rs), latencyMicros, TimeUnit.MICROSECONDS);
+              return future;
+            });
+    return session;
+  }
+
+  private static AsyncResultSet resultSet(String urn) {
+    final List<Row> rows =
+        ASPECTS.stream()
+            .map(
+                aspect -> {
+                  Row row = stub(Row.class);
+                  when(row.getString(CassandraAspect.URN_COLUMN)).thenReturn(urn);
+                  when(row.getString(CassandraAspect.ASPECT_COLUMN)).thenReturn(aspect);
+                  when(row.getLong(CassandraAspect.VERSION_COLUMN))
+                      .thenReturn(ASPECT_LATEST_VERSION);
+                  when(row.getString(CassandraAspect.METADATA_COLUMN)).thenReturn("{}");
+                  return row;
+                })
+            .collect(Collectors.toList());
+    final AsyncResultSet rs = stub(AsyncResultSet.class);
+    when(rs.currentPage()).thenReturn(rows);
+    when(rs.hasMorePages()).thenReturn(false);
+    return rs;
+  }
+
+  /** Mocks that keep no record of their invocations, so memory stays flat across iterations. */
+  private static <T> T stub(Class<T> type) {
+    return mock(type, withSettings().stubOnly());
+  }
+}
@@ -0,0 +1,92 @@
+package com.linkedin.metadata.benchmark;
+
+import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.SCHEMA_METADATA_ASPECT_NAME;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.events.metadata.ChangeType;
+import com.linkedin.metadata.EventUtils;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.metadata.utils.SystemMetadataUtils;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.MetadataChangeProposal;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EventUtils} conversions between Pegasus and Avro, run for every MCP consumed and every
+ * MCL produced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EventUtilsBenchmark {
+
+  /** Number of schema fields of the aspect carried by the events. */
+  @Param({"10", "500"})
+  private int fieldCount;
+
+  private MetadataChangeProposal proposal;
+  private MetadataChangeLog changeLog;
+  private GenericRecord avroProposal;
+  private GenericRecord avroChangeLog;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    Urn urn = BenchmarkFixtures.datasetUrn(0);
+    proposal =
+        BenchmarkFixtures.proposal(
+            urn, SCHEMA_METADATA_ASPECT_NAME, BenchmarkFixtures.schemaMetadata(fieldCount));
+    changeLog =
+        new MetadataChangeLog()
+            .setEntityUrn(urn)
+            .setEntityType(DATASET_ENTITY_NAME)
+            .setAspectName(SCHEMA_METADATA_ASPECT_NAME)
+            .setChangeType(ChangeType.UPSERT)
+            .setAspect(proposal.getAspect())
+            .setPreviousAspectValue(
+                GenericRecordUtils.serializeAspect(
+                    BenchmarkFixtures.schemaMetadata(Math.max(1, fieldCount - 1))))
+            .setSystemMetadata(SystemMetadataUtils.createDefaultSystemMetadata())
+            .setPreviousSystemMetadata(SystemMetadataUtils.createDefaultSystemMetadata())
+            .setCreated(BenchmarkFixtures.AUDIT_STAMP);
+    avroProposal = EventUtils.pegasusToAvroMCP(proposal);
+    avroChangeLog = EventUtils.pegasusToAvroMCL(changeLog);
+  }
+
+  @Benchmark
+  public GenericRecord pegasusToAvroMCP() throws IOException {
+    return EventUtils.pegasusToAvroMCP(proposal);
+  }
+
+  @Benchmark
+  public MetadataChangeProposal avroToPegasusMCP() throws IOException {
+    return EventUtils.avroToPegasusMCP(avroProposal);
+  }
+
+  @Benchmark
+  public GenericRecord pegasusToAvroMCL() throws IOException {
+    return EventUtils.pegasusToAvroMCL(changeLog);
+  }
+
+  @Benchmark
+  public MetadataChangeLog avroToPegasusMCL() throws IOException {
+    return EventUtils.avroToPegasusMCL(avroChangeLog);
+  }
+}
@@ -0,0 +1,203 @@
+package com.linkedin.metadata.benchmark;
+
+import static com.linkedin.metadata.Constants.DATASET_PROPERTIES_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.GLOBAL_TAGS_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.SCHEMA_METADATA_ASPECT_NAME;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.EbeanTestUtils;
+import com.linkedin.metadata.aspect.GraphRetriever;
+import com.linkedin.metadata.config.EbeanConfiguration;
+import com.linkedin.metadata.config.PreProcessHooks;
+import com.linkedin.metadata.entity.EntityServiceAspectRetriever;
+import com.linkedin.metadata.entity.EntityServiceImpl;
+import com.linkedin.metadata.entity.IngestResult;
+import com.linkedin.metadata.entity.SearchRetriever;
+import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
+import com.linkedin.metadata.entity.ebean.batch.AspectsBatchImpl;
+import com.linkedin.metadata.models.registry.EntityRegistry;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.GenericAspect;
+import com.linkedin.mxe.MetadataChangeProposal;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.metadata.context.RetrieverContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import io.ebean.Database;
+import io.ebean.DatabaseFactory;
+import io.ebean.config.DatabaseConfig;
+import io.ebean.datasource.DataSourceConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code EntityServiceImpl.ingestProposal} against an in-memory H2 {@link EbeanAspectDao}, with a
+ * producer that acknowledges every change log immediately.
+ *
+ * <p>Changed aspects alternate between two revisions of each dataset, so every write goes through
+ * the full read, diff, write and change log path. Unchanged aspects exercise no-op detection.
+ *
+ * <p>H2 runs in MySQL or PostgreSQL compatibility mode as a stand-in for either database, with the
+ * {@link EbeanAspectDao} JDBC write batch size at the Ebean default of 20 and at the GMS default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IngestProposalBenchmark {
+  private static final int DATASET_COUNT = 1000;
+
+  @Param({"1", "100"})
+  private int batchSize;
+
+  @Param({"MySQL", "PostgreSQL"})
+  private String h2Mode;
+
+  @Param({"20", "500"})
+  private int writeBatchSize;
+
+  private Database server;
+  private EntityServiceImpl entityService;
+  private OperationContext opContext;
+  private final List<Urn> urns = new ArrayList<>(DATASET_COUNT);
+  private final List<GenericAspect[]> revisions = new ArrayList<>(DATASET_COUNT);
+  private GenericAspect globalTags;
+  private GenericAspect schemaMetadata;
+  private int cursor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    server =
+        createServer(
+            getClass().getSimpleName() + "_" + batchSize + "_" + h2Mode + "_" + writeBatchSize,
+            h2Mode);
+    EbeanAspectDao aspectDao =
+        new EbeanAspectDao(
+            server, EbeanConfiguration.builder().writeBatchSize(writeBatchSize).build(), null);
+    entityService =
+        new EntityServiceImpl(
+            aspectDao, new NoOpEventProducer(), false, new PreProcessHooks(), true);
+
+    EntityRegistry entityRegistry = TestOperationContexts.defaultEntityRegistry();
+    opContext =
+        TestOperationContexts.systemContext(
+            null,
+            null,
+            null,
+            () -> entityRegistry,
+            () ->
+                RetrieverContext.builder()
+                    .aspectRetriever(
+                        EntityServiceAspectRetriever.builder()
+                            .entityService(entityService)
+                            .entityRegistry(entityRegistry)
+                            .build())
+                    .cachingAspectRetriever(
+                        TestOperationContexts.emptyActiveUsersAspectRetriever(
+                            () -> entityRegistry))
+                    .graphRetriever(GraphRetriever.EMPTY)
+                    .searchRetriever(SearchRetriever.EMPTY)
+                    .build(),
+            null,
+            context ->
+                ((EntityServiceAspectRetriever) context.getAspectRetriever())
+                    .setSystemOperationContext(context),
+            null);
+
+    for (int i = 0; i < DATASET_COUNT; i++) {
+      urns.add(BenchmarkFixtures.datasetUrn(i));
+      revisions.add(
+          new GenericAspect[] {
+            GenericRecordUtils.serializeAspect(BenchmarkFixtures.datasetProperties(i, 0)),
+            GenericRecordUtils.serializeAspect(BenchmarkFixtures.datasetProperties(i, 1))
+          });
+    }
+    globalTags = GenericRecordUtils.serializeAspect(BenchmarkFixtures.globalTags(5));
+    schemaMetadata = GenericRecordUtils.serializeAspect(BenchmarkFixtures.schemaMetadata(100));
+
+    // Seed every dataset so measured invocations update existing rows
+    for (int i = 0; i < DATASET_COUNT; i++) {
+      Urn urn = urns.get(i);
+      ingest(
+          List.of(
+              BenchmarkFixtures.proposal(urn, DATASET_PROPERTIES_ASPECT_NAME, revisions.get(i)[0]),
+              BenchmarkFixtures.proposal(urn, GLOBAL_TAGS_ASPECT_NAME, globalTags),
+              BenchmarkFixtures.proposal(urn, SCHEMA_METADATA_ASPECT_NAME, schemaMetadata)));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    EbeanTestUtils.shutdownDatabase(server);
+  }
+
+  /** Updates {@code batchSize} datasets, each with a changed properties aspect. */
+  @Benchmark
+  public List<IngestResult> ingestChangedAspects() {
+    List<MetadataChangeProposal> proposals = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      int dataset = cursor % DATASET_COUNT;
+      int revision = (cursor / DATASET_COUNT + 1) % 2;
+      proposals.add(
+          BenchmarkFixtures.proposal(
+              urns.get(dataset),
+              DATASET_PROPERTIES_ASPECT_NAME,
+              revisions.get(dataset)[revision]));
+      cursor++;
+    }
+    return ingest(proposals);
+  }
+
+  /** Re-sends the seeded tags and schema of {@code batchSize} datasets. */
+  @Benchmark
+  public List<IngestResult> ingestUnchangedAspects() {
+    List<MetadataChangeProposal> proposals = new ArrayList<>(batchSize * 2);
+    for (int i = 0; i < batchSize; i++) {
+      Urn urn = urns.get((cursor + i) % DATASET_COUNT);
+      proposals.add(BenchmarkFixtures.proposal(urn, GLOBAL_TAGS_ASPECT_NAME, globalTags));
+      proposals.add(BenchmarkFixtures.proposal(urn, SCHEMA_METADATA_ASPECT_NAME, schemaMetadata));
+    }
+    cursor += batchSize;
+    return ingest(proposals);
+  }
+
+  private static Database createServer(String instanceId, String mode) {
+    DataSourceConfig dataSourceConfig = new DataSourceConfig();
+    dataSourceConfig.setUsername("tester");
+    dataSourceConfig.setPassword("");
+    dataSourceConfig.setUrl(
+        String.format("jdbc:h2:mem:%s;IGNORECASE=TRUE;mode=%s;", instanceId, mode));
+    dataSourceConfig.setDriver("org.h2.Driver");
+
+    DatabaseConfig serverConfig = new DatabaseConfig();
+    serverConfig.setName("gma");
+    serverConfig.setDataSourceConfig(dataSourceConfig);
+    serverConfig.setDdlGenerate(true);
+    serverConfig.setDdlRun(true);
+    return DatabaseFactory.create(serverConfig);
+  }
+
+  private List<IngestResult> ingest(List<MetadataChangeProposal> proposals) {
+    return entityService.ingestProposal(
+        opContext,
+        AspectsBatchImpl.builder()
+            .mcps(proposals, BenchmarkFixtures.AUDIT_STAMP, opContext.getRetrieverContext())
+            .build(opContext),
+        false);
+  }
+}
@@ -0,0 +1,105 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.common.urn.UrnUtils;
+import com.linkedin.metadata.aspect.models.graph.Edge;
+import com.linkedin.metadata.config.graph.GraphServiceConfiguration;
+import com.linkedin.metadata.graph.neo4j.Neo4jGraphService;
+import com.linkedin.metadata.models.registry.LineageRegistry;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.neo4j.driver.AuthTokens;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.GraphDatabase;
+import org.neo4j.driver.SessionConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.containers.Neo4jContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Writes the column level lineage of a job, {@code edgeCount} {@code DownstreamOf} edges between
+ * schema fields, through {@code Neo4jGraphService} running against a Neo4j container.
+ *
+ * <p>{@code perEdge} adds the edges one by one, a transaction each, as {@code
+ * UpdateGraphIndicesService} did before batch writes. {@code batch} adds them with a single {@code
+ * addEdges} call. Each invocation removes the edges again, so every write creates relationships.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class Neo4jGraphServiceBenchmark {
+  private static final String NEO4J_IMAGE = "neo4j:4.4.28-community";
+  private static final String NEO4J_PASSWORD = "benchmark";
+
+  @Param({"100", "1000"})
+  private int edgeCount;
+
+  @Param({"perEdge", "batch"})
+  private String mode;
+
+  private Neo4jContainer<?> container;
+  private Driver driver;
+  private Neo4jGraphService graphService;
+  private final List<Edge> edges = new ArrayList<>();
+
+  @Setup
+  public void setup() {
+    container =
+        new Neo4jContainer<>(DockerImageName.parse(NEO4J_IMAGE)).withAdminPassword(NEO4J_PASSWORD);
+    container.start();
+    driver =
+        GraphDatabase.driver(container.getBoltUrl(), AuthTokens.basic("neo4j", NEO4J_PASSWORD));
+    graphService =
+        new Neo4jGraphService(
+            new LineageRegistry(TestOperationContexts.defaultEntityRegistry()),
+            driver,
+            SessionConfig.defaultConfig(),
+            GraphServiceConfiguration.builder().type("neo4j").build());
+
+    for (int i = 0; i < edgeCount; i++) {
+      Urn downstream =
+          UrnUtils.getUrn(
+              "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hive,downstream,PROD),field_"
+                  + i
+                  + ")");
+      Urn upstream =
+          UrnUtils.getUrn(
+              "urn:li:schemaField:(urn:li:dataset:(urn:li:dataPlatform:hive,upstream,PROD),field_"
+                  + i
+                  + ")");
+      edges.add(new Edge(downstream, upstream, "DownstreamOf", 0L, null, 0L, null, null));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    driver.close();
+    container.stop();
+  }
+
+  @Benchmark
+  public void addEdges() {
+    if ("batch".equals(mode)) {
+      graphService.addEdges(edges);
+    } else {
+      edges.forEach(graphService::addEdge);
+    }
+    graphService.removeEdges(edges);
+  }
+}
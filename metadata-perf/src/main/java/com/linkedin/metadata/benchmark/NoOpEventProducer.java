@@ -0,0 +1,72 @@
+package com.linkedin.metadata.benchmark;
+
+import com.linkedin.common.urn.Urn;
+import com.linkedin.metadata.event.EventProducer;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.mxe.DataHubUpgradeHistoryEvent;
+import com.linkedin.mxe.MetadataChangeLog;
+import com.linkedin.mxe.MetadataChangeProposal;
+import com.linkedin.mxe.PlatformEvent;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Producer acknowledging every event immediately. Stands in for Kafka without the invocation
+ * recording overhead of a Mockito mock, which would otherwise dominate allocation profiles.
+ */
+class NoOpEventProducer extends EventProducer {
+  private static final Future<?> DONE = CompletableFuture.completedFuture(null);
+
+  @Override
+  public void flush() {}
+
+  @Override
+  public Future<?> produceMetadataChangeLog(
+      @Nonnull Urn urn,
+      @Nonnull AspectSpec aspectSpec,
+      @Nonnull MetadataChangeLog metadataChangeLog) {
+    return DONE;
+  }
+
+  @Override
+  public String getMetadataChangeLogTopicName(@Nonnull AspectSpec aspectSpec) {
+    return "MetadataChangeLog_Versioned_v1";
+  }
+
+  @Override
+  public Future<?> produceMetadataChangeProposal(
+      @Nonnull Urn urn, @Nonnull MetadataChangeProposal metadataChangeProposal) {
+    return DONE;
+  }
+
+  @Override
+  public String getMetadataChangeProposalTopicName() {
+    return "MetadataChangeProposal_v1";
+  }
+
+  @Override
+  public Future<?> produceFailedMetadataChangeProposalAsync(
+      @Nonnull OperationContext opContext,
+      @Nonnull MetadataChangeProposal mcp,
+      @Nonnull Set<Throwable> throwables) {
+    return DONE;
+  }
+
+  @Override
+  public Future<?> producePlatformEvent(
+      @Nonnull String name, @Nullable String key, @Nonnull PlatformEvent payload) {
+    return DONE;
+  }
+
+  @Override
+  public String getPlatformEventTopicName() {
+    return "PlatformEvent_v1";
+  }
+
+  @Override
+  public void produceDataHubUpgradeHistoryEvent(@Nonnull DataHubUpgradeHistoryEvent event) {}
+}
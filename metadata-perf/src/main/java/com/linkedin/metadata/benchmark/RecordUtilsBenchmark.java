@@ -0,0 +1,54 @@
+package com.linkedin.metadata.benchmark;
+
+import com.datahub.util.RecordUtils;
+import com.linkedin.dataset.DatasetProperties;
+import com.linkedin.schema.SchemaMetadata;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link RecordUtils#toRecordTemplate(Class, String)}, used to deserialize every aspect read back
+ * from the aspect table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class RecordUtilsBenchmark {
+
+  /** Number of fields of the serialized schema aspect. */
+  @Param({"10", "500"})
+  private int fieldCount;
+
+  private String datasetPropertiesJson;
+  private String schemaMetadataJson;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    datasetPropertiesJson = RecordUtils.toJsonString(BenchmarkFixtures.datasetProperties(0, 0));
+    schemaMetadataJson = RecordUtils.toJsonString(BenchmarkFixtures.schemaMetadata(fieldCount));
+  }
+
+  @Benchmark
+  public DatasetProperties datasetProperties() {
+    return RecordUtils.toRecordTemplate(DatasetProperties.class, datasetPropertiesJson);
+  }
+
+  @Benchmark
+  public SchemaMetadata schemaMetadata() {
+    return RecordUtils.toRecordTemplate(SchemaMetadata.class, schemaMetadataJson);
+  }
+}
@@ -0,0 +1,75 @@
+package com.linkedin.metadata.benchmark;
+
+import static com.linkedin.metadata.Constants.DATASET_ENTITY_NAME;
+import static com.linkedin.metadata.Constants.DATASET_PROPERTIES_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.GLOBAL_TAGS_ASPECT_NAME;
+import static com.linkedin.metadata.Constants.SCHEMA_METADATA_ASPECT_NAME;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.metadata.models.AspectSpec;
+import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
+import io.datahubproject.metadata.context.OperationContext;
+import io.datahubproject.test.metadata.context.TestOperationContexts;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@link SearchDocumentTransformer#transformAspect} for common dataset aspects. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SearchDocumentTransformerBenchmark {
+
+  @Param({DATASET_PROPERTIES_ASPECT_NAME, GLOBAL_TAGS_ASPECT_NAME, SCHEMA_METADATA_ASPECT_NAME})
+  private String aspectName;
+
+  private final SearchDocumentTransformer transformer =
+      new SearchDocumentTransformer(1000, 1000, 1000);
+  private OperationContext opContext;
+  private Urn urn;
+  private RecordTemplate aspect;
+  private AspectSpec aspectSpec;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    opContext = TestOperationContexts.systemContextNoSearchAuthorization();
+    urn = BenchmarkFixtures.datasetUrn(0);
+    aspectSpec =
+        opContext.getEntityRegistry().getEntitySpec(DATASET_ENTITY_NAME).getAspectSpec(aspectName);
+    switch (aspectName) {
+      case DATASET_PROPERTIES_ASPECT_NAME:
+        aspect = BenchmarkFixtures.datasetProperties(0, 0);
+        break;
+      case GLOBAL_TAGS_ASPECT_NAME:
+        aspect = BenchmarkFixtures.globalTags(20);
+        break;
+      case SCHEMA_METADATA_ASPECT_NAME:
+        aspect = BenchmarkFixtures.schemaMetadata(500);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported aspect " + aspectName);
+    }
+  }
+
+  @Benchmark
+  public Optional<ObjectNode> transformAspect() throws Exception {
+    return transformer.transformAspect(
+        opContext, urn, aspect, aspectSpec, false, BenchmarkFixtures.AUDIT_STAMP);
+  }
+}
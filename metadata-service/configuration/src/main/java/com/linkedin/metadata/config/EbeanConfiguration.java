@@ -23,6 +23,13 @@ public class EbeanConfiguration {
   private boolean autoCreateDdl;
   private boolean postgresUseIamAuth;
   private String batchGetMethod;
+  private int writeBatchSize;
+  private int batchGetConcurrency;
+  private int batchGetThreads;
+  private String payloadCompression;
+  private int payloadCompressionMinBytes;
+  private int payloadCompressionLevel;
+  private EbeanReplicaConfiguration replica;
 
   public static final EbeanConfiguration testDefault = EbeanConfiguration.builder().build();
 }
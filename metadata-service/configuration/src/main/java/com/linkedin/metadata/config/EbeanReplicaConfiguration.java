@@ -0,0 +1,26 @@
+package com.linkedin.metadata.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Optional read replica used for aspect reads that do not need to see the latest writes. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EbeanReplicaConfiguration {
+  private boolean enabled;
+  private String username;
+  private String password;
+  private String url;
+  private long minConnections;
+  private long maxConnections;
+
+  /** Reads of an urn stay on the primary for this long after this instance writes it. */
+  private long readAfterWriteSeconds;
+
+  /** Reads stay on the primary for this long after a replica query fails. */
+  private long failureBackoffSeconds;
+}
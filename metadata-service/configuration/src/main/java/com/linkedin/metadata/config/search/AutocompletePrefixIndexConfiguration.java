@@ -0,0 +1,31 @@
+package com.linkedin.metadata.config.search;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** In memory prefix index that answers autocomplete for the most used entities of each type. */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class AutocompletePrefixIndexConfiguration {
+  private boolean enabled;
+
+  /**
+   * Number of entities of each type held in the index, picked by usage. At most 10000, the result
+   * window of the search indices they are loaded from.
+   */
+  private int maxEntitiesPerType;
+
+  /**
+   * Searchable usage count fields that rank entities, compared in order. Entity types without
+   * these fields are loaded in index order.
+   */
+  private List<String> usageFields;
+
+  /** How often the index is loaded again from the search indices, 0 loads it only at startup. */
+  private long refreshIntervalSeconds;
+}
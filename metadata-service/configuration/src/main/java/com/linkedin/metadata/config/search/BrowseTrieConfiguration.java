@@ -0,0 +1,25 @@
+package com.linkedin.metadata.config.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** In memory browse path tree that serves the group listings of browseV2. */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class BrowseTrieConfiguration {
+  private boolean enabled;
+
+  /** Number of slices each entity index is scanned in, in parallel, when loading the tree. */
+  private int slices;
+
+  /**
+   * How often the tree is loaded again from the search indices, 0 loads it only at startup.
+   * Reloading picks up changes that were not processed by this instance, such as those handled by
+   * a standalone MAE consumer.
+   */
+  private long refreshIntervalSeconds;
+}
@@ -18,4 +18,8 @@ public class BuildIndicesConfiguration {
   private String retentionUnit;
   private Long retentionValue;
   private boolean reindexOptimizationEnabled;
+  private int maxConcurrentReindexes;
+  private float reindexMinRequestsPerSecond;
+  private int reindexMaxPendingTasks;
+  private long reindexThrottleIntervalSeconds;
 }
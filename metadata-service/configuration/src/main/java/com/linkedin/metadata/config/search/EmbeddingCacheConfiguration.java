@@ -0,0 +1,21 @@
+package com.linkedin.metadata.config.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Configuration for the in memory cache of query embeddings. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmbeddingCacheConfiguration {
+
+  /** Whether query embeddings are cached. Defaults to true. */
+  private boolean enabled = true;
+
+  /** Most embeddings kept, the least recently used are evicted first. Defaults to 10000. */
+  private long maxSize = 10000;
+
+  /** Seconds an embedding is kept, 0 to keep it until evicted. Defaults to 86400. */
+  private long ttlSeconds = 86400;
+}
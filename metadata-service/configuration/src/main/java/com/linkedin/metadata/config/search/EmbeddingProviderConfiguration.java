@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class EmbeddingProviderConfiguration {
 
-  /** Type of embedding provider. Currently supported: "aws-bedrock". Defaults to "aws-bedrock". */
+  /**
+   * Type of embedding provider. Currently supported: "aws-bedrock", and "local" for a deterministic
+   * stand-in that needs no external service. Defaults to "aws-bedrock".
+   */
   private String type = "aws-bedrock";
 
   /**
@@ -31,4 +34,19 @@ public class EmbeddingProviderConfiguration {
    * limit on the request body separate from the token context window. Defaults to 2048.
    */
   private int maxCharacterLength = 2048;
+
+  /**
+   * Maximum texts embedded per provider call when embedding in batches. Cohere Embed v3 accepts up
+   * to 96. Defaults to 96.
+   */
+  private int batchSize = 96;
+
+  /**
+   * Length of the vectors of the "local" provider, which must match the vector dimension of the
+   * semantic search index. Defaults to 1024.
+   */
+  private int dimensions = 1024;
+
+  /** Cache of query embeddings, in front of the provider. */
+  private EmbeddingCacheConfiguration cache = new EmbeddingCacheConfiguration();
 }
@@ -0,0 +1,42 @@
+package com.linkedin.metadata.config.search;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Fusion of keyword and semantic results for semantic search across entities. */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class HybridSearchConfiguration {
+
+  public enum Fusion {
+    /** Reciprocal rank fusion, each list adds {@code 1 / (rankConstant + rank)}. */
+    RRF,
+    /** Weighted sum of the features of each result, scores scaled by the top score of its list. */
+    WEIGHTED
+  }
+
+  /** Whether semantic search runs the keyword query beside the kNN query and fuses them. */
+  private boolean enabled;
+
+  private Fusion fusion;
+
+  /** Damps the lead of the top ranks in reciprocal rank fusion, 60 in the original paper. */
+  private int rankConstant;
+
+  /** Weight of each feature, by feature name, for weighted fusion. Learned offline. */
+  private Map<String, Double> weights;
+
+  /**
+   * Most results fetched from each list. Lists are fetched to the requested page first and deepened
+   * until the order of the page can no longer change, or this many results.
+   */
+  private int maxCandidates;
+
+  /** Whether to stop deepening the lists once the page is stable, rather than at maxCandidates. */
+  private boolean earlyTermination;
+}
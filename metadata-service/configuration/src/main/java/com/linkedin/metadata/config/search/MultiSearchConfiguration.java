@@ -0,0 +1,24 @@
+package com.linkedin.metadata.config.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Combining of concurrently issued search requests into a single _msearch call. */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class MultiSearchConfiguration {
+  private boolean enabled;
+
+  /** Most searches sent in one _msearch call, a full batch is sent right away. */
+  private int maxBatchSize;
+
+  /** How long the first search of a batch waits for others to join it. */
+  private long lingerMs;
+
+  /** How long a search waits for its response before failing on its own. */
+  private long timeoutMs;
+}
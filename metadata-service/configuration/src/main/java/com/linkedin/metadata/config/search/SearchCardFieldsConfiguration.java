@@ -0,0 +1,26 @@
+package com.linkedin.metadata.config.search;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Indexed fields returned with search results when the includeCardFields search flag is set, so
+ * that search cards render without fetching the entities.
+ */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchCardFieldsConfiguration {
+  /**
+   * Searchable field names read from the search documents. Names an entity type does not index
+   * are left out, the client fetches those from the entity.
+   */
+  private List<String> names;
+
+  /** Longer string values, such as descriptions, are cut to this many characters, 0 for none. */
+  private int maxValueLength;
+}
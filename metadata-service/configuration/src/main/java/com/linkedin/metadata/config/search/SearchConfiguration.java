@@ -20,4 +20,7 @@ public class SearchConfiguration {
   private GraphQueryConfiguration graph;
   private WordGramConfiguration wordGram;
   private SearchValidationConfiguration validation;
+  private MultiSearchConfiguration multiSearch;
+  private BrowseTrieConfiguration browseTrie;
+  private AutocompletePrefixIndexConfiguration autocompletePrefixIndex;
 }
@@ -16,7 +16,11 @@ public class SearchServiceConfiguration {
 
   private QueryFilterRewriterConfiguration queryFilterRewriter;
   private LimitConfig limit;
+  private SearchCardFieldsConfiguration cardFields;
 
   /** Environment-level gate to enable/disable semantic search. */
   private boolean semanticSearchEnabled;
+
+  /** Fusion of keyword and semantic results in semantic search, disabled when absent. */
+  private HybridSearchConfiguration hybrid;
 }
@@ -0,0 +1,56 @@
+package com.linkedin.metadata.config.search;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Configuration for the in memory ANN index that answers semantic search without kNN queries. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SemanticAnnIndexConfiguration {
+
+  /** Whether the index is loaded and serves semantic search. Defaults to false. */
+  private boolean enabled;
+
+  /** Neighbours linked per graph node, twice as many on the bottom layer. Defaults to 16. */
+  private int m = 16;
+
+  /** Candidates considered when linking a new vector. Defaults to 128. */
+  private int efConstruction = 128;
+
+  /** Candidates considered by a search, more improves recall at some latency. Defaults to 100. */
+  private int efSearch = 100;
+
+  /**
+   * Filtered searches that let through at most this many vectors score them all instead of
+   * searching the graph. Defaults to 2000.
+   */
+  private int exactSearchThreshold = 2000;
+
+  /**
+   * Most vectors held, about 4 KB each at 1024 dimensions. Past it searches go to the search
+   * cluster. Defaults to 500000.
+   */
+  private int maxVectors = 500000;
+
+  /**
+   * Searchable fields held for filtering. Searches filtering on other fields go to the search
+   * cluster.
+   */
+  private List<String> filterFields =
+      List.of(
+          "platform",
+          "origin",
+          "container",
+          "domains",
+          "tags",
+          "glossaryTerms",
+          "owners",
+          "removed",
+          "isLatest");
+
+  /** How often the index is loaded again from the semantic indices, 0 loads it only at startup. */
+  private long refreshIntervalSeconds = 3600;
+}
@@ -25,4 +25,7 @@ public class SemanticSearchConfiguration {
 
   /** Configuration for the embedding provider used to generate query embeddings. */
   private EmbeddingProviderConfiguration embeddingProvider;
+
+  /** In memory ANN index answering semantic search, disabled by default. */
+  private SemanticAnnIndexConfiguration annIndex = new SemanticAnnIndexConfiguration();
 }
@@ -13,6 +13,7 @@ import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spi.merge.LatestUpdateMergePolicy;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -45,6 +46,12 @@ public class CacheConfig {
   @Value("${searchService.cache.hazelcast.resolve-not-ready-addresses:}")
   private String kubernetesResolveNotReadyAddresses;
 
+  @Value("${searchService.cache.hazelcast.nearCache.enabled:false}")
+  private boolean nearCacheEnabled;
+
+  @Value("${searchService.cache.hazelcast.nearCache.maxBytesPerCache:67108864}")
+  private long nearCacheMaxBytesPerCache;
+
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "caffeine")
   public CacheManager caffeineCacheManager() {
@@ -102,8 +109,19 @@ public class CacheConfig {
   @Bean
   @ConditionalOnProperty(name = "searchService.cacheImplementation", havingValue = "hazelcast")
   public CacheManager hazelcastCacheManager(
-      @Qualifier("hazelcastInstance") final HazelcastInstance hazelcastInstance) {
-    return new HazelcastCacheManager(hazelcastInstance);
+      @Qualifier("hazelcastInstance") final HazelcastInstance hazelcastInstance,
+      final MeterRegistry meterRegistry) {
+    HazelcastCacheManager hazelcastCacheManager = new HazelcastCacheManager(hazelcastInstance);
+    if (nearCacheEnabled) {
+      // Local entries live no longer than their Hazelcast counterpart
+      return new NearCacheManager(
+          hazelcastInstance,
+          hazelcastCacheManager,
+          nearCacheMaxBytesPerCache,
+          cacheTtlSeconds,
+          meterRegistry);
+    }
+    return hazelcastCacheManager;
   }
 
   @Bean
@@ -1,5 +1,7 @@
 package com.linkedin.gms.factory.common;
 
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.EbeanReplicaConfiguration;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.ebean.config.DatabaseConfig;
 import io.ebean.datasource.DataSourceConfig;
@@ -8,6 +10,7 @@ import java.sql.Connection;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -150,4 +153,27 @@ public class LocalEbeanConfigFactory {
     serverConfig.setDdlRun(ebeanAutoCreate);
     return serverConfig;
   }
+
+  @Bean(name = "gmsEbeanReplicaDatabaseConfig")
+  @ConditionalOnProperty(name = "ebean.replica.enabled", havingValue = "true")
+  protected DatabaseConfig createReplicaInstance(
+      final ConfigurationProvider configurationProvider, MetricUtils metricUtils) {
+    EbeanReplicaConfiguration replica = configurationProvider.getEbean().getReplica();
+    DataSourceConfig config = buildDataSourceConfig(replica.getUrl(), metricUtils);
+    config.setUsername(replica.getUsername());
+    config.setPassword(replica.getPassword());
+    config.setMinConnections((int) replica.getMinConnections());
+    config.setMaxConnections((int) replica.getMaxConnections());
+    config.setReadOnly(true);
+    config.setListener(getListenerToTrackCounts(metricUtils, "replica"));
+
+    DatabaseConfig serverConfig = new DatabaseConfig();
+    serverConfig.setName("gmsEbeanReplicaDatabaseConfig");
+    serverConfig.setDataSourceConfig(config);
+    // Never become the default database, which Ebean uses for writes through models
+    serverConfig.setDefaultServer(false);
+    serverConfig.setDdlGenerate(false);
+    serverConfig.setDdlRun(false);
+    return serverConfig;
+  }
 }
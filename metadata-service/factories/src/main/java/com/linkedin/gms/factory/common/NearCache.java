@@ -0,0 +1,302 @@
+package com.linkedin.gms.factory.common;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
+import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
+import com.linkedin.metadata.search.cache.CachedRecordTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Two tier {@link Cache}: a local, byte bounded Caffeine cache in front of a Hazelcast backed
+ * cache. Reads are served locally when possible, falling back to the Hazelcast map and populating
+ * the local tier. Entries written by other members are invalidated locally through a Hazelcast
+ * entry listener, so a replica only serves a local copy until a peer changes or removes it.
+ *
+ * <p>A value read from Hazelcast is only copied into the local tier if no invalidation of its key
+ * arrived while it was being read, otherwise the copy could outlive the change that invalidated it.
+ */
+@Slf4j
+public class NearCache implements Cache {
+  public static final String REQUESTS_METRIC = "datahub.cache.near.requests";
+
+  // Approximate per entry overhead of the key, Caffeine node and wrapper objects
+  private static final int ENTRY_OVERHEAD_BYTES = 256;
+  // Assumed size of values, and of collection elements, whose size is not known up front
+  private static final int UNKNOWN_VALUE_BYTES = 1024;
+  private static final int ELEMENT_BYTES = 64;
+  private static final int INVALIDATION_STRIPES = 1024;
+
+  private final String name;
+  private final Cache remote;
+  private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+  @Nullable private final IMap<Object, Object> map;
+  @Nullable private final UUID listenerId;
+
+  /**
+   * Invalidations per stripe of keys. Keys sharing a stripe only cost each other a local copy,
+   * never a stale read.
+   */
+  private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+  private final Counter localHits;
+  private final Counter remoteHits;
+  private final Counter misses;
+
+  public NearCache(
+      @Nonnull Cache remote,
+      @Nullable IMap<Object, Object> map,
+      long maxBytes,
+      long ttlSeconds,
+      @Nonnull MeterRegistry meterRegistry) {
+    this.name = remote.getName();
+    this.remote = remote;
+    this.map = map;
+
+    Caffeine<Object, Object> caffeine =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((key, value) -> estimateBytes(value))
+            .recordStats();
+    if (ttlSeconds > 0) {
+      caffeine.expireAfterWrite(Duration.ofSeconds(ttlSeconds));
+    }
+    this.local = caffeine.build();
+
+    this.localHits = requestCounter(meterRegistry, "local");
+    this.remoteHits = requestCounter(meterRegistry, "remote");
+    this.misses = requestCounter(meterRegistry, "miss");
+    CaffeineCacheMetrics.monitor(meterRegistry, local, name + ".near", "name", name);
+
+    this.listenerId = map != null ? map.addEntryListener(new InvalidationListener(), false) : null;
+  }
+
+  @Override
+  @Nonnull
+  public String getName() {
+    return name;
+  }
+
+  /** The remote cache's native cache so key enumeration still covers the whole cluster. */
+  @Override
+  @Nonnull
+  public Object getNativeCache() {
+    return remote.getNativeCache();
+  }
+
+  @Override
+  @Nullable
+  public ValueWrapper get(@Nonnull Object key) {
+    Object value = local.getIfPresent(key);
+    if (value != null) {
+      localHits.increment();
+      return new SimpleValueWrapper(value);
+    }
+
+    final long stamp = invalidations.get(stripe(key));
+    ValueWrapper wrapper = remote.get(key);
+    if (wrapper != null && wrapper.get() != null) {
+      remoteHits.increment();
+      putLocalUnlessInvalidated(key, wrapper.get(), stamp);
+    } else {
+      misses.increment();
+    }
+    return wrapper;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull Object key, @Nullable Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @Nullable
+  @SuppressWarnings("unchecked")
+  public <T> T get(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+    ValueWrapper wrapper = get(key);
+    if (wrapper != null) {
+      return (T) wrapper.get();
+    }
+    final long stamp = invalidations.get(stripe(key));
+    T value = remote.get(key, valueLoader);
+    if (value != null) {
+      putLocalUnlessInvalidated(key, value, stamp);
+    }
+    return value;
+  }
+
+  @Override
+  public void put(@Nonnull Object key, @Nullable Object value) {
+    remote.put(key, value);
+    if (value != null) {
+      local.put(key, value);
+    } else {
+      invalidateLocal(key);
+    }
+  }
+
+  // The remote tier goes first so a concurrent read cannot copy the old value back in
+  @Override
+  public void evict(@Nonnull Object key) {
+    remote.evict(key);
+    invalidateLocal(key);
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    invalidateAllLocal();
+  }
+
+  /** Removes the invalidation listener from the Hazelcast map. */
+  public void destroy() {
+    if (map != null && listenerId != null) {
+      map.removeEntryListener(listenerId);
+    }
+    invalidateAllLocal();
+  }
+
+  long localSize() {
+    return local.estimatedSize();
+  }
+
+  /**
+   * Copies a value read from the remote tier into the local one. Runs atomically with the key's
+   * local invalidation, which is counted before it runs, so an invalidation either shows in the
+   * stamp or removes the copy afterwards. A local copy already present is as fresh and is kept.
+   */
+  private void putLocalUnlessInvalidated(Object key, Object value, long stamp) {
+    local
+        .asMap()
+        .compute(
+            key,
+            (k, current) ->
+                current != null || invalidations.get(stripe(k)) != stamp ? current : value);
+  }
+
+  private void invalidateLocal(Object key) {
+    invalidations.incrementAndGet(stripe(key));
+    local.invalidate(key);
+  }
+
+  private void invalidateAllLocal() {
+    for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+      invalidations.incrementAndGet(i);
+    }
+    local.invalidateAll();
+  }
+
+  private static int stripe(Object key) {
+    return Math.floorMod(key.hashCode(), INVALIDATION_STRIPES);
+  }
+
+  private Counter requestCounter(MeterRegistry meterRegistry, String tier) {
+    return Counter.builder(REQUESTS_METRIC)
+        .tag("cache", name)
+        .tag("tier", tier)
+        .register(meterRegistry);
+  }
+
+  static int estimateBytes(@Nullable Object value) {
+    long bytes = ENTRY_OVERHEAD_BYTES;
+    if (value instanceof CachedRecordTemplate) {
+      bytes += ((CachedRecordTemplate) value).getPayload().length;
+    } else if (value instanceof String) {
+      bytes += ((String) value).length() * 2L;
+    } else if (value instanceof byte[]) {
+      bytes += ((byte[]) value).length;
+    } else if (value instanceof Collection) {
+      bytes += ((Collection<?>) value).size() * (long) ELEMENT_BYTES;
+    } else if (value instanceof Map) {
+      bytes += ((Map<?, ?>) value).size() * 2L * ELEMENT_BYTES;
+    } else if (value != null) {
+      // Serializing to measure would cost as much as the remote read the near tier saves
+      bytes += UNKNOWN_VALUE_BYTES;
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Drops local copies when the entry changes in the cluster. Adds and updates made through this
+   * member already refreshed the local tier and are ignored, everything else invalidates.
+   */
+  private class InvalidationListener
+      implements EntryAddedListener<Object, Object>,
+          EntryUpdatedListener<Object, Object>,
+          EntryRemovedListener<Object, Object>,
+          EntryEvictedListener<Object, Object>,
+          EntryExpiredListener<Object, Object>,
+          MapClearedListener,
+          MapEvictedListener {
+
+    @Override
+    public void entryAdded(EntryEvent<Object, Object> event) {
+      invalidateIfRemote(event);
+    }
+
+    @Override
+    public void entryUpdated(EntryEvent<Object, Object> event) {
+      invalidateIfRemote(event);
+    }
+
+    @Override
+    public void entryRemoved(EntryEvent<Object, Object> event) {
+      invalidateLocal(event.getKey());
+    }
+
+    @Override
+    public void entryEvicted(EntryEvent<Object, Object> event) {
+      invalidateLocal(event.getKey());
+    }
+
+    @Override
+    public void entryExpired(EntryEvent<Object, Object> event) {
+      invalidateLocal(event.getKey());
+    }
+
+    @Override
+    public void mapCleared(MapEvent event) {
+      invalidateAllLocal();
+    }
+
+    @Override
+    public void mapEvicted(MapEvent event) {
+      invalidateAllLocal();
+    }
+
+    private void invalidateIfRemote(EntryEvent<Object, Object> event) {
+      if (event.getMember() == null || !event.getMember().localMember()) {
+        log.debug("Invalidating near cache entry {} in {}", event.getKey(), name);
+        invalidateLocal(event.getKey());
+      }
+    }
+  }
+}
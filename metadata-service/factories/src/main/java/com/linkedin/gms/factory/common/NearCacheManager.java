@@ -0,0 +1,66 @@
+package com.linkedin.gms.factory.common;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * {@link CacheManager} wrapping a Hazelcast backed cache manager with a per cache {@link
+ * NearCache}, each bounded to {@code maxBytesPerCache} bytes of local heap.
+ */
+public class NearCacheManager implements CacheManager, DisposableBean {
+  private final HazelcastInstance hazelcastInstance;
+  private final CacheManager remote;
+  private final long maxBytesPerCache;
+  private final long ttlSeconds;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, NearCache> caches = new ConcurrentHashMap<>();
+
+  public NearCacheManager(
+      @Nonnull HazelcastInstance hazelcastInstance,
+      @Nonnull CacheManager remote,
+      long maxBytesPerCache,
+      long ttlSeconds,
+      @Nonnull MeterRegistry meterRegistry) {
+    this.hazelcastInstance = hazelcastInstance;
+    this.remote = remote;
+    this.maxBytesPerCache = maxBytesPerCache;
+    this.ttlSeconds = ttlSeconds;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  @Nullable
+  public Cache getCache(@Nonnull String name) {
+    return caches.computeIfAbsent(
+        name,
+        cacheName -> {
+          Cache remoteCache = remote.getCache(cacheName);
+          if (remoteCache == null) {
+            return null;
+          }
+          IMap<Object, Object> map = hazelcastInstance.getMap(cacheName);
+          return new NearCache(remoteCache, map, maxBytesPerCache, ttlSeconds, meterRegistry);
+        });
+  }
+
+  @Override
+  @Nonnull
+  public Collection<String> getCacheNames() {
+    return remote.getCacheNames();
+  }
+
+  @Override
+  public void destroy() {
+    caches.values().forEach(NearCache::destroy);
+    caches.clear();
+  }
+}
@@ -27,6 +27,12 @@ public class Neo4jGraphServiceFactory {
   @Value("${neo4j.database}")
   private String neo4jDatabase;
 
+  @Value("${neo4j.writeBatchSize}")
+  private int writeBatchSize;
+
+  @Value("${neo4j.maxTransactionRetries}")
+  private int maxTransactionRetries;
+
   @Bean(name = "graphService")
   @Nonnull
   protected GraphService getInstance(
@@ -37,7 +43,9 @@ public class Neo4jGraphServiceFactory {
             lineageRegistry,
             neo4jDriver,
             SessionConfig.forDatabase(neo4jDatabase),
-            configurationProvider.getGraphService());
+            configurationProvider.getGraphService(),
+            writeBatchSize,
+            maxTransactionRetries);
 
     if (configurationProvider.getDatahub().isReadOnly()) {
       neo4jGraphService.setWritable(false);
@@ -32,4 +32,12 @@ public class EbeanDatabaseFactory {
       throw ne;
     }
   }
+
+  @Bean("ebeanReplicaServer")
+  @ConditionalOnProperty(name = "ebean.replica.enabled", havingValue = "true")
+  @Nonnull
+  protected Database createReplicaServer(
+      @Qualifier("gmsEbeanReplicaDatabaseConfig") DatabaseConfig serverConfig) {
+    return createServer(serverConfig);
+  }
 }
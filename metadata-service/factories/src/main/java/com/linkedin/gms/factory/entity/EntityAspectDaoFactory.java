@@ -1,14 +1,21 @@
 package com.linkedin.gms.factory.entity;
 
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.EbeanConfiguration;
 import com.linkedin.metadata.entity.AspectDao;
 import com.linkedin.metadata.entity.cassandra.CassandraAspectDao;
 import com.linkedin.metadata.entity.ebean.EbeanAspectDao;
 import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.ebean.Database;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,23 +29,54 @@ public class EntityAspectDaoFactory {
   @Nonnull
   protected AspectDao createEbeanInstance(
       @Qualifier("ebeanServer") final Database server,
+      @Qualifier("ebeanReplicaServer") final ObjectProvider<Database> replicaServer,
       final ConfigurationProvider configurationProvider,
       final MetricUtils metricUtils) {
+    final EbeanConfiguration ebeanConfiguration = configurationProvider.getEbean();
     EbeanAspectDao ebeanAspectDao =
-        new EbeanAspectDao(server, configurationProvider.getEbean(), metricUtils);
+        new EbeanAspectDao(
+            server,
+            replicaServer.getIfAvailable(),
+            ebeanConfiguration,
+            metricUtils,
+            ebeanConfiguration.getBatchGetConcurrency() > 1
+                ? batchGetExecutor(ebeanConfiguration)
+                : null);
     if (configurationProvider.getDatahub().isReadOnly()) {
       ebeanAspectDao.setWritable(false);
     }
     return ebeanAspectDao;
   }
 
+  private static ThreadPoolExecutor batchGetExecutor(
+      @Nonnull EbeanConfiguration ebeanConfiguration) {
+    // Unless set explicitly, fan-out uses at most a quarter of the connection pool so concurrent
+    // batch gets cannot starve writes of connections
+    final int threads =
+        ebeanConfiguration.getBatchGetThreads() > 0
+            ? ebeanConfiguration.getBatchGetThreads()
+            : (int) Math.max(1, ebeanConfiguration.getMaxConnections() / 4);
+    ThreadPoolExecutor batchGetExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("ebean-batch-get-%d").setDaemon(true).build());
+    batchGetExecutor.allowCoreThreadTimeOut(true);
+    return batchGetExecutor;
+  }
+
   @Bean(name = "entityAspectDao")
   @DependsOn({"cassandraSession"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
   @Nonnull
   protected AspectDao createCassandraInstance(
-      CqlSession session, final ConfigurationProvider configurationProvider) {
-    CassandraAspectDao cassandraAspectDao = new CassandraAspectDao(session);
+      CqlSession session,
+      final ConfigurationProvider configurationProvider,
+      @Value("${cassandra.maxConcurrentRequests}") final int maxConcurrentRequests) {
+    CassandraAspectDao cassandraAspectDao = new CassandraAspectDao(session, maxConcurrentRequests);
     if (configurationProvider.getDatahub().isReadOnly()) {
       cassandraAspectDao.setWritable(false);
     }
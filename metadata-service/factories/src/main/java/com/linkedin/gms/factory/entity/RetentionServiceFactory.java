@@ -26,6 +26,9 @@ public class RetentionServiceFactory {
   @Value("${RETENTION_APPLICATION_BATCH_SIZE:1000}")
   private Integer _batchSize;
 
+  @Value("${entityService.retention.applyThreads}")
+  private Integer _applyThreads;
+
   @Bean(name = "retentionService")
   @DependsOn({"cassandraSession", "entityService"})
   @ConditionalOnProperty(name = "entityService.impl", havingValue = "cassandra")
@@ -44,7 +47,7 @@ public class RetentionServiceFactory {
   protected RetentionService<ChangeItemImpl> createEbeanInstance(
       @Qualifier("ebeanServer") final Database server) {
     RetentionService<ChangeItemImpl> retentionService =
-        new EbeanRetentionService<>(_entityService, server, _batchSize);
+        new EbeanRetentionService<>(_entityService, server, _batchSize, _applyThreads);
     _entityService.setRetentionService(retentionService);
     return retentionService;
   }
@@ -4,6 +4,9 @@ import com.linkedin.gms.factory.search.ElasticSearchServiceFactory;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.graph.GraphService;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import com.linkedin.metadata.search.elasticsearch.query.AutocompletePrefixIndex;
+import com.linkedin.metadata.search.elasticsearch.query.BrowsePathTrie;
+import com.linkedin.metadata.search.semantic.SemanticAnnIndex;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import com.linkedin.metadata.service.UpdateGraphIndicesService;
 import com.linkedin.metadata.service.UpdateIndicesService;
@@ -114,7 +117,10 @@ public class UpdateIndicesServiceFactory {
       @Value("#{'${featureFlags.fineGrainedLineageNotAllowedForPlatforms}'.split(',')}")
           final List<String> fineGrainedLineageNotAllowedForPlatforms,
       @Qualifier("updateIndicesV2Strategy") @Nullable UpdateIndicesStrategy v2Strategy,
-      @Qualifier("updateIndicesV3Strategy") @Nullable UpdateIndicesStrategy v3Strategy) {
+      @Qualifier("updateIndicesV3Strategy") @Nullable UpdateIndicesStrategy v3Strategy,
+      @Nullable final BrowsePathTrie browsePathTrie,
+      @Nullable final AutocompletePrefixIndex autocompletePrefixIndex,
+      @Nullable final SemanticAnnIndex semanticAnnIndex) {
 
     Collection<UpdateIndicesStrategy> strategies = createStrategies(v2Strategy, v3Strategy);
 
@@ -132,6 +138,11 @@ public class UpdateIndicesServiceFactory {
             structuredPropertiesHookEnabled,
             structuredPropertiesWriteEnabled);
 
+    // Only MCLs processed in this process reach the tree and the in memory indices, their periodic
+    // reloads cover the rest
+    updateIndicesService.setBrowsePathTrie(browsePathTrie);
+    updateIndicesService.setAutocompletePrefixIndex(autocompletePrefixIndex);
+    updateIndicesService.setSemanticAnnIndex(semanticAnnIndex);
     entityService.setUpdateIndicesService(updateIndicesService);
 
     return updateIndicesService;
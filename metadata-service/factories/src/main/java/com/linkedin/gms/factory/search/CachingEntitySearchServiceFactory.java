@@ -1,7 +1,13 @@
 package com.linkedin.gms.factory.search;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.linkedin.metadata.search.EntitySearchService;
+import com.linkedin.metadata.search.cache.CoalescingCacheLoader;
 import com.linkedin.metadata.search.client.CachingEntitySearchService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -26,11 +32,71 @@ public class CachingEntitySearchServiceFactory {
   @Value("${searchService.enableCache}")
   private Boolean enableCache;
 
+  @Value("${searchService.cache.refreshAfterSeconds:0}")
+  private long refreshAfterSeconds;
+
+  @Value("${searchService.cache.refreshThreads:2}")
+  private int refreshThreads;
+
+  @Value("${searchService.cache.aggregations.enabled:false}")
+  private boolean enableAggregationsCache;
+
+  @Value("${searchService.cache.aggregations.ttlSeconds:300}")
+  private long aggregationsTtlSeconds;
+
+  @Value("${searchService.cache.aggregations.threads:4}")
+  private int aggregationsThreads;
+
   @Bean(name = "cachingEntitySearchService")
   @Primary
   @Nonnull
   protected CachingEntitySearchService getInstance() {
     return new CachingEntitySearchService(
-        cacheManager, entitySearchService, batchSize, enableCache);
+        cacheManager,
+        entitySearchService,
+        batchSize,
+        enableCache,
+        cacheLoader(),
+        enableAggregationsCache,
+        TimeUnit.SECONDS.toMillis(aggregationsTtlSeconds),
+        enableAggregationsCache ? aggregationsExecutor() : null);
+  }
+
+  private ThreadPoolExecutor aggregationsExecutor() {
+    // Bounded queue, aggregations beyond capacity are computed on the request thread
+    ThreadPoolExecutor aggregationsExecutor =
+        new ThreadPoolExecutor(
+            aggregationsThreads,
+            aggregationsThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1000),
+            threadFactory("search-cache-aggregations-%d"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    aggregationsExecutor.allowCoreThreadTimeOut(true);
+    return aggregationsExecutor;
+  }
+
+  private CoalescingCacheLoader cacheLoader() {
+    if (refreshAfterSeconds <= 0) {
+      return new CoalescingCacheLoader();
+    }
+    // Bounded queue, refreshes beyond capacity are dropped and the stale entry is served again
+    ThreadPoolExecutor refreshExecutor =
+        new ThreadPoolExecutor(
+            refreshThreads,
+            refreshThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(1000),
+            threadFactory("search-cache-refresh-%d"),
+            new ThreadPoolExecutor.AbortPolicy());
+    refreshExecutor.allowCoreThreadTimeOut(true);
+    return new CoalescingCacheLoader(
+        TimeUnit.SECONDS.toMillis(refreshAfterSeconds), refreshExecutor);
+  }
+
+  private static ThreadFactory threadFactory(@Nonnull String nameFormat) {
+    return new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build();
   }
 }
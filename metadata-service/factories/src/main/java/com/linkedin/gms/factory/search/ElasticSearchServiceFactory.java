@@ -1,17 +1,24 @@
 package com.linkedin.gms.factory.search;
 
 import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.search.AutocompletePrefixIndexConfiguration;
+import com.linkedin.metadata.config.search.BrowseTrieConfiguration;
 import com.linkedin.metadata.config.search.ElasticSearchConfiguration;
+import com.linkedin.metadata.config.search.MultiSearchConfiguration;
 import com.linkedin.metadata.config.search.SearchConfiguration;
 import com.linkedin.metadata.config.search.custom.CustomSearchConfiguration;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
 import com.linkedin.metadata.search.elasticsearch.index.MappingsBuilder;
 import com.linkedin.metadata.search.elasticsearch.index.SettingsBuilder;
+import com.linkedin.metadata.search.elasticsearch.query.AutocompletePrefixIndex;
+import com.linkedin.metadata.search.elasticsearch.query.BrowsePathTrie;
 import com.linkedin.metadata.search.elasticsearch.query.ESBrowseDAO;
 import com.linkedin.metadata.search.elasticsearch.query.ESSearchDAO;
+import com.linkedin.metadata.search.elasticsearch.query.SearchRequestBatcher;
 import com.linkedin.metadata.search.elasticsearch.query.filter.QueryFilterRewriteChain;
 import com.linkedin.metadata.search.elasticsearch.update.ESWriteDAO;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import io.datahubproject.metadata.context.ObjectMapperContext;
 import java.io.IOException;
 import javax.annotation.Nonnull;
@@ -55,20 +62,56 @@ public class ElasticSearchServiceFactory {
         : searchConfiguration.getCustom().resolve(ObjectMapperContext.DEFAULT.getYamlMapper());
   }
 
+  @Bean
+  @Nullable
+  protected SearchRequestBatcher searchRequestBatcher(
+      final ElasticSearchConfiguration elasticSearchConfiguration,
+      @Nullable final MetricUtils metricUtils) {
+    MultiSearchConfiguration multiSearch = elasticSearchConfiguration.getSearch().getMultiSearch();
+    return multiSearch == null || !multiSearch.isEnabled()
+        ? null
+        : new SearchRequestBatcher(components.getSearchClient(), multiSearch, metricUtils);
+  }
+
+  @Bean
+  @Nullable
+  protected BrowsePathTrie browsePathTrie(
+      final ElasticSearchConfiguration elasticSearchConfiguration) {
+    BrowseTrieConfiguration browseTrie = elasticSearchConfiguration.getSearch().getBrowseTrie();
+    return browseTrie == null || !browseTrie.isEnabled() ? null : new BrowsePathTrie();
+  }
+
+  @Bean
+  @Nullable
+  protected AutocompletePrefixIndex autocompletePrefixIndex(
+      final ElasticSearchConfiguration elasticSearchConfiguration,
+      @Nullable final MetricUtils metricUtils) {
+    AutocompletePrefixIndexConfiguration prefixIndex =
+        elasticSearchConfiguration.getSearch().getAutocompletePrefixIndex();
+    return prefixIndex == null || !prefixIndex.isEnabled()
+        ? null
+        : new AutocompletePrefixIndex(
+            prefixIndex.getMaxEntitiesPerType(), prefixIndex.getUsageFields(), metricUtils);
+  }
+
   @Bean
   protected ESSearchDAO esSearchDAO(
       final ConfigurationProvider configurationProvider,
       final QueryFilterRewriteChain queryFilterRewriteChain,
       final ElasticSearchConfiguration elasticSearchConfiguration,
-      @Nullable final CustomSearchConfiguration customSearchConfiguration) {
+      @Nullable final CustomSearchConfiguration customSearchConfiguration,
+      @Nullable final SearchRequestBatcher searchRequestBatcher,
+      @Nullable final AutocompletePrefixIndex autocompletePrefixIndex) {
 
     return new ESSearchDAO(
-        components.getSearchClient(),
-        elasticSearchConfiguration.getSearch().isPointInTimeCreationEnabled(),
-        elasticSearchConfiguration,
-        customSearchConfiguration,
-        queryFilterRewriteChain,
-        configurationProvider.getSearchService());
+            components.getSearchClient(),
+            elasticSearchConfiguration.getSearch().isPointInTimeCreationEnabled(),
+            elasticSearchConfiguration,
+            customSearchConfiguration,
+            queryFilterRewriteChain,
+            configurationProvider.getSearchService())
+        .setSearchRequestBatcher(searchRequestBatcher)
+        .setAutocompletePrefixIndex(autocompletePrefixIndex);
   }
 
   @Bean
@@ -92,7 +135,9 @@ public class ElasticSearchServiceFactory {
       final ESSearchDAO esSearchDAO,
       final ESWriteDAO esWriteDAO,
       @Qualifier("mappingsBuilder") final MappingsBuilder mappingsBuilder,
-      @Qualifier("settingsBuilder") final SettingsBuilder settingsBuilder)
+      @Qualifier("settingsBuilder") final SettingsBuilder settingsBuilder,
+      @Nullable final SearchRequestBatcher searchRequestBatcher,
+      @Nullable final BrowsePathTrie browsePathTrie)
       throws IOException {
 
     return new ElasticSearchService(
@@ -103,11 +148,13 @@ public class ElasticSearchServiceFactory {
         settingsBuilder,
         esSearchDAO,
         new ESBrowseDAO(
-            components.getSearchClient(),
-            elasticSearchConfiguration,
-            customSearchConfiguration,
-            queryFilterRewriteChain,
-            configurationProvider.getSearchService()),
+                components.getSearchClient(),
+                elasticSearchConfiguration,
+                customSearchConfiguration,
+                queryFilterRewriteChain,
+                configurationProvider.getSearchService())
+            .setSearchRequestBatcher(searchRequestBatcher)
+            .setBrowsePathTrie(browsePathTrie),
         esWriteDAO);
   }
 }
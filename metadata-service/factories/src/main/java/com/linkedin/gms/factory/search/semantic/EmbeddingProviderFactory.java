@@ -1,11 +1,15 @@
 package com.linkedin.gms.factory.search.semantic;
 
 import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.search.EmbeddingCacheConfiguration;
 import com.linkedin.metadata.config.search.EmbeddingProviderConfiguration;
 import com.linkedin.metadata.config.search.SemanticSearchConfiguration;
 import com.linkedin.metadata.search.embedding.AwsBedrockEmbeddingProvider;
+import com.linkedin.metadata.search.embedding.CachingEmbeddingProvider;
 import com.linkedin.metadata.search.embedding.EmbeddingProvider;
+import com.linkedin.metadata.search.embedding.LocalEmbeddingProvider;
 import com.linkedin.metadata.search.embedding.NoOpEmbeddingProvider;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
 import javax.annotation.Nonnull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +19,9 @@ import org.springframework.context.annotation.Configuration;
 /**
  * Factory for creating embedding providers used in semantic search.
  *
- * <p>Currently supports AWS Bedrock with Cohere Embed models. The provider is conditionally created
- * only when semantic search is enabled in the configuration.
+ * <p>Currently supports AWS Bedrock with Cohere Embed models, and a deterministic local provider for
+ * tests. The provider is conditionally created only when semantic search is enabled in the
+ * configuration, and is wrapped in a cache of query embeddings unless that is disabled.
  *
  * <p>AWS credentials are resolved automatically using the default AWS credential provider chain:
  *
@@ -39,11 +44,12 @@ public class EmbeddingProviderFactory {
    * <p>Returns a no-op provider if semantic search is not enabled, allowing the system to start
    * without requiring embedding configuration.
    *
+   * @param metricUtils where the embedding cache and latency metrics are registered
    * @return EmbeddingProvider instance configured based on application.yaml settings
    */
   @Bean(name = "embeddingProvider")
   @Nonnull
-  protected EmbeddingProvider getInstance() {
+  protected EmbeddingProvider getInstance(final MetricUtils metricUtils) {
     SemanticSearchConfiguration semanticSearchConfig =
         configurationProvider.getElasticSearch().getEntityIndex().getSemanticSearch();
 
@@ -55,22 +61,46 @@ public class EmbeddingProviderFactory {
 
     EmbeddingProviderConfiguration config = semanticSearchConfig.getEmbeddingProvider();
 
+    EmbeddingProvider provider = createProvider(config);
+
+    EmbeddingCacheConfiguration cacheConfig = config.getCache();
+    if (cacheConfig == null || !cacheConfig.isEnabled()) {
+      return provider;
+    }
+    log.info(
+        "Caching query embeddings: maxSize={}, ttlSeconds={}",
+        cacheConfig.getMaxSize(),
+        cacheConfig.getTtlSeconds());
+    return new CachingEmbeddingProvider(
+        provider, cacheConfig.getMaxSize(), cacheConfig.getTtlSeconds(), metricUtils.getRegistry());
+  }
+
+  private static EmbeddingProvider createProvider(EmbeddingProviderConfiguration config) {
     String providerType = config.getType();
     log.info("Creating embedding provider with type: {}", providerType);
 
     if ("aws-bedrock".equalsIgnoreCase(providerType)) {
       log.info(
-          "Configuring AWS Bedrock embedding provider: region={}, model={}, maxCharLength={}",
+          "Configuring AWS Bedrock embedding provider: region={}, model={}, maxCharLength={}, batchSize={}",
           config.getAwsRegion(),
           config.getModelId(),
-          config.getMaxCharacterLength());
+          config.getMaxCharacterLength(),
+          config.getBatchSize());
 
       return new AwsBedrockEmbeddingProvider(
-          config.getAwsRegion(), config.getModelId(), config.getMaxCharacterLength());
+          config.getAwsRegion(),
+          config.getModelId(),
+          config.getMaxCharacterLength(),
+          config.getBatchSize());
+    } else if ("local".equalsIgnoreCase(providerType)) {
+      log.warn(
+          "Using the local embedding provider with {} dimensions. Its embeddings only reflect word overlap, do not use it in production.",
+          config.getDimensions());
+      return new LocalEmbeddingProvider(config.getDimensions());
     } else {
       throw new IllegalStateException(
           String.format(
-              "Unsupported embedding provider type: %s. Only 'aws-bedrock' is currently supported.",
+              "Unsupported embedding provider type: %s. Supported types are 'aws-bedrock' and 'local'.",
               providerType));
     }
   }
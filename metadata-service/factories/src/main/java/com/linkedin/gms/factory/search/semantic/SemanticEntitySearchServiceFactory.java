@@ -1,11 +1,19 @@
 package com.linkedin.gms.factory.search.semantic;
 
+import com.linkedin.gms.factory.config.ConfigurationProvider;
+import com.linkedin.metadata.config.search.SemanticAnnIndexConfiguration;
+import com.linkedin.metadata.config.search.SemanticSearchConfiguration;
 import com.linkedin.metadata.search.elasticsearch.index.MappingsBuilder;
 import com.linkedin.metadata.search.embedding.EmbeddingProvider;
+import com.linkedin.metadata.search.semantic.SemanticAnnIndex;
 import com.linkedin.metadata.search.semantic.SemanticEntitySearch;
 import com.linkedin.metadata.search.semantic.SemanticEntitySearchService;
 import com.linkedin.metadata.utils.elasticsearch.SearchClientShim;
+import com.linkedin.metadata.utils.metrics.MetricUtils;
+import java.util.HashSet;
+import java.util.Set;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
@@ -22,10 +30,43 @@ public class SemanticEntitySearchServiceFactory {
   @Qualifier("embeddingProvider")
   private EmbeddingProvider embeddingProvider;
 
+  @Autowired private ConfigurationProvider configurationProvider;
+
   @Bean(name = "semanticEntitySearchService")
   @Nonnull
   protected SemanticEntitySearch getInstance(
-      @Qualifier("mappingsBuilder") final MappingsBuilder mappingsBuilder) {
-    return new SemanticEntitySearchService(searchClient, embeddingProvider, mappingsBuilder);
+      @Qualifier("mappingsBuilder") final MappingsBuilder mappingsBuilder,
+      @Nullable final SemanticAnnIndex semanticAnnIndex) {
+    SemanticEntitySearchService service =
+        new SemanticEntitySearchService(searchClient, embeddingProvider, mappingsBuilder);
+    service.setAnnIndex(semanticAnnIndex);
+    return service;
+  }
+
+  @Bean
+  @Nullable
+  protected SemanticAnnIndex semanticAnnIndex(@Nullable final MetricUtils metricUtils) {
+    SemanticSearchConfiguration semanticSearch =
+        configurationProvider.getElasticSearch().getEntityIndex().getSemanticSearch();
+    if (semanticSearch == null
+        || !semanticSearch.isEnabled()
+        || semanticSearch.getAnnIndex() == null
+        || !semanticSearch.getAnnIndex().isEnabled()) {
+      return null;
+    }
+    SemanticAnnIndexConfiguration annIndex = semanticSearch.getAnnIndex();
+    Set<String> entityTypes =
+        semanticSearch.getEnabledEntities() == null
+            ? Set.of()
+            : semanticSearch.getEnabledEntities();
+    return new SemanticAnnIndex(
+        entityTypes,
+        new HashSet<>(annIndex.getFilterFields()),
+        annIndex.getMaxVectors(),
+        annIndex.getM(),
+        annIndex.getEfConstruction(),
+        annIndex.getEfSearch(),
+        annIndex.getExactSearchThreshold(),
+        metricUtils);
   }
 }
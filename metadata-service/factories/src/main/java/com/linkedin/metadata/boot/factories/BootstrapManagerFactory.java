@@ -15,6 +15,9 @@ import com.linkedin.metadata.boot.steps.IngestDefaultGlobalSettingsStep;
 import com.linkedin.metadata.boot.steps.IngestEntityTypesStep;
 import com.linkedin.metadata.boot.steps.IngestPoliciesStep;
 import com.linkedin.metadata.boot.steps.IngestRetentionPoliciesStep;
+import com.linkedin.metadata.boot.steps.LoadAutocompletePrefixIndexStep;
+import com.linkedin.metadata.boot.steps.LoadBrowsePathTrieStep;
+import com.linkedin.metadata.boot.steps.LoadSemanticAnnIndexStep;
 import com.linkedin.metadata.boot.steps.MigrateHomePageLinksStep;
 import com.linkedin.metadata.boot.steps.RemoveClientIdAspectStep;
 import com.linkedin.metadata.boot.steps.RestoreColumnLineageIndices;
@@ -22,11 +25,17 @@ import com.linkedin.metadata.boot.steps.RestoreDbtSiblingsIndices;
 import com.linkedin.metadata.boot.steps.RestoreFormInfoIndicesStep;
 import com.linkedin.metadata.boot.steps.RestoreGlossaryIndices;
 import com.linkedin.metadata.boot.steps.WaitForSystemUpdateStep;
+import com.linkedin.metadata.config.search.AutocompletePrefixIndexConfiguration;
+import com.linkedin.metadata.config.search.BrowseTrieConfiguration;
+import com.linkedin.metadata.config.search.SemanticSearchConfiguration;
 import com.linkedin.metadata.entity.AspectMigrationsDao;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.models.registry.EntityRegistry;
 import com.linkedin.metadata.search.EntitySearchService;
 import com.linkedin.metadata.search.SearchService;
+import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import com.linkedin.metadata.search.semantic.SemanticEntitySearch;
+import com.linkedin.metadata.search.semantic.SemanticEntitySearchService;
 import com.linkedin.metadata.search.transformer.SearchDocumentTransformer;
 import io.datahubproject.metadata.context.OperationContext;
 import java.util.ArrayList;
@@ -66,6 +75,10 @@ public class BootstrapManagerFactory {
   @Qualifier("searchService")
   private SearchService _searchService;
 
+  @Autowired
+  @Qualifier("elasticSearchService")
+  private ElasticSearchService _elasticSearchService;
+
   @Autowired
   @Qualifier("searchDocumentTransformer")
   private SearchDocumentTransformer _searchDocumentTransformer;
@@ -82,6 +95,10 @@ public class BootstrapManagerFactory {
   @Qualifier("dataHubUpgradeKafkaListener")
   private BootstrapDependency _dataHubUpgradeKafkaListener;
 
+  @Autowired(required = false)
+  @Qualifier("semanticEntitySearchService")
+  private SemanticEntitySearch _semanticEntitySearch;
+
   @Autowired private ConfigurationProvider _configurationProvider;
 
   @Value("${bootstrap.policies.file}")
@@ -137,6 +154,34 @@ public class BootstrapManagerFactory {
       finalSteps.add(migrateHomePageLinksStep);
     }
 
+    final BrowseTrieConfiguration browseTrieConfiguration =
+        _configurationProvider.getElasticSearch().getSearch().getBrowseTrie();
+    if (browseTrieConfiguration != null && browseTrieConfiguration.isEnabled()) {
+      finalSteps.add(new LoadBrowsePathTrieStep(_elasticSearchService, browseTrieConfiguration));
+    }
+
+    final AutocompletePrefixIndexConfiguration autocompletePrefixIndexConfiguration =
+        _configurationProvider.getElasticSearch().getSearch().getAutocompletePrefixIndex();
+    if (autocompletePrefixIndexConfiguration != null
+        && autocompletePrefixIndexConfiguration.isEnabled()) {
+      finalSteps.add(
+          new LoadAutocompletePrefixIndexStep(
+              _elasticSearchService, autocompletePrefixIndexConfiguration));
+    }
+
+    final SemanticSearchConfiguration semanticSearchConfiguration =
+        _configurationProvider.getElasticSearch().getEntityIndex().getSemanticSearch();
+    if (semanticSearchConfiguration != null
+        && semanticSearchConfiguration.isEnabled()
+        && semanticSearchConfiguration.getAnnIndex() != null
+        && semanticSearchConfiguration.getAnnIndex().isEnabled()
+        && _semanticEntitySearch instanceof SemanticEntitySearchService) {
+      finalSteps.add(
+          new LoadSemanticAnnIndexStep(
+              (SemanticEntitySearchService) _semanticEntitySearch,
+              semanticSearchConfiguration.getAnnIndex()));
+    }
+
     return new BootstrapManager(finalSteps);
   }
 }
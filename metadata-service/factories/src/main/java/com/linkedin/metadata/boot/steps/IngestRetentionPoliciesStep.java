@@ -11,8 +11,11 @@ import com.linkedin.common.urn.Urn;
 import com.linkedin.metadata.boot.BootstrapStep;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
+import com.linkedin.metadata.entity.retention.RetentionCheckpoint;
 import com.linkedin.metadata.key.DataHubRetentionKey;
 import com.linkedin.retention.DataHubRetentionConfig;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
 import io.datahubproject.metadata.context.OperationContext;
 import jakarta.annotation.Nonnull;
 import java.io.IOException;
@@ -20,6 +23,7 @@ import java.net.URISyntaxException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
@@ -50,6 +54,9 @@ public class IngestRetentionPoliciesStep implements BootstrapStep {
 
   private static final String UPGRADE_ID = "ingest-retention-policies";
   private static final Urn UPGRADE_ID_URN = BootstrapStep.getUpgradeUrn(UPGRADE_ID);
+  // Progress of applying the policies to all records, cleared once they have been applied
+  private static final String APPLY_UPGRADE_ID = "apply-retention-policies";
+  static final Urn APPLY_UPGRADE_ID_URN = BootstrapStep.getUpgradeUrn(APPLY_UPGRADE_ID);
 
   @Nonnull
   @Override
@@ -105,15 +112,49 @@ public class IngestRetentionPoliciesStep implements BootstrapStep {
       }
     }
 
-    // 5. If there were updates on any of the retention policies, apply retention to all records
-    if (hasUpdate && _applyOnBootstrap) {
+    // 5. If there were updates on any of the retention policies, apply retention to all records.
+    // A run that was interrupted before it finished continues from its last checkpoint.
+    Optional<DataHubUpgradeResult> interrupted =
+        BootstrapStep.getUpgradeResult(systemOperationContext, APPLY_UPGRADE_ID_URN, _entityService)
+            .filter(result -> result.getState() == DataHubUpgradeState.IN_PROGRESS);
+    if ((hasUpdate || interrupted.isPresent()) && _applyOnBootstrap) {
+      Map<String, String> progress =
+          hasUpdate || !interrupted.get().hasResult()
+              ? Collections.emptyMap()
+              : interrupted.get().getResult();
       log.info("Applying policies to all records");
-      _retentionService.batchApplyRetention(null, null);
+      RetentionCheckpoint checkpoint = checkpoint(systemOperationContext, progress);
+      checkpoint.save(progress);
+      _retentionService.batchApplyRetention(null, null, checkpoint);
+      // A finished run leaves nothing to resume
+      BootstrapStep.setUpgradeResult(
+          systemOperationContext, APPLY_UPGRADE_ID_URN, _entityService, Collections.emptyMap());
     }
 
     BootstrapStep.setUpgradeResult(systemOperationContext, UPGRADE_ID_URN, _entityService);
   }
 
+  private RetentionCheckpoint checkpoint(
+      @Nonnull OperationContext systemOperationContext, @Nonnull Map<String, String> saved) {
+    return new RetentionCheckpoint() {
+      @Nonnull
+      @Override
+      public Map<String, String> load() {
+        return saved;
+      }
+
+      @Override
+      public void save(@Nonnull Map<String, String> progress) {
+        BootstrapStep.setUpgradeResult(
+            systemOperationContext,
+            APPLY_UPGRADE_ID_URN,
+            _entityService,
+            DataHubUpgradeState.IN_PROGRESS,
+            progress);
+      }
+    };
+  }
+
   /**
    * Parse yaml retention config
    *
@@ -0,0 +1,63 @@
+package com.linkedin.metadata.boot.steps;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.config.search.AutocompletePrefixIndexConfiguration;
+import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the in memory autocomplete prefix index once GMS has started, and again every {@code
+ * refreshIntervalSeconds} so that usage changes re-rank and re-pick the indexed entities.
+ * Autocomplete is served from the search indices until the first load completes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadAutocompletePrefixIndexStep implements BootstrapStep {
+
+  private final ElasticSearchService _elasticSearchService;
+  private final AutocompletePrefixIndexConfiguration _prefixIndexConfiguration;
+
+  private final ScheduledExecutorService _refreshExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("autocomplete-prefix-index-refresh-%d")
+              .setDaemon(true)
+              .build());
+
+  @Override
+  public String name() {
+    return this.getClass().getSimpleName();
+  }
+
+  @Nonnull
+  @Override
+  public ExecutionMode getExecutionMode() {
+    return ExecutionMode.ASYNC;
+  }
+
+  @Override
+  public void execute(@Nonnull OperationContext systemOperationContext) throws Exception {
+    final Runnable load =
+        () -> {
+          try {
+            _elasticSearchService.loadAutocompletePrefixIndex(systemOperationContext);
+          } catch (Exception e) {
+            // A failed load keeps the previous index, the next refresh tries again
+            log.error("Failed to load the autocomplete prefix index", e);
+          }
+        };
+    if (_prefixIndexConfiguration.getRefreshIntervalSeconds() > 0) {
+      _refreshExecutor.scheduleWithFixedDelay(
+          load, 0, _prefixIndexConfiguration.getRefreshIntervalSeconds(), TimeUnit.SECONDS);
+    } else {
+      _refreshExecutor.execute(load);
+    }
+  }
+}
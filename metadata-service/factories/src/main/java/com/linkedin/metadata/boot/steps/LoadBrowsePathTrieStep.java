@@ -0,0 +1,64 @@
+package com.linkedin.metadata.boot.steps;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.config.search.BrowseTrieConfiguration;
+import com.linkedin.metadata.search.elasticsearch.ElasticSearchService;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the in memory browse path tree of browseV2 once GMS has started, and again every {@code
+ * refreshIntervalSeconds}. Browse requests are served from the search indices until the first load
+ * completes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadBrowsePathTrieStep implements BootstrapStep {
+
+  private final ElasticSearchService _elasticSearchService;
+  private final BrowseTrieConfiguration _browseTrieConfiguration;
+
+  private final ScheduledExecutorService _refreshExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("browse-path-trie-refresh-%d")
+              .setDaemon(true)
+              .build());
+
+  @Override
+  public String name() {
+    return this.getClass().getSimpleName();
+  }
+
+  @Nonnull
+  @Override
+  public ExecutionMode getExecutionMode() {
+    return ExecutionMode.ASYNC;
+  }
+
+  @Override
+  public void execute(@Nonnull OperationContext systemOperationContext) throws Exception {
+    final Runnable load =
+        () -> {
+          try {
+            _elasticSearchService.loadBrowsePathTrie(
+                systemOperationContext, _browseTrieConfiguration.getSlices());
+          } catch (Exception e) {
+            // A failed load keeps the previous tree, the next refresh tries again
+            log.error("Failed to load the browse path tree", e);
+          }
+        };
+    if (_browseTrieConfiguration.getRefreshIntervalSeconds() > 0) {
+      _refreshExecutor.scheduleWithFixedDelay(
+          load, 0, _browseTrieConfiguration.getRefreshIntervalSeconds(), TimeUnit.SECONDS);
+    } else {
+      _refreshExecutor.execute(load);
+    }
+  }
+}
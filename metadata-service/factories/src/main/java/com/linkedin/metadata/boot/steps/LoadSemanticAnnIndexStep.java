@@ -0,0 +1,63 @@
+package com.linkedin.metadata.boot.steps;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.linkedin.metadata.boot.BootstrapStep;
+import com.linkedin.metadata.config.search.SemanticAnnIndexConfiguration;
+import com.linkedin.metadata.search.semantic.SemanticEntitySearchService;
+import io.datahubproject.metadata.context.OperationContext;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads the in memory semantic ANN index once GMS has started, and again every {@code
+ * refreshIntervalSeconds} to drop deleted vectors and pick up changes made by other processes.
+ * Semantic search is served from the semantic indices until the first load completes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadSemanticAnnIndexStep implements BootstrapStep {
+
+  private final SemanticEntitySearchService _semanticEntitySearchService;
+  private final SemanticAnnIndexConfiguration _annIndexConfiguration;
+
+  private final ScheduledExecutorService _refreshExecutor =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("semantic-ann-index-refresh-%d")
+              .setDaemon(true)
+              .build());
+
+  @Override
+  public String name() {
+    return this.getClass().getSimpleName();
+  }
+
+  @Nonnull
+  @Override
+  public ExecutionMode getExecutionMode() {
+    return ExecutionMode.ASYNC;
+  }
+
+  @Override
+  public void execute(@Nonnull OperationContext systemOperationContext) throws Exception {
+    final Runnable load =
+        () -> {
+          try {
+            _semanticEntitySearchService.loadAnnIndex(systemOperationContext);
+          } catch (Exception e) {
+            // A failed load keeps the previous index, the next refresh tries again
+            log.error("Failed to load the semantic ANN index", e);
+          }
+        };
+    if (_annIndexConfiguration.getRefreshIntervalSeconds() > 0) {
+      _refreshExecutor.scheduleWithFixedDelay(
+          load, 0, _annIndexConfiguration.getRefreshIntervalSeconds(), TimeUnit.SECONDS);
+    } else {
+      _refreshExecutor.execute(load);
+    }
+  }
+}
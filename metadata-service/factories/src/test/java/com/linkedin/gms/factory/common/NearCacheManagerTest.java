@@ -0,0 +1,96 @@
+package com.linkedin.gms.factory.common;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.jet.core.JetTestSupport;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.cache.Cache;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+public class NearCacheManagerTest extends JetTestSupport {
+
+  private final HazelcastInstance instance1;
+  private final HazelcastInstance instance2;
+  private final SimpleMeterRegistry meterRegistry1 = new SimpleMeterRegistry();
+  private final NearCacheManager cacheManager1;
+  private final NearCacheManager cacheManager2;
+
+  public NearCacheManagerTest() {
+    Config config = new Config();
+    instance1 = createHazelcastInstance(config);
+    instance2 = createHazelcastInstance(config);
+
+    cacheManager1 =
+        new NearCacheManager(
+            instance1, new HazelcastCacheManager(instance1), 1024 * 1024, 600, meterRegistry1);
+    cacheManager2 =
+        new NearCacheManager(
+            instance2,
+            new HazelcastCacheManager(instance2),
+            1024 * 1024,
+            600,
+            new SimpleMeterRegistry());
+  }
+
+  @AfterClass
+  public void cleanup() {
+    cacheManager1.destroy();
+    cacheManager2.destroy();
+  }
+
+  @Test
+  public void testLocalAndRemoteTiers() {
+    Cache cache1 = cacheManager1.getCache("tiers");
+    Cache cache2 = cacheManager2.getCache("tiers");
+    assertNotNull(cache1);
+    assertNotNull(cache2);
+
+    cache1.put("key", "value");
+
+    // Written locally, served from the near tier
+    assertEquals(cache1.get("key", String.class), "value");
+    assertEquals(requests("tiers", "local"), 1.0);
+    assertEquals(requests("tiers", "remote"), 0.0);
+
+    // Peer reads through Hazelcast, then locally
+    assertEquals(cache2.get("key", String.class), "value");
+
+    assertNull(cache1.get("missing"));
+    assertEquals(requests("tiers", "miss"), 1.0);
+  }
+
+  @Test
+  public void testPeerWritesInvalidateNearCache() {
+    Cache cache1 = cacheManager1.getCache("invalidation");
+    Cache cache2 = cacheManager2.getCache("invalidation");
+
+    cache1.put("key", "v1");
+    assertEquals(cache2.get("key", String.class), "v1");
+
+    cache1.put("key", "v2");
+    assertTrueEventually(() -> assertEquals(cache2.get("key", String.class), "v2"));
+
+    cache1.evict("key");
+    assertTrueEventually(() -> assertNull(cache2.get("key")));
+  }
+
+  @Test
+  public void testNativeCacheIsHazelcastMap() {
+    assertEquals(cacheManager1.getCache("native").getNativeCache(), instance1.getMap("native"));
+  }
+
+  private double requests(String cacheName, String tier) {
+    return meterRegistry1
+        .get(NearCache.REQUESTS_METRIC)
+        .tag("cache", cacheName)
+        .tag("tier", tier)
+        .counter()
+        .count();
+  }
+}
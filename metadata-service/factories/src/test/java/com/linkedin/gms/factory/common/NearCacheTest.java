@@ -0,0 +1,51 @@
+package com.linkedin.gms.factory.common;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.testng.annotations.Test;
+
+public class NearCacheTest {
+
+  @Test
+  public void testInvalidationDuringRemoteReadSkipsLocalCopy() {
+    Cache remote = mock(Cache.class);
+    when(remote.getName()).thenReturn("race");
+    NearCache nearCache = new NearCache(remote, null, 1024 * 1024, 600, new SimpleMeterRegistry());
+    AtomicReference<String> remoteValue = new AtomicReference<>("v1");
+    when(remote.get("key"))
+        .thenAnswer(
+            invocation -> {
+              String read = remoteValue.get();
+              // A peer changes the entry after it was read but before it is copied locally
+              remoteValue.set("v2");
+              nearCache.evict("key");
+              return new SimpleValueWrapper(read);
+            })
+        .thenAnswer(invocation -> new SimpleValueWrapper(remoteValue.get()));
+
+    assertEquals(nearCache.get("key", String.class), "v1");
+    assertEquals(nearCache.localSize(), 0L);
+
+    // Nothing invalidated this read, so it is kept
+    assertEquals(nearCache.get("key", String.class), "v2");
+    assertEquals(nearCache.localSize(), 1L);
+    assertEquals(nearCache.get("key", String.class), "v2");
+  }
+
+  @Test
+  public void testEstimateBytesWithoutSerializing() {
+    assertEquals(NearCache.estimateBytes("abcd"), NearCache.estimateBytes(null) + 8);
+    assertEquals(NearCache.estimateBytes(new byte[100]), NearCache.estimateBytes(null) + 100);
+    assertTrue(NearCache.estimateBytes(List.of(1, 2, 3, 4)) > NearCache.estimateBytes(List.of(1)));
+    // Values of unknown size get a flat estimate
+    assertTrue(NearCache.estimateBytes(new Object()) > NearCache.estimateBytes(null));
+  }
+}
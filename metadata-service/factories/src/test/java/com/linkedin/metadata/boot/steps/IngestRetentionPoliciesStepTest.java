@@ -2,16 +2,28 @@ package com.linkedin.metadata.boot.steps;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 
 import com.linkedin.common.urn.Urn;
+import com.linkedin.data.template.StringMap;
+import com.linkedin.metadata.Constants;
 import com.linkedin.metadata.boot.BootstrapStep;
 import com.linkedin.metadata.entity.EntityService;
 import com.linkedin.metadata.entity.RetentionService;
+import com.linkedin.metadata.entity.retention.RetentionCheckpoint;
+import com.linkedin.metadata.utils.GenericRecordUtils;
+import com.linkedin.mxe.MetadataChangeProposal;
 import com.linkedin.retention.DataHubRetentionConfig;
+import com.linkedin.upgrade.DataHubUpgradeResult;
+import com.linkedin.upgrade.DataHubUpgradeState;
 import io.datahubproject.metadata.context.OperationContext;
 import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
@@ -52,7 +64,7 @@ public class IngestRetentionPoliciesStepTest {
 
     // Verify that no interactions occur with retention service when retention is disabled
     Mockito.verify(mockRetentionService, Mockito.times(0)).setRetention(any(), any(), any(), any());
-    Mockito.verify(mockRetentionService, Mockito.times(0)).batchApplyRetention(any(), any());
+    Mockito.verify(mockRetentionService, Mockito.times(0)).batchApplyRetention(any(), any(), any());
   }
 
   @Test
@@ -72,7 +84,7 @@ public class IngestRetentionPoliciesStepTest {
     retentionStep.execute(mockContext);
 
     Mockito.verify(mockRetentionService, Mockito.times(0)).setRetention(any(), any(), any(), any());
-    Mockito.verify(mockRetentionService, Mockito.times(0)).batchApplyRetention(any(), any());
+    Mockito.verify(mockRetentionService, Mockito.times(0)).batchApplyRetention(any(), any(), any());
   }
 
   @Test
@@ -120,9 +132,11 @@ public class IngestRetentionPoliciesStepTest {
         .setRetention(
             any(OperationContext.class), eq("*"), eq("*"), any(DataHubRetentionConfig.class));
 
-    Mockito.verify(mockRetentionService, Mockito.times(1)).batchApplyRetention(null, null);
+    Mockito.verify(mockRetentionService, Mockito.times(1))
+        .batchApplyRetention(isNull(), isNull(), any(RetentionCheckpoint.class));
 
-    Mockito.verify(mockEntityService, Mockito.times(1))
+    // Initial checkpoint, the finished apply run and the upgrade result
+    Mockito.verify(mockEntityService, Mockito.times(3))
         .ingestProposal(any(), any(), any(), Mockito.eq(false));
   }
 
@@ -171,7 +185,7 @@ public class IngestRetentionPoliciesStepTest {
         .setRetention(
             any(OperationContext.class), eq("*"), eq("*"), any(DataHubRetentionConfig.class));
 
-    Mockito.verify(mockRetentionService, Mockito.times(0)).batchApplyRetention(any(), any());
+    Mockito.verify(mockRetentionService, Mockito.times(0)).batchApplyRetention(any(), any(), any());
   }
 
   @Test
@@ -250,8 +264,63 @@ public class IngestRetentionPoliciesStepTest {
             eq("containerProperties"),
             any(DataHubRetentionConfig.class));
 
-    Mockito.verify(mockRetentionService, Mockito.times(1)).batchApplyRetention(null, null);
-    Mockito.verify(mockEntityService, Mockito.times(1))
+    Mockito.verify(mockRetentionService, Mockito.times(1))
+        .batchApplyRetention(isNull(), isNull(), any(RetentionCheckpoint.class));
+    Mockito.verify(mockEntityService, Mockito.times(2))
         .ingestProposal(any(), any(), any(), Mockito.eq(false));
   }
+
+  @Test
+  public void testExecuteResumesInterruptedBatchApply() throws Exception {
+    final EntityService<?> mockEntityService = Mockito.mock(EntityService.class);
+    final RetentionService<?> mockRetentionService = Mockito.mock(RetentionService.class);
+    final OperationContext mockContext = mock(OperationContext.class);
+    final PathMatchingResourcePatternResolver mockResolver =
+        mock(PathMatchingResourcePatternResolver.class);
+    final Resource mockResource = mock(Resource.class);
+
+    when(mockEntityService.exists(mockContext, UPGRADE_ID_URN, true)).thenReturn(false);
+    when(mockResolver.getResource("classpath:boot/retention.yaml")).thenReturn(mockResource);
+    when(mockResource.exists()).thenReturn(true);
+    when(mockResource.getInputStream())
+        .thenReturn(new ByteArrayInputStream(DEFAULT_RETENTION_YAML.getBytes()));
+
+    // Policies are unchanged, but an earlier run stopped while applying them
+    final Map<String, String> progress = Map.of("corpuser", "urn:li:corpuser:foo corpUserInfo");
+    when(mockEntityService.getLatestAspect(
+            mockContext,
+            IngestRetentionPoliciesStep.APPLY_UPGRADE_ID_URN,
+            Constants.DATA_HUB_UPGRADE_RESULT_ASPECT_NAME))
+        .thenReturn(
+            new DataHubUpgradeResult()
+                .setState(DataHubUpgradeState.IN_PROGRESS)
+                .setResult(new StringMap(progress)));
+
+    final IngestRetentionPoliciesStep retentionStep =
+        new IngestRetentionPoliciesStep(
+            mockRetentionService, mockEntityService, true, true, "", mockResolver);
+
+    retentionStep.execute(mockContext);
+
+    ArgumentCaptor<RetentionCheckpoint> checkpoint =
+        ArgumentCaptor.forClass(RetentionCheckpoint.class);
+    Mockito.verify(mockRetentionService, Mockito.times(1))
+        .batchApplyRetention(isNull(), isNull(), checkpoint.capture());
+    assertEquals(new HashMap<>(checkpoint.getValue().load()), progress);
+
+    // Once applied, the progress is replaced by a result with nothing left to resume
+    ArgumentCaptor<MetadataChangeProposal> proposals =
+        ArgumentCaptor.forClass(MetadataChangeProposal.class);
+    Mockito.verify(mockEntityService, Mockito.times(3))
+        .ingestProposal(any(), proposals.capture(), any(), Mockito.eq(false));
+    MetadataChangeProposal applied = proposals.getAllValues().get(1);
+    assertEquals(applied.getEntityUrn(), IngestRetentionPoliciesStep.APPLY_UPGRADE_ID_URN);
+    DataHubUpgradeResult result =
+        GenericRecordUtils.deserializeAspect(
+            applied.getAspect().getValue(),
+            applied.getAspect().getContentType(),
+            DataHubUpgradeResult.class);
+    assertEquals(result.getState(), DataHubUpgradeState.SUCCEEDED);
+    assertEquals(result.getResult(), new StringMap());
+  }
 }
@@ -11,6 +11,7 @@ import com.linkedin.metadata.aspect.batch.AspectsBatch;
 import com.linkedin.metadata.aspect.batch.ChangeMCP;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionArgs;
 import com.linkedin.metadata.entity.retention.BulkApplyRetentionResult;
+import com.linkedin.metadata.entity.retention.RetentionCheckpoint;
 import com.linkedin.metadata.key.DataHubRetentionKey;
 import com.linkedin.metadata.utils.EntityKeyUtils;
 import com.linkedin.metadata.utils.GenericRecordUtils;
@@ -225,6 +226,22 @@ public abstract class RetentionService<U extends ChangeMCP> {
   public abstract void batchApplyRetention(
       @Nullable String entityName, @Nullable String aspectName);
 
+  /**
+   * Batch apply retention like {@link #batchApplyRetention(String, String)}, resuming from and
+   * saving progress to the given checkpoint. Implementations that cannot resume apply retention to
+   * all records.
+   *
+   * @param entityName Name of the entity to apply retention to. If null, applies to all entities
+   * @param aspectName Name of the aspect to apply retention to. If null, applies to all aspects
+   * @param checkpoint Progress of the run
+   */
+  public void batchApplyRetention(
+      @Nullable String entityName,
+      @Nullable String aspectName,
+      @Nonnull RetentionCheckpoint checkpoint) {
+    batchApplyRetention(entityName, aspectName);
+  }
+
   /** Batch apply retention to all records within the start, end count */
   public abstract BulkApplyRetentionResult batchApplyRetentionEntities(
       @Nonnull BulkApplyRetentionArgs args);
@@ -31,6 +31,8 @@ public class RestoreIndicesArgs implements Cloneable {
   public Boolean urnBasedPagination = false;
   public String lastUrn = "";
   public String lastAspect = "";
+  // Exclusive upper bound on the urn, to read a range of the table
+  @Nullable public String endUrn;
 
   @Override
   public RestoreIndicesArgs clone() {
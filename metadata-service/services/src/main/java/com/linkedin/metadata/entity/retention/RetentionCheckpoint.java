@@ -0,0 +1,32 @@
+package com.linkedin.metadata.entity.retention;
+
+import java.util.Collections;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+/**
+ * Progress of a batch retention run. The retention service saves its progress as it goes, so a run
+ * that is interrupted can continue where it stopped instead of starting over.
+ */
+public interface RetentionCheckpoint {
+
+  /** Keeps no progress, every run starts from the beginning. */
+  RetentionCheckpoint NONE =
+      new RetentionCheckpoint() {
+        @Nonnull
+        @Override
+        public Map<String, String> load() {
+          return Collections.emptyMap();
+        }
+
+        @Override
+        public void save(@Nonnull Map<String, String> progress) {}
+      };
+
+  /** Progress saved by an earlier run, empty if there is none. */
+  @Nonnull
+  Map<String, String> load();
+
+  /** Saves the progress of the current run, replacing any earlier progress. */
+  void save(@Nonnull Map<String, String> progress);
+}
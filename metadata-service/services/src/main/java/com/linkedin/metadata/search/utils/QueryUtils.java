@@ -157,6 +157,17 @@ public class QueryUtils {
     return filter != null ? filter : EMPTY_FILTER;
   }
 
+  /** Whether a filter is missing or has no criteria, so that it matches every document. */
+  public static boolean isEmptyFilter(@Nullable Filter filter) {
+    if (filter == null) {
+      return true;
+    }
+    final boolean emptyOr =
+        filter.getOr() == null
+            || filter.getOr().stream().map(ConjunctiveCriterion::getAnd).allMatch(List::isEmpty);
+    return emptyOr && (filter.getCriteria() == null || filter.getCriteria().isEmpty());
+  }
+
   /**
    * Converts a set of aspect classes to a set of {@link AspectVersion} with the version all set to
    * latest.
@@ -40,6 +40,8 @@ import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.action.search.CreatePitResponse;
 import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -156,6 +158,12 @@ public interface SearchClientShim<T> extends Closeable {
   SearchResponse search(@Nonnull SearchRequest searchRequest, @Nonnull RequestOptions options)
       throws IOException;
 
+  /** Runs several searches in one _msearch call, each response item succeeds or fails alone. */
+  @Nonnull
+  MultiSearchResponse msearch(
+      @Nonnull MultiSearchRequest multiSearchRequest, @Nonnull RequestOptions options)
+      throws IOException;
+
   @Nonnull
   SearchResponse scroll(
       @Nonnull SearchScrollRequest searchScrollRequest, @Nonnull RequestOptions options)